@@ -9,6 +9,8 @@ import type {
   DashboardStats,
   Page,
   CrawlResult,
+  ApiDiscoveryResult,
+  ReExtractResult,
   ArticleCategory,
   DailyReport,
   Phase3DailyReport,
@@ -48,6 +50,12 @@ export const deleteCrawlTarget = (id: number) =>
 export const toggleCrawlTarget = (id: number) =>
   apiClient.post<CrawlTarget>(`/crawl-targets/${id}/toggle`).then((res) => res.data);
 
+export const discoverCrawlTargetApi = (id: number) =>
+  apiClient.post<ApiDiscoveryResult>(`/crawl-targets/${id}/discover-api`).then((res) => res.data);
+
+export const reExtractCrawlTarget = (id: number) =>
+  apiClient.post<ReExtractResult>(`/crawl-targets/${id}/re-extract`).then((res) => res.data);
+
 // News Articles
 export const getArticles = (page = 0, size = 20) =>
   apiClient
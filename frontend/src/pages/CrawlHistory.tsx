@@ -52,6 +52,8 @@ export default function CrawlHistory() {
         return <XCircle className="w-5 h-5 text-red-500" />;
       case 'PARTIAL':
         return <AlertCircle className="w-5 h-5 text-yellow-500" />;
+      case 'UNCHANGED':
+        return <CheckCircle className="w-5 h-5 text-gray-400" />;
       default:
         return <Clock className="w-5 h-5 text-gray-500" />;
     }
@@ -65,6 +67,8 @@ export default function CrawlHistory() {
         return 'bg-red-100 text-red-700';
       case 'PARTIAL':
         return 'bg-yellow-100 text-yellow-700';
+      case 'UNCHANGED':
+        return 'bg-gray-100 text-gray-600';
       default:
         return 'bg-gray-100 text-gray-700';
     }
@@ -7,6 +7,8 @@ import {
   deleteCrawlTarget,
   toggleCrawlTarget,
   executeCrawl,
+  discoverCrawlTargetApi,
+  reExtractCrawlTarget,
 } from '../api';
 import type { CrawlTarget, CreateCrawlTargetRequest } from '../types';
 import {
@@ -18,6 +20,8 @@ import {
   ExternalLink,
   X,
   Loader2,
+  Radar,
+  RotateCcw,
 } from 'lucide-react';
 
 export default function CrawlTargets() {
@@ -80,6 +84,29 @@ export default function CrawlTargets() {
     },
   });
 
+  const discoverMutation = useMutation({
+    mutationFn: discoverCrawlTargetApi,
+    onSuccess: (result) => {
+      alert(
+        result.discovered
+          ? `${result.message}\n기사 ${result.articleCount}개: ${(result.sampleTitles ?? []).join(', ')}`
+          : `API 탐색 실패: ${result.message}`
+      );
+      queryClient.invalidateQueries({ queryKey: ['crawlTargets'] });
+    },
+  });
+
+  const reExtractMutation = useMutation({
+    mutationFn: reExtractCrawlTarget,
+    onSuccess: (result) => {
+      alert(
+        result.reExtracted
+          ? `${result.message} (신규 ${result.newArticles}개)\n${(result.sampleTitles ?? []).join(', ')}`
+          : `재추출 실패: ${result.message}`
+      );
+    },
+  });
+
   const handleExecuteCrawl = (targetId: number) => {
     setExecutingTargetId(targetId);
     executeMutation.mutate(targetId);
@@ -151,7 +178,21 @@ export default function CrawlTargets() {
                     <ExternalLink className="w-3 h-3" />
                   </a>
                 </td>
-                <td className="px-4 py-3 text-sm text-gray-500">{target.cronExpression}</td>
+                <td className="px-4 py-3 text-sm text-gray-500">
+                  {target.scheduleMode === 'ADAPTIVE' ? '적응형' : target.cronExpression}
+                  {target.nextCrawlAt && (
+                    <div className="text-xs text-gray-400">
+                      다음:{' '}
+                      {new Date(target.nextCrawlAt).toLocaleString('ko-KR', {
+                        timeZone: 'Asia/Seoul',
+                        month: '2-digit',
+                        day: '2-digit',
+                        hour: '2-digit',
+                        minute: '2-digit',
+                      })}
+                    </div>
+                  )}
+                </td>
                 <td className="px-4 py-3">
                   <span
                     className={`px-2 py-1 rounded text-xs font-medium ${
@@ -167,6 +208,8 @@ export default function CrawlTargets() {
                       className={`ml-2 px-2 py-1 rounded text-xs font-medium ${
                         target.lastStatus === 'SUCCESS'
                           ? 'bg-blue-100 text-blue-700'
+                          : target.lastStatus === 'UNCHANGED'
+                          ? 'bg-gray-100 text-gray-600'
                           : target.lastStatus === 'FAILED'
                           ? 'bg-red-100 text-red-700'
                           : 'bg-yellow-100 text-yellow-700'
@@ -175,6 +218,33 @@ export default function CrawlTargets() {
                       {target.lastStatus}
                     </span>
                   )}
+                  {target.circuitState && target.circuitState !== 'CLOSED' && (
+                    <span
+                      className="ml-2 px-2 py-1 rounded text-xs font-medium bg-orange-100 text-orange-700"
+                      title={
+                        target.circuitOpenUntil
+                          ? `연속 실패 ${target.consecutiveFailures ?? 0}회 - ${new Date(
+                              target.circuitOpenUntil
+                            ).toLocaleString('ko-KR', { timeZone: 'Asia/Seoul' })}까지 중단`
+                          : undefined
+                      }
+                    >
+                      {target.circuitState === 'OPEN' ? '차단' : '시험 중'}
+                    </span>
+                  )}
+                  {target.crawlType === 'DYNAMIC' && target.staticCapable && !target.apiTemplate && (
+                    <span
+                      className="ml-2 px-2 py-1 rounded text-xs font-medium bg-teal-100 text-teal-700"
+                      title="렌더링 비교 결과 브라우저 없이 수집 중"
+                    >
+                      정적 수집
+                    </span>
+                  )}
+                  {target.healthScore != null && (
+                    <div className="text-xs text-gray-400 mt-1">
+                      헬스 {Math.round(target.healthScore * 100)}%
+                    </div>
+                  )}
                 </td>
                 <td className="px-4 py-3 text-sm text-gray-500">
                   {target.lastCrawledAt
@@ -206,6 +276,36 @@ export default function CrawlTargets() {
                         <Play className="w-5 h-5" />
                       )}
                     </button>
+                    {target.crawlType !== 'FEED' && (
+                      <button
+                        onClick={() => reExtractMutation.mutate(target.id)}
+                        disabled={reExtractMutation.isPending}
+                        className="p-1 text-gray-600 hover:bg-gray-100 rounded cursor-pointer disabled:opacity-50 disabled:cursor-not-allowed"
+                        title="저장된 스냅샷에서 재추출"
+                      >
+                        {reExtractMutation.isPending && reExtractMutation.variables === target.id ? (
+                          <Loader2 className="w-5 h-5 animate-spin" />
+                        ) : (
+                          <RotateCcw className="w-5 h-5" />
+                        )}
+                      </button>
+                    )}
+                    {target.crawlType === 'DYNAMIC' && (
+                      <button
+                        onClick={() => discoverMutation.mutate(target.id)}
+                        disabled={discoverMutation.isPending}
+                        className={`p-1 rounded cursor-pointer ${
+                          target.apiTemplate ? 'text-purple-600 bg-purple-50' : 'text-purple-600 hover:bg-purple-50'
+                        } disabled:opacity-50 disabled:cursor-not-allowed`}
+                        title={target.apiTemplate ? 'JSON API 사용 중 (다시 탐색)' : 'JSON API 탐색'}
+                      >
+                        {discoverMutation.isPending && discoverMutation.variables === target.id ? (
+                          <Loader2 className="w-5 h-5 animate-spin" />
+                        ) : (
+                          <Radar className="w-5 h-5" />
+                        )}
+                      </button>
+                    )}
                     <button
                       onClick={() => toggleMutation.mutate(target.id)}
                       className="p-1 text-yellow-600 hover:bg-yellow-50 rounded cursor-pointer"
@@ -293,8 +393,10 @@ function TargetFormModal({
     url: target?.url || '',
     description: target?.description || '',
     cronExpression: target?.cronExpression || '0 0 * * * *',
+    scheduleMode: target?.scheduleMode || 'CRON',
     selectorConfig: target?.selectorConfig || '',
     crawlType: target?.crawlType || 'STATIC',
+    feedUrl: target?.feedUrl || '',
     enabled: target?.enabled ?? true,
   });
 
@@ -343,6 +445,21 @@ function TargetFormModal({
             />
           </div>
 
+          {formData.crawlType === 'FEED' && (
+            <div>
+              <label className="block text-sm font-medium text-gray-700 mb-1">
+                피드 URL (비워두면 URL 페이지에서 자동 탐색)
+              </label>
+              <input
+                type="url"
+                value={formData.feedUrl}
+                onChange={(e) => setFormData({ ...formData, feedUrl: e.target.value })}
+                className="w-full border rounded-lg px-3 py-2"
+                placeholder="https://example.com/feed.xml"
+              />
+            </div>
+          )}
+
           <div>
             <label className="block text-sm font-medium text-gray-700 mb-1">
               설명
@@ -372,6 +489,22 @@ function TargetFormModal({
             </p>
           </div>
 
+          <div>
+            <label className="block text-sm font-medium text-gray-700 mb-1">
+              스케줄 방식
+            </label>
+            <select
+              value={formData.scheduleMode}
+              onChange={(e) =>
+                setFormData({ ...formData, scheduleMode: e.target.value as 'CRON' | 'ADAPTIVE' })
+              }
+              className="w-full border rounded-lg px-3 py-2"
+            >
+              <option value="CRON">고정 (Cron 표현식)</option>
+              <option value="ADAPTIVE">적응형 (신규 기사 빈도에 따라 자동 조절)</option>
+            </select>
+          </div>
+
           <div>
             <label className="block text-sm font-medium text-gray-700 mb-1">
               선택자 설정 (JSON)
@@ -399,12 +532,13 @@ function TargetFormModal({
               <select
                 value={formData.crawlType}
                 onChange={(e) =>
-                  setFormData({ ...formData, crawlType: e.target.value as 'STATIC' | 'DYNAMIC' })
+                  setFormData({ ...formData, crawlType: e.target.value as 'STATIC' | 'DYNAMIC' | 'FEED' })
                 }
                 className="w-full border rounded-lg px-3 py-2"
               >
                 <option value="STATIC">Static (Jsoup)</option>
                 <option value="DYNAMIC">Dynamic (Selenium)</option>
+                <option value="FEED">Feed (RSS/Atom/JSON)</option>
               </select>
             </div>
 
@@ -5,10 +5,19 @@ export interface CrawlTarget {
   description?: string;
   selectorConfig?: string;
   cronExpression: string;
+  scheduleMode?: 'CRON' | 'ADAPTIVE';
+  nextCrawlAt?: string;
   enabled: boolean;
-  crawlType: 'STATIC' | 'DYNAMIC';
+  crawlType: 'STATIC' | 'DYNAMIC' | 'FEED';
+  feedUrl?: string;
+  apiTemplate?: string;
+  staticCapable?: boolean;
   lastCrawledAt?: string;
-  lastStatus?: 'SUCCESS' | 'FAILED' | 'PARTIAL';
+  lastStatus?: 'SUCCESS' | 'FAILED' | 'PARTIAL' | 'UNCHANGED';
+  circuitState?: 'CLOSED' | 'OPEN' | 'HALF_OPEN';
+  circuitOpenUntil?: string;
+  consecutiveFailures?: number;
+  healthScore?: number;
   createdAt: string;
   updatedAt: string;
 }
@@ -19,7 +28,9 @@ export interface CreateCrawlTargetRequest {
   description?: string;
   selectorConfig?: string;
   cronExpression: string;
-  crawlType?: 'STATIC' | 'DYNAMIC';
+  scheduleMode?: 'CRON' | 'ADAPTIVE';
+  crawlType?: 'STATIC' | 'DYNAMIC' | 'FEED';
+  feedUrl?: string;
   enabled?: boolean;
 }
 
@@ -29,10 +40,31 @@ export interface UpdateCrawlTargetRequest {
   description?: string;
   selectorConfig?: string;
   cronExpression?: string;
-  crawlType?: 'STATIC' | 'DYNAMIC';
+  scheduleMode?: 'CRON' | 'ADAPTIVE';
+  crawlType?: 'STATIC' | 'DYNAMIC' | 'FEED';
+  feedUrl?: string;
+  apiTemplate?: string;
   enabled?: boolean;
 }
 
+export interface ApiDiscoveryResult {
+  discovered: boolean;
+  message: string;
+  capturedCount: number;
+  articleCount?: number;
+  sampleTitles?: string[];
+}
+
+export interface ReExtractResult {
+  reExtracted: boolean;
+  message: string;
+  snapshotFetchedAt?: string;
+  snapshotSource?: 'HTTP' | 'BROWSER';
+  articleCount?: number;
+  newArticles?: number;
+  sampleTitles?: string[];
+}
+
 export interface NewsArticle {
   id: number;
   targetId: number;
@@ -55,6 +87,8 @@ export interface NewsArticle {
 
 export interface NewsArticleDetail extends NewsArticle {
   content?: string;
+  description?: string;
+  siteName?: string;
   updatedAt: string;
 }
 
@@ -80,11 +114,14 @@ export interface CrawlHistory {
   id: number;
   targetId: number;
   targetName: string;
-  status: 'SUCCESS' | 'FAILED' | 'PARTIAL';
+  status: 'SUCCESS' | 'FAILED' | 'PARTIAL' | 'UNCHANGED';
   articlesFound: number;
   articlesNew: number;
   durationMs: number;
   errorMessage?: string;
+  attempt?: number;
+  nextRetryAt?: string;
+  retryScheduled?: boolean;
   executedAt: string;
 }
 
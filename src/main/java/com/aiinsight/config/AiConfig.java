@@ -1,12 +1,21 @@
 package com.aiinsight.config;
 
+import io.netty.channel.ChannelOption;
+import lombok.AllArgsConstructor;
 import lombok.Getter;
+import lombok.NoArgsConstructor;
 import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.client.reactive.ReactorClientHttpConnector;
 import org.springframework.web.client.RestTemplate;
 import org.springframework.web.reactive.function.client.WebClient;
+import reactor.netty.http.HttpProtocol;
+import reactor.netty.http.client.HttpClient;
+import reactor.netty.resources.ConnectionProvider;
+
+import java.time.Duration;
 
 @Configuration
 @ConfigurationProperties(prefix = "ai")
@@ -19,6 +28,9 @@ public class AiConfig {
     private OpenAiConfig openai = new OpenAiConfig();
     private ClaudeConfig claude = new ClaudeConfig();
     private ClaudeCliConfig claudeCli = new ClaudeCliConfig();
+    private AnalysisQueueConfig queue = new AnalysisQueueConfig();
+    private ConcurrencyLimitConfig limiter = new ConcurrencyLimitConfig();
+    private ProviderHttpConfig http = new ProviderHttpConfig();
 
     @Getter
     @Setter
@@ -41,11 +53,89 @@ public class AiConfig {
     public static class ClaudeCliConfig {
         private int timeout = 120; // 초 단위 타임아웃
         private String command = "claude"; // CLI 명령어 경로
+        private int prewarm = 1; // 미리 띄워 둘 프로세스 수 (0이면 호출 시점에 시작)
+        private int spareMaxIdleSeconds = 600; // 미리 띄운 프로세스를 이 시간 넘게 쓰지 않으면 새로 시작
+        private int maxOutputKb = 1024; // stdout/stderr 각각 보관할 최대 크기
+    }
+
+    /**
+     * AI 분석 작업 큐 (ai_analysis_job 테이블, AiAnalysisQueueService)
+     */
+    @Getter
+    @Setter
+    public static class AnalysisQueueConfig {
+        private int workers = 2; // 동시에 분석하는 워커 수 (인스턴스당)
+        private long pollIntervalMs = 2000; // 대기 작업 확인 간격 (등록/완료 시에는 즉시 확인)
+        private int leaseSeconds = 300; // 작업 임대 시간 - 실행 중에는 1/3 주기로 연장, 인스턴스가 죽으면 이 시간 후 재실행
+        private int maxAttempts = 3; // 최대 시도 횟수 (초과 시 FAILED로 남음)
+        private int retryBaseDelaySeconds = 60; // 첫 재시도 지연, 이후 2배씩
+        private int backlogBatchSize = 100; // 미분석 기사 정리 시 한 번에 등록할 수
+        private int stuckRecoveryMinutes = 10; // PROCESSING 상태가 이 시간 넘게 멈추면 복구 (임대 중인 작업 제외)
+        private int userWaitSeconds = 180; // 단건 분석 API가 결과를 기다리는 최대 시간
+    }
+
+    /**
+     * 공급자별 적응형 동시 호출 한도 (AiConcurrencyLimiter, AIMD)
+     */
+    @Getter
+    @Setter
+    public static class ConcurrencyLimitConfig {
+        private double backoffRatio = 0.7; // 429/5xx/타임아웃 또는 지연 급증 시 한도에 곱하는 비율
+        private double latencyTolerance = 3.0; // 응답 시간이 최소 응답 시간의 이 배수를 넘으면 과부하로 판단 (latencyBased 공급자만)
+        private int rttWindow = 50; // 최소 응답 시간을 다시 측정하는 주기 (성공 응답 수)
+        // LLM은 응답 시간이 출력 길이에 따라 크게 달라 지연 기반 감소를 쓰지 않음 (429/5xx/타임아웃만 반영)
+        private ProviderLimit claudeCli = new ProviderLimit(1, 1, 4, false);
+        private ProviderLimit claude = new ProviderLimit(2, 1, 16, false);
+        private ProviderLimit openai = new ProviderLimit(2, 1, 16, false);
+        private ProviderLimit embedding = new ProviderLimit(4, 1, 32, true); // 로컬 임베딩 서버 (입력 크기가 비슷해 지연으로 과부하 판단)
+    }
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ProviderLimit {
+        private int initialLimit = 1;
+        private int minLimit = 1;
+        private int maxLimit = 4;
+        private boolean latencyBased = false; // 응답 시간 급증도 과부하로 보고 한도를 줄일지
+    }
+
+    /**
+     * LLM/임베딩 API HTTP 클라이언트 (AiProviderClient, WebClient + Reactor Netty)
+     */
+    @Getter
+    @Setter
+    public static class ProviderHttpConfig {
+        private int connectTimeoutMs = 5000; // 연결 타임아웃
+        private int responseTimeoutSeconds = 60; // 응답(스트림 포함) 수신 중 데이터가 끊긴 채 기다리는 최대 시간
+        private int callTimeoutSeconds = 120; // 호출 1회 전체 제한 시간 (재시도는 별도)
+        private int maxConnections = 64; // 커넥션 풀 크기 (모든 공급자 공용)
+        private int pendingAcquireTimeoutSeconds = 30; // 커넥션 풀 대기 최대 시간
+        private int maxIdleSeconds = 30; // 유휴 커넥션 유지 시간
+        private int maxRetries = 3; // 429/5xx/연결 실패 시 재시도 횟수
+        private long retryBaseDelayMs = 500; // 첫 재시도 지연 (Retry-After가 없을 때), 이후 2배씩
+        private int maxRetryDelaySeconds = 30; // 이보다 긴 Retry-After는 기다리지 않고 실패 처리 (작업 큐가 나중에 재시도)
+    }
+
+    /**
+     * LLM/임베딩 API 공용 커넥션 풀
+     */
+    @Bean(destroyMethod = "dispose")
+    public ConnectionProvider aiConnectionProvider() {
+        return ConnectionProvider.builder("ai-providers")
+                .maxConnections(http.getMaxConnections())
+                .pendingAcquireTimeout(Duration.ofSeconds(http.getPendingAcquireTimeoutSeconds()))
+                .maxIdleTime(Duration.ofSeconds(http.getMaxIdleSeconds()))
+                .evictInBackground(Duration.ofSeconds(http.getMaxIdleSeconds()))
+                .metrics(true)
+                .build();
     }
 
     @Bean
-    public WebClient claudeWebClient() {
+    public WebClient claudeWebClient(ConnectionProvider aiConnectionProvider) {
         return WebClient.builder()
+                .clientConnector(providerConnector(aiConnectionProvider, HttpProtocol.H2, HttpProtocol.HTTP11))
                 .baseUrl(claude.getBaseUrl())
                 .defaultHeader("x-api-key", claude.getApiKey() != null ? claude.getApiKey() : "")
                 .defaultHeader("anthropic-version", "2023-06-01")
@@ -55,8 +145,9 @@ public class AiConfig {
     }
 
     @Bean
-    public WebClient openAiWebClient() {
+    public WebClient openAiWebClient(ConnectionProvider aiConnectionProvider) {
         return WebClient.builder()
+                .clientConnector(providerConnector(aiConnectionProvider, HttpProtocol.H2, HttpProtocol.HTTP11))
                 .baseUrl(openai.getBaseUrl())
                 .defaultHeader("Authorization", "Bearer " + (openai.getApiKey() != null ? openai.getApiKey() : ""))
                 .defaultHeader("Content-Type", "application/json")
@@ -64,6 +155,30 @@ public class AiConfig {
                 .build();
     }
 
+    /**
+     * 로컬 임베딩 서버용 (평문 HTTP라 HTTP/1.1 keep-alive)
+     */
+    @Bean
+    public WebClient embeddingWebClient(ConnectionProvider aiConnectionProvider) {
+        return WebClient.builder()
+                .clientConnector(providerConnector(aiConnectionProvider, HttpProtocol.HTTP11))
+                .defaultHeader("Content-Type", "application/json")
+                .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024))
+                .build();
+    }
+
+    /**
+     * 연결/응답 타임아웃을 적용한 Reactor Netty 커넥터 (HTTPS는 ALPN으로 HTTP/2 협상, 안 되면 HTTP/1.1)
+     */
+    private ReactorClientHttpConnector providerConnector(ConnectionProvider connectionProvider, HttpProtocol... protocols) {
+        HttpClient httpClient = HttpClient.create(connectionProvider)
+                .protocol(protocols)
+                .option(ChannelOption.CONNECT_TIMEOUT_MILLIS, http.getConnectTimeoutMs())
+                .responseTimeout(Duration.ofSeconds(http.getResponseTimeoutSeconds()))
+                .compress(true);
+        return new ReactorClientHttpConnector(httpClient);
+    }
+
     @Bean
     public RestTemplate restTemplate() {
         // 타임아웃 설정을 포함한 RestTemplate 생성
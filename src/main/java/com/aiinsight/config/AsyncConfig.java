@@ -1,29 +1,50 @@
 package com.aiinsight.config;
 
+import com.aiinsight.crawler.CrawlerConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.jvm.ExecutorServiceMetrics;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.SmartInitializingSingleton;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 
-import java.util.concurrent.Executor;
+import java.util.Map;
 
+/**
+ * 작업 종류별 격리 Executor (bulkhead)
+ * - 스케줄러(taskScheduler)는 트리거만 담당하고 실제 작업은 아래 Executor에서 실행
+ * - 느린 Selenium 사이트나 긴 리포트 생성이 다른 작업을 지연시키지 않음
+ * - 모든 Executor는 Micrometer executor.* 메트릭(active, queued, pool.size, completed)으로 노출
+ */
 @Configuration
 @EnableAsync
 @Slf4j
 public class AsyncConfig {
 
+    private static final Map<String, String> METRIC_NAMES = Map.of(
+            "aiAnalysisExecutor", "ai-analysis",
+            "staticCrawlExecutor", "crawl-static",
+            "dynamicCrawlExecutor", "crawl-dynamic",
+            "crawlFanOutExecutor", "crawl-fanout",
+            "summaryExecutor", "summary",
+            "embeddingExecutor", "embedding",
+            "reportExecutor", "report");
+
     /**
-     * AI 분석용 비동기 Executor
-     * - 크롤링 완료 후 AI 분석을 백그라운드에서 처리
-     * - 크롤링 응답 시간에 영향을 주지 않음
+     * AI 분석 워커 Executor (AiAnalysisQueueService)
+     * - 대기 작업은 ai_analysis_job 테이블에 있고, 비어 있는 워커 수만큼만 가져와 실행 (메모리에 쌓아두지 않음)
+     * - 종료 시 끝나지 않은 작업은 임대 만료 후 다시 실행됨
      */
     @Bean(name = "aiAnalysisExecutor")
-    public Executor aiAnalysisExecutor() {
+    public ThreadPoolTaskExecutor aiAnalysisExecutor(AiConfig aiConfig) {
+        int workers = Math.max(1, aiConfig.getQueue().getWorkers());
         ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
-        executor.setCorePoolSize(1);      // 기본 스레드 수 (순차 처리)
-        executor.setMaxPoolSize(1);       // 최대 스레드 수 (순차 처리 보장)
-        executor.setQueueCapacity(100);   // 대기 큐 크기
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers); // 동시 실행 수는 큐 서비스의 슬롯이 제한, 완료 직후 재할당 경합 흡수용
         executor.setThreadNamePrefix("ai-analysis-");
 
         // 우아한 종료 설정 - 리소스 누수 방지
@@ -31,11 +52,111 @@ public class AsyncConfig {
         executor.setAwaitTerminationSeconds(30);              // 최대 30초 대기
         executor.setAllowCoreThreadTimeOut(true);             // 유휴 스레드 타임아웃 허용
         executor.setKeepAliveSeconds(60);                     // 유휴 스레드 60초 후 종료
+        return executor;
+    }
+
+    /**
+     * STATIC / FEED 크롤링 Executor (Jsoup, HttpClient)
+     * - 호스트별 직렬화/딜레이는 ParallelCrawlEngine 레인이 담당
+     */
+    @Bean(name = "staticCrawlExecutor")
+    public ThreadPoolTaskExecutor staticCrawlExecutor(CrawlerConfig crawlerConfig) {
+        int poolSize = Math.max(1, crawlerConfig.getMaxConcurrentCrawls());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("crawl-static-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
+
+    /**
+     * DYNAMIC 크롤링 Executor (Selenium)
+     * - 브라우저 풀 크기만큼만 동시에 실행 (초과분은 스레드를 잡지 않고 큐에서 대기)
+     */
+    @Bean(name = "dynamicCrawlExecutor")
+    public ThreadPoolTaskExecutor dynamicCrawlExecutor(CrawlerConfig crawlerConfig) {
+        int poolSize = Math.max(1, crawlerConfig.getSelenium().getPoolSize());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("crawl-dynamic-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(60);
+        return executor;
+    }
+
+    /**
+     * 타겟 내 팬아웃 Executor (WebCrawler의 페이지네이션/상세 페이지 동시 fetch)
+     * - 호스트별 동시 요청/속도 제한은 HostRateLimiter가 담당 (작업은 HostRateLimiter.supplyAsync로 넘겨 호스트당 점유 스레드 제한)
+     */
+    @Bean(name = "crawlFanOutExecutor")
+    public ThreadPoolTaskExecutor crawlFanOutExecutor(CrawlerConfig crawlerConfig) {
+        int poolSize = Math.max(1, crawlerConfig.getFanOutPoolSize());
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(poolSize);
+        executor.setMaxPoolSize(poolSize);
+        executor.setThreadNamePrefix("crawl-fanout-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
+        return executor;
+    }
 
+    /**
+     * 요약 배치 Executor (SummaryScheduler)
+     */
+    @Bean(name = "summaryExecutor")
+    public ThreadPoolTaskExecutor summaryExecutor() {
+        return pipelineExecutor("summary");
+    }
+
+    /**
+     * 임베딩 배치 Executor (EmbeddingScheduler)
+     */
+    @Bean(name = "embeddingExecutor")
+    public ThreadPoolTaskExecutor embeddingExecutor() {
+        return pipelineExecutor("embedding");
+    }
+
+    /**
+     * 리포트 생성 Executor (DailyReportScheduler)
+     */
+    @Bean(name = "reportExecutor")
+    public ThreadPoolTaskExecutor reportExecutor() {
+        return pipelineExecutor("report");
+    }
+
+    /**
+     * 주기 배치용 단일 스레드 Executor
+     * - 실행 중 1개 + 대기 1개까지만 허용, 그 이상은 이전 실행이 끝나지 않은 것이므로 생략
+     */
+    private ThreadPoolTaskExecutor pipelineExecutor(String name) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(1);
+        executor.setQueueCapacity(1);
+        executor.setThreadNamePrefix(name + "-");
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.setAwaitTerminationSeconds(30);
         executor.setRejectedExecutionHandler((r, e) -> {
-            log.warn("AI 분석 작업 큐가 가득 찼습니다. 작업이 거부되었습니다.");
+            log.warn("{} 작업이 아직 실행 중이어서 이번 실행을 건너뜁니다.", name);
         });
-        executor.initialize();
         return executor;
     }
+
+    /**
+     * Executor 메트릭 바인딩 (빈 이름 → 메트릭 name 태그)
+     * - 스레드 풀은 빈 초기화(afterPropertiesSet) 때 생성되므로 모든 싱글톤 초기화가 끝난 뒤 연결
+     */
+    @Bean
+    public SmartInitializingSingleton executorMetricsBinder(Map<String, ThreadPoolTaskExecutor> executors,
+                                                            MeterRegistry meterRegistry) {
+        return () -> METRIC_NAMES.forEach((beanName, name) -> {
+            ThreadPoolTaskExecutor executor = executors.get(beanName);
+            if (executor != null) {
+                new ExecutorServiceMetrics(executor.getThreadPoolExecutor(), name, Tags.empty()).bindTo(meterRegistry);
+            }
+        });
+    }
 }
@@ -0,0 +1,43 @@
+package com.aiinsight.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 크롤링 테이블 스키마 보정
+ * - ddl-auto: update는 컬럼 추가만 하고 Hibernate가 예전에 만든 enum 체크 제약은 남겨 두므로
+ *   새 enum 값(UNCHANGED 상태, FEED 타입)이 기존 DB에서 거부되지 않도록 기동 시 제약을 멱등하게 제거 (V5, V6과 동일)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class CrawlSchemaInitializer implements CommandLineRunner {
+
+    // [테이블, 제약 이름]
+    private static final List<String[]> STALE_ENUM_CHECKS = List.of(
+            new String[]{"crawl_target", "crawl_target_last_status_check"},
+            new String[]{"crawl_history", "crawl_history_status_check"},
+            new String[]{"crawl_target", "crawl_target_crawl_type_check"});
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        for (String[] check : STALE_ENUM_CHECKS) {
+            try {
+                jdbcTemplate.execute("ALTER TABLE " + check[0] + " DROP CONSTRAINT IF EXISTS " + check[1]);
+            } catch (Exception e) {
+                log.warn("enum 체크 제약 제거 실패: {}.{} - {}", check[0], check[1], e.getMessage());
+            }
+        }
+        log.info("크롤링 테이블 enum 체크 제약 정리 완료");
+    }
+}
@@ -0,0 +1,49 @@
+package com.aiinsight.config;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * news_article 일괄 저장용 스키마 보정
+ * - IDENTITY → SEQUENCE 전환: news_article_seq를 기존 최대 ID 이후로 맞춤
+ * - ON CONFLICT (content_hash) 대상 유니크 인덱스 보장
+ * (ddl-auto: validate 환경은 V7 마이그레이션을 먼저 적용해야 함)
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE)
+@RequiredArgsConstructor
+@Slf4j
+public class NewsArticleSchemaInitializer implements CommandLineRunner {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void run(String... args) {
+        try {
+            jdbcTemplate.execute("CREATE SEQUENCE IF NOT EXISTS news_article_seq START WITH 1 INCREMENT BY 50");
+
+            // 시퀀스가 기존 ID보다 뒤처져 있으면 최대 ID로 이동 (다음 블록은 최대 ID + 1부터 시작)
+            Long value = jdbcTemplate.queryForObject("""
+                    SELECT setval('news_article_seq',
+                                  GREATEST((SELECT COALESCE(MAX(id), 1) FROM news_article),
+                                           (SELECT last_value FROM news_article_seq)))
+                    """, Long.class);
+            log.info("news_article_seq 정렬 완료: {}", value);
+        } catch (Exception e) {
+            log.warn("news_article_seq 정렬 실패: {}", e.getMessage());
+        }
+
+        try {
+            jdbcTemplate.execute(
+                    "CREATE UNIQUE INDEX IF NOT EXISTS ux_news_article_content_hash ON news_article (content_hash)");
+        } catch (Exception e) {
+            // 기존 중복 데이터가 있으면 생성 실패 - 중복 정리 후 재시작 필요
+            log.warn("content_hash 유니크 인덱스 생성 실패 (중복 데이터 확인 필요): {}", e.getMessage());
+        }
+    }
+}
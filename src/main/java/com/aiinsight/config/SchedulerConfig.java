@@ -5,13 +5,19 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.TaskScheduler;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
 
+/**
+ * 트리거 전용 스케줄러
+ * - 크롤링 cron/적응형 스케줄과 @Scheduled 배치는 여기서 시각만 판단하고
+ *   실제 작업은 AsyncConfig의 작업별 Executor(크롤링 타입별, 요약, 임베딩, 리포트)에 넘김
+ * - 작업을 직접 실행하지 않으므로 작은 풀로 충분
+ */
 @Configuration
 public class SchedulerConfig {
 
     @Bean
     public TaskScheduler taskScheduler() {
         ThreadPoolTaskScheduler scheduler = new ThreadPoolTaskScheduler();
-        scheduler.setPoolSize(5);
+        scheduler.setPoolSize(2);
         scheduler.setThreadNamePrefix("crawl-scheduler-");
         scheduler.setErrorHandler(t -> {
             // 에러 로깅은 CrawlScheduler에서 처리
@@ -1,18 +1,15 @@
 package com.aiinsight.controller;
 
 import com.aiinsight.config.AiConfig;
+import com.aiinsight.service.ClaudeCliGateway;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.HashMap;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 
 /**
  * AI 서비스 상태 테스트용 컨트롤러 (인증 불필요)
@@ -24,6 +21,7 @@ import java.util.concurrent.TimeUnit;
 public class AiTestController {
 
     private final AiConfig aiConfig;
+    private final ClaudeCliGateway claudeCliGateway;
 
     @GetMapping("/status")
     public ResponseEntity<Map<String, Object>> getStatus() {
@@ -45,67 +43,24 @@ public class AiTestController {
         Map<String, Object> result = new HashMap<>();
         result.put("provider", aiConfig.getProvider());
 
-        try {
-            String command = aiConfig.getClaudeCli().getCommand();
-            int timeout = 30; // 테스트용 짧은 타임아웃
+        log.info("Claude CLI 테스트 시작...");
 
-            log.info("Claude CLI 테스트 시작...");
+        // 간단한 테스트 프롬프트 (테스트용 짧은 타임아웃)
+        String testPrompt = "Say 'Hello, Claude CLI is working!' in exactly those words.";
+        ClaudeCliGateway.Result cliResult = claudeCliGateway.run(testPrompt, Duration.ofSeconds(30));
 
-            ProcessBuilder processBuilder = new ProcessBuilder(
-                command,
-                "--print",
-                "--output-format", "text"
-            );
-
-            processBuilder.environment().put("LANG", "ko_KR.UTF-8");
-            processBuilder.environment().put("LC_ALL", "ko_KR.UTF-8");
-            processBuilder.redirectErrorStream(true);
-
-            Process process = processBuilder.start();
-
-            // 간단한 테스트 프롬프트
-            String testPrompt = "Say 'Hello, Claude CLI is working!' in exactly those words.";
-            try (OutputStreamWriter writer = new OutputStreamWriter(
-                    process.getOutputStream(), StandardCharsets.UTF_8)) {
-                writer.write(testPrompt);
-                writer.flush();
-            }
-
-            StringBuilder response = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    response.append(line).append("\n");
-                }
-            }
-
-            boolean finished = process.waitFor(timeout, TimeUnit.SECONDS);
-            if (!finished) {
-                process.destroyForcibly();
-                result.put("success", false);
-                result.put("error", "Timeout after " + timeout + " seconds");
-                return ResponseEntity.ok(result);
-            }
-
-            int exitCode = process.exitValue();
-            result.put("exitCode", exitCode);
-            result.put("response", response.toString().trim());
-            result.put("success", exitCode == 0);
-
-            if (exitCode != 0) {
-                result.put("error", "Exit code: " + exitCode);
-            }
-
-            log.info("Claude CLI 테스트 완료: exitCode={}, response={}", exitCode, response.toString().trim());
-
-        } catch (Exception e) {
-            log.error("Claude CLI 테스트 실패: {}", e.getMessage(), e);
-            result.put("success", false);
-            result.put("error", e.getMessage());
-            result.put("errorType", e.getClass().getSimpleName());
+        result.put("success", cliResult.isSuccess());
+        result.put("outcome", cliResult.outcome());
+        result.put("exitCode", cliResult.exitCode());
+        result.put("response", cliResult.output().trim());
+        result.put("durationMs", cliResult.durationMs());
+        if (!cliResult.isSuccess()) {
+            result.put("error", cliResult.errorDetail());
         }
 
+        log.info("Claude CLI 테스트 완료: {} (exitCode={}), response={}",
+                cliResult.outcome(), cliResult.exitCode(), cliResult.output().trim());
+
         return ResponseEntity.ok(result);
     }
 }
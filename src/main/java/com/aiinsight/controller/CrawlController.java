@@ -31,7 +31,7 @@ public class CrawlController {
     }
 
     @PostMapping("/execute-all")
-    @Operation(summary = "전체 크롤링 실행", description = "활성화된 모든 크롤링 타겟을 순차적으로 실행합니다")
+    @Operation(summary = "전체 크롤링 실행", description = "활성화된 모든 크롤링 타겟을 호스트별로 병렬 실행합니다")
     public ResponseEntity<Void> executeAllCrawls() {
         // 비동기로 실행하지 않고 바로 실행 (필요시 @Async 추가 가능)
         new Thread(() -> crawlExecutionService.executeAllEnabledCrawls()).start();
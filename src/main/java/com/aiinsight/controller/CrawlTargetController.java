@@ -81,6 +81,18 @@ public class CrawlTargetController {
         return ResponseEntity.ok(result);
     }
 
+    @PostMapping("/{id}/discover-api")
+    @Operation(summary = "JSON API 탐색", description = "브라우저로 페이지를 렌더링하며 기사 목록 JSON API를 찾아 저장합니다 (이후 크롤링은 브라우저 없이 API 호출)")
+    public ResponseEntity<CrawlTargetDto.ApiDiscoveryResponse> discoverApi(@PathVariable Long id) {
+        return ResponseEntity.ok(crawlExecutionService.discoverApi(id));
+    }
+
+    @PostMapping("/{id}/re-extract")
+    @Operation(summary = "스냅샷 재추출", description = "마지막으로 저장된 HTML 스냅샷에 현재 선택자를 다시 적용합니다 (원본 사이트 요청 없음)")
+    public ResponseEntity<CrawlTargetDto.ReExtractResponse> reExtract(@PathVariable Long id) {
+        return ResponseEntity.ok(crawlExecutionService.reExtract(id));
+    }
+
     @PostMapping("/crawl-all")
     @Operation(summary = "전체 크롤링 실행", description = "활성화된 모든 크롤링 타겟에 대해 크롤링을 실행합니다")
     public ResponseEntity<String> executeAllCrawls() {
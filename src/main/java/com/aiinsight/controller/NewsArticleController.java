@@ -1,8 +1,9 @@
 package com.aiinsight.controller;
 
+import com.aiinsight.domain.analysis.AiAnalysisJob;
 import com.aiinsight.domain.article.NewsArticle;
 import com.aiinsight.dto.NewsArticleDto;
-import com.aiinsight.service.AiSummaryService;
+import com.aiinsight.service.AiAnalysisQueueService;
 import com.aiinsight.service.NewsArticleService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
@@ -23,7 +24,7 @@ import java.util.Map;
 public class NewsArticleController {
 
     private final NewsArticleService newsArticleService;
-    private final AiSummaryService aiSummaryService;
+    private final AiAnalysisQueueService aiAnalysisQueueService;
 
     @GetMapping
     @Operation(summary = "기사 목록 조회", description = "수집된 기사 목록을 페이징하여 조회합니다")
@@ -98,36 +99,29 @@ public class NewsArticleController {
     }
 
     @PostMapping("/{id}/analyze")
-    @Operation(summary = "단일 기사 AI 분석", description = "특정 기사에 대해 AI 요약 및 중요도 분석을 실행합니다. force=true로 이미 분석된 기사도 재분석 가능")
+    @Operation(summary = "단일 기사 AI 분석", description = "특정 기사를 AI 분석 대기열의 최우선 순위로 등록하고 완료될 때까지 기다립니다. force=true로 이미 분석된 기사도 재분석 가능")
     public ResponseEntity<NewsArticleDto.DetailResponse> analyzeArticle(
             @PathVariable Long id,
             @RequestParam(defaultValue = "false") boolean force) {
-        NewsArticle article = newsArticleService.findEntityById(id);
-        aiSummaryService.summarizeArticle(article, force);
+        newsArticleService.findById(id); // 존재 확인
+        aiAnalysisQueueService.enqueueAndWait(id, force);
         return ResponseEntity.ok(newsArticleService.findById(id));
     }
 
     @PostMapping("/analyze-batch")
-    @Operation(summary = "배치 AI 분석", description = "미분석 기사들에 대해 AI 분석을 일괄 실행합니다")
+    @Operation(summary = "배치 AI 분석", description = "미분석 기사들을 AI 분석 대기열에 등록합니다 (분석은 워커가 순차 처리)")
     public ResponseEntity<Map<String, Object>> analyzeBatch(
             @RequestParam(defaultValue = "10") int limit) {
-        List<NewsArticle> unsummarized = newsArticleService.findUnsummarizedArticles(limit);
-        int analyzed = 0;
-
-        for (NewsArticle article : unsummarized) {
-            try {
-                aiSummaryService.summarizeArticle(article);
-                analyzed++;
-                Thread.sleep(1000); // API rate limit 방지
-            } catch (Exception e) {
-                // 개별 실패는 로깅만 하고 계속 진행
-            }
-        }
+        List<Long> ids = newsArticleService.findUnsummarizedArticles(limit).stream()
+                .map(NewsArticle::getId)
+                .toList();
+        aiAnalysisQueueService.enqueue(ids, AiAnalysisJob.Lane.BACKLOG, false);
 
         return ResponseEntity.ok(Map.of(
-                "requested", unsummarized.size(),
-                "analyzed", analyzed,
-                "message", analyzed + "개 기사 분석 완료"
+                "requested", ids.size(),
+                "queued", ids.size(),
+                "queueDepth", aiAnalysisQueueService.getQueueDepth(),
+                "message", ids.size() + "개 기사 분석 대기열 등록"
         ));
     }
 
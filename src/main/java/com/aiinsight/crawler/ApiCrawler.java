@@ -0,0 +1,268 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.ApiRequestTemplate;
+import com.aiinsight.domain.crawl.CrawlTarget;
+import com.aiinsight.domain.crawl.SelectorConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Predicate;
+
+/**
+ * JSON API 재현 크롤러 (CrawlTarget.apiTemplate이 있는 DYNAMIC 타겟)
+ * - Selenium API 탐색으로 찾은 기사 목록 API를 HttpFetcher로 직접 호출 (브라우저 불필요)
+ * - 목록 페이지와 같은 방식으로 조건부 요청과 본문 지문 비교 적용
+ * - 실패하거나 기사가 없으면 실패 결과를 반환하고, 호출 측이 Selenium으로 폴백
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ApiCrawler {
+
+    // 재현하지 않는 요청 헤더 (세션/브라우저 고유 값, HttpClient가 관리하는 값)
+    private static final Set<String> EXCLUDED_HEADERS = Set.of("cookie", "authorization", "content-length",
+            "host", "connection", "user-agent", "accept-encoding", "origin", "referer");
+
+    private final HttpFetcher httpFetcher;
+    private final ArticleExtractor articleExtractor;
+    private final ObjectMapper objectMapper;
+
+    public CrawlResult crawl(CrawlTarget target, Predicate<String> isKnownUrl) {
+        long startTime = System.currentTimeMillis();
+
+        ApiRequestTemplate template = parseTemplate(target.getApiTemplate());
+        if (template == null || template.getUrl() == null) {
+            return failure("API 템플릿이 올바르지 않습니다", startTime);
+        }
+
+        try {
+            Map<String, String> headers = HttpFetcher.conditionalHeaders(target.getHttpEtag(), target.getHttpLastModified());
+            HttpFetcher.FetchResponse response = send(template, target.getUrl(), headers);
+            if (response.isNotModified()) {
+                log.info("API 응답 변경 없음 (304): {}", target.getName());
+                return unchangedResult(target, target.getContentFingerprint(), startTime);
+            }
+
+            String fingerprint = response.fingerprint();
+            if (fingerprint.equals(target.getContentFingerprint())) {
+                log.info("API 응답 변경 없음 (동일 본문): {}", target.getName());
+                return unchangedResult(target, fingerprint, startTime);
+            }
+
+            List<CrawlResult.ArticleData> candidates = extract(objectMapper.readTree(response.getBody()),
+                    template, target.getUrl());
+            if (candidates.isEmpty()) {
+                // 응답 구조가 바뀐 것으로 보고 Selenium 폴백
+                return failure("API 응답에서 기사를 찾지 못했습니다: " + template.getUrl(), startTime);
+            }
+
+            ArticleExtractor.ExtractedPage page = articleExtractor.filterKnownArticles(candidates,
+                    parseSelectorConfig(target.getSelectorConfig()), isKnownUrl);
+            log.info("API 크롤링 완료: {} - {}개 기사", target.getName(), page.articles().size());
+
+            return CrawlResult.builder()
+                    .success(true)
+                    .articles(page.articles())
+                    .reachedKnownArticle(page.reachedKnownArticle())
+                    .etag(response.header("ETag"))
+                    .lastModified(response.header("Last-Modified"))
+                    .contentFingerprint(fingerprint)
+                    .durationMs(System.currentTimeMillis() - startTime)
+                    .build();
+
+        } catch (IOException e) {
+            log.warn("API 크롤링 실패: {} - {}", target.getName(), e.getMessage());
+            return failure("API 호출 실패: " + e.getMessage(), startTime);
+        }
+    }
+
+    /**
+     * 템플릿을 한 번 호출해 기사 목록 반환 (탐색 직후 브라우저 없이 재현되는지 검증용)
+     */
+    public List<CrawlResult.ArticleData> replay(ApiRequestTemplate template, String baseUrl) throws IOException {
+        HttpFetcher.FetchResponse response = send(template, baseUrl, Map.of());
+        return extract(objectMapper.readTree(response.getBody()), template, baseUrl);
+    }
+
+    /**
+     * 수집된 JSON 응답 중 기사 목록을 가장 많이 담은 응답으로 재현 템플릿 생성
+     * @return 기사 목록을 찾지 못하면 null
+     */
+    public ApiRequestTemplate buildTemplate(CrawlTarget target, List<SeleniumCrawler.CapturedResponse> captured) {
+        SeleniumCrawler.CapturedResponse bestResponse = null;
+        StructuredDataSupport.ArrayMatch bestMatch = null;
+
+        for (SeleniumCrawler.CapturedResponse response : captured) {
+            if (response.response() == null || response.url() == null || !response.url().startsWith("http")
+                    || (response.status() != null && (response.status() < 200 || response.status() >= 300))) {
+                continue;
+            }
+            try {
+                JsonNode root = objectMapper.readTree(response.response());
+                StructuredDataSupport.ArrayMatch match = StructuredDataSupport.findArticleArray(root, null, target.getUrl());
+                if (match != null && (bestMatch == null || match.score() > bestMatch.score())) {
+                    bestMatch = match;
+                    bestResponse = response;
+                }
+            } catch (IOException e) {
+                log.debug("수집 응답 JSON 파싱 실패: {} - {}", response.url(), e.getMessage());
+            }
+        }
+
+        if (bestMatch == null) {
+            return null;
+        }
+
+        log.info("API 탐색: {} - {} {} (기사 배열 '{}', 점수 {})", target.getName(), bestResponse.method(),
+                bestResponse.url(), bestMatch.path(), bestMatch.score());
+
+        return ApiRequestTemplate.builder()
+                .url(bestResponse.url())
+                .method(bestResponse.method() != null ? bestResponse.method() : "GET")
+                .headers(replayHeaders(bestResponse.headers()))
+                .body(bestResponse.body())
+                .mapping(inferMapping(bestMatch))
+                .discoveredAt(LocalDateTime.now())
+                .build();
+    }
+
+    private HttpFetcher.FetchResponse send(ApiRequestTemplate template, String refererUrl,
+                                           Map<String, String> extraHeaders) throws IOException {
+        // 문서 이동이 아닌 페이지 내 API 호출처럼 보이도록 헤더 조정
+        Map<String, String> headers = new HashMap<>();
+        headers.put("Accept", "application/json, text/plain, */*");
+        headers.put("Sec-Fetch-Dest", "empty");
+        headers.put("Sec-Fetch-Mode", "cors");
+        headers.put("Sec-Fetch-Site", "same-origin");
+        headers.put("Referer", refererUrl);
+        if (template.getHeaders() != null) {
+            headers.putAll(template.getHeaders());
+        }
+        headers.putAll(extraHeaders);
+
+        String method = template.getMethod() != null ? template.getMethod().toUpperCase(Locale.ROOT) : "GET";
+        return httpFetcher.fetch(template.getUrl(), method, headers, template.getBody());
+    }
+
+    private List<CrawlResult.ArticleData> extract(JsonNode root, ApiRequestTemplate template, String baseUrl) {
+        SelectorConfig.StructuredDataConfig mapping = template.getMapping();
+        JsonNode items = mapping != null && mapping.getItemsPath() != null && !mapping.getItemsPath().isBlank()
+                ? StructuredDataSupport.at(root, mapping.getItemsPath())
+                : arrayOf(StructuredDataSupport.findArticleArray(root, mapping, baseUrl));
+        if (items == null || !items.isArray()) {
+            return List.of();
+        }
+
+        Map<String, CrawlResult.ArticleData> articles = new LinkedHashMap<>();
+        for (JsonNode item : items) {
+            CrawlResult.ArticleData article = StructuredDataSupport.toArticle(item, mapping, baseUrl);
+            if (article != null) {
+                articles.putIfAbsent(article.getUrl(), article);
+            }
+        }
+        return List.copyOf(articles.values());
+    }
+
+    /**
+     * 탐색된 배열의 첫 기사 항목 기준으로 필드 키를 명시 (이후 사용자가 직접 수정 가능)
+     */
+    private SelectorConfig.StructuredDataConfig inferMapping(StructuredDataSupport.ArrayMatch match) {
+        SelectorConfig.StructuredDataConfig mapping = SelectorConfig.StructuredDataConfig.builder()
+                .itemsPath(match.path().isEmpty() ? null : match.path())
+                .build();
+        for (JsonNode item : match.array()) {
+            if (StructuredDataSupport.toArticle(item, null, null) == null) {
+                continue;
+            }
+            mapping.setTitlePath(firstKey(item, StructuredDataSupport.TITLE_KEYS));
+            mapping.setUrlPath(firstKey(item, StructuredDataSupport.URL_KEYS));
+            mapping.setContentPath(firstKey(item, StructuredDataSupport.CONTENT_KEYS));
+            mapping.setAuthorPath(firstKey(item, StructuredDataSupport.AUTHOR_KEYS));
+            mapping.setDatePath(firstKey(item, StructuredDataSupport.DATE_KEYS));
+            mapping.setThumbnailPath(firstKey(item, StructuredDataSupport.THUMBNAIL_KEYS));
+            break;
+        }
+        return mapping;
+    }
+
+    private String firstKey(JsonNode item, List<String> keys) {
+        for (String key : keys) {
+            if (StructuredDataSupport.text(item.get(key)) != null) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    private Map<String, String> replayHeaders(Map<String, String> captured) {
+        Map<String, String> headers = new LinkedHashMap<>();
+        if (captured == null) {
+            return headers;
+        }
+        captured.forEach((name, value) -> {
+            String lower = name.toLowerCase(Locale.ROOT);
+            if (!EXCLUDED_HEADERS.contains(lower) && !lower.startsWith("sec-") && value != null) {
+                headers.put(name, value);
+            }
+        });
+        return headers;
+    }
+
+    private JsonNode arrayOf(StructuredDataSupport.ArrayMatch match) {
+        return match != null ? match.array() : null;
+    }
+
+    private CrawlResult unchangedResult(CrawlTarget target, String fingerprint, long startTime) {
+        return CrawlResult.builder()
+                .success(true)
+                .unchanged(true)
+                .etag(target.getHttpEtag())
+                .lastModified(target.getHttpLastModified())
+                .contentFingerprint(fingerprint)
+                .durationMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    private CrawlResult failure(String message, long startTime) {
+        return CrawlResult.builder()
+                .success(false)
+                .errorMessage(message)
+                .durationMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    private ApiRequestTemplate parseTemplate(String templateJson) {
+        if (templateJson == null || templateJson.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(templateJson, ApiRequestTemplate.class);
+        } catch (Exception e) {
+            log.error("API 템플릿 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private SelectorConfig parseSelectorConfig(String configJson) {
+        if (configJson == null || configJson.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readValue(configJson, SelectorConfig.class);
+        } catch (Exception e) {
+            log.debug("선택자 설정 파싱 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,367 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.SelectorConfig;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Elements;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * 목록 페이지 기사 추출기 (WebCrawler, SeleniumCrawler 공용)
+ * - Jsoup 문서 기준으로 SelectorConfig의 선택자를 적용
+ * - Selenium은 렌더링된 페이지 소스를 한 번에 넘겨받아 동일한 경로로 추출
+ * - structuredData 설정 시 내장 구조화 데이터(StructuredDataExtractor)를 먼저 시도하고, 없으면 선택자로 추출
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleExtractor {
+
+    private static final String HEADING_SELECTOR = "h1, h2, h3, h4, h5, h6";
+
+    // 목록 추출 기본 소스 (OpenGraph는 페이지 자체를 가리키므로 제외)
+    private static final List<String> DEFAULT_LIST_SOURCES = List.of(JsonLdExtractor.SOURCE, HydrationDataExtractor.SOURCE);
+    private static final List<String> DETAIL_SOURCES = List.of(JsonLdExtractor.SOURCE, OpenGraphExtractor.SOURCE);
+
+    private final List<StructuredDataExtractor> structuredDataExtractors;
+
+    public List<CrawlResult.ArticleData> extractArticles(Document doc, SelectorConfig config, String baseUrl) {
+        return extractArticles(doc, config, baseUrl, url -> false).articles();
+    }
+
+    /**
+     * 기사 추출 (증분 모드 지원)
+     * - incrementalMode면 이미 저장된 기사가 연속 knownArticleStopCount개 나오는 즉시 중단
+     * - 기존 기사는 결과에서 제외 (어차피 저장 단계에서 중복으로 걸러짐)
+     * @param isKnownUrl 이미 저장된 기사 URL 여부
+     */
+    public ExtractedPage extractArticles(Document doc, SelectorConfig config, String baseUrl,
+                                         Predicate<String> isKnownUrl) {
+        List<CrawlResult.ArticleData> structured = extractStructuredArticles(doc, config, baseUrl);
+        if (!structured.isEmpty()) {
+            return filterKnownArticles(structured, config, isKnownUrl);
+        }
+
+        List<CrawlResult.ArticleData> articles = new ArrayList<>();
+        Elements articleElements = selectArticleElements(doc, config);
+        if (articleElements == null) {
+            return new ExtractedPage(articles, false);
+        }
+
+        KnownArticleCutoff cutoff = new KnownArticleCutoff(config, isKnownUrl);
+
+        for (Element article : articleElements) {
+            try {
+                CrawlResult.ArticleData data = extractArticleData(article, config, baseUrl);
+                if (data == null || data.getTitle() == null || data.getUrl() == null) {
+                    continue;
+                }
+                if (cutoff.offer(data, articles)) {
+                    return new ExtractedPage(articles, true);
+                }
+            } catch (Exception e) {
+                log.warn("기사 데이터 추출 실패: {}", e.getMessage());
+            }
+        }
+
+        return new ExtractedPage(articles, false);
+    }
+
+    /**
+     * 이미 추출된 기사 목록에 증분 모드 조기 종료 적용 (구조화 데이터, JSON API 결과용)
+     * @param config 선택자 설정 (null이면 그대로 반환)
+     */
+    public ExtractedPage filterKnownArticles(List<CrawlResult.ArticleData> candidates, SelectorConfig config,
+                                             Predicate<String> isKnownUrl) {
+        if (config == null) {
+            return new ExtractedPage(candidates, false);
+        }
+        List<CrawlResult.ArticleData> articles = new ArrayList<>();
+        KnownArticleCutoff cutoff = new KnownArticleCutoff(config, isKnownUrl);
+        for (CrawlResult.ArticleData data : candidates) {
+            if (cutoff.offer(data, articles)) {
+                return new ExtractedPage(articles, true);
+            }
+        }
+        return new ExtractedPage(articles, false);
+    }
+
+    /**
+     * 구조화 데이터 기사 추출 (설정된 소스 순서대로 시도, 처음으로 결과가 나온 소스 사용)
+     * - structuredData가 비활성화면 빈 목록
+     */
+    public List<CrawlResult.ArticleData> extractStructuredArticles(Document doc, SelectorConfig config, String baseUrl) {
+        SelectorConfig.StructuredDataConfig structuredConfig = config.getStructuredData();
+        if (structuredConfig == null || !Boolean.TRUE.equals(structuredConfig.getEnabled())) {
+            return List.of();
+        }
+
+        List<String> sources = structuredConfig.getSources() != null && !structuredConfig.getSources().isEmpty()
+                ? structuredConfig.getSources() : DEFAULT_LIST_SOURCES;
+        for (String source : sources) {
+            for (StructuredDataExtractor extractor : structuredDataExtractors) {
+                if (!extractor.source().equalsIgnoreCase(source)) {
+                    continue;
+                }
+                try {
+                    List<CrawlResult.ArticleData> articles = extractor.extract(doc, structuredConfig, baseUrl);
+                    if (!articles.isEmpty()) {
+                        log.debug("구조화 데이터 추출: {} - {} 개 기사 ({})", baseUrl, articles.size(), source);
+                        return articles;
+                    }
+                } catch (Exception e) {
+                    log.warn("구조화 데이터 추출 실패: {} ({}) - {}", baseUrl, source, e.getMessage());
+                }
+            }
+        }
+        return List.of();
+    }
+
+    /**
+     * 상세 페이지 구조화 데이터 (JSON-LD, OpenGraph 순)
+     * - 페이지 URL과 일치하는 기사를 우선, 없으면 첫 기사
+     * @return 구조화 데이터가 없으면 null
+     */
+    public CrawlResult.ArticleData extractStructuredDetail(Document doc, String url) {
+        for (String source : DETAIL_SOURCES) {
+            for (StructuredDataExtractor extractor : structuredDataExtractors) {
+                if (!extractor.source().equals(source)) {
+                    continue;
+                }
+                try {
+                    List<CrawlResult.ArticleData> articles = extractor.extract(doc, null, url);
+                    if (!articles.isEmpty()) {
+                        return articles.stream()
+                                .filter(article -> Objects.equals(article.getUrl(), url))
+                                .findFirst()
+                                .orElse(articles.get(0));
+                    }
+                } catch (Exception e) {
+                    log.debug("상세 페이지 구조화 데이터 추출 실패: {} ({}) - {}", url, source, e.getMessage());
+                }
+            }
+        }
+        return null;
+    }
+
+    /**
+     * 기사 아이템 요소 선택 (선택자 설정이 없거나 컨테이너가 없으면 null)
+     */
+    public Elements selectArticleElements(Document doc, SelectorConfig config) {
+        if (config.getArticleListSelector() != null && config.getArticleItemSelector() != null) {
+            Element listContainer = doc.selectFirst(config.getArticleListSelector());
+            if (listContainer == null) {
+                log.warn("기사 목록 컨테이너를 찾을 수 없습니다: {}", config.getArticleListSelector());
+                return null;
+            }
+            return listContainer.select(config.getArticleItemSelector());
+        } else if (config.getArticleItemSelector() != null) {
+            Elements articleElements = doc.select(config.getArticleItemSelector());
+            log.debug("선택자 '{}' 로 {} 개의 요소를 찾았습니다",
+                    config.getArticleItemSelector(), articleElements.size());
+            return articleElements;
+        }
+
+        log.warn("기사 아이템 선택자가 설정되지 않았습니다");
+        return null;
+    }
+
+    public CrawlResult.ArticleData extractArticleData(Element article, SelectorConfig config, String baseUrl) {
+        boolean itemIsAnchor = article.tagName().equalsIgnoreCase("a");
+
+        // 제목 추출
+        String title = null;
+        if (config.getTitleSelector() != null) {
+            Element titleEl = article.selectFirst(config.getTitleSelector());
+            if (titleEl != null) {
+                title = titleEl.text().trim();
+            }
+        }
+        // 제목이 없고 기사 요소 자체가 앵커면 앵커 안의 제목 텍스트 사용
+        if ((title == null || title.isEmpty()) && itemIsAnchor) {
+            title = anchorTitle(article);
+        }
+
+        // 링크 추출 (기사 요소 자체가 앵커인 경우 직접 href 사용)
+        String url = null;
+        Element linkEl = itemIsAnchor ? article
+                : config.getLinkSelector() != null ? article.selectFirst(config.getLinkSelector()) : null;
+        if (linkEl != null) {
+            url = linkEl.attr("abs:href");
+            if (url.isEmpty()) {
+                url = linkEl.attr("href");
+                if (!url.startsWith("http")) {
+                    url = resolveUrl(baseUrl, url);
+                }
+            }
+        }
+
+        // 본문 추출 (목록 페이지에서는 보통 없음)
+        String content = null;
+        if (config.getContentSelector() != null) {
+            Element contentEl = article.selectFirst(config.getContentSelector());
+            if (contentEl != null) {
+                content = contentEl.text().trim();
+            }
+        }
+
+        // 작성자 추출
+        String author = null;
+        if (config.getAuthorSelector() != null) {
+            Element authorEl = article.selectFirst(config.getAuthorSelector());
+            if (authorEl != null) {
+                author = authorEl.text().trim();
+            }
+        }
+
+        // 날짜 추출
+        LocalDateTime publishedAt = null;
+        if (config.getDateSelector() != null) {
+            Element dateEl = article.selectFirst(config.getDateSelector());
+            if (dateEl != null) {
+                publishedAt = parseDate(dateEl.text().trim(), config.getDateFormat());
+            }
+        }
+
+        // 썸네일 추출
+        String thumbnailUrl = null;
+        if (config.getThumbnailSelector() != null) {
+            Element thumbEl = article.selectFirst(config.getThumbnailSelector());
+            if (thumbEl != null) {
+                thumbnailUrl = thumbEl.attr("abs:src");
+                if (thumbnailUrl.isEmpty()) {
+                    thumbnailUrl = thumbEl.attr("src");
+                }
+            }
+        }
+
+        return CrawlResult.ArticleData.builder()
+                .url(url)
+                .title(title)
+                .content(content)
+                .author(author)
+                .publishedAt(publishedAt)
+                .thumbnailUrl(thumbnailUrl)
+                .build();
+    }
+
+    /**
+     * 페이지 단위 추출 결과
+     * @param reachedKnownArticle 증분 모드에서 기존 기사에 도달해 중단했는지 여부
+     */
+    public record ExtractedPage(List<CrawlResult.ArticleData> articles, boolean reachedKnownArticle) {}
+
+    /**
+     * 증분 모드 조기 종료 판단
+     * - incrementalMode면 이미 저장된 기사가 연속 knownArticleStopCount개 나오면 중단
+     * - 기존 기사는 결과에서 제외 (어차피 저장 단계에서 중복으로 걸러짐)
+     */
+    private static final class KnownArticleCutoff {
+        private final boolean incremental;
+        private final int stopCount;
+        private final Predicate<String> isKnownUrl;
+        private int knownStreak = 0;
+
+        private KnownArticleCutoff(SelectorConfig config, Predicate<String> isKnownUrl) {
+            this.incremental = Boolean.TRUE.equals(config.getIncrementalMode());
+            this.stopCount = config.getKnownArticleStopCount() != null
+                    ? Math.max(1, config.getKnownArticleStopCount()) : 1;
+            this.isKnownUrl = isKnownUrl;
+        }
+
+        /**
+         * 기사를 결과에 추가 (기존 기사면 제외)
+         * @return 이후 아이템 처리를 중단해야 하는지
+         */
+        private boolean offer(CrawlResult.ArticleData data, List<CrawlResult.ArticleData> articles) {
+            if (incremental && isKnownUrl.test(data.getUrl())) {
+                knownStreak++;
+                if (knownStreak >= stopCount) {
+                    log.debug("증분 크롤링: 기존 기사 도달 - 이후 아이템 처리 중단: {}", data.getUrl());
+                    return true;
+                }
+                return false;
+            }
+            knownStreak = 0;
+            articles.add(data);
+            return false;
+        }
+    }
+
+    /**
+     * 앵커 요소의 제목 텍스트 (헤딩 > 직접 텍스트 > 전체 텍스트 순)
+     * - 카드형 앵커는 제목/요약/날짜를 모두 포함하므로 전체 텍스트는 최후 수단
+     */
+    private String anchorTitle(Element anchor) {
+        Element heading = anchor.selectFirst(HEADING_SELECTOR);
+        if (heading != null && !heading.text().isBlank()) {
+            return heading.text().trim();
+        }
+        String ownText = anchor.ownText().trim();
+        if (!ownText.isEmpty()) {
+            return ownText;
+        }
+        for (Element child : anchor.children()) {
+            String text = child.text().trim();
+            if (!text.isEmpty()) {
+                return text;
+            }
+        }
+        return anchor.text().trim();
+    }
+
+    public String resolveUrl(String baseUrl, String relativeUrl) {
+        try {
+            java.net.URI base = new java.net.URI(baseUrl);
+            java.net.URI resolved = base.resolve(relativeUrl);
+            return resolved.toString();
+        } catch (Exception e) {
+            return relativeUrl;
+        }
+    }
+
+    public LocalDateTime parseDate(String dateStr, String format) {
+        if (dateStr == null || dateStr.isEmpty()) {
+            return null;
+        }
+
+        // 여러 포맷 시도
+        List<String> formats = new ArrayList<>();
+        if (format != null && !format.isEmpty()) {
+            formats.add(format);
+        }
+        formats.add("yyyy-MM-dd HH:mm:ss");
+        formats.add("yyyy-MM-dd HH:mm");
+        formats.add("yyyy-MM-dd");
+        formats.add("yyyy.MM.dd HH:mm");
+        formats.add("yyyy.MM.dd");
+        formats.add("MMM dd, yyyy");
+        formats.add("dd MMM yyyy");
+
+        for (String fmt : formats) {
+            try {
+                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(fmt, Locale.ENGLISH);
+                if (fmt.contains("HH:mm")) {
+                    return LocalDateTime.parse(dateStr, formatter);
+                } else {
+                    return java.time.LocalDate.parse(dateStr, formatter).atStartOfDay();
+                }
+            } catch (DateTimeParseException ignored) {
+            }
+        }
+
+        log.warn("날짜 파싱 실패: {}", dateStr);
+        return null;
+    }
+}
@@ -0,0 +1,136 @@
+package com.aiinsight.crawler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+
+/**
+ * 기사 상세 페이지 메타데이터 추출 (제목, 본문, OpenGraph)
+ * - 크롤링 시점에 가져온 HTML에서 추출해 기사와 함께 저장 → AI 분석 단계는 네트워크 요청 없이 사용
+ * - 제목: og:title > twitter:title > title 태그
+ * - 본문: ContentExtractor(텍스트/링크 밀도 점수)로 추출, 찾지 못하거나 너무 짧으면 og:description
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ArticleMetadataExtractor {
+
+    private static final int MAX_CONTENT_LENGTH = 5000;
+
+    // 의미 없는 제목 패턴 (상세 페이지 보기 버튼 텍스트, 로딩 화면 등)
+    private static final String[] GENERIC_TITLE_PATTERNS = {
+            "기사 상세",
+            "기사 보기",
+            "상세 보기",
+            "article view",
+            "article detail",
+            "view article",
+            "untitled",
+            "no title",
+            "제목 없음",
+            "loading",
+            "로딩"
+    };
+
+    private final ContentExtractor contentExtractor;
+
+    /**
+     * HTML 문서에서 기사 메타데이터 추출
+     * @param url 페이지 URL (상대 경로 이미지 해석용)
+     */
+    public CrawlResult.ArticleData extract(Document doc, String url) {
+        Map<String, String> meta = OpenGraphExtractor.metaTags(doc);
+
+        String title = meta.get("og:title");
+        if (title == null) {
+            title = meta.get("twitter:title");
+        }
+        if (title == null) {
+            title = doc.title();
+        }
+        title = decodeHtmlEntities(title.trim());
+
+        String description = meta.getOrDefault("og:description", meta.get("description"));
+        String content = extractContent(doc, description);
+        String author = meta.getOrDefault("article:author", meta.get("author"));
+
+        log.debug("메타데이터 추출: {} - 제목 '{}', 본문 {} chars", url, title, content.length());
+        return CrawlResult.ArticleData.builder()
+                .url(url)
+                .title(title.isEmpty() ? null : title)
+                .content(content.isEmpty() ? null : content)
+                .author(author)
+                .publishedAt(FeedCrawler.parseFeedDate(meta.get("article:published_time")))
+                .thumbnailUrl(StructuredDataSupport.resolveUrl(url, meta.get("og:image")))
+                .description(description != null ? decodeHtmlEntities(description) : null)
+                .siteName(meta.get("og:site_name"))
+                .metadataCaptured(true)
+                .build();
+    }
+
+    /**
+     * 본문 추출 (ContentExtractor 점수 기반, 너무 짧으면 description으로 대체)
+     */
+    private String extractContent(Document doc, String description) {
+        String content = contentExtractor.extract(doc);
+        if (content.length() < 100 && description != null && description.length() > content.length()) {
+            content = description;
+        }
+
+        // 정제 (줄 안의 연속 공백 제거, 길이 제한)
+        content = content.replaceAll("[ \\t\\x0B\\f\\r\\u00A0]+", " ").replaceAll(" ?\\n ?", "\n").trim();
+        if (content.length() > MAX_CONTENT_LENGTH) {
+            content = content.substring(0, MAX_CONTENT_LENGTH) + "...";
+        }
+        return content;
+    }
+
+    /**
+     * 제목이 일반적인(의미 없는) 제목인지 확인
+     * 예: "기사 상세 보기", "Article View", 사이트 이름만 있는 짧은 제목
+     */
+    public boolean isGenericTitle(String title) {
+        if (title == null || title.isEmpty()) {
+            return true;
+        }
+        String lowerTitle = title.toLowerCase().trim();
+        for (String pattern : GENERIC_TITLE_PATTERNS) {
+            if (lowerTitle.contains(pattern)) {
+                return true;
+            }
+        }
+        // 제목이 너무 짧은 경우 (5자 미만)
+        return title.length() < 5;
+    }
+
+    /**
+     * 봇 차단/JavaScript 챌린지 페이지인지 (Cloudflare 등)
+     */
+    public boolean isChallengePage(String title, String content) {
+        String lowerTitle = title != null ? title.toLowerCase() : "";
+        String lowerContent = content != null ? content.toLowerCase() : "";
+        return lowerTitle.contains("just a moment") ||
+               lowerTitle.contains("attention required") ||
+               lowerContent.contains("enable javascript") ||
+               lowerContent.contains("cloudflare") && lowerContent.length() < 500;
+    }
+
+    /**
+     * HTML 엔티티 디코딩 (meta 태그 값에 이중 인코딩된 경우)
+     */
+    private String decodeHtmlEntities(String text) {
+        return text
+                .replace("&amp;", "&")
+                .replace("&lt;", "<")
+                .replace("&gt;", ">")
+                .replace("&quot;", "\"")
+                .replace("&#39;", "'")
+                .replace("&apos;", "'")
+                .replace("&#x27;", "'")
+                .replace("&hellip;", "...")
+                .replace("&nbsp;", " ");
+    }
+}
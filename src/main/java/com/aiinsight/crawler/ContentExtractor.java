@@ -0,0 +1,349 @@
+package com.aiinsight.crawler;
+
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
+import org.jsoup.select.NodeFilter;
+import org.jsoup.select.NodeTraversor;
+import org.springframework.stereotype.Component;
+
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Readability 방식 본문 추출
+ * - 문서 사본을 한 번 순회하며 보일러플레이트(스크립트, 내비게이션, 댓글, 공유/광고 영역)를 제거하고
+ *   요소별 텍스트 길이, 링크 텍스트 길이, 쉼표 수를 하위에서 상위로 집계
+ * - 문단(p, pre, blockquote, 블록 자식이 없는 div 등)의 점수를 부모에 전부, 조부모에 1/2, 그 위는 깊이 * 3으로 나눠 누적
+ * - 후보 점수 = (태그/클래스 가중치 + 누적 점수) * (1 - 링크 밀도), 최고 후보와 점수가 비슷한 형제 블록까지 본문으로 사용
+ */
+@Component
+public class ContentExtractor {
+
+    // 이보다 짧은 문단은 점수에 반영하지 않음
+    private static final int MIN_PARAGRAPH_LENGTH = 25;
+
+    // 본문으로 인정할 최소 길이 (미만이면 빈 문자열 반환 → 호출 측에서 description 등으로 대체)
+    private static final int MIN_CONTENT_LENGTH = 140;
+
+    // 문단 점수를 누적할 조상 깊이
+    private static final int MAX_ANCESTOR_LEVELS = 3;
+
+    // form은 제외 - 본문 전체를 하나의 form으로 감싼 페이지(ASP.NET WebForms 등)가 있어 점수 감점만 적용
+    private static final Set<String> REMOVED_TAGS = Set.of(
+            "script", "style", "noscript", "template", "iframe", "object", "embed", "svg", "canvas",
+            "button", "input", "select", "textarea", "nav", "header", "footer", "aside", "menu", "dialog");
+
+    private static final Set<String> REMOVED_ROLES = Set.of(
+            "navigation", "banner", "contentinfo", "complementary", "menu", "menubar", "dialog", "alert");
+
+    private static final Set<String> BLOCK_TAGS = Set.of(
+            "address", "article", "aside", "blockquote", "dd", "div", "dl", "dt", "figure", "footer", "h1", "h2",
+            "h3", "h4", "h5", "h6", "header", "hr", "li", "main", "nav", "ol", "p", "pre", "section", "table",
+            "tbody", "td", "th", "thead", "tr", "ul");
+
+    // 본문 후보가 아닌 것으로 보이는 class/id
+    private static final Pattern UNLIKELY = Pattern.compile(
+            "comment|disqus|sidebar|side-bar|footer|footnote|masthead|menu|nav|breadcrumb|share|sharing|social|"
+            + "related|recommend|popular|promo|sponsor|advert|\\bads?\\b|banner|cookie|consent|popup|modal|"
+            + "subscribe|newsletter|signup|login|pagination|pager|tags|byline-tools|toolbar|widget|copyright|disclaimer",
+            Pattern.CASE_INSENSITIVE);
+
+    // UNLIKELY와 겹쳐도 제거하지 않는 class/id (예: "article-nav-content"는 유지)
+    private static final Pattern MAYBE_CANDIDATE = Pattern.compile(
+            "and|article|body|column|content|main|post|story|entry|text", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern POSITIVE = Pattern.compile(
+            "article|body|content|entry|main|page|post|story|text|blog", Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern NEGATIVE = Pattern.compile(
+            "comment|meta|footer|footnote|sidebar|widget|share|social|related|promo|sponsor|\\bads?\\b|hidden|"
+            + "caption|byline|author-bio|\\btags?\\b",
+            Pattern.CASE_INSENSITIVE);
+
+    private static final Pattern COMMA = Pattern.compile("[,，、]");
+
+    /**
+     * 문서에서 본문 텍스트 추출 (원본 문서는 변경하지 않음)
+     * @return 문단 사이를 줄바꿈으로 구분한 본문, 찾지 못하면 빈 문자열
+     */
+    public String extract(Document doc) {
+        Element body = doc.body();
+        if (body == null) {
+            return "";
+        }
+        Element root = body.clone();
+        Map<Element, Stats> stats = new IdentityHashMap<>();
+        NodeTraversor.filter(new ScoringFilter(stats), root);
+
+        Element top = null;
+        double topScore = 0;
+        for (Map.Entry<Element, Stats> entry : stats.entrySet()) {
+            Stats s = entry.getValue();
+            if (!s.candidate) {
+                continue;
+            }
+            s.finalScore = s.score * (1 - s.linkDensity());
+            if (top == null || s.finalScore > topScore) {
+                top = entry.getKey();
+                topScore = s.finalScore;
+            }
+        }
+        if (top == null) {
+            return "";
+        }
+
+        String text = renderWithSiblings(top, topScore, stats);
+        return text.length() >= MIN_CONTENT_LENGTH ? text : "";
+    }
+
+    /**
+     * 최고 후보와 같은 부모 아래에서 점수가 충분하거나 링크가 적은 긴 문단인 형제까지 포함
+     */
+    private String renderWithSiblings(Element top, double topScore, Map<Element, Stats> stats) {
+        Element parent = top.parent();
+        if (parent == null) {
+            return render(top, stats);
+        }
+        double threshold = Math.max(10, topScore * 0.2);
+        StringBuilder sb = new StringBuilder();
+        for (Element sibling : parent.children()) {
+            Stats s = stats.get(sibling);
+            boolean include = sibling == top;
+            if (!include && s != null) {
+                if (s.candidate && s.finalScore >= threshold) {
+                    include = true;
+                } else if (sibling.normalName().equals("p")) {
+                    include = (s.textLength > 80 && s.linkDensity() < 0.25)
+                            || (s.textLength > 0 && s.linkDensity() == 0 && s.commas > 0);
+                }
+            }
+            if (include) {
+                appendBlock(sb, render(sibling, stats));
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    /**
+     * 요소 텍스트 (블록 경계는 줄바꿈, 링크 위주 블록은 생략)
+     */
+    private String render(Element element, Map<Element, Stats> stats) {
+        StringBuilder sb = new StringBuilder();
+        NodeTraversor.filter(new NodeFilter() {
+            @Override
+            public FilterResult head(Node node, int depth) {
+                if (node instanceof TextNode textNode) {
+                    String text = textNode.text();
+                    if (!text.isBlank()) {
+                        if (sb.length() > 0 && !Character.isWhitespace(sb.charAt(sb.length() - 1))) {
+                            sb.append(' ');
+                        }
+                        sb.append(text.strip());
+                    }
+                    return FilterResult.CONTINUE;
+                }
+                if (node instanceof Element child) {
+                    if (child != element && isLinkList(child, stats.get(child))) {
+                        return FilterResult.SKIP_ENTIRELY;
+                    }
+                    if (child.normalName().equals("br") || BLOCK_TAGS.contains(child.normalName())) {
+                        newLine(sb);
+                    }
+                }
+                return FilterResult.CONTINUE;
+            }
+
+            @Override
+            public FilterResult tail(Node node, int depth) {
+                if (node instanceof Element child && BLOCK_TAGS.contains(child.normalName())) {
+                    newLine(sb);
+                }
+                return FilterResult.CONTINUE;
+            }
+        }, element);
+        return sb.toString().replaceAll("\n{2,}", "\n").trim();
+    }
+
+    /**
+     * 본문 안의 링크 목록 블록 (관련 기사, 태그 목록 등)
+     */
+    private boolean isLinkList(Element element, Stats s) {
+        if (s == null || s.textLength == 0 || !BLOCK_TAGS.contains(element.normalName())) {
+            return false;
+        }
+        double linkDensity = s.linkDensity();
+        return linkDensity > 0.5 || (linkDensity > 0.25 && s.textLength < 200 && s.commas == 0);
+    }
+
+    private static void newLine(StringBuilder sb) {
+        if (sb.length() > 0 && sb.charAt(sb.length() - 1) != '\n') {
+            sb.append('\n');
+        }
+    }
+
+    private static void appendBlock(StringBuilder sb, String text) {
+        if (text.isEmpty()) {
+            return;
+        }
+        if (sb.length() > 0) {
+            sb.append('\n');
+        }
+        sb.append(text);
+    }
+
+    /**
+     * 요소별 집계 값
+     */
+    private static final class Stats {
+        int textLength;
+        int linkTextLength;
+        int commas;
+        boolean hasBlockChild;
+        boolean candidate;
+        double score;
+        double finalScore;
+
+        double linkDensity() {
+            return textLength == 0 ? 0 : (double) linkTextLength / textLength;
+        }
+    }
+
+    /**
+     * 한 번의 순회로 보일러플레이트 제거(head)와 하위 → 상위 집계/문단 점수 누적(tail)
+     */
+    private final class ScoringFilter implements NodeFilter {
+
+        private final Map<Element, Stats> stats;
+
+        private ScoringFilter(Map<Element, Stats> stats) {
+            this.stats = stats;
+        }
+
+        @Override
+        public FilterResult head(Node node, int depth) {
+            if (node instanceof Element element && depth > 0 && isBoilerplate(element)) {
+                return FilterResult.REMOVE;
+            }
+            return FilterResult.CONTINUE;
+        }
+
+        @Override
+        public FilterResult tail(Node node, int depth) {
+            if (node instanceof TextNode textNode) {
+                Element parent = textNode.parent() instanceof Element element ? element : null;
+                if (parent != null) {
+                    String text = textNode.text().strip();
+                    Stats s = statsOf(parent);
+                    s.textLength += text.length();
+                    s.commas += countCommas(text);
+                }
+                return FilterResult.CONTINUE;
+            }
+            if (!(node instanceof Element element)) {
+                return FilterResult.CONTINUE;
+            }
+
+            Stats s = statsOf(element);
+            String tag = element.normalName();
+            if (tag.equals("a")) {
+                s.linkTextLength = s.textLength;
+            }
+            if (isParagraph(tag, s) && s.textLength >= MIN_PARAGRAPH_LENGTH) {
+                scoreAncestors(element, 1 + s.commas + Math.min(s.textLength / 100.0, 3));
+            }
+
+            // 부모로 집계 전달 (자식 순회가 모두 끝난 뒤 호출되므로 하위 전체가 반영됨)
+            Element parent = element.parent();
+            if (parent != null && depth > 0) {
+                Stats p = statsOf(parent);
+                p.textLength += s.textLength;
+                p.linkTextLength += s.linkTextLength;
+                p.commas += s.commas;
+                p.hasBlockChild |= BLOCK_TAGS.contains(tag);
+            }
+            return FilterResult.CONTINUE;
+        }
+
+        private boolean isParagraph(String tag, Stats s) {
+            return switch (tag) {
+                case "p", "pre", "blockquote", "td" -> true;
+                case "div", "section" -> !s.hasBlockChild;
+                default -> false;
+            };
+        }
+
+        /**
+         * 문단 점수를 조상에 누적 (부모 전부, 조부모 1/2, 그 위는 깊이 * 3으로 나눔)
+         */
+        private void scoreAncestors(Element paragraph, double score) {
+            Element ancestor = paragraph.parent();
+            for (int level = 0; ancestor != null && level < MAX_ANCESTOR_LEVELS; level++) {
+                Stats s = statsOf(ancestor);
+                if (!s.candidate) {
+                    s.candidate = true;
+                    s.score = initialScore(ancestor);
+                }
+                double divider = level == 0 ? 1 : level == 1 ? 2 : level * 3;
+                s.score += score / divider;
+                ancestor = ancestor.parent();
+            }
+        }
+
+        private Stats statsOf(Element element) {
+            return stats.computeIfAbsent(element, e -> new Stats());
+        }
+    }
+
+    private boolean isBoilerplate(Element element) {
+        if (REMOVED_TAGS.contains(element.normalName())) {
+            return true;
+        }
+        if (REMOVED_ROLES.contains(element.attr("role").toLowerCase())) {
+            return true;
+        }
+        if (element.hasAttr("hidden") || element.attr("aria-hidden").equals("true")
+                || element.attr("style").replace(" ", "").contains("display:none")) {
+            return true;
+        }
+        String match = element.className() + " " + element.id();
+        return UNLIKELY.matcher(match).find() && !MAYBE_CANDIDATE.matcher(match).find()
+                && !element.normalName().equals("body") && !element.normalName().equals("article");
+    }
+
+    /**
+     * 태그와 class/id 가중치
+     */
+    private double initialScore(Element element) {
+        double score = switch (element.normalName()) {
+            case "article" -> 10;
+            case "div", "main", "section" -> 5;
+            case "pre", "td", "blockquote" -> 3;
+            case "address", "ol", "ul", "dl", "dd", "dt", "li", "form" -> -3;
+            case "h1", "h2", "h3", "h4", "h5", "h6", "th" -> -5;
+            default -> 0;
+        };
+        String match = element.className() + " " + element.id();
+        if (!match.isBlank()) {
+            if (NEGATIVE.matcher(match).find()) {
+                score -= 25;
+            }
+            if (POSITIVE.matcher(match).find()) {
+                score += 25;
+            }
+        }
+        return score;
+    }
+
+    private static int countCommas(String text) {
+        int count = 0;
+        var matcher = COMMA.matcher(text);
+        while (matcher.find()) {
+            count++;
+        }
+        return count;
+    }
+}
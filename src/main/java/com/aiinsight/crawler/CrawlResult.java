@@ -17,6 +17,20 @@ public class CrawlResult {
     private String errorMessage;
     private long durationMs;
 
+    // 증분 크롤링에서 기존 기사에 도달해 조기 종료했는지 여부
+    private boolean reachedKnownArticle;
+
+    // 목록 페이지 변경 없음 (304 Not Modified 또는 본문 지문 동일) - 추출/중복 검사 생략
+    private boolean unchanged;
+
+    // 다음 조건부 요청에 사용할 캐시 검증자
+    private String etag;
+    private String lastModified;
+    private String contentFingerprint;
+
+    // FEED 타입에서 HTML 페이지로부터 자동 탐색한 피드 URL
+    private String discoveredFeedUrl;
+
     @Builder.Default
     private List<ArticleData> articles = new ArrayList<>();
 
@@ -40,5 +54,10 @@ public class CrawlResult {
         private String author;
         private LocalDateTime publishedAt;
         private String thumbnailUrl;
+
+        // 상세 페이지 메타데이터 (ArticleMetadataExtractor)
+        private String description;
+        private String siteName;
+        private boolean metadataCaptured; // 크롤링 중 상세 페이지 HTML에서 추출했는지
     }
 }
@@ -5,6 +5,7 @@ import lombok.Setter;
 import org.springframework.boot.context.properties.ConfigurationProperties;
 import org.springframework.context.annotation.Configuration;
 
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Random;
 
@@ -17,9 +18,133 @@ public class CrawlerConfig {
     private String userAgent = "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36";
     private int timeout = 10000;
     private int retryCount = 3;
-    private int delayBetweenRequests = 1000; // 요청 간 딜레이 (ms)
     private int retryDelayMs = 2000; // 재시도 간 기본 딜레이 (ms)
 
+    // HTTP fetch 설정 (HttpFetcher)
+    private long maxBodyBytes = 5 * 1024 * 1024; // 응답 본문 최대 크기 (디코딩 후 기준)
+    private int bodyReadTimeoutMs = 30000; // 본문 스트리밍 읽기 전체 제한 시간 (ms)
+
+    // 병렬 크롤링 설정
+    private int maxConcurrentCrawls = 8; // 전체 동시 크롤링 수 (워커 풀 크기)
+    private int maxConcurrentPerHost = 1; // 같은 호스트에 대한 동시 크롤링 수
+    private int hostPolitenessDelayMs = 2000; // 같은 호스트 요청 간 최소 간격 (ms)
+    private int fanOutPoolSize = 16; // 타겟 내 페이지/상세 페이지 동시 fetch 스레드 수 (전체 공용)
+    private boolean captureArticleMetadata = true; // 본문 없는 신규 기사의 상세 페이지 메타데이터를 크롤링 단계에서 수집
+
+    // 타겟 내 요청의 호스트별 제한 (HostRateLimiter)
+    private HostRateLimitConfig hostRateLimit = new HostRateLimitConfig();
+
+    @Getter
+    @Setter
+    public static class HostRateLimitConfig {
+        private double requestsPerSecond = 1.0; // 호스트별 초당 요청 수 (토큰 충전 속도)
+        private int burst = 2; // 연속으로 보낼 수 있는 최대 요청 수 (버킷 크기)
+        private int maxConcurrent = 4; // 호스트별 동시 요청 수
+    }
+
+    // 크롤링 실패 재시도 설정 (지연 재등록 방식)
+    private int crawlMaxAttempts = 3; // 최초 실행 포함 최대 시도 횟수
+    private long crawlRetryBaseDelayMs = 60000; // 첫 재시도 기본 지연 (ms)
+    private long crawlRetryMaxDelayMs = 600000; // 재시도 지연 상한 (ms)
+
+    // Selenium WebDriver 풀 설정
+    private SeleniumConfig selenium = new SeleniumConfig();
+
+    // 타겟별 서킷 브레이커 설정
+    private CircuitBreakerConfig circuitBreaker = new CircuitBreakerConfig();
+
+    @Getter
+    @Setter
+    public static class CircuitBreakerConfig {
+        private int failureThreshold = 3; // 연속 실패가 이 횟수에 도달하면 OPEN
+        private long openMinutes = 30; // 첫 OPEN 유지 시간 (분), 이후 실패마다 2배
+        private long maxOpenMinutes = 1440; // OPEN 유지 시간 상한 (분)
+        private long trialTimeoutMinutes = 30; // HALF_OPEN 시험 실행이 결과 없이 이 시간을 넘기면 다음 실행에 시험 기회 부여
+        private int healthWindowSize = 20; // 헬스 점수 계산에 사용할 최근 이력 수
+    }
+
+    // 가져온 HTML 원본 스냅샷 저장소 설정 (HtmlSnapshotStore)
+    private SnapshotConfig snapshot = new SnapshotConfig();
+
+    @Getter
+    @Setter
+    public static class SnapshotConfig {
+        private boolean enabled = true;
+        private String path = "data/snapshots"; // 저장 디렉터리
+        private long maxTotalMb = 1024; // 압축 본문 전체 크기 상한 (MB), 초과 시 오래된 본문부터 삭제
+        private long maxAgeDays = 14; // 이 기간보다 오래된 스냅샷 삭제 (일)
+        private long evictionIntervalMinutes = 60; // 정리 주기 (분)
+    }
+
+    // DYNAMIC 타겟 정적 수집 가능 여부 비교 설정
+    private RenderProbeConfig renderProbe = new RenderProbeConfig();
+
+    @Getter
+    @Setter
+    public static class RenderProbeConfig {
+        private boolean enabled = true;
+        private long intervalHours = 12; // 같은 타겟을 다시 비교하기까지의 최소 간격 (시간)
+        private int requiredMatches = 3; // 연속 일치 횟수가 이 값에 도달하면 정적 수집으로 전환
+        private double minSimilarity = 0.9; // 일치로 판단할 기사 URL 집합 Jaccard 유사도
+        private double minYieldRatio = 0.5; // 정적 수집 기사 수가 기준의 이 비율 미만이면 브라우저로 복귀
+    }
+
+    // 적응형 크롤링 주기 설정 (scheduleMode = ADAPTIVE)
+    private AdaptiveScheduleConfig adaptive = new AdaptiveScheduleConfig();
+
+    @Getter
+    @Setter
+    public static class AdaptiveScheduleConfig {
+        private long minIntervalMinutes = 15; // 최소 크롤링 간격 (분)
+        private long maxIntervalMinutes = 1440; // 최대 크롤링 간격 (분)
+        private long initialIntervalMinutes = 60; // 이력이 없을 때 간격 (분)
+        private int windowSize = 10; // 신규 기사 수 집계에 사용할 최근 실행 수
+        private double targetNewPerCrawl = 1.0; // 한 번 크롤링에 기대하는 신규 기사 수
+        private double backoffMultiplier = 2.0; // 신규 기사가 없을 때 간격 증가 배수
+        private int burstThreshold = 5; // 직전 실행 신규 기사가 이 이상이면 간격 단축
+        private double burstMultiplier = 0.5; // 버스트 시 간격 감소 배수
+        private double jitterRatio = 0.1; // 동시 실행 분산용 지터 비율 (±)
+    }
+
+    @Getter
+    @Setter
+    public static class SeleniumConfig {
+        private int poolSize = 2; // 동시에 띄울 수 있는 최대 브라우저 수
+        private int warmSize = 1; // 기동 시 미리 띄워 둘 브라우저 수
+        private int maxPagesPerBrowser = 50; // 이 페이지 수를 처리하면 브라우저 재생성
+        private long maxJsHeapMb = 512; // JS 힙 사용량이 이 값을 넘으면 재생성
+        private long maxBrowserAgeMinutes = 30; // 브라우저 최대 수명 (분)
+        private long leaseTimeoutMs = 60000; // 브라우저 대여 대기 최대 시간 (ms)
+        private int pageLoadTimeoutSeconds = 30; // 페이지 로드 타임아웃 (초)
+
+        // 페이지 준비 판단 방식: MUTATION (아이템 수 안정화 감지) / FIXED (기존 고정 대기)
+        private String readinessMode = "MUTATION";
+        private int readinessQuietMs = 300; // 아이템 수 변화가 없으면 준비 완료로 보는 시간 (ms)
+        private int readinessMaxWaitMs = 10000; // 준비 대기 최대 시간 (ms)
+        private int scrollSettleMs = 600; // 스크롤 후 새 콘텐츠를 기다리는 시간 (ms)
+        private int maxScrolls = 3; // 무한 스크롤 최대 횟수
+
+        // 기사 추출 방식: PAGE_SOURCE (렌더링된 DOM을 Jsoup으로 추출) / WEBDRIVER (요소별 WebDriver 조회)
+        private String extractionMode = "PAGE_SOURCE";
+
+        // 네트워크 레벨 리소스 차단 (CDP Network.setBlockedURLs)
+        private boolean blockResources = true;
+        private List<String> blockedUrlPatterns = new ArrayList<>(List.of(
+                // 폰트
+                "*.woff", "*.woff2", "*.ttf", "*.otf", "*.eot",
+                // 스타일시트
+                "*.css", "*.css?*",
+                // 이미지 / 미디어
+                "*.png", "*.jpg", "*.jpeg", "*.gif", "*.webp", "*.avif", "*.ico",
+                "*.mp4", "*.webm", "*.m3u8", "*.mp3", "*.ogg",
+                // 트래커 / 광고
+                "*google-analytics.com*", "*googletagmanager.com*", "*doubleclick.net*",
+                "*googlesyndication.com*", "*facebook.net*", "*connect.facebook.com*",
+                "*hotjar.com*", "*segment.io*", "*scorecardresearch.com*", "*quantserve.com*",
+                "*chartbeat.com*", "*newrelic.com*", "*nr-data.net*"
+        ));
+    }
+
     // 다양한 User-Agent 목록 (봇 감지 회피용)
     private static final List<String> USER_AGENTS = List.of(
         // Chrome on Windows
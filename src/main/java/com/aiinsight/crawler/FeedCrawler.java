@@ -0,0 +1,569 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.CrawlTarget;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.stereotype.Component;
+
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * RSS / Atom / JSON Feed 크롤러 (CrawlType.FEED)
+ * - 선택자 설정, DOM 구성, 브라우저 없이 스트리밍 파서로 기사 추출
+ * - 대상 URL이 HTML이면 <link rel="alternate">로 피드 URL 자동 탐색
+ * - ETag / Last-Modified 조건부 요청 및 본문 지문으로 변경 없음 감지
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class FeedCrawler {
+
+    private static final String FEED_ACCEPT =
+            "application/rss+xml, application/atom+xml, application/feed+json, application/json;q=0.9, "
+            + "application/xml;q=0.9, text/xml;q=0.9, */*;q=0.8";
+
+    private static final String CONTENT_NS = "http://purl.org/rss/1.0/modules/content/";
+    private static final String MEDIA_NS = "http://search.yahoo.com/mrss/";
+
+    // RFC 822 변형 (요일 생략, 한 자리 일자, 초 생략, EST 같은 약어 타임존)
+    private static final DateTimeFormatter LENIENT_RFC_822 =
+            DateTimeFormatter.ofPattern("[EEE, ]d MMM yyyy HH:mm[:ss] [z][Z]", Locale.ENGLISH);
+
+    private final HttpFetcher httpFetcher;
+    private final ObjectMapper objectMapper;
+
+    private final XMLInputFactory xmlInputFactory = createXmlInputFactory();
+
+    public CrawlResult crawl(CrawlTarget target) {
+        long startTime = System.currentTimeMillis();
+
+        try {
+            String feedUrl = target.getFeedUrl() != null && !target.getFeedUrl().isBlank()
+                    ? target.getFeedUrl() : target.getUrl();
+
+            Map<String, String> headers =
+                    HttpFetcher.conditionalHeaders(target.getHttpEtag(), target.getHttpLastModified());
+            headers.put("Accept", FEED_ACCEPT);
+
+            HttpFetcher.FetchResponse response = httpFetcher.fetch(feedUrl, headers);
+            if (response.isNotModified()) {
+                log.info("피드 변경 없음 (304): {}", target.getName());
+                return unchangedResult(target, target.getContentFingerprint(), startTime);
+            }
+
+            // HTML 페이지면 피드 자동 탐색
+            String discoveredFeedUrl = null;
+            if (isHtml(response)) {
+                discoveredFeedUrl = discoverFeedUrl(response.toDocument());
+                if (discoveredFeedUrl == null) {
+                    return CrawlResult.builder()
+                            .success(false)
+                            .errorMessage("피드를 찾을 수 없습니다 (<link rel=\"alternate\"> 없음): " + feedUrl)
+                            .durationMs(System.currentTimeMillis() - startTime)
+                            .build();
+                }
+                log.info("피드 자동 탐색: {} -> {}", feedUrl, discoveredFeedUrl);
+                feedUrl = discoveredFeedUrl;
+                response = httpFetcher.fetch(feedUrl, Map.of("Accept", FEED_ACCEPT));
+            }
+
+            String fingerprint = response.fingerprint();
+            if (discoveredFeedUrl == null && fingerprint.equals(target.getContentFingerprint())) {
+                log.info("피드 변경 없음 (동일 본문): {}", target.getName());
+                return unchangedResult(target, fingerprint, startTime);
+            }
+
+            List<CrawlResult.ArticleData> articles = isJsonFeed(response)
+                    ? parseJsonFeed(response.getBody(), feedUrl)
+                    : parseXmlFeed(response.getBody(), feedUrl);
+
+            log.info("피드 파싱 완료: {} - {}개 항목", target.getName(), articles.size());
+
+            return CrawlResult.builder()
+                    .success(true)
+                    .articles(articles)
+                    .etag(response.header("ETag"))
+                    .lastModified(response.header("Last-Modified"))
+                    .contentFingerprint(fingerprint)
+                    .discoveredFeedUrl(discoveredFeedUrl)
+                    .durationMs(System.currentTimeMillis() - startTime)
+                    .build();
+
+        } catch (IOException | XMLStreamException e) {
+            log.error("피드 크롤링 실패: {} - {}", target.getName(), e.getMessage());
+            return CrawlResult.builder()
+                    .success(false)
+                    .errorMessage("피드 크롤링 실패: " + e.getMessage())
+                    .durationMs(System.currentTimeMillis() - startTime)
+                    .build();
+        } catch (Exception e) {
+            log.error("피드 크롤링 중 예상치 못한 오류: {} - {}", target.getName(), e.getMessage(), e);
+            return CrawlResult.builder()
+                    .success(false)
+                    .errorMessage("예상치 못한 오류: " + e.getMessage())
+                    .durationMs(System.currentTimeMillis() - startTime)
+                    .build();
+        }
+    }
+
+    private CrawlResult unchangedResult(CrawlTarget target, String fingerprint, long startTime) {
+        return CrawlResult.builder()
+                .success(true)
+                .unchanged(true)
+                .etag(target.getHttpEtag())
+                .lastModified(target.getHttpLastModified())
+                .contentFingerprint(fingerprint)
+                .durationMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    /**
+     * HTML 문서의 <link rel="alternate">에서 피드 URL 탐색
+     */
+    private String discoverFeedUrl(Document doc) {
+        for (Element link : doc.select("link[rel~=(?i)alternate][href]")) {
+            String type = link.attr("type").toLowerCase(Locale.ROOT);
+            if (type.contains("rss") || type.contains("atom") || type.contains("feed+json")
+                    || type.equals("application/json")) {
+                return link.attr("abs:href");
+            }
+        }
+        return null;
+    }
+
+    private boolean isHtml(HttpFetcher.FetchResponse response) {
+        String head = bodyHead(response);
+        if (head.contains("<rss") || head.contains("<feed") || head.contains("<rdf:rdf") || head.startsWith("{")) {
+            return false;
+        }
+        String contentType = response.header("Content-Type");
+        return head.contains("<!doctype html") || head.contains("<html")
+                || (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("text/html"));
+    }
+
+    private boolean isJsonFeed(HttpFetcher.FetchResponse response) {
+        String contentType = response.header("Content-Type");
+        if (contentType != null && contentType.toLowerCase(Locale.ROOT).contains("json")) {
+            return true;
+        }
+        return bodyHead(response).startsWith("{");
+    }
+
+    /**
+     * 본문 앞부분 (BOM/공백 제거, 소문자) - 형식 판별용
+     */
+    private String bodyHead(HttpFetcher.FetchResponse response) {
+        byte[] body = response.getBody();
+        int length = Math.min(body.length, 1024);
+        String head = new String(body, 0, length, StandardCharsets.UTF_8);
+        if (head.startsWith("\uFEFF")) {
+            head = head.substring(1);
+        }
+        return head.trim().toLowerCase(Locale.ROOT);
+    }
+
+    // ==================== RSS / Atom (StAX) ====================
+
+    /**
+     * RSS 2.0 / RSS 1.0(RDF) / Atom 스트리밍 파싱
+     * - item / entry 단위로 필드를 모아 바로 ArticleData로 변환
+     */
+    private List<CrawlResult.ArticleData> parseXmlFeed(byte[] body, String feedUrl) throws XMLStreamException {
+        List<CrawlResult.ArticleData> articles = new ArrayList<>();
+        XMLStreamReader reader = xmlInputFactory.createXMLStreamReader(new ByteArrayInputStream(body));
+
+        try {
+            FeedEntry entry = null;
+            int depth = 0;
+            int entryDepth = -1;
+            String container = null; // entry 바로 아래의 하위 요소를 가진 필드 (Atom author 등)
+
+            while (reader.hasNext()) {
+                int event = reader.next();
+
+                if (event == XMLStreamConstants.END_ELEMENT) {
+                    if (entry != null && depth == entryDepth) {
+                        CrawlResult.ArticleData data = entry.toArticle(feedUrl);
+                        if (data != null) {
+                            articles.add(data);
+                        }
+                        entry = null;
+                        entryDepth = -1;
+                    } else if (entry != null && depth == entryDepth + 1) {
+                        container = null;
+                    }
+                    depth--;
+                    continue;
+                }
+
+                if (event != XMLStreamConstants.START_ELEMENT) {
+                    continue;
+                }
+                depth++;
+
+                String name = reader.getLocalName();
+                if (entry == null) {
+                    if (name.equals("item") || name.equals("entry")) {
+                        entry = new FeedEntry();
+                        entryDepth = depth;
+                    }
+                    continue;
+                }
+
+                int level = depth - entryDepth;
+                if (level == 2 && "author".equals(container) && name.equals("name")) {
+                    entry.author = readText(reader);
+                    depth--;
+                    continue;
+                }
+                if (level != 1) {
+                    continue;
+                }
+
+                String ns = reader.getNamespaceURI();
+                switch (name) {
+                    case "title" -> {
+                        entry.title = readText(reader);
+                        depth--;
+                    }
+                    case "link" -> {
+                        String href = reader.getAttributeValue(null, "href");
+                        if (href != null) {
+                            // Atom: rel이 없거나 alternate인 링크만 기사 URL
+                            String rel = reader.getAttributeValue(null, "rel");
+                            if (entry.link == null && (rel == null || rel.equals("alternate"))) {
+                                entry.link = href;
+                            }
+                        } else {
+                            entry.link = readText(reader);
+                            depth--;
+                        }
+                    }
+                    case "guid", "id" -> {
+                        String permaLink = reader.getAttributeValue(null, "isPermaLink");
+                        String value = readText(reader);
+                        depth--;
+                        if (!"false".equalsIgnoreCase(permaLink)) {
+                            entry.guid = value;
+                        }
+                    }
+                    case "pubDate", "published", "issued", "date" -> {
+                        entry.published = readText(reader);
+                        depth--;
+                    }
+                    case "updated", "modified" -> {
+                        entry.updated = readText(reader);
+                        depth--;
+                    }
+                    case "author", "creator" -> {
+                        if (reader.getNamespaceURI() != null && reader.getNamespaceURI().contains("Atom")) {
+                            container = "author";
+                        } else {
+                            entry.author = readText(reader);
+                            depth--;
+                        }
+                    }
+                    case "description", "summary" -> {
+                        entry.summary = readText(reader);
+                        depth--;
+                    }
+                    case "encoded" -> {
+                        if (CONTENT_NS.equals(ns)) {
+                            entry.content = readText(reader);
+                            depth--;
+                        }
+                    }
+                    case "content" -> {
+                        if (MEDIA_NS.equals(ns)) {
+                            entry.setThumbnailIfImage(reader.getAttributeValue(null, "url"),
+                                    reader.getAttributeValue(null, "type"), reader.getAttributeValue(null, "medium"));
+                        } else {
+                            entry.content = readText(reader);
+                            depth--;
+                        }
+                    }
+                    case "thumbnail" -> {
+                        if (entry.thumbnail == null) {
+                            entry.thumbnail = reader.getAttributeValue(null, "url");
+                        }
+                    }
+                    case "enclosure" -> entry.setThumbnailIfImage(reader.getAttributeValue(null, "url"),
+                            reader.getAttributeValue(null, "type"), null);
+                    default -> {
+                        // 알 수 없는 필드는 무시
+                    }
+                }
+            }
+        } finally {
+            reader.close();
+        }
+
+        return articles;
+    }
+
+    /**
+     * 현재 요소의 하위 텍스트를 모두 읽고 종료 태그까지 소비 (Atom xhtml 콘텐츠 포함)
+     */
+    private String readText(XMLStreamReader reader) throws XMLStreamException {
+        StringBuilder sb = new StringBuilder();
+        int nested = 1;
+        while (nested > 0 && reader.hasNext()) {
+            int event = reader.next();
+            switch (event) {
+                case XMLStreamConstants.START_ELEMENT -> nested++;
+                case XMLStreamConstants.END_ELEMENT -> nested--;
+                case XMLStreamConstants.CHARACTERS, XMLStreamConstants.CDATA, XMLStreamConstants.SPACE ->
+                        sb.append(reader.getText());
+                default -> {
+                }
+            }
+        }
+        return sb.toString().trim();
+    }
+
+    // ==================== JSON Feed (Jackson streaming) ====================
+
+    /**
+     * JSON Feed 1.x 스트리밍 파싱 (https://jsonfeed.org/version/1.1)
+     */
+    private List<CrawlResult.ArticleData> parseJsonFeed(byte[] body, String feedUrl) throws IOException {
+        List<CrawlResult.ArticleData> articles = new ArrayList<>();
+
+        try (JsonParser parser = objectMapper.getFactory().createParser(body)) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                throw new IOException("JSON Feed 형식이 아닙니다");
+            }
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                if ("items".equals(field) && value == JsonToken.START_ARRAY) {
+                    while (parser.nextToken() == JsonToken.START_OBJECT) {
+                        CrawlResult.ArticleData data = parseJsonFeedItem(parser).toArticle(feedUrl);
+                        if (data != null) {
+                            articles.add(data);
+                        }
+                    }
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+
+        return articles;
+    }
+
+    private FeedEntry parseJsonFeedItem(JsonParser parser) throws IOException {
+        FeedEntry entry = new FeedEntry();
+
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+
+            switch (field) {
+                case "url" -> entry.link = parser.getValueAsString();
+                case "external_url" -> entry.externalLink = parser.getValueAsString();
+                case "id" -> entry.guid = parser.getValueAsString();
+                case "title" -> entry.title = parser.getValueAsString();
+                case "content_html" -> entry.content = parser.getValueAsString();
+                case "content_text" -> {
+                    if (entry.content == null) {
+                        entry.content = parser.getValueAsString();
+                    }
+                }
+                case "summary" -> entry.summary = parser.getValueAsString();
+                case "date_published" -> entry.published = parser.getValueAsString();
+                case "date_modified" -> entry.updated = parser.getValueAsString();
+                case "image", "banner_image" -> {
+                    if (entry.thumbnail == null) {
+                        entry.thumbnail = parser.getValueAsString();
+                    }
+                }
+                case "author" -> {
+                    if (value == JsonToken.START_OBJECT) {
+                        entry.author = readJsonAuthorName(parser);
+                    }
+                }
+                case "authors" -> {
+                    if (value == JsonToken.START_ARRAY) {
+                        while (parser.nextToken() == JsonToken.START_OBJECT) {
+                            String name = readJsonAuthorName(parser);
+                            if (entry.author == null) {
+                                entry.author = name;
+                            }
+                        }
+                    }
+                }
+                default -> parser.skipChildren();
+            }
+        }
+
+        return entry;
+    }
+
+    private String readJsonAuthorName(JsonParser parser) throws IOException {
+        String name = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            if ("name".equals(field)) {
+                name = parser.getValueAsString();
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    // ==================== 공통 ====================
+
+    private static XMLInputFactory createXmlInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newFactory();
+        // XXE 방지
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        factory.setProperty(XMLInputFactory.IS_NAMESPACE_AWARE, true);
+        factory.setProperty(XMLInputFactory.IS_COALESCING, true);
+        return factory;
+    }
+
+    /**
+     * 피드 날짜 파싱 (ISO 8601 / RFC 822) - 시스템 타임존(Asia/Seoul)으로 변환
+     */
+    static LocalDateTime parseFeedDate(String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        String trimmed = value.trim();
+
+        try {
+            return OffsetDateTime.parse(trimmed).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return ZonedDateTime.parse(trimmed, DateTimeFormatter.RFC_1123_DATE_TIME)
+                    .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return ZonedDateTime.parse(trimmed, LENIENT_RFC_822)
+                    .withZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return LocalDateTime.parse(trimmed);
+        } catch (DateTimeParseException ignored) {
+        }
+        try {
+            return LocalDate.parse(trimmed).atStartOfDay();
+        } catch (DateTimeParseException ignored) {
+        }
+
+        log.debug("피드 날짜 파싱 실패: {}", value);
+        return null;
+    }
+
+    /**
+     * HTML 조각을 텍스트로 변환 (태그가 없으면 그대로)
+     */
+    private static String toText(String html) {
+        if (html == null || html.isBlank()) {
+            return null;
+        }
+        String text = html.indexOf('<') >= 0 || html.indexOf('&') >= 0 ? Jsoup.parse(html).text() : html;
+        text = text.trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    private static String resolve(String feedUrl, String link) {
+        if (link == null || link.isBlank()) {
+            return null;
+        }
+        try {
+            return URI.create(feedUrl).resolve(link.trim()).toString();
+        } catch (Exception e) {
+            return link.trim();
+        }
+    }
+
+    /**
+     * 피드 항목 누적 버퍼
+     */
+    private static final class FeedEntry {
+        private String title;
+        private String link;
+        private String externalLink;
+        private String guid;
+        private String published;
+        private String updated;
+        private String author;
+        private String summary;
+        private String content;
+        private String thumbnail;
+
+        private void setThumbnailIfImage(String url, String type, String medium) {
+            if (thumbnail != null || url == null) {
+                return;
+            }
+            if ((type != null && type.startsWith("image/")) || "image".equals(medium)) {
+                thumbnail = url;
+            }
+        }
+
+        private CrawlResult.ArticleData toArticle(String feedUrl) {
+            // 기사 URL: link > 외부 링크 > permalink guid
+            String url = link;
+            if (url == null || url.isBlank()) {
+                url = externalLink;
+            }
+            if ((url == null || url.isBlank()) && guid != null && guid.startsWith("http")) {
+                url = guid;
+            }
+            url = resolve(feedUrl, url);
+
+            String text = toText(content);
+            String summaryText = toText(summary);
+            String articleTitle = toText(title);
+            if (articleTitle == null && summaryText != null) {
+                articleTitle = summaryText.length() > 100 ? summaryText.substring(0, 100) + "..." : summaryText;
+            }
+
+            if (url == null || articleTitle == null) {
+                return null;
+            }
+
+            return CrawlResult.ArticleData.builder()
+                    .url(url)
+                    .title(articleTitle)
+                    .content(text != null ? text : summaryText)
+                    .author(author != null && !author.isBlank() ? author.trim() : null)
+                    .publishedAt(parseFeedDate(published != null ? published : updated))
+                    .thumbnailUrl(resolve(feedUrl, thumbnail))
+                    .build();
+        }
+    }
+}
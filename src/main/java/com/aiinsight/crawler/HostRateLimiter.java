@@ -0,0 +1,175 @@
+package com.aiinsight.crawler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * 호스트별 요청 제한 (WebCrawler의 페이지네이션/상세 페이지 fetch)
+ * - 토큰 버킷: 초당 requestsPerSecond개 충전, 최대 burst개까지 연속 요청 허용 (고정 sleep 대체)
+ * - 동시 요청 수: 호스트당 maxConcurrent개 (공정 세마포어)
+ * - 공용 팬아웃 풀 점유: supplyAsync로 넘긴 작업은 호스트당 일정 개수만 풀에서 실행, 나머지는 스레드 없이 호스트 대기열에서 대기
+ *   → 제한이 강한 호스트의 토큰 대기가 crawlFanOutExecutor 전체를 막지 않음
+ * - 타겟 간 politeness(작업 시작 간격)는 ParallelCrawlEngine 호스트 레인이 담당
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HostRateLimiter {
+
+    private final CrawlerConfig crawlerConfig;
+
+    private final Map<String, HostBucket> buckets = new ConcurrentHashMap<>();
+
+    /**
+     * 요청 허가 획득 (동시 요청 슬롯 + 토큰), 요청이 끝나면 close()로 슬롯 반환
+     */
+    public Permit acquire(String url) throws InterruptedException {
+        String host = ParallelCrawlEngine.resolveHost(url);
+        HostBucket bucket = bucketOf(host);
+
+        bucket.concurrency.acquire();
+        try {
+            long waitedMs = bucket.takeToken();
+            if (waitedMs > 0) {
+                log.trace("호스트 요청 제한 대기: {} ({}ms)", host, waitedMs);
+            }
+        } catch (InterruptedException e) {
+            bucket.concurrency.release();
+            throw e;
+        }
+        return bucket.concurrency::release;
+    }
+
+    /**
+     * url 호스트의 작업을 executor에서 실행
+     * - 호스트당 동시에 executor에 넘기는 작업 수를 제한 (maxConcurrent, 풀 크기의 절반 이하)
+     * - 한도를 넘는 작업은 앞선 작업이 끝날 때 넘겨지므로 대기 중에는 풀 스레드를 잡지 않음
+     */
+    public <T> CompletableFuture<T> supplyAsync(String url, Supplier<T> task, Executor executor) {
+        HostBucket bucket = bucketOf(ParallelCrawlEngine.resolveHost(url));
+        CompletableFuture<T> future = new CompletableFuture<>();
+        bucket.dispatch(() -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable e) {
+                future.completeExceptionally(e);
+            }
+        }, future::completeExceptionally, executor);
+        return future;
+    }
+
+    private HostBucket bucketOf(String host) {
+        return buckets.computeIfAbsent(host, h -> new HostBucket());
+    }
+
+    /**
+     * 획득한 요청 허가 (요청이 끝나면 close()로 반환)
+     */
+    public interface Permit extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private final class HostBucket {
+
+        private final Semaphore concurrency;
+        private final double ratePerNano;
+        private final double capacity;
+        private double tokens;
+        private long lastRefillNanos;
+
+        private final int dispatchLimit;
+        private final Deque<Runnable> pending = new ArrayDeque<>();
+        private int dispatched;
+
+        private HostBucket() {
+            CrawlerConfig.HostRateLimitConfig config = crawlerConfig.getHostRateLimit();
+            this.concurrency = new Semaphore(Math.max(1, config.getMaxConcurrent()), true);
+            this.dispatchLimit = Math.max(1, Math.min(config.getMaxConcurrent(), crawlerConfig.getFanOutPoolSize() / 2));
+            this.ratePerNano = Math.max(0.001, config.getRequestsPerSecond()) / TimeUnit.SECONDS.toNanos(1);
+            this.capacity = Math.max(1, config.getBurst());
+            this.tokens = capacity;
+            this.lastRefillNanos = System.nanoTime();
+        }
+
+        /**
+         * 토큰 하나 소비 (부족하면 충전될 때까지 대기)
+         * @return 대기한 시간 (ms)
+         */
+        long takeToken() throws InterruptedException {
+            long started = System.nanoTime();
+            while (true) {
+                long waitNanos;
+                synchronized (this) {
+                    long now = System.nanoTime();
+                    tokens = Math.min(capacity, tokens + (now - lastRefillNanos) * ratePerNano);
+                    lastRefillNanos = now;
+                    if (tokens >= 1) {
+                        tokens -= 1;
+                        return TimeUnit.NANOSECONDS.toMillis(now - started);
+                    }
+                    waitNanos = (long) Math.ceil((1 - tokens) / ratePerNano);
+                }
+                TimeUnit.NANOSECONDS.sleep(waitNanos);
+            }
+        }
+
+        /**
+         * 한도 안이면 바로 executor에 넘기고, 아니면 대기열에 보관
+         */
+        void dispatch(Runnable task, Consumer<Throwable> onRejected, Executor executor) {
+            Runnable submit = () -> {
+                try {
+                    executor.execute(() -> {
+                        try {
+                            task.run();
+                        } finally {
+                            onDispatchedDone();
+                        }
+                    });
+                } catch (RejectedExecutionException e) {
+                    onDispatchedDone();
+                    onRejected.accept(e);
+                }
+            };
+
+            synchronized (pending) {
+                if (dispatched >= dispatchLimit) {
+                    pending.addLast(submit);
+                    return;
+                }
+                dispatched++;
+            }
+            submit.run();
+        }
+
+        /**
+         * 작업 종료 시 슬롯을 대기열의 다음 작업에 넘기거나 반환
+         */
+        private void onDispatchedDone() {
+            Runnable next;
+            synchronized (pending) {
+                next = pending.pollFirst();
+                if (next == null) {
+                    dispatched--;
+                }
+            }
+            if (next != null) {
+                next.run();
+            }
+        }
+    }
+}
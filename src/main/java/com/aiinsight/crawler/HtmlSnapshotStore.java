@@ -0,0 +1,354 @@
+package com.aiinsight.crawler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * 가져온 HTML 원본 스냅샷 저장소 (로컬 디스크)
+ * - 본문 SHA-256으로 주소 지정: objects/ab/abcd....html.gz (같은 본문은 한 번만 저장)
+ * - URL별 최신 스냅샷 인덱스는 메모리에 두고 index.log에 추가 기록 (기동 시 재생, 정리 시 압축)
+ * - 정리: maxAgeDays보다 오래된 항목 삭제 후 전체 크기가 maxTotalMb를 넘으면 오래 참조되지 않은 본문부터 삭제
+ * - 저장 실패는 크롤링에 영향을 주지 않음 (경고 로그만)
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HtmlSnapshotStore {
+
+    private static final String INDEX_FILE = "index.log";
+    private static final String OBJECTS_DIR = "objects";
+    private static final String BLOB_SUFFIX = ".html.gz";
+    private static final String NONE = "-";
+    // 정리 중 새로 저장된 본문을 고아 파일로 오인하지 않도록 최근 파일은 제외
+    private static final long ORPHAN_GRACE_MINUTES = 10;
+
+    private final CrawlerConfig crawlerConfig;
+
+    // URL -> 최신 스냅샷
+    private final Map<String, Snapshot> latestByUrl = new ConcurrentHashMap<>();
+    private final Object indexLock = new Object();
+
+    private Path root;
+    private BufferedWriter indexWriter;
+    private ScheduledExecutorService evictor;
+    private volatile boolean enabled = false;
+
+    public enum Source {
+        HTTP,       // HttpFetcher 원본 바이트
+        BROWSER     // Selenium 렌더링 DOM (UTF-8)
+    }
+
+    /**
+     * 스냅샷 인덱스 항목
+     * @param url 요청 URL (조회 키)
+     * @param finalUrl 리다이렉트 후 URL (문서 base URI)
+     * @param charset 원본 charset (없으면 Jsoup이 meta/BOM으로 감지)
+     */
+    public record Snapshot(String url, String finalUrl, String hash, String charset, Source source,
+                           LocalDateTime fetchedAt) {}
+
+    @PostConstruct
+    public void init() {
+        CrawlerConfig.SnapshotConfig config = crawlerConfig.getSnapshot();
+        if (!config.isEnabled() || config.getPath() == null || config.getPath().isBlank()) {
+            log.info("HTML 스냅샷 저장소 비활성화");
+            return;
+        }
+        try {
+            root = Path.of(config.getPath());
+            Files.createDirectories(root.resolve(OBJECTS_DIR));
+            loadIndex();
+            indexWriter = Files.newBufferedWriter(root.resolve(INDEX_FILE), StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+            enabled = true;
+        } catch (IOException e) {
+            log.warn("HTML 스냅샷 저장소 초기화 실패 - 스냅샷 없이 동작: {}", e.getMessage());
+            return;
+        }
+
+        evictor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "html-snapshot-evictor");
+            thread.setDaemon(true);
+            return thread;
+        });
+        evictor.scheduleWithFixedDelay(this::evict, 1, Math.max(1, config.getEvictionIntervalMinutes()), TimeUnit.MINUTES);
+        log.info("HTML 스냅샷 저장소 준비: {} ({}개 URL)", root.toAbsolutePath(), latestByUrl.size());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        if (evictor != null) {
+            evictor.shutdownNow();
+        }
+        synchronized (indexLock) {
+            if (indexWriter != null) {
+                try {
+                    indexWriter.close();
+                } catch (IOException ignored) {
+                }
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    /**
+     * HttpFetcher 응답 저장 (304/빈 본문은 생략)
+     */
+    public void save(String url, HttpFetcher.FetchResponse response) {
+        if (!enabled || response.isNotModified() || response.getBody() == null || response.getBody().length == 0) {
+            return;
+        }
+        save(url, response.getUrl(), response.getBody(), response.getCharset(), Source.HTTP, response.fingerprint());
+    }
+
+    /**
+     * 브라우저 렌더링 결과 저장
+     */
+    public void saveRendered(String url, String finalUrl, String html) {
+        if (!enabled || html == null || html.isEmpty()) {
+            return;
+        }
+        byte[] body = html.getBytes(StandardCharsets.UTF_8);
+        save(url, finalUrl, body, StandardCharsets.UTF_8.name(), Source.BROWSER, sha256(body));
+    }
+
+    public Optional<Snapshot> latest(String url) {
+        if (!enabled || url == null) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(latestByUrl.get(url));
+    }
+
+    /**
+     * URL의 최신 스냅샷을 Jsoup 문서로 로드 (네트워크 I/O 없음)
+     * @return 스냅샷이 없거나 본문 파일을 읽을 수 없으면 empty
+     */
+    public Optional<Document> findDocument(String url) {
+        return latest(url).flatMap(this::load);
+    }
+
+    public Optional<Document> load(Snapshot snapshot) {
+        Path blob = blobPath(snapshot.hash());
+        try (InputStream in = new GZIPInputStream(Files.newInputStream(blob), 8192)) {
+            return Optional.of(Jsoup.parse(in, snapshot.charset(), snapshot.finalUrl()));
+        } catch (IOException e) {
+            log.debug("스냅샷 로드 실패: {} - {}", snapshot.url(), e.getMessage());
+            latestByUrl.remove(snapshot.url(), snapshot);
+            return Optional.empty();
+        }
+    }
+
+    private void save(String url, String finalUrl, byte[] body, String charset, Source source, String hash) {
+        try {
+            Path blob = blobPath(hash);
+            if (!Files.exists(blob)) {
+                Files.createDirectories(blob.getParent());
+                Path temp = blob.resolveSibling(hash + ".tmp" + Thread.currentThread().getId());
+                try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(temp), 8192)) {
+                    out.write(body);
+                }
+                Files.move(temp, blob, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            }
+
+            Snapshot snapshot = new Snapshot(url, finalUrl != null ? finalUrl : url, hash, charset, source,
+                    LocalDateTime.now());
+            synchronized (indexLock) {
+                indexWriter.write(toLine(snapshot));
+                indexWriter.newLine();
+                indexWriter.flush();
+                latestByUrl.put(url, snapshot);
+            }
+        } catch (IOException e) {
+            log.warn("HTML 스냅샷 저장 실패: {} - {}", url, e.getMessage());
+        }
+    }
+
+    /**
+     * 오래된 항목과 용량 초과분 정리 후 인덱스 압축
+     */
+    private void evict() {
+        try {
+            CrawlerConfig.SnapshotConfig config = crawlerConfig.getSnapshot();
+            LocalDateTime cutoff = LocalDateTime.now().minusDays(config.getMaxAgeDays());
+            latestByUrl.values().removeIf(snapshot -> snapshot.fetchedAt().isBefore(cutoff));
+
+            // 본문별 마지막 참조 시각 (여러 URL이 같은 본문을 가리킬 수 있음)
+            Map<String, LocalDateTime> lastUsed = new HashMap<>();
+            for (Snapshot snapshot : latestByUrl.values()) {
+                lastUsed.merge(snapshot.hash(), snapshot.fetchedAt(), (a, b) -> a.isAfter(b) ? a : b);
+            }
+
+            Map<String, Long> sizes = new HashMap<>();
+            long totalBytes = 0;
+            List<Path> orphans = new ArrayList<>();
+            Instant graceCutoff = Instant.now().minusSeconds(ORPHAN_GRACE_MINUTES * 60);
+            try (Stream<Path> files = Files.walk(root.resolve(OBJECTS_DIR))) {
+                for (Path file : files.filter(Files::isRegularFile).toList()) {
+                    String name = file.getFileName().toString();
+                    String hash = name.endsWith(BLOB_SUFFIX) ? name.substring(0, name.length() - BLOB_SUFFIX.length()) : null;
+                    if (hash == null || !lastUsed.containsKey(hash)) {
+                        if (Files.getLastModifiedTime(file).toInstant().isBefore(graceCutoff)) {
+                            orphans.add(file);
+                        }
+                        continue;
+                    }
+                    long size = Files.size(file);
+                    sizes.put(hash, size);
+                    totalBytes += size;
+                }
+            }
+
+            long maxBytes = config.getMaxTotalMb() * 1024 * 1024;
+            if (totalBytes > maxBytes) {
+                List<String> oldestFirst = lastUsed.entrySet().stream()
+                        .sorted(Map.Entry.comparingByValue())
+                        .map(Map.Entry::getKey)
+                        .toList();
+                Set<String> evicted = new HashSet<>();
+                for (String hash : oldestFirst) {
+                    if (totalBytes <= maxBytes) {
+                        break;
+                    }
+                    totalBytes -= sizes.getOrDefault(hash, 0L);
+                    evicted.add(hash);
+                    orphans.add(blobPath(hash));
+                }
+                latestByUrl.values().removeIf(snapshot -> evicted.contains(snapshot.hash()));
+            }
+
+            for (Path orphan : orphans) {
+                Files.deleteIfExists(orphan);
+            }
+            compactIndex();
+
+            if (!orphans.isEmpty()) {
+                log.info("HTML 스냅샷 정리: {}개 파일 삭제, {}개 URL, {}MB", orphans.size(), latestByUrl.size(),
+                        totalBytes / (1024 * 1024));
+            }
+        } catch (Exception e) {
+            log.warn("HTML 스냅샷 정리 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 인덱스를 현재 URL별 최신 항목만 남기도록 다시 작성
+     */
+    private void compactIndex() throws IOException {
+        synchronized (indexLock) {
+            Path index = root.resolve(INDEX_FILE);
+            Path temp = root.resolve(INDEX_FILE + ".tmp");
+            List<Snapshot> snapshots = latestByUrl.values().stream()
+                    .sorted(Comparator.comparing(Snapshot::fetchedAt))
+                    .toList();
+            try (BufferedWriter writer = Files.newBufferedWriter(temp, StandardCharsets.UTF_8)) {
+                for (Snapshot snapshot : snapshots) {
+                    writer.write(toLine(snapshot));
+                    writer.newLine();
+                }
+            }
+            indexWriter.close();
+            Files.move(temp, index, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            indexWriter = Files.newBufferedWriter(index, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+        }
+    }
+
+    /**
+     * index.log 재생 (같은 URL은 마지막 항목 우선, 본문 파일이 없는 항목은 제외)
+     */
+    private void loadIndex() throws IOException {
+        Path index = root.resolve(INDEX_FILE);
+        if (!Files.exists(index)) {
+            return;
+        }
+        try (Stream<String> lines = Files.lines(index, StandardCharsets.UTF_8)) {
+            lines.map(this::parseLine)
+                    .filter(snapshot -> snapshot != null)
+                    .forEach(snapshot -> latestByUrl.put(snapshot.url(), snapshot));
+        }
+        latestByUrl.values().removeIf(snapshot -> !Files.exists(blobPath(snapshot.hash())));
+    }
+
+    // fetchedAt(epoch ms) \t hash \t source \t charset \t url \t finalUrl
+    private String toLine(Snapshot snapshot) {
+        return Stream.of(
+                        String.valueOf(snapshot.fetchedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli()),
+                        snapshot.hash(),
+                        snapshot.source().name(),
+                        snapshot.charset() != null ? snapshot.charset() : NONE,
+                        sanitize(snapshot.url()),
+                        sanitize(snapshot.finalUrl()))
+                .collect(Collectors.joining("\t"));
+    }
+
+    private Snapshot parseLine(String line) {
+        String[] parts = line.split("\t");
+        if (parts.length != 6) {
+            return null;
+        }
+        try {
+            LocalDateTime fetchedAt = LocalDateTime.ofInstant(Instant.ofEpochMilli(Long.parseLong(parts[0])),
+                    ZoneId.systemDefault());
+            return new Snapshot(parts[4], parts[5], parts[1], NONE.equals(parts[3]) ? null : parts[3],
+                    Source.valueOf(parts[2]), fetchedAt);
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+
+    private String sanitize(String value) {
+        return value.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+    }
+
+    private Path blobPath(String hash) {
+        return root.resolve(OBJECTS_DIR).resolve(hash.substring(0, 2)).resolve(hash + BLOB_SUFFIX);
+    }
+
+    private static String sha256(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다", e);
+        }
+    }
+}
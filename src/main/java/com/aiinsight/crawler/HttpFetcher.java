@@ -0,0 +1,338 @@
+package com.aiinsight.crawler;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.brotli.dec.BrotliInputStream;
+import org.jsoup.HttpStatusException;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.PushbackInputStream;
+import java.net.SocketTimeoutException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpHeaders;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.Inflater;
+import java.util.zip.InflaterInputStream;
+
+/**
+ * 공용 HTTP fetch 컴포넌트 (WebCrawler, AiSummaryService 공용)
+ * - 단일 HttpClient 재사용: keep-alive 커넥션 풀 + HTTP/2 (ALPN 협상, 미지원 서버는 HTTP/1.1)
+ * - gzip / deflate / br 응답을 직접 디코딩
+ * - 본문 최대 크기(디코딩 후 기준)와 본문 스트리밍 전체 제한 시간 적용
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class HttpFetcher {
+
+    private static final String ACCEPT_ENCODING = "gzip, deflate, br";
+
+    private final CrawlerConfig crawlerConfig;
+
+    private HttpClient httpClient;
+    private ScheduledExecutorService readWatchdog;
+
+    @PostConstruct
+    public void init() {
+        httpClient = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_2)
+                .followRedirects(HttpClient.Redirect.NORMAL)
+                .connectTimeout(Duration.ofMillis(crawlerConfig.getTimeout()))
+                .build();
+
+        readWatchdog = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "http-fetch-watchdog");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        readWatchdog.shutdownNow();
+    }
+
+    /**
+     * URL을 가져와 Jsoup 문서로 파싱합니다.
+     */
+    public Document fetchDocument(String url) throws IOException {
+        return fetch(url).toDocument();
+    }
+
+    public FetchResponse fetch(String url) throws IOException {
+        return fetch(url, Map.of());
+    }
+
+    /**
+     * URL을 가져옵니다.
+     * - 4xx/5xx 응답은 Jsoup과 동일하게 HttpStatusException으로 전달 (기존 재시도 로직 호환)
+     * - 304 Not Modified는 빈 본문으로 반환
+     * @param extraHeaders 기본 브라우저 헤더에 추가/덮어쓸 헤더
+     */
+    public FetchResponse fetch(String url, Map<String, String> extraHeaders) throws IOException {
+        return fetch(url, "GET", extraHeaders, null);
+    }
+
+    /**
+     * 임의 메서드로 요청 (JSON API 재현용)
+     * @param requestBody 요청 본문 (없으면 null)
+     */
+    public FetchResponse fetch(String url, String method, Map<String, String> extraHeaders, String requestBody) throws IOException {
+        HttpRequest.Builder builder;
+        try {
+            builder = HttpRequest.newBuilder(URI.create(url));
+        } catch (IllegalArgumentException e) {
+            throw new IOException("잘못된 URL: " + url, e);
+        }
+
+        builder.timeout(Duration.ofMillis(crawlerConfig.getTimeout()))
+                .method(method, requestBody != null
+                        ? HttpRequest.BodyPublishers.ofString(requestBody)
+                        : HttpRequest.BodyPublishers.noBody());
+        applyBrowserHeaders(builder);
+        extraHeaders.forEach(builder::setHeader);
+
+        HttpResponse<InputStream> response;
+        try {
+            response = httpClient.send(builder.build(), HttpResponse.BodyHandlers.ofInputStream());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("요청이 중단되었습니다: " + url);
+        }
+
+        int status = response.statusCode();
+        if (status >= 400) {
+            response.body().close();
+            throw new HttpStatusException("HTTP error fetching URL", status, url);
+        }
+
+        byte[] body;
+        if (status == 304) {
+            response.body().close();
+            body = new byte[0];
+        } else {
+            body = readBody(response, url);
+        }
+
+        return FetchResponse.builder()
+                .url(response.uri().toString())
+                .statusCode(status)
+                .headers(response.headers())
+                .body(body)
+                .charset(extractCharset(response.headers()))
+                .protocol(response.version().name())
+                .build();
+    }
+
+    /**
+     * 조건부 요청 헤더 (이전 응답의 ETag / Last-Modified)
+     */
+    public static Map<String, String> conditionalHeaders(String etag, String lastModified) {
+        Map<String, String> headers = new HashMap<>();
+        if (etag != null && !etag.isEmpty()) {
+            headers.put("If-None-Match", etag);
+        }
+        if (lastModified != null && !lastModified.isEmpty()) {
+            headers.put("If-Modified-Since", lastModified);
+        }
+        return headers;
+    }
+
+    /**
+     * 브라우저와 동일한 요청 헤더 설정 (봇 감지 회피)
+     * - Connection 헤더는 HttpClient가 관리 (HTTP/2에서는 금지 헤더)
+     */
+    private void applyBrowserHeaders(HttpRequest.Builder builder) {
+        builder.setHeader("User-Agent", crawlerConfig.getRandomUserAgent())
+                .setHeader("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8")
+                .setHeader("Accept-Language", "en-US,en;q=0.9,ko;q=0.8")
+                .setHeader("Accept-Encoding", ACCEPT_ENCODING)
+                .setHeader("Upgrade-Insecure-Requests", "1")
+                .setHeader("sec-ch-ua", "\"Not_A Brand\";v=\"8\", \"Chromium\";v=\"120\", \"Google Chrome\";v=\"120\"")
+                .setHeader("sec-ch-ua-mobile", "?0")
+                .setHeader("sec-ch-ua-platform", "\"macOS\"")
+                .setHeader("Sec-Fetch-Dest", "document")
+                .setHeader("Sec-Fetch-Mode", "navigate")
+                .setHeader("Sec-Fetch-Site", "none")
+                .setHeader("Sec-Fetch-User", "?1")
+                .setHeader("Cache-Control", "max-age=0")
+                .setHeader("Referer", "https://www.google.com/");
+    }
+
+    /**
+     * 본문을 스트리밍으로 읽으며 디코딩
+     * - Content-Length가 제한을 넘으면 읽기 전에 거부
+     * - 디코딩된 바이트 기준으로 최대 크기 검사 (압축 폭탄 방지)
+     * - 전체 읽기 시간이 제한을 넘으면 워치독이 스트림을 닫아 중단
+     */
+    private byte[] readBody(HttpResponse<InputStream> response, String url) throws IOException {
+        long maxBytes = crawlerConfig.getMaxBodyBytes();
+        InputStream raw = response.body();
+
+        OptionalLong declaredLength = response.headers().firstValueAsLong("Content-Length");
+        if (declaredLength.isPresent() && declaredLength.getAsLong() > maxBytes) {
+            raw.close();
+            throw new IOException("응답 크기 제한 초과 (" + declaredLength.getAsLong() + " > " + maxBytes + " bytes): " + url);
+        }
+
+        AtomicBoolean timedOut = new AtomicBoolean(false);
+        ScheduledFuture<?> deadline = readWatchdog.schedule(() -> {
+            timedOut.set(true);
+            closeQuietly(raw);
+        }, crawlerConfig.getBodyReadTimeoutMs(), TimeUnit.MILLISECONDS);
+
+        try (InputStream in = decode(raw, response.headers().firstValue("Content-Encoding").orElse(null))) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream(8192);
+            byte[] buffer = new byte[8192];
+            long total = 0;
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                total += read;
+                if (total > maxBytes) {
+                    throw new IOException("응답 크기 제한 초과 (" + maxBytes + " bytes): " + url);
+                }
+                out.write(buffer, 0, read);
+            }
+            return out.toByteArray();
+        } catch (IOException e) {
+            if (timedOut.get()) {
+                throw new SocketTimeoutException("본문 읽기 타임아웃 (" + crawlerConfig.getBodyReadTimeoutMs() + "ms): " + url);
+            }
+            throw e;
+        } finally {
+            deadline.cancel(false);
+        }
+    }
+
+    /**
+     * Content-Encoding 디코딩 (여러 인코딩이 적용된 경우 역순으로 해제)
+     */
+    private InputStream decode(InputStream raw, String contentEncoding) throws IOException {
+        if (contentEncoding == null || contentEncoding.isBlank()) {
+            return raw;
+        }
+
+        String[] encodings = contentEncoding.split(",");
+        InputStream in = raw;
+        for (int i = encodings.length - 1; i >= 0; i--) {
+            String encoding = encodings[i].trim().toLowerCase(Locale.ROOT);
+            in = switch (encoding) {
+                case "gzip", "x-gzip" -> new GZIPInputStream(in, 8192);
+                case "deflate" -> inflate(in);
+                case "br" -> new BrotliInputStream(in);
+                case "identity", "" -> in;
+                default -> throw new IOException("지원하지 않는 Content-Encoding: " + encoding);
+            };
+        }
+        return in;
+    }
+
+    /**
+     * deflate 디코딩 - zlib 래핑 여부를 헤더로 판별 (일부 서버는 raw deflate 전송)
+     */
+    private InputStream inflate(InputStream in) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(in, 2);
+        int cmf = pushback.read();
+        int flg = pushback.read();
+        if (flg != -1) {
+            pushback.unread(flg);
+        }
+        if (cmf != -1) {
+            pushback.unread(cmf);
+        }
+
+        boolean zlibWrapped = cmf != -1 && flg != -1
+                && (cmf & 0x0F) == 8
+                && ((cmf << 8) | flg) % 31 == 0;
+        return new InflaterInputStream(pushback, new Inflater(!zlibWrapped), 8192);
+    }
+
+    /**
+     * Content-Type 헤더의 charset 추출 (없으면 null → Jsoup이 meta 태그/BOM으로 감지)
+     */
+    private String extractCharset(HttpHeaders headers) {
+        String contentType = headers.firstValue("Content-Type").orElse(null);
+        if (contentType == null) {
+            return null;
+        }
+        for (String part : contentType.split(";")) {
+            String trimmed = part.trim();
+            if (trimmed.toLowerCase(Locale.ROOT).startsWith("charset=")) {
+                String charset = trimmed.substring("charset=".length()).replace("\"", "").trim();
+                return charset.isEmpty() ? null : charset;
+            }
+        }
+        return null;
+    }
+
+    private void closeQuietly(InputStream in) {
+        try {
+            in.close();
+        } catch (IOException ignored) {
+        }
+    }
+
+    /**
+     * fetch 결과
+     */
+    @Getter
+    @Builder
+    public static class FetchResponse {
+        private final String url;          // 리다이렉트 후 최종 URL
+        private final int statusCode;
+        private final HttpHeaders headers;
+        private final byte[] body;         // 디코딩된 본문
+        private final String charset;      // Content-Type의 charset (없으면 null)
+        private final String protocol;     // HTTP_1_1 / HTTP_2
+
+        public boolean isNotModified() {
+            return statusCode == 304;
+        }
+
+        public String header(String name) {
+            return headers.firstValue(name).orElse(null);
+        }
+
+        public Document toDocument() throws IOException {
+            return Jsoup.parse(new ByteArrayInputStream(body), charset, url);
+        }
+
+        /**
+         * 본문 SHA-256 지문 (변경 감지용)
+         */
+        public String fingerprint() {
+            try {
+                return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(body));
+            } catch (NoSuchAlgorithmException e) {
+                throw new IllegalStateException("SHA-256 알고리즘을 찾을 수 없습니다", e);
+            }
+        }
+    }
+}
@@ -0,0 +1,180 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.SelectorConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.NullNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import com.fasterxml.jackson.databind.node.TextNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 프레임워크 하이드레이션 JSON 기사 추출
+ * - Next.js: script#__NEXT_DATA__
+ * - Nuxt 3: script#__NUXT_DATA__ (devalue 직렬화 - 인덱스 참조를 풀어서 사용)
+ * - 그 외: window.__XXX__ = {...} 형태의 순수 JSON 상태 할당 (__INITIAL_STATE__, __APOLLO_STATE__ 등)
+ * - itemsPath가 없으면 제목/링크를 가진 객체 배열 중 가장 큰 배열을 기사 목록으로 판단
+ */
+@Component
+@Order(2)
+@RequiredArgsConstructor
+@Slf4j
+public class HydrationDataExtractor implements StructuredDataExtractor {
+
+    public static final String SOURCE = "HYDRATION";
+
+    private static final String DEFAULT_SCRIPT_SELECTOR = "script#__NEXT_DATA__, script#__NUXT_DATA__";
+    private static final Pattern STATE_ASSIGNMENT = Pattern.compile("^\\s*window\\.(__[A-Za-z0-9_]+__)\\s*=\\s*");
+    private static final int MAX_DEVALUE_DEPTH = 64;
+    private static final Set<String> DEVALUE_WRAPPERS = Set.of("Reactive", "ShallowReactive", "Ref", "ShallowRef");
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String source() {
+        return SOURCE;
+    }
+
+    @Override
+    public List<CrawlResult.ArticleData> extract(Document doc, SelectorConfig.StructuredDataConfig config, String baseUrl) {
+        Map<String, CrawlResult.ArticleData> articles = new LinkedHashMap<>();
+        for (JsonNode root : hydrationRoots(doc, config)) {
+            JsonNode items = config != null && config.getItemsPath() != null && !config.getItemsPath().isBlank()
+                    ? StructuredDataSupport.at(root, config.getItemsPath())
+                    : arrayOf(StructuredDataSupport.findArticleArray(root, config, baseUrl));
+            if (items == null || !items.isArray()) {
+                continue;
+            }
+            for (JsonNode item : items) {
+                CrawlResult.ArticleData article = StructuredDataSupport.toArticle(item, config, baseUrl);
+                if (article != null) {
+                    articles.putIfAbsent(article.getUrl(), article);
+                }
+            }
+        }
+        return new ArrayList<>(articles.values());
+    }
+
+    private List<JsonNode> hydrationRoots(Document doc, SelectorConfig.StructuredDataConfig config) {
+        List<JsonNode> roots = new ArrayList<>();
+        String selector = config != null && config.getScriptSelector() != null && !config.getScriptSelector().isBlank()
+                ? config.getScriptSelector() : DEFAULT_SCRIPT_SELECTOR;
+
+        for (Element script : doc.select(selector)) {
+            JsonNode root = parse(script.data());
+            if (root == null) {
+                continue;
+            }
+            roots.add("__NUXT_DATA__".equals(script.id()) ? reviveDevalue(root) : root);
+        }
+
+        for (Element script : doc.select("script:not([src])")) {
+            String data = script.data();
+            Matcher matcher = STATE_ASSIGNMENT.matcher(data);
+            if (!matcher.find()) {
+                continue;
+            }
+            String json = data.substring(matcher.end()).trim();
+            if (json.endsWith(";")) {
+                json = json.substring(0, json.length() - 1);
+            }
+            JsonNode root = parse(json);
+            if (root != null) {
+                roots.add(root);
+            }
+        }
+        return roots;
+    }
+
+    private JsonNode arrayOf(StructuredDataSupport.ArrayMatch match) {
+        return match != null ? match.array() : null;
+    }
+
+    private JsonNode parse(String json) {
+        if (json == null || json.isBlank()) {
+            return null;
+        }
+        try {
+            return objectMapper.readTree(json);
+        } catch (JsonProcessingException e) {
+            log.debug("하이드레이션 JSON 파싱 실패: {}", e.getOriginalMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Nuxt 3 devalue 페이로드 복원
+     * - 최상위 배열의 각 값은 다른 요소의 인덱스를 참조 (0번이 루트)
+     * - ["Reactive", i] 등 래퍼는 내부 값으로, ["Date", iso]는 문자열로 변환
+     */
+    private JsonNode reviveDevalue(JsonNode payload) {
+        if (!payload.isArray() || payload.isEmpty()) {
+            return payload;
+        }
+        return revive((ArrayNode) payload, 0, new HashMap<>(), 0);
+    }
+
+    private JsonNode revive(ArrayNode table, int index, Map<Integer, JsonNode> cache, int depth) {
+        if (index < 0 || index >= table.size() || depth > MAX_DEVALUE_DEPTH) {
+            return NullNode.instance;
+        }
+        JsonNode cached = cache.get(index);
+        if (cached != null) {
+            return cached;
+        }
+
+        JsonNode value = table.get(index);
+        if (value.isArray()) {
+            if (!value.isEmpty() && value.get(0).isTextual()) {
+                String tag = value.get(0).asText();
+                JsonNode revived;
+                if (DEVALUE_WRAPPERS.contains(tag) && value.size() > 1 && value.get(1).isInt()) {
+                    revived = revive(table, value.get(1).asInt(), cache, depth + 1);
+                } else if ("Date".equals(tag) && value.size() > 1) {
+                    revived = TextNode.valueOf(value.get(1).asText());
+                } else {
+                    revived = NullNode.instance;
+                }
+                cache.put(index, revived);
+                return revived;
+            }
+            ArrayNode array = JsonNodeFactory.instance.arrayNode();
+            cache.put(index, array);
+            for (JsonNode element : value) {
+                array.add(element.isInt() ? revive(table, element.asInt(), cache, depth + 1) : NullNode.instance);
+            }
+            return array;
+        }
+        if (value.isObject()) {
+            ObjectNode object = JsonNodeFactory.instance.objectNode();
+            cache.put(index, object);
+            Iterator<Map.Entry<String, JsonNode>> fields = value.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                object.set(field.getKey(), field.getValue().isInt()
+                        ? revive(table, field.getValue().asInt(), cache, depth + 1) : NullNode.instance);
+            }
+            return object;
+        }
+        cache.put(index, value);
+        return value;
+    }
+}
@@ -0,0 +1,151 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.SelectorConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * JSON-LD (script[type=application/ld+json]) 기사 추출
+ * - ItemList의 itemListElement, Article 계열 타입(NewsArticle, BlogPosting 등), @graph 지원
+ * - schema.org 표준 키를 사용하므로 필드 경로 설정은 적용하지 않음
+ */
+@Component
+@Order(1)
+@RequiredArgsConstructor
+@Slf4j
+public class JsonLdExtractor implements StructuredDataExtractor {
+
+    public static final String SOURCE = "JSON_LD";
+
+    private static final Set<String> ARTICLE_TYPES = Set.of("Article", "NewsArticle", "BlogPosting",
+            "TechArticle", "ReportageNewsArticle", "AnalysisNewsArticle", "ScholarlyArticle", "Report",
+            "LiveBlogPosting", "SocialMediaPosting");
+    private static final int MAX_DEPTH = 8;
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public String source() {
+        return SOURCE;
+    }
+
+    @Override
+    public List<CrawlResult.ArticleData> extract(Document doc, SelectorConfig.StructuredDataConfig config, String baseUrl) {
+        Map<String, CrawlResult.ArticleData> articles = new LinkedHashMap<>();
+        for (Element script : doc.select("script[type=application/ld+json]")) {
+            try {
+                collect(objectMapper.readTree(script.data()), baseUrl, articles, 0);
+            } catch (JsonProcessingException e) {
+                log.debug("JSON-LD 파싱 실패: {} - {}", baseUrl, e.getOriginalMessage());
+            }
+        }
+        return new ArrayList<>(articles.values());
+    }
+
+    private void collect(JsonNode node, String baseUrl, Map<String, CrawlResult.ArticleData> articles, int depth) {
+        if (node == null || depth > MAX_DEPTH) {
+            return;
+        }
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                collect(element, baseUrl, articles, depth + 1);
+            }
+            return;
+        }
+        if (!node.isObject()) {
+            return;
+        }
+
+        if (node.has("@graph")) {
+            collect(node.get("@graph"), baseUrl, articles, depth + 1);
+        }
+
+        if (hasType(node, "ItemList")) {
+            for (JsonNode element : node.path("itemListElement")) {
+                add(articles, listItemArticle(element, baseUrl));
+            }
+        } else if (isArticle(node)) {
+            add(articles, StructuredDataSupport.toArticle(node, null, baseUrl));
+        }
+
+        // 페이지(WebPage, CollectionPage)의 주 콘텐츠로 목록/기사가 들어있는 경우
+        collect(node.get("mainEntity"), baseUrl, articles, depth + 1);
+        collect(node.get("hasPart"), baseUrl, articles, depth + 1);
+    }
+
+    /**
+     * ListItem 변환 - item이 기사 객체이거나 URL 문자열이거나, ListItem 자체에 url/name이 있는 형태
+     */
+    private CrawlResult.ArticleData listItemArticle(JsonNode element, String baseUrl) {
+        JsonNode item = element.get("item");
+        if (item != null && item.isObject()) {
+            CrawlResult.ArticleData article = StructuredDataSupport.toArticle(item, null, baseUrl);
+            if (article != null) {
+                return article;
+            }
+        }
+
+        String title = StructuredDataSupport.text(element.get("name"));
+        String url = item != null && item.isTextual()
+                ? item.asText()
+                : StructuredDataSupport.text(element.get("url"));
+        if (title == null || url == null) {
+            return null;
+        }
+        return CrawlResult.ArticleData.builder()
+                .title(title)
+                .url(StructuredDataSupport.resolveUrl(baseUrl, url))
+                .build();
+    }
+
+    private void add(Map<String, CrawlResult.ArticleData> articles, CrawlResult.ArticleData article) {
+        if (article != null) {
+            articles.putIfAbsent(article.getUrl(), article);
+        }
+    }
+
+    private boolean isArticle(JsonNode node) {
+        JsonNode type = node.get("@type");
+        if (type == null) {
+            return false;
+        }
+        if (type.isArray()) {
+            for (JsonNode value : type) {
+                if (ARTICLE_TYPES.contains(value.asText())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return ARTICLE_TYPES.contains(type.asText());
+    }
+
+    private boolean hasType(JsonNode node, String typeName) {
+        JsonNode type = node.get("@type");
+        if (type == null) {
+            return false;
+        }
+        if (type.isArray()) {
+            for (JsonNode value : type) {
+                if (typeName.equals(value.asText())) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        return typeName.equals(type.asText());
+    }
+}
@@ -0,0 +1,68 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.SelectorConfig;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * OpenGraph 메타 태그 기사 추출 (og:type=article인 페이지 자체를 기사 1건으로 반환)
+ * - 목록 페이지에는 의미가 없으므로 기본 소스에서 제외, 상세 페이지 보완에 주로 사용
+ */
+@Component
+@Order(3)
+public class OpenGraphExtractor implements StructuredDataExtractor {
+
+    public static final String SOURCE = "OPEN_GRAPH";
+
+    @Override
+    public String source() {
+        return SOURCE;
+    }
+
+    @Override
+    public List<CrawlResult.ArticleData> extract(Document doc, SelectorConfig.StructuredDataConfig config, String baseUrl) {
+        Map<String, String> meta = metaTags(doc);
+
+        String type = meta.get("og:type");
+        String title = meta.get("og:title");
+        if (title == null || (type != null && !type.equalsIgnoreCase("article"))) {
+            return List.of();
+        }
+
+        String url = meta.get("og:url");
+        if (url == null) {
+            Element canonical = doc.selectFirst("link[rel=canonical]");
+            url = canonical != null && !canonical.attr("abs:href").isEmpty() ? canonical.attr("abs:href") : baseUrl;
+        }
+
+        return List.of(CrawlResult.ArticleData.builder()
+                .url(StructuredDataSupport.resolveUrl(baseUrl, url))
+                .title(title)
+                .content(meta.get("og:description"))
+                .author(meta.getOrDefault("article:author", meta.get("author")))
+                .publishedAt(FeedCrawler.parseFeedDate(meta.get("article:published_time")))
+                .thumbnailUrl(StructuredDataSupport.resolveUrl(baseUrl, meta.get("og:image")))
+                .build());
+    }
+
+    /**
+     * property/name 속성 기준 meta 태그 값 (같은 키가 여러 개면 첫 번째)
+     */
+    static Map<String, String> metaTags(Document doc) {
+        Map<String, String> meta = new HashMap<>();
+        for (Element element : doc.select("meta[content]")) {
+            String key = element.hasAttr("property") ? element.attr("property") : element.attr("name");
+            String content = element.attr("content").trim();
+            if (!key.isEmpty() && !content.isEmpty()) {
+                meta.putIfAbsent(key.toLowerCase(), content);
+            }
+        }
+        return meta;
+    }
+}
@@ -0,0 +1,211 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.CrawlTarget;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.net.URI;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 병렬 크롤링 엔진
+ * - 크롤링 타입별로 격리된 Executor에서 실행 (STATIC/FEED/API 재현/정적 수집 가능 DYNAMIC: staticCrawlExecutor,
+ *   브라우저 DYNAMIC: dynamicCrawlExecutor)
+ * - 전체 동시 실행 수는 각 Executor 크기(maxConcurrentCrawls, selenium.poolSize)로 제한
+ * - 같은 호스트로 향하는 작업만 호스트 레인에서 직렬화 (maxConcurrentPerHost)
+ * - 호스트별 politeness 딜레이는 스레드를 점유하지 않고 예약 실행으로 처리
+ */
+@Component
+@Slf4j
+public class ParallelCrawlEngine {
+
+    private final CrawlerConfig crawlerConfig;
+    private final ThreadPoolTaskExecutor staticCrawlExecutor;
+    private final ThreadPoolTaskExecutor dynamicCrawlExecutor;
+
+    // 호스트별 실행 레인
+    private final Map<String, HostLane> lanes = new ConcurrentHashMap<>();
+
+    private ScheduledExecutorService delayScheduler;
+
+    public ParallelCrawlEngine(CrawlerConfig crawlerConfig,
+                               @Qualifier("staticCrawlExecutor") ThreadPoolTaskExecutor staticCrawlExecutor,
+                               @Qualifier("dynamicCrawlExecutor") ThreadPoolTaskExecutor dynamicCrawlExecutor) {
+        this.crawlerConfig = crawlerConfig;
+        this.staticCrawlExecutor = staticCrawlExecutor;
+        this.dynamicCrawlExecutor = dynamicCrawlExecutor;
+    }
+
+    @PostConstruct
+    public void init() {
+        delayScheduler = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "crawl-politeness");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        log.info("병렬 크롤링 엔진 초기화 - STATIC 동시성: {}, DYNAMIC 동시성: {}, 호스트별 동시성: {}, 호스트 딜레이: {}ms",
+                staticCrawlExecutor.getMaxPoolSize(), dynamicCrawlExecutor.getMaxPoolSize(),
+                crawlerConfig.getMaxConcurrentPerHost(), crawlerConfig.getHostPolitenessDelayMs());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // Executor 종료는 Spring 빈 생명주기에서 처리
+        delayScheduler.shutdownNow();
+    }
+
+    /**
+     * 크롤링 작업을 타겟 호스트의 레인에 등록합니다.
+     * @return 작업 완료 시 완료되는 Future
+     */
+    public CompletableFuture<Void> submit(CrawlTarget target, Runnable task) {
+        return submit(target, usesBrowser(target), task);
+    }
+
+    /**
+     * 타겟 타입과 무관하게 HTTP fetch만 하는 작업 등록 (DYNAMIC 타겟의 정적 비교 수집 등)
+     * - 같은 호스트 레인을 공유하므로 politeness 딜레이는 동일하게 적용
+     */
+    public CompletableFuture<Void> submitStatic(CrawlTarget target, Runnable task) {
+        return submit(target, false, task);
+    }
+
+    private CompletableFuture<Void> submit(CrawlTarget target, boolean usesBrowser, Runnable task) {
+        String host = resolveHost(target.getUrl());
+        CompletableFuture<Void> future = new CompletableFuture<>();
+        lanes.computeIfAbsent(host, HostLane::new)
+                .enqueue(new CrawlJob(target.getName(), usesBrowser, task, future));
+        return future;
+    }
+
+    /**
+     * 지정한 지연 후 크롤링 작업을 레인에 등록합니다.
+     * - 대기 중에는 워커 스레드나 DB 커넥션을 점유하지 않음
+     */
+    public void schedule(CrawlTarget target, long delayMs, Runnable task) {
+        try {
+            delayScheduler.schedule(() -> submit(target, task), delayMs, TimeUnit.MILLISECONDS);
+        } catch (RejectedExecutionException e) {
+            log.warn("지연 크롤링 예약 거부됨 (엔진 종료 중): {}", target.getName());
+        }
+    }
+
+    /**
+     * URL에서 politeness 단위로 사용할 호스트를 추출합니다.
+     */
+    static String resolveHost(String url) {
+        try {
+            String host = URI.create(url).getHost();
+            if (host == null || host.isEmpty()) {
+                return url;
+            }
+            host = host.toLowerCase(Locale.ROOT);
+            return host.startsWith("www.") ? host.substring(4) : host;
+        } catch (Exception e) {
+            return url;
+        }
+    }
+
+    private record CrawlJob(String name, boolean usesBrowser, Runnable task, CompletableFuture<Void> future) {}
+
+    /**
+     * 브라우저가 필요한 작업인지 (API 템플릿이 있거나 정적 수집 가능으로 판별된 DYNAMIC 타겟은 HTTP 호출이므로 제외)
+     * - 이들의 Selenium 폴백은 WebDriverPool 대여 수로 따로 제한됨
+     */
+    private boolean usesBrowser(CrawlTarget target) {
+        return target.getCrawlType() == CrawlTarget.CrawlType.DYNAMIC && target.getApiTemplate() == null
+                && !Boolean.TRUE.equals(target.getStaticCapable());
+    }
+
+    private ThreadPoolTaskExecutor executorFor(CrawlJob job) {
+        return job.usesBrowser() ? dynamicCrawlExecutor : staticCrawlExecutor;
+    }
+
+    /**
+     * 호스트 단위 실행 레인
+     * - 동시 실행 수가 한도 미만일 때만 다음 작업을 디스패치
+     * - 다음 시작 가능 시각 이전이면 딜레이 스케줄러로 예약
+     */
+    private final class HostLane {
+
+        private final String host;
+        private final Deque<CrawlJob> pending = new ArrayDeque<>();
+        private int running = 0;
+        private long nextAllowedStartAt = 0;
+
+        private HostLane(String host) {
+            this.host = host;
+        }
+
+        synchronized void enqueue(CrawlJob job) {
+            pending.add(job);
+            dispatch();
+        }
+
+        private synchronized void onFinished() {
+            running--;
+            long now = System.currentTimeMillis();
+            nextAllowedStartAt = Math.max(nextAllowedStartAt, now + crawlerConfig.getHostPolitenessDelayMs());
+            dispatch();
+        }
+
+        // 호출 시 lock 보유 필요
+        private void dispatch() {
+            int perHostLimit = Math.max(1, crawlerConfig.getMaxConcurrentPerHost());
+
+            while (running < perHostLimit && !pending.isEmpty()) {
+                CrawlJob job = pending.poll();
+                running++;
+
+                long now = System.currentTimeMillis();
+                long startAt = Math.max(now, nextAllowedStartAt);
+                nextAllowedStartAt = startAt + crawlerConfig.getHostPolitenessDelayMs();
+
+                long delay = startAt - now;
+                if (delay > 0) {
+                    log.debug("호스트 politeness 대기: {} - {} ({}ms 후 시작)", host, job.name(), delay);
+                    try {
+                        delayScheduler.schedule(() -> execute(job), delay, TimeUnit.MILLISECONDS);
+                    } catch (RejectedExecutionException e) {
+                        execute(job);
+                    }
+                } else {
+                    execute(job);
+                }
+            }
+        }
+
+        private void execute(CrawlJob job) {
+            try {
+                executorFor(job).execute(() -> {
+                    try {
+                        job.task().run();
+                        job.future().complete(null);
+                    } catch (Throwable t) {
+                        job.future().completeExceptionally(t);
+                    } finally {
+                        onFinished();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                log.warn("크롤링 작업 실행 거부됨 (엔진 종료 중): {}", job.name());
+                job.future().completeExceptionally(e);
+                onFinished();
+            }
+        }
+    }
+}
@@ -2,26 +2,24 @@ package com.aiinsight.crawler;
 
 import com.aiinsight.domain.crawl.CrawlTarget;
 import com.aiinsight.domain.crawl.SelectorConfig;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import jakarta.annotation.PostConstruct;
-import jakarta.annotation.PreDestroy;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
 import org.openqa.selenium.*;
 import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.springframework.stereotype.Component;
 
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
 
 @Component
 @RequiredArgsConstructor
@@ -29,109 +27,98 @@ import java.util.Locale;
 public class SeleniumCrawler {
 
     private final CrawlerConfig crawlerConfig;
+    private final WebDriverPool webDriverPool;
+    private final ArticleExtractor articleExtractor;
     private final ObjectMapper objectMapper;
-
-    private volatile boolean seleniumAvailable = true;
-    private volatile String unavailableReason = null;
-
-    @PostConstruct
-    public void init() {
-        log.info("SeleniumCrawler 초기화 - ChromeDriver 설정 중...");
-        try {
-            // Chrome 바이너리 확인
-            String chromeBinary = System.getenv("CHROME_BIN");
-            if (chromeBinary != null && !chromeBinary.isEmpty()) {
-                log.info("CHROME_BIN 환경변수 감지: {}", chromeBinary);
-                java.io.File chromeFile = new java.io.File(chromeBinary);
-                if (!chromeFile.exists()) {
-                    log.warn("Chrome 바이너리가 존재하지 않음: {}", chromeBinary);
-                    seleniumAvailable = false;
-                    unavailableReason = "Chrome binary not found: " + chromeBinary;
-                    return;
-                }
-            }
-
-            WebDriverManager.chromedriver().setup();
-            log.info("ChromeDriver 설정 완료");
-
-            // 테스트 드라이버 생성으로 실제 동작 확인
-            testDriverCreation();
-
-        } catch (Exception e) {
-            log.warn("ChromeDriver 설정 실패 - Selenium 크롤링 비활성화: {}", e.getMessage());
-            seleniumAvailable = false;
-            unavailableReason = e.getMessage();
-        }
-    }
-
-    private void testDriverCreation() {
-        WebDriver testDriver = null;
-        try {
-            testDriver = createDriver();
-            log.info("Selenium 드라이버 테스트 성공 - Selenium 크롤링 활성화됨");
-        } catch (Exception e) {
-            log.warn("Selenium 드라이버 테스트 실패: {}", e.getMessage());
-            seleniumAvailable = false;
-            unavailableReason = "Driver creation failed: " + e.getMessage();
-        } finally {
-            if (testDriver != null) {
-                try {
-                    testDriver.quit();
-                } catch (Exception ignored) {}
-            }
-        }
-    }
+    private final HtmlSnapshotStore htmlSnapshotStore;
 
     /**
      * Selenium 크롤링이 현재 환경에서 사용 가능한지 반환
      */
     public boolean isAvailable() {
-        return seleniumAvailable;
+        return webDriverPool.isAvailable();
     }
 
     /**
      * Selenium 사용 불가 사유 반환
      */
     public String getUnavailableReason() {
-        return unavailableReason;
+        return webDriverPool.getUnavailableReason();
     }
 
     public CrawlResult crawl(CrawlTarget target) {
+        return crawl(target, url -> false);
+    }
+
+    /**
+     * Selenium 크롤링 실행
+     * @param isKnownUrl 이미 저장된 기사 URL 여부 (incrementalMode + PAGE_SOURCE 추출일 때 조기 종료에 사용)
+     */
+    public CrawlResult crawl(CrawlTarget target, Predicate<String> isKnownUrl) {
         long startTime = System.currentTimeMillis();
         List<CrawlResult.ArticleData> articles = new ArrayList<>();
-        WebDriver driver = null;
+        boolean reachedKnownArticle = false;
 
-        try {
-            SelectorConfig config = parseSelectorConfig(target.getSelectorConfig());
-            if (config == null) {
-                return CrawlResult.builder()
-                        .success(false)
-                        .errorMessage("선택자 설정이 올바르지 않습니다")
-                        .durationMs(System.currentTimeMillis() - startTime)
-                        .build();
-            }
+        SelectorConfig config = parseSelectorConfig(target.getSelectorConfig());
+        if (config == null) {
+            return CrawlResult.builder()
+                    .success(false)
+                    .errorMessage("선택자 설정이 올바르지 않습니다")
+                    .durationMs(System.currentTimeMillis() - startTime)
+                    .build();
+        }
 
-            driver = createDriver();
+        // 풀에서 웜업된 브라우저 대여 (반납 시 초기화 후 재사용)
+        try (WebDriverPool.Lease lease = webDriverPool.lease()) {
+            WebDriver driver = lease.driver();
             log.info("Selenium 크롤링 시작: {} ({})", target.getName(), target.getUrl());
 
-            driver.get(target.getUrl());
-
-            // JavaScript 렌더링 대기
-            WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
-            waitForPageLoad(driver, wait, config);
-
-            // 스크롤하여 동적 콘텐츠 로드
-            scrollToLoadContent(driver);
-
-            // 기사 추출
-            articles.addAll(extractArticles(driver, config, target.getUrl()));
+            try {
+                driver.get(target.getUrl());
+
+                // JavaScript 렌더링 대기
+                WebDriverWait wait = new WebDriverWait(driver, Duration.ofSeconds(10));
+                waitForPageLoad(driver, wait, config);
+
+                // 스크롤하여 동적 콘텐츠 로드
+                scrollToLoadContent(driver);
+
+                // 렌더링 결과 스냅샷 저장 (WEBDRIVER 추출 모드는 저장소가 켜져 있을 때만 소스를 가져옴)
+                String pageSource = isPageSourceExtraction() || htmlSnapshotStore.isEnabled()
+                        ? driver.getPageSource() : null;
+                htmlSnapshotStore.saveRendered(target.getUrl(), driver.getCurrentUrl(), pageSource);
+
+                // 기사 추출
+                if (isPageSourceExtraction()) {
+                    // 렌더링된 DOM을 한 번에 가져와 WebCrawler와 같은 Jsoup 경로로 추출
+                    Document doc = Jsoup.parse(pageSource, driver.getCurrentUrl());
+                    ArticleExtractor.ExtractedPage page =
+                            articleExtractor.extractArticles(doc, config, target.getUrl(), isKnownUrl);
+                    articles.addAll(page.articles());
+                    reachedKnownArticle = page.reachedKnownArticle();
+                } else {
+                    articles.addAll(extractArticlesViaWebDriver(driver, config, target.getUrl()));
+                }
+            } catch (WebDriverException e) {
+                // 세션 손상 가능성 - 반납 시 폐기
+                lease.markBroken();
+                throw e;
+            }
 
             return CrawlResult.builder()
                     .success(true)
                     .articles(articles)
+                    .reachedKnownArticle(reachedKnownArticle)
                     .durationMs(System.currentTimeMillis() - startTime)
                     .build();
 
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return CrawlResult.builder()
+                    .success(false)
+                    .errorMessage("Selenium 크롤링 중단됨")
+                    .durationMs(System.currentTimeMillis() - startTime)
+                    .build();
         } catch (Exception e) {
             log.error("Selenium 크롤링 실패: {} - {}", target.getName(), e.getMessage(), e);
             return CrawlResult.builder()
@@ -139,81 +126,264 @@ public class SeleniumCrawler {
                     .errorMessage("Selenium 크롤링 실패: " + e.getMessage())
                     .durationMs(System.currentTimeMillis() - startTime)
                     .build();
-        } finally {
-            if (driver != null) {
-                try {
-                    driver.quit();
-                } catch (Exception e) {
-                    log.error("WebDriver 정상 종료 실패, 강제 종료 시도: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * fetch / XMLHttpRequest 응답 중 JSON을 window.__aiinsightCapture에 기록하는 스크립트
+     * - CDP Page.addScriptToEvaluateOnNewDocument로 페이지 스크립트보다 먼저 주입
+     * - 요청 URL/메서드/헤더/본문과 응답 본문을 함께 기록해 그대로 재현할 수 있게 함
+     */
+    private static final String JSON_CAPTURE_SCRIPT = """
+            (function () {
+                if (window.__aiinsightCapture) return;
+                var captured = window.__aiinsightCapture = [];
+                var MAX_ENTRIES = 50, MAX_BODY = 2000000;
+                function looksJson(contentType, text) {
+                    return (contentType && contentType.indexOf('json') >= 0) || /^\\s*[\\[{]/.test(text || '');
+                }
+                function record(entry, contentType, text) {
+                    if (captured.length >= MAX_ENTRIES || !text || text.length > MAX_BODY || !looksJson(contentType, text)) return;
+                    entry.contentType = contentType;
+                    entry.response = text;
+                    captured.push(entry);
+                }
+                function absolute(url) {
+                    try { return new URL(url, location.href).href; } catch (e) { return String(url); }
+                }
+                var originalFetch = window.fetch;
+                if (originalFetch) {
+                    window.fetch = function (input, init) {
+                        var entry = {
+                            url: absolute(typeof input === 'string' ? input : (input && input.url) || input),
+                            method: String((init && init.method) || (input && input.method) || 'GET').toUpperCase(),
+                            headers: {},
+                            body: init && typeof init.body === 'string' ? init.body : null
+                        };
+                        try {
+                            new Headers((init && init.headers) || (input && input.headers) || {})
+                                .forEach(function (value, key) { entry.headers[key] = value; });
+                        } catch (e) {}
+                        return originalFetch.apply(this, arguments).then(function (response) {
+                            try {
+                                entry.status = response.status;
+                                var contentType = response.headers.get('content-type') || '';
+                                response.clone().text().then(function (text) { record(entry, contentType, text); })
+                                    .catch(function () {});
+                            } catch (e) {}
+                            return response;
+                        });
+                    };
+                }
+                var open = XMLHttpRequest.prototype.open;
+                var send = XMLHttpRequest.prototype.send;
+                var setRequestHeader = XMLHttpRequest.prototype.setRequestHeader;
+                XMLHttpRequest.prototype.open = function (method, url) {
+                    this.__aiinsightEntry = {url: absolute(url), method: String(method).toUpperCase(), headers: {}};
+                    return open.apply(this, arguments);
+                };
+                XMLHttpRequest.prototype.setRequestHeader = function (key, value) {
+                    if (this.__aiinsightEntry) this.__aiinsightEntry.headers[String(key).toLowerCase()] = value;
+                    return setRequestHeader.apply(this, arguments);
+                };
+                XMLHttpRequest.prototype.send = function (body) {
+                    var xhr = this, entry = xhr.__aiinsightEntry;
+                    if (entry) {
+                        entry.body = typeof body === 'string' ? body : null;
+                        xhr.addEventListener('load', function () {
+                            try {
+                                entry.status = xhr.status;
+                                var text = xhr.responseType === 'json' ? JSON.stringify(xhr.response)
+                                    : (xhr.responseType === '' || xhr.responseType === 'text') ? xhr.responseText : null;
+                                record(entry, xhr.getResponseHeader('content-type') || '', text);
+                            } catch (e) {}
+                        });
+                    }
+                    return send.apply(this, arguments);
+                };
+            })();
+            """;
+
+    /**
+     * API 탐색 - 페이지를 한 번 렌더링하면서 JSON 응답(fetch/XHR)을 수집
+     * - 수집 스크립트는 CDP로 등록하고 끝나면 해제 (풀로 반납되는 브라우저에 남기지 않음)
+     * - 스크롤까지 진행해 무한 스크롤/더보기 API 호출도 포함
+     * @return 수집된 JSON 응답 (요청 순서)
+     */
+    public List<CapturedResponse> captureJsonResponses(CrawlTarget target) throws InterruptedException, java.util.concurrent.TimeoutException {
+        SelectorConfig config = parseSelectorConfig(target.getSelectorConfig());
+        if (config == null) {
+            config = new SelectorConfig();
+        }
+
+        try (WebDriverPool.Lease lease = webDriverPool.lease()) {
+            ChromeDriver driver = lease.driver();
+            log.info("API 탐색 시작: {} ({})", target.getName(), target.getUrl());
+
+            String scriptId = null;
+            try {
+                Map<String, Object> registered = driver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument",
+                        Map.of("source", JSON_CAPTURE_SCRIPT));
+                scriptId = registered != null ? (String) registered.get("identifier") : null;
+
+                driver.get(target.getUrl());
+                waitForPageLoad(driver, new WebDriverWait(driver, Duration.ofSeconds(10)), config);
+                scrollToLoadContent(driver);
+                waitForCaptureQuiet(driver);
+
+                Object json = ((JavascriptExecutor) driver)
+                        .executeScript("return JSON.stringify(window.__aiinsightCapture || [])");
+                List<CapturedResponse> captured = objectMapper.readValue(String.valueOf(json),
+                        new TypeReference<List<CapturedResponse>>() {});
+                log.info("API 탐색: {} - JSON 응답 {}건 수집", target.getName(), captured.size());
+                return captured;
+
+            } catch (WebDriverException e) {
+                lease.markBroken();
+                throw e;
+            } catch (com.fasterxml.jackson.core.JsonProcessingException e) {
+                log.warn("API 탐색 결과 파싱 실패: {} - {}", target.getName(), e.getOriginalMessage());
+                return List.of();
+            } finally {
+                if (scriptId != null) {
                     try {
-                        // 강제 종료 시도
-                        ((ChromeDriver) driver).quit();
-                        // ChromeDriver 프로세스 강제 종료
-                        killChromeProcesses();
-                    } catch (Exception ex) {
-                        log.error("WebDriver 강제 종료 실패: {}", ex.getMessage());
+                        driver.executeCdpCommand("Page.removeScriptToEvaluateOnNewDocument",
+                                Map.of("identifier", scriptId));
+                    } catch (Exception e) {
+                        // 해제 실패한 브라우저는 재사용하지 않음
+                        lease.markBroken();
                     }
                 }
             }
         }
     }
 
-    private WebDriver createDriver() {
-        ChromeOptions options = new ChromeOptions();
+    /**
+     * 수집 건수가 quietMs 동안 변하지 않을 때까지 대기 (지연 로딩 API 응답 대기)
+     */
+    private void waitForCaptureQuiet(WebDriver driver) throws InterruptedException {
+        CrawlerConfig.SeleniumConfig seleniumConfig = crawlerConfig.getSelenium();
+        JavascriptExecutor js = (JavascriptExecutor) driver;
+        long deadline = System.currentTimeMillis() + seleniumConfig.getReadinessMaxWaitMs();
+        long lastCount = -1;
+        while (System.currentTimeMillis() < deadline) {
+            Object count = js.executeScript("return (window.__aiinsightCapture || []).length");
+            long current = count instanceof Number number ? number.longValue() : 0;
+            if (current == lastCount) {
+                return;
+            }
+            lastCount = current;
+            Thread.sleep(Math.max(100, seleniumConfig.getReadinessQuietMs() * 3L));
+        }
+    }
+
+    /**
+     * 페이지가 받은 JSON 응답 1건
+     */
+    public record CapturedResponse(String url, String method, Map<String, String> headers, String body,
+                                   Integer status, String contentType, String response) {}
 
-        // Docker/Railway 환경에서 Chrome 바이너리 경로 설정
-        String chromeBinary = System.getenv("CHROME_BIN");
-        if (chromeBinary != null && !chromeBinary.isEmpty()) {
-            log.info("Chrome 바이너리 경로 설정: {}", chromeBinary);
-            options.setBinary(chromeBinary);
+    /**
+     * 기사 아이템 수가 안정될 때까지 대기하는 스크립트 (MutationObserver 기반)
+     * - 아이템이 1개 이상이고 quietMs 동안 개수 변화가 없으면 완료
+     * - 선택자가 없으면 DOM 변경이 quietMs 동안 없을 때 완료
+     * arguments: selector, quietMs, maxWaitMs, callback
+     */
+    private static final String WAIT_FOR_STABLE_ITEMS_SCRIPT = """
+            var selector = arguments[0], quietMs = arguments[1], maxWaitMs = arguments[2];
+            var done = arguments[arguments.length - 1];
+            var start = Date.now(), lastCount = -1, quietTimer = null, finished = false, observer = null, hardTimer = null;
+            function count() { return selector ? document.querySelectorAll(selector).length : 0; }
+            function finish(reason) {
+                if (finished) return;
+                finished = true;
+                if (observer) observer.disconnect();
+                clearTimeout(quietTimer);
+                clearTimeout(hardTimer);
+                done({count: count(), reason: reason, elapsed: Date.now() - start});
+            }
+            function check() {
+                var c = count();
+                if (selector && c === lastCount) return;
+                lastCount = c;
+                clearTimeout(quietTimer);
+                quietTimer = setTimeout(function () {
+                    if (!selector || count() > 0) finish('stable');
+                }, quietMs);
+            }
+            observer = new MutationObserver(check);
+            observer.observe(document.documentElement, {childList: true, subtree: true});
+            hardTimer = setTimeout(function () { finish('timeout'); }, maxWaitMs);
+            check();
+            """;
+
+    /**
+     * 하단으로 스크롤한 뒤 새 콘텐츠가 붙을 때까지 대기하는 스크립트
+     * - settleMs 내에 DOM 변경이 없으면 더 불러올 콘텐츠가 없는 것으로 판단
+     * - DOM 변경이 계속되면 maxWaitMs에서 중단
+     * arguments: settleMs, quietMs, maxWaitMs, callback
+     */
+    private static final String SCROLL_AND_WAIT_SCRIPT = """
+            var settleMs = arguments[0], quietMs = arguments[1], maxWaitMs = arguments[2];
+            var done = arguments[arguments.length - 1];
+            var startHeight = document.body.scrollHeight, changed = false, finished = false, quietTimer = null;
+            function finish() {
+                if (finished) return;
+                finished = true;
+                observer.disconnect();
+                clearTimeout(quietTimer);
+                clearTimeout(hardTimer);
+                done(changed && document.body.scrollHeight > startHeight);
+            }
+            var observer = new MutationObserver(function () {
+                changed = true;
+                clearTimeout(settleTimer);
+                clearTimeout(quietTimer);
+                quietTimer = setTimeout(finish, quietMs);
+            });
+            observer.observe(document.body, {childList: true, subtree: true});
+            var settleTimer = setTimeout(finish, settleMs);
+            var hardTimer = setTimeout(finish, maxWaitMs);
+            window.scrollTo(0, document.body.scrollHeight);
+            """;
+
+    private void waitForPageLoad(WebDriver driver, WebDriverWait wait, SelectorConfig config) {
+        if (!isMutationReadiness()) {
+            waitForPageLoadFixed(driver, wait, config);
+            return;
         }
 
-        // Headless 모드 설정 (새 headless 모드 사용)
-        options.addArguments("--headless=new");
-        options.addArguments("--no-sandbox");
-        options.addArguments("--disable-dev-shm-usage");
-        options.addArguments("--disable-gpu");
-        options.addArguments("--window-size=1920,1080");
-
-        // Docker/Railway 환경 필수 설정
-        options.addArguments("--disable-setuid-sandbox");
-        options.addArguments("--remote-debugging-port=0");
-
-        // 메모리 제한 환경(Railway)을 위한 최적화
-        options.addArguments("--disable-crash-reporter");
-        options.addArguments("--disable-background-networking");
-        options.addArguments("--disable-default-apps");
-        options.addArguments("--disable-sync");
-        options.addArguments("--disable-translate");
-        options.addArguments("--disable-background-timer-throttling");
-        options.addArguments("--disable-renderer-backgrounding");
-        options.addArguments("--disable-backgrounding-occluded-windows");
-        options.addArguments("--disable-ipc-flooding-protection");
-
-        // /dev/shm 문제 해결 - 디스크 기반 임시 디렉토리 사용
-        options.addArguments("--disable-features=VizDisplayCompositor");
-        options.addArguments("--disable-software-rasterizer");
-
-        // 봇 감지 우회를 위한 설정
-        options.addArguments("--disable-blink-features=AutomationControlled");
-        options.setExperimentalOption("excludeSwitches", List.of("enable-automation"));
-        options.setExperimentalOption("useAutomationExtension", false);
-
-        // User-Agent 설정
-        options.addArguments("user-agent=" + crawlerConfig.getRandomUserAgent());
-
-        // 리소스 사용량 최적화
-        options.addArguments("--blink-settings=imagesEnabled=false");
-        options.addArguments("--disable-extensions");
-        options.addArguments("--disable-plugins");
-        options.addArguments("--disable-infobars");
-        options.addArguments("--disable-notifications");
-
-        log.info("ChromeDriver 생성 시도...");
-        return new ChromeDriver(options);
+        CrawlerConfig.SeleniumConfig seleniumConfig = crawlerConfig.getSelenium();
+        try {
+            // 파싱 완료(interactive)까지만 대기 - 이미지/폰트 등 하위 리소스는 기다리지 않음
+            wait.until(webDriver -> !"loading".equals(
+                    ((JavascriptExecutor) webDriver).executeScript("return document.readyState")));
+
+            driver.manage().timeouts().scriptTimeout(
+                    Duration.ofMillis(seleniumConfig.getReadinessMaxWaitMs() + 2000));
+            Object result = ((JavascriptExecutor) driver).executeAsyncScript(
+                    WAIT_FOR_STABLE_ITEMS_SCRIPT,
+                    config.getArticleItemSelector(),
+                    seleniumConfig.getReadinessQuietMs(),
+                    seleniumConfig.getReadinessMaxWaitMs());
+
+            if (result instanceof Map<?, ?> readiness) {
+                if ("timeout".equals(readiness.get("reason"))) {
+                    log.warn("기사 아이템 안정화 대기 타임아웃: {} ({}개)",
+                            config.getArticleItemSelector(), readiness.get("count"));
+                } else {
+                    log.debug("기사 아이템 안정화 완료: {}개, {}ms", readiness.get("count"), readiness.get("elapsed"));
+                }
+            }
+        } catch (Exception e) {
+            log.warn("페이지 로드 대기 중 오류: {}", e.getMessage());
+        }
     }
 
-    private void waitForPageLoad(WebDriver driver, WebDriverWait wait, SelectorConfig config) {
+    /**
+     * 고정 대기 방식 (readinessMode=FIXED)
+     */
+    private void waitForPageLoadFixed(WebDriver driver, WebDriverWait wait, SelectorConfig config) {
         try {
             // 페이지 기본 로딩 대기
             wait.until(webDriver ->
@@ -242,6 +412,39 @@ public class SeleniumCrawler {
     }
 
     private void scrollToLoadContent(WebDriver driver) {
+        if (!isMutationReadiness()) {
+            scrollToLoadContentFixed(driver);
+            return;
+        }
+
+        CrawlerConfig.SeleniumConfig seleniumConfig = crawlerConfig.getSelenium();
+        try {
+            JavascriptExecutor js = (JavascriptExecutor) driver;
+            driver.manage().timeouts().scriptTimeout(
+                    Duration.ofMillis(seleniumConfig.getScrollSettleMs() + seleniumConfig.getReadinessMaxWaitMs()));
+
+            // 스크롤 후 새 콘텐츠가 붙지 않으면 즉시 중단
+            for (int i = 0; i < seleniumConfig.getMaxScrolls(); i++) {
+                Object grew = js.executeAsyncScript(SCROLL_AND_WAIT_SCRIPT,
+                        seleniumConfig.getScrollSettleMs(), seleniumConfig.getReadinessQuietMs(),
+                        seleniumConfig.getReadinessMaxWaitMs());
+                if (!Boolean.TRUE.equals(grew)) {
+                    break;
+                }
+            }
+
+            // 맨 위로 스크롤
+            js.executeScript("window.scrollTo(0, 0)");
+
+        } catch (Exception e) {
+            log.warn("스크롤 중 오류: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 고정 대기 스크롤 방식 (readinessMode=FIXED)
+     */
+    private void scrollToLoadContentFixed(WebDriver driver) {
         try {
             JavascriptExecutor js = (JavascriptExecutor) driver;
 
@@ -270,7 +473,19 @@ public class SeleniumCrawler {
         }
     }
 
-    private List<CrawlResult.ArticleData> extractArticles(WebDriver driver, SelectorConfig config, String baseUrl) {
+    private boolean isPageSourceExtraction() {
+        return !"WEBDRIVER".equalsIgnoreCase(crawlerConfig.getSelenium().getExtractionMode());
+    }
+
+    private boolean isMutationReadiness() {
+        return !"FIXED".equalsIgnoreCase(crawlerConfig.getSelenium().getReadinessMode());
+    }
+
+    /**
+     * WebDriver 요소 단위 추출 (extractionMode=WEBDRIVER)
+     * - 필드마다 WebDriver 왕복이 발생하므로 페이지 소스 추출이 실패하는 사이트에만 사용
+     */
+    private List<CrawlResult.ArticleData> extractArticlesViaWebDriver(WebDriver driver, SelectorConfig config, String baseUrl) {
         List<CrawlResult.ArticleData> articles = new ArrayList<>();
 
         try {
@@ -335,14 +550,14 @@ public class SeleniumCrawler {
         if (article.getTagName().equalsIgnoreCase("a")) {
             url = article.getAttribute("href");
             if (url != null && !url.startsWith("http")) {
-                url = resolveUrl(baseUrl, url);
+                url = articleExtractor.resolveUrl(baseUrl, url);
             }
         } else if (config.getLinkSelector() != null) {
             try {
                 WebElement linkEl = article.findElement(By.cssSelector(config.getLinkSelector()));
                 url = linkEl.getAttribute("href");
                 if (url != null && !url.startsWith("http")) {
-                    url = resolveUrl(baseUrl, url);
+                    url = articleExtractor.resolveUrl(baseUrl, url);
                 }
             } catch (NoSuchElementException ignored) {
             }
@@ -373,7 +588,7 @@ public class SeleniumCrawler {
         if (config.getDateSelector() != null) {
             try {
                 WebElement dateEl = article.findElement(By.cssSelector(config.getDateSelector()));
-                publishedAt = parseDate(dateEl.getText().trim(), config.getDateFormat());
+                publishedAt = articleExtractor.parseDate(dateEl.getText().trim(), config.getDateFormat());
             } catch (NoSuchElementException ignored) {
             }
         }
@@ -398,49 +613,6 @@ public class SeleniumCrawler {
                 .build();
     }
 
-    private String resolveUrl(String baseUrl, String relativeUrl) {
-        try {
-            java.net.URI base = new java.net.URI(baseUrl);
-            java.net.URI resolved = base.resolve(relativeUrl);
-            return resolved.toString();
-        } catch (Exception e) {
-            return relativeUrl;
-        }
-    }
-
-    private LocalDateTime parseDate(String dateStr, String format) {
-        if (dateStr == null || dateStr.isEmpty()) {
-            return null;
-        }
-
-        List<String> formats = new ArrayList<>();
-        if (format != null && !format.isEmpty()) {
-            formats.add(format);
-        }
-        formats.add("yyyy-MM-dd HH:mm:ss");
-        formats.add("yyyy-MM-dd HH:mm");
-        formats.add("yyyy-MM-dd");
-        formats.add("yyyy.MM.dd HH:mm");
-        formats.add("yyyy.MM.dd");
-        formats.add("MMM dd, yyyy");
-        formats.add("dd MMM yyyy");
-
-        for (String fmt : formats) {
-            try {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(fmt, Locale.ENGLISH);
-                if (fmt.contains("HH:mm")) {
-                    return LocalDateTime.parse(dateStr, formatter);
-                } else {
-                    return java.time.LocalDate.parse(dateStr, formatter).atStartOfDay();
-                }
-            } catch (DateTimeParseException ignored) {
-            }
-        }
-
-        log.warn("날짜 파싱 실패: {}", dateStr);
-        return null;
-    }
-
     private SelectorConfig parseSelectorConfig(String configJson) {
         if (configJson == null || configJson.isEmpty()) {
             return null;
@@ -452,41 +624,4 @@ public class SeleniumCrawler {
             return null;
         }
     }
-
-    /**
-     * ChromeDriver 좀비 프로세스 강제 종료
-     * - quit() 실패 시 남아있는 chrome/chromedriver 프로세스 정리
-     */
-    private void killChromeProcesses() {
-        try {
-            String os = System.getProperty("os.name").toLowerCase();
-            ProcessBuilder processBuilder;
-
-            if (os.contains("win")) {
-                // Windows
-                processBuilder = new ProcessBuilder("taskkill", "/F", "/IM", "chrome.exe", "/T");
-                processBuilder.start();
-                processBuilder = new ProcessBuilder("taskkill", "/F", "/IM", "chromedriver.exe", "/T");
-                processBuilder.start();
-            } else {
-                // Linux/Unix (Railway 환경)
-                processBuilder = new ProcessBuilder("pkill", "-9", "-f", "chrome");
-                processBuilder.start();
-                processBuilder = new ProcessBuilder("pkill", "-9", "-f", "chromedriver");
-                processBuilder.start();
-            }
-            log.info("Chrome 프로세스 강제 종료 명령 실행");
-        } catch (Exception e) {
-            log.warn("Chrome 프로세스 강제 종료 실패: {}", e.getMessage());
-        }
-    }
-
-    /**
-     * 애플리케이션 종료 시 모든 Chrome 프로세스 정리
-     */
-    @PreDestroy
-    public void cleanup() {
-        log.info("SeleniumCrawler 종료 - Chrome 프로세스 정리 중...");
-        killChromeProcesses();
-    }
 }
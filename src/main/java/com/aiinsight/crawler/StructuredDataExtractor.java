@@ -0,0 +1,24 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.SelectorConfig;
+import org.jsoup.nodes.Document;
+
+import java.util.List;
+
+/**
+ * 페이지에 내장된 구조화 데이터에서 기사 추출 (ArticleExtractor의 선택자 추출 앞 단계)
+ * - 구현체는 @Component로 등록하면 ArticleExtractor가 자동으로 사용
+ */
+public interface StructuredDataExtractor {
+
+    /**
+     * SelectorConfig.StructuredDataConfig.sources에서 사용하는 소스 이름
+     */
+    String source();
+
+    /**
+     * 기사 추출 (제목과 URL이 있는 기사만 반환, 없으면 빈 목록)
+     * @param config 구조화 데이터 설정 (null 가능)
+     */
+    List<CrawlResult.ArticleData> extract(Document doc, SelectorConfig.StructuredDataConfig config, String baseUrl);
+}
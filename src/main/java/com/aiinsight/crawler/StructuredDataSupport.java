@@ -0,0 +1,274 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.SelectorConfig;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.jsoup.Jsoup;
+
+import java.net.URI;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 구조화 데이터(JSON) 공용 처리 - 경로 탐색, 값 변환, 기사 필드 매핑
+ */
+final class StructuredDataSupport {
+
+    // 경로 설정이 없을 때 시도하는 키 (schema.org, CMS/헤드리스 API에서 흔한 이름 순)
+    static final List<String> TITLE_KEYS = List.of("headline", "title", "name");
+    static final List<String> URL_KEYS = List.of("url", "link", "href", "permalink", "canonicalUrl",
+            "canonical_url", "mainEntityOfPage");
+    static final List<String> CONTENT_KEYS = List.of("articleBody", "description", "summary", "excerpt",
+            "abstract", "subtitle");
+    static final List<String> AUTHOR_KEYS = List.of("author", "authors", "byline", "creator", "writer");
+    static final List<String> DATE_KEYS = List.of("datePublished", "publishedAt", "published_at", "publishDate",
+            "pubDate", "date", "dateCreated", "createdAt", "created_at", "firstPublishedAt");
+    static final List<String> THUMBNAIL_KEYS = List.of("image", "thumbnailUrl", "thumbnail", "coverImage",
+            "cover_image", "featuredImage", "heroImage", "ogImage");
+
+    // 객체 값에서 대표 문자열을 꺼낼 때 시도하는 키
+    private static final List<String> OBJECT_TEXT_KEYS = List.of("name", "url", "src", "href", "@value", "text", "@id");
+
+    // 이 값보다 크면 epoch 밀리초로 판단
+    private static final long EPOCH_MILLIS_THRESHOLD = 100_000_000_000L;
+
+    // 자동 탐색 시 방문할 최대 노드 수 (대형 페이로드 보호)
+    private static final int MAX_VISITED_NODES = 200_000;
+
+    private StructuredDataSupport() {
+    }
+
+    /**
+     * 점 구분 경로로 하위 노드 조회 (숫자 세그먼트는 배열 인덱스, 배열에 키 세그먼트면 첫 요소 기준)
+     */
+    static JsonNode at(JsonNode node, String path) {
+        if (node == null || path == null || path.isBlank()) {
+            return node;
+        }
+        JsonNode current = node;
+        for (String segment : path.split("\\.")) {
+            if (current == null || current.isMissingNode() || current.isNull()) {
+                return null;
+            }
+            if (current.isArray()) {
+                if (segment.chars().allMatch(Character::isDigit)) {
+                    current = current.get(Integer.parseInt(segment));
+                    continue;
+                }
+                current = current.isEmpty() ? null : current.get(0);
+                if (current == null) {
+                    return null;
+                }
+            }
+            current = current.get(segment);
+        }
+        return current;
+    }
+
+    /**
+     * 노드의 대표 문자열 (배열은 첫 요소, 객체는 name/url 등 대표 키)
+     */
+    static String text(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return null;
+        }
+        if (node.isArray()) {
+            for (JsonNode element : node) {
+                String value = text(element);
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+        if (node.isObject()) {
+            for (String key : OBJECT_TEXT_KEYS) {
+                String value = node.has(key) && !node.get(key).isContainerNode() ? text(node.get(key)) : null;
+                if (value != null) {
+                    return value;
+                }
+            }
+            return null;
+        }
+        String value = node.asText().trim();
+        return value.isEmpty() ? null : value;
+    }
+
+    /**
+     * 설정 경로가 있으면 그 경로, 없으면 기본 키를 순서대로 시도
+     */
+    static JsonNode field(JsonNode item, String configuredPath, List<String> defaultKeys) {
+        if (configuredPath != null && !configuredPath.isBlank()) {
+            return at(item, configuredPath);
+        }
+        for (String key : defaultKeys) {
+            JsonNode value = item.get(key);
+            if (value != null && !value.isNull() && text(value) != null) {
+                return value;
+            }
+        }
+        return null;
+    }
+
+    static LocalDateTime date(JsonNode node) {
+        if (node == null || node.isNull() || node.isMissingNode()) {
+            return null;
+        }
+        if (node.isNumber()) {
+            long value = node.asLong();
+            Instant instant = value > EPOCH_MILLIS_THRESHOLD ? Instant.ofEpochMilli(value) : Instant.ofEpochSecond(value);
+            return LocalDateTime.ofInstant(instant, ZoneId.systemDefault());
+        }
+        return FeedCrawler.parseFeedDate(text(node));
+    }
+
+    static String resolveUrl(String baseUrl, String url) {
+        if (url == null || url.isBlank()) {
+            return null;
+        }
+        try {
+            return baseUrl != null ? URI.create(baseUrl).resolve(url.trim()).toString() : url.trim();
+        } catch (IllegalArgumentException e) {
+            return url.trim();
+        }
+    }
+
+    /**
+     * JSON 객체를 기사 데이터로 변환 (제목이나 URL이 없으면 null)
+     * @param config 필드 경로 설정 (null이면 기본 키만 사용)
+     */
+    static CrawlResult.ArticleData toArticle(JsonNode item, SelectorConfig.StructuredDataConfig config, String baseUrl) {
+        if (item == null || !item.isObject()) {
+            return null;
+        }
+        boolean mapped = config != null;
+
+        String title = plainText(text(field(item, mapped ? config.getTitlePath() : null, TITLE_KEYS)));
+        String url = articleUrl(item, config, baseUrl);
+        if (title == null || url == null) {
+            return null;
+        }
+
+        return CrawlResult.ArticleData.builder()
+                .url(url)
+                .title(title)
+                .content(plainText(text(field(item, mapped ? config.getContentPath() : null, CONTENT_KEYS))))
+                .author(text(field(item, mapped ? config.getAuthorPath() : null, AUTHOR_KEYS)))
+                .publishedAt(date(field(item, mapped ? config.getDatePath() : null, DATE_KEYS)))
+                .thumbnailUrl(resolveUrl(baseUrl, text(field(item, mapped ? config.getThumbnailPath() : null, THUMBNAIL_KEYS))))
+                .build();
+    }
+
+    /**
+     * 기사 URL (urlTemplate이 있으면 slug 등 값을 템플릿에 대입)
+     */
+    static String articleUrl(JsonNode item, SelectorConfig.StructuredDataConfig config, String baseUrl) {
+        String urlTemplate = config != null ? config.getUrlTemplate() : null;
+        String urlPath = config != null ? config.getUrlPath() : null;
+        if (urlTemplate != null && !urlTemplate.isBlank() && (urlPath == null || urlPath.isBlank())) {
+            urlPath = "slug";
+        }
+
+        String value = text(field(item, urlPath, URL_KEYS));
+        if (value == null) {
+            return null;
+        }
+        if (urlTemplate != null && !urlTemplate.isBlank() && !value.startsWith("http")) {
+            value = urlTemplate.replace("{value}", value.startsWith("/") ? value.substring(1) : value);
+        }
+        return resolveUrl(baseUrl, value);
+    }
+
+    /**
+     * HTML이 섞인 값은 텍스트만 남김
+     */
+    static String plainText(String value) {
+        if (value == null || value.indexOf('<') < 0) {
+            return value;
+        }
+        String text = Jsoup.parse(value).text().trim();
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * 기사 목록 배열 자동 탐색
+     * - 제목과 링크를 모두 가진 객체가 2개 이상인 배열 중 점수가 가장 높은 배열
+     * - 날짜까지 있는 항목은 가중치를 더 줘서 메뉴/태그 목록보다 기사 목록을 우선
+     * @return 찾지 못하면 null
+     */
+    static ArrayMatch findArticleArray(JsonNode root, SelectorConfig.StructuredDataConfig config, String baseUrl) {
+        ArrayMatch best = null;
+        int visited = 0;
+
+        Set<JsonNode> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        Deque<Map.Entry<String, JsonNode>> queue = new ArrayDeque<>();
+        queue.add(Map.entry("", root));
+        while (!queue.isEmpty() && visited++ < MAX_VISITED_NODES) {
+            Map.Entry<String, JsonNode> entry = queue.poll();
+            String path = entry.getKey();
+            JsonNode node = entry.getValue();
+            if (!seen.add(node)) {
+                continue;
+            }
+
+            if (node.isArray()) {
+                int score = scoreArray(node, config, baseUrl);
+                if (score > 0 && (best == null || score > best.score())) {
+                    best = new ArrayMatch(path, node, score);
+                }
+                for (int i = 0; i < node.size(); i++) {
+                    if (node.get(i).isContainerNode()) {
+                        queue.add(Map.entry(childPath(path, String.valueOf(i)), node.get(i)));
+                    }
+                }
+            } else if (node.isObject()) {
+                Iterator<Map.Entry<String, JsonNode>> fields = node.fields();
+                while (fields.hasNext()) {
+                    Map.Entry<String, JsonNode> field = fields.next();
+                    // 점이 들어간 키는 경로로 표현할 수 없으므로 제외
+                    if (field.getValue().isContainerNode() && field.getKey().indexOf('.') < 0) {
+                        queue.add(Map.entry(childPath(path, field.getKey()), field.getValue()));
+                    }
+                }
+            }
+        }
+        return best;
+    }
+
+    private static int scoreArray(JsonNode array, SelectorConfig.StructuredDataConfig config, String baseUrl) {
+        String titlePath = config != null ? config.getTitlePath() : null;
+        String datePath = config != null ? config.getDatePath() : null;
+        int matched = 0;
+        int dated = 0;
+        for (JsonNode item : array) {
+            if (!item.isObject()
+                    || text(field(item, titlePath, TITLE_KEYS)) == null
+                    || articleUrl(item, config, baseUrl) == null) {
+                continue;
+            }
+            matched++;
+            if (field(item, datePath, DATE_KEYS) != null) {
+                dated++;
+            }
+        }
+        return matched < 2 ? 0 : matched + dated;
+    }
+
+    private static String childPath(String parent, String segment) {
+        return parent.isEmpty() ? segment : parent + "." + segment;
+    }
+
+    /**
+     * 자동 탐색된 기사 배열
+     * @param path 루트 기준 점 구분 경로 (itemsPath로 그대로 사용 가능)
+     */
+    record ArrayMatch(String path, JsonNode array, int score) {}
+}
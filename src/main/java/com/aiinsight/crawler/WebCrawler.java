@@ -3,33 +3,108 @@ package com.aiinsight.crawler;
 import com.aiinsight.domain.crawl.CrawlTarget;
 import com.aiinsight.domain.crawl.SelectorConfig;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.time.LocalDateTime;
-import java.time.format.DateTimeFormatter;
-import java.time.format.DateTimeParseException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Locale;
-
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * 정적 페이지 크롤러 (Jsoup 파싱, HttpFetcher)
+ * - 타겟 내 모든 요청(목록, 페이지네이션, 상세 페이지)은 HostRateLimiter의 호스트별 토큰 버킷/동시 요청 수로 제한
+ * - selectorConfig.fanOut이면 페이지네이션과 상세 페이지를 crawlFanOutExecutor에서 동시에 fetch
+ * - 페이지(와 그 상세 페이지) 추출이 끝날 때마다 sink로 기사 배치를 넘겨 타겟 전체 완료 전에 저장 시작
+ * - 가져온 모든 HTML은 HtmlSnapshotStore에 저장 (재추출/AI 메타데이터 조회용)
+ * - 상세 페이지를 가져오면 제목/본문/OpenGraph 메타데이터를 함께 추출 (AI 분석 단계에서 원문 재요청 없음)
+ */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class WebCrawler {
 
     private final CrawlerConfig crawlerConfig;
+    private final HttpFetcher httpFetcher;
+    private final ArticleExtractor articleExtractor;
+    private final ArticleMetadataExtractor articleMetadataExtractor;
     private final ObjectMapper objectMapper;
+    private final HostRateLimiter hostRateLimiter;
+    private final HtmlSnapshotStore htmlSnapshotStore;
+    private final ThreadPoolTaskExecutor crawlFanOutExecutor;
+
+    public WebCrawler(CrawlerConfig crawlerConfig, HttpFetcher httpFetcher, ArticleExtractor articleExtractor,
+                      ArticleMetadataExtractor articleMetadataExtractor, ObjectMapper objectMapper, HostRateLimiter hostRateLimiter, HtmlSnapshotStore htmlSnapshotStore,
+                      @Qualifier("crawlFanOutExecutor") ThreadPoolTaskExecutor crawlFanOutExecutor) {
+        this.crawlerConfig = crawlerConfig;
+        this.httpFetcher = httpFetcher;
+        this.articleExtractor = articleExtractor;
+        this.articleMetadataExtractor = articleMetadataExtractor;
+        this.objectMapper = objectMapper;
+        this.hostRateLimiter = hostRateLimiter;
+        this.htmlSnapshotStore = htmlSnapshotStore;
+        this.crawlFanOutExecutor = crawlFanOutExecutor;
+    }
 
     public CrawlResult crawl(CrawlTarget target) {
+        return crawl(target, url -> false);
+    }
+
+    public CrawlResult crawl(CrawlTarget target, Predicate<String> isKnownUrl) {
+        return crawl(target, isKnownUrl, null, true);
+    }
+
+    /**
+     * 크롤링 실행
+     * @param isKnownUrl 이미 저장된 기사 URL 여부 (selectorConfig.incrementalMode일 때 조기 종료, 상세 페이지 생략에 사용)
+     * @param sink 페이지 단위 기사 배치를 받을 저장 단계 (null이면 최종 결과로만 반환, 여러 스레드에서 호출될 수 있음)
+     */
+    public CrawlResult crawl(CrawlTarget target, Predicate<String> isKnownUrl,
+                             Consumer<List<CrawlResult.ArticleData>> sink) {
+        return crawl(target, isKnownUrl, sink, true);
+    }
+
+    /**
+     * 목록 페이지만 수집 (상세 페이지 생략) - 렌더링 비교용
+     */
+    public CrawlResult crawlListing(CrawlTarget target) {
+        return crawl(target, url -> false, null, false);
+    }
+
+    /**
+     * 저장된 목록 페이지 스냅샷에서 다시 추출 (네트워크 요청 없음)
+     * - 선택자 수정 후 재수집 없이 결과 확인/반영용, 페이지네이션/상세 페이지는 생략
+     */
+    public CrawlResult extractFromSnapshot(CrawlTarget target, Document doc) {
+        long startTime = System.currentTimeMillis();
+        SelectorConfig config = parseSelectorConfig(target.getSelectorConfig());
+        if (config == null) {
+            return CrawlResult.builder()
+                    .success(false)
+                    .errorMessage("선택자 설정이 올바르지 않습니다")
+                    .durationMs(System.currentTimeMillis() - startTime)
+                    .build();
+        }
+        List<CrawlResult.ArticleData> articles = articleExtractor.extractArticles(doc, config, target.getUrl());
+        return CrawlResult.builder()
+                .success(true)
+                .articles(articles)
+                .durationMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
+    private CrawlResult crawl(CrawlTarget target, Predicate<String> isKnownUrl,
+                              Consumer<List<CrawlResult.ArticleData>> sink, boolean detailsAllowed) {
         long startTime = System.currentTimeMillis();
-        List<CrawlResult.ArticleData> articles = new ArrayList<>();
 
         try {
             SelectorConfig config = parseSelectorConfig(target.getSelectorConfig());
@@ -41,18 +116,47 @@ public class WebCrawler {
                         .build();
             }
 
-            // 메인 페이지 크롤링
-            Document doc = fetchDocument(target.getUrl());
-            articles.addAll(extractArticles(doc, config, target.getUrl()));
+            // 메인 페이지 크롤링 (저장된 검증자로 조건부 요청)
+            HttpFetcher.FetchResponse response = fetchWithRetry(target.getUrl(),
+                    HttpFetcher.conditionalHeaders(target.getHttpEtag(), target.getHttpLastModified()));
+            if (response.isNotModified()) {
+                log.info("목록 페이지 변경 없음 (304): {}", target.getName());
+                return unchangedResult(target, target.getContentFingerprint(), startTime);
+            }
+
+            // 검증자를 지원하지 않는 서버는 본문 지문으로 변경 여부 판단 (파싱 전)
+            String fingerprint = response.fingerprint();
+            if (fingerprint.equals(target.getContentFingerprint())) {
+                log.info("목록 페이지 변경 없음 (동일 본문): {}", target.getName());
+                return unchangedResult(target, fingerprint, startTime);
+            }
 
-            // 페이지네이션 처리
-            if (config.getPagination() != null && Boolean.TRUE.equals(config.getPagination().getEnabled())) {
-                articles.addAll(crawlPaginatedPages(target.getUrl(), config));
+            Document doc = response.toDocument();
+            ArticleExtractor.ExtractedPage firstPage =
+                    articleExtractor.extractArticles(doc, config, target.getUrl(), isKnownUrl);
+            PageCollector collector = new PageCollector(config, isKnownUrl, sink,
+                    detailsAllowed && Boolean.TRUE.equals(config.getFetchDetails()));
+            collector.add(firstPage.articles());
+            boolean reachedKnownArticle = firstPage.reachedKnownArticle();
+
+            // 페이지네이션 처리 (증분 모드에서 기존 기사에 도달했으면 생략)
+            if (!reachedKnownArticle && config.getPagination() != null
+                    && Boolean.TRUE.equals(config.getPagination().getEnabled())) {
+                reachedKnownArticle = crawlPaginatedPages(target.getUrl(), config, isKnownUrl, collector);
+            }
+            List<CrawlResult.ArticleData> articles = collector.join();
+
+            if (reachedKnownArticle) {
+                log.info("증분 크롤링: 기존 기사 도달로 조기 종료 - {} ({}개 신규 후보)", target.getName(), articles.size());
             }
 
             return CrawlResult.builder()
                     .success(true)
                     .articles(articles)
+                    .reachedKnownArticle(reachedKnownArticle)
+                    .etag(response.header("ETag"))
+                    .lastModified(response.header("Last-Modified"))
+                    .contentFingerprint(fingerprint)
                     .durationMs(System.currentTimeMillis() - startTime)
                     .build();
 
@@ -73,39 +177,47 @@ public class WebCrawler {
         }
     }
 
+    private CrawlResult unchangedResult(CrawlTarget target, String fingerprint, long startTime) {
+        return CrawlResult.builder()
+                .success(true)
+                .unchanged(true)
+                .etag(target.getHttpEtag())
+                .lastModified(target.getHttpLastModified())
+                .contentFingerprint(fingerprint)
+                .durationMs(System.currentTimeMillis() - startTime)
+                .build();
+    }
+
     /**
      * 웹 페이지 문서를 가져옵니다.
-     * - 랜덤 User-Agent 사용 (봇 감지 회피)
-     * - 브라우저와 동일한 HTTP 헤더 설정
-     * - 403/429 에러 시 지수 백오프로 재시도
      */
     private Document fetchDocument(String url) throws IOException {
+        return fetchWithRetry(url, Map.of()).toDocument();
+    }
+
+    /**
+     * 웹 페이지를 가져옵니다.
+     * - 공용 HttpFetcher 사용 (커넥션 재사용, 랜덤 User-Agent, 브라우저 헤더)
+     * - 403/429 에러 시 지수 백오프로 재시도
+     */
+    private HttpFetcher.FetchResponse fetchWithRetry(String url, Map<String, String> headers) throws IOException {
         int maxRetries = crawlerConfig.getRetryCount();
         int retryDelay = crawlerConfig.getRetryDelayMs();
         IOException lastException = null;
 
         for (int attempt = 1; attempt <= maxRetries; attempt++) {
             try {
-                return Jsoup.connect(url)
-                        .userAgent(crawlerConfig.getRandomUserAgent())  // 랜덤 User-Agent
-                        .timeout(crawlerConfig.getTimeout())
-                        .followRedirects(true)
-                        // 브라우저처럼 보이기 위한 필수 헤더
-                        .header("Accept", "text/html,application/xhtml+xml,application/xml;q=0.9,image/avif,image/webp,image/apng,*/*;q=0.8")
-                        .header("Accept-Language", "en-US,en;q=0.9,ko;q=0.8")
-                        .header("Accept-Encoding", "gzip, deflate, br")
-                        .header("Connection", "keep-alive")
-                        .header("Upgrade-Insecure-Requests", "1")
-                        .header("sec-ch-ua", "\"Not_A Brand\";v=\"8\", \"Chromium\";v=\"120\", \"Google Chrome\";v=\"120\"")
-                        .header("sec-ch-ua-mobile", "?0")
-                        .header("sec-ch-ua-platform", "\"macOS\"")
-                        .header("Sec-Fetch-Dest", "document")
-                        .header("Sec-Fetch-Mode", "navigate")
-                        .header("Sec-Fetch-Site", "none")
-                        .header("Sec-Fetch-User", "?1")
-                        .header("Cache-Control", "max-age=0")
-                        .referrer("https://www.google.com/")  // 구글에서 온 것처럼
-                        .get();
+                HostRateLimiter.Permit permit = hostRateLimiter.acquire(url);
+                try {
+                    HttpFetcher.FetchResponse response = httpFetcher.fetch(url, headers);
+                    htmlSnapshotStore.save(url, response);
+                    return response;
+                } finally {
+                    permit.close();
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new InterruptedIOException("요청 대기 중 중단되었습니다: " + url);
             } catch (org.jsoup.HttpStatusException e) {
                 lastException = e;
                 int statusCode = e.getStatusCode();
@@ -148,114 +260,6 @@ public class WebCrawler {
         throw lastException != null ? lastException : new IOException("알 수 없는 오류로 크롤링 실패: " + url);
     }
 
-    private List<CrawlResult.ArticleData> extractArticles(Document doc, SelectorConfig config, String baseUrl) {
-        List<CrawlResult.ArticleData> articles = new ArrayList<>();
-
-        Elements articleElements;
-        if (config.getArticleListSelector() != null && config.getArticleItemSelector() != null) {
-            Element listContainer = doc.selectFirst(config.getArticleListSelector());
-            if (listContainer == null) {
-                log.warn("기사 목록 컨테이너를 찾을 수 없습니다: {}", config.getArticleListSelector());
-                return articles;
-            }
-            articleElements = listContainer.select(config.getArticleItemSelector());
-        } else if (config.getArticleItemSelector() != null) {
-            articleElements = doc.select(config.getArticleItemSelector());
-            log.debug("선택자 '{}' 로 {} 개의 요소를 찾았습니다",
-                    config.getArticleItemSelector(), articleElements.size());
-        } else {
-            log.warn("기사 아이템 선택자가 설정되지 않았습니다");
-            return articles;
-        }
-
-        for (Element article : articleElements) {
-            try {
-                CrawlResult.ArticleData data = extractArticleData(article, config, baseUrl);
-                if (data != null && data.getTitle() != null && data.getUrl() != null) {
-                    articles.add(data);
-                }
-            } catch (Exception e) {
-                log.warn("기사 데이터 추출 실패: {}", e.getMessage());
-            }
-        }
-
-        return articles;
-    }
-
-    private CrawlResult.ArticleData extractArticleData(Element article, SelectorConfig config, String baseUrl) {
-        // 제목 추출
-        String title = null;
-        if (config.getTitleSelector() != null) {
-            Element titleEl = article.selectFirst(config.getTitleSelector());
-            if (titleEl != null) {
-                title = titleEl.text().trim();
-            }
-        }
-
-        // 링크 추출
-        String url = null;
-        if (config.getLinkSelector() != null) {
-            Element linkEl = article.selectFirst(config.getLinkSelector());
-            if (linkEl != null) {
-                url = linkEl.attr("abs:href");
-                if (url.isEmpty()) {
-                    url = linkEl.attr("href");
-                    if (!url.startsWith("http")) {
-                        url = resolveUrl(baseUrl, url);
-                    }
-                }
-            }
-        }
-
-        // 본문 추출 (목록 페이지에서는 보통 없음)
-        String content = null;
-        if (config.getContentSelector() != null) {
-            Element contentEl = article.selectFirst(config.getContentSelector());
-            if (contentEl != null) {
-                content = contentEl.text().trim();
-            }
-        }
-
-        // 작성자 추출
-        String author = null;
-        if (config.getAuthorSelector() != null) {
-            Element authorEl = article.selectFirst(config.getAuthorSelector());
-            if (authorEl != null) {
-                author = authorEl.text().trim();
-            }
-        }
-
-        // 날짜 추출
-        LocalDateTime publishedAt = null;
-        if (config.getDateSelector() != null) {
-            Element dateEl = article.selectFirst(config.getDateSelector());
-            if (dateEl != null) {
-                publishedAt = parseDate(dateEl.text().trim(), config.getDateFormat());
-            }
-        }
-
-        // 썸네일 추출
-        String thumbnailUrl = null;
-        if (config.getThumbnailSelector() != null) {
-            Element thumbEl = article.selectFirst(config.getThumbnailSelector());
-            if (thumbEl != null) {
-                thumbnailUrl = thumbEl.attr("abs:src");
-                if (thumbnailUrl.isEmpty()) {
-                    thumbnailUrl = thumbEl.attr("src");
-                }
-            }
-        }
-
-        return CrawlResult.ArticleData.builder()
-                .url(url)
-                .title(title)
-                .content(content)
-                .author(author)
-                .publishedAt(publishedAt)
-                .thumbnailUrl(thumbnailUrl)
-                .build();
-    }
-
     public CrawlResult.ArticleData fetchArticleDetail(String url, SelectorConfig config) {
         try {
             Document doc = fetchDocument(url);
@@ -288,16 +292,43 @@ public class WebCrawler {
             if (config.getDateSelector() != null) {
                 Element dateEl = doc.selectFirst(config.getDateSelector());
                 if (dateEl != null) {
-                    publishedAt = parseDate(dateEl.text().trim(), config.getDateFormat());
+                    publishedAt = articleExtractor.parseDate(dateEl.text().trim(), config.getDateFormat());
                 }
             }
 
+            // 선택자로 못 찾은 필드는 구조화 데이터(JSON-LD, OpenGraph)로 보완
+            SelectorConfig.StructuredDataConfig structuredData = config.getStructuredData();
+            if (structuredData != null && Boolean.TRUE.equals(structuredData.getEnabled())
+                    && (title == null || content == null || author == null || publishedAt == null)) {
+                CrawlResult.ArticleData structured = articleExtractor.extractStructuredDetail(doc, url);
+                if (structured != null) {
+                    title = title != null ? title : structured.getTitle();
+                    content = content != null ? content : structured.getContent();
+                    author = author != null ? author : structured.getAuthor();
+                    publishedAt = publishedAt != null ? publishedAt : structured.getPublishedAt();
+                }
+            }
+
+            // 페이지 메타데이터 (선택자/구조화 데이터로 못 찾은 제목/본문 보완, OpenGraph 정보)
+            CrawlResult.ArticleData metadata = articleMetadataExtractor.extract(doc, url);
+            title = title != null ? title : metadata.getTitle();
+            content = content != null ? content : metadata.getContent();
+            if (articleMetadataExtractor.isChallengePage(title, content)) {
+                // 봇 차단/챌린지 페이지 내용은 저장하지 않고 수집 완료로도 표시하지 않음 (이후 단계에서 다시 추출)
+                log.warn("기사 상세 페이지가 챌린지 페이지: {}", url);
+                return null;
+            }
+
             return CrawlResult.ArticleData.builder()
                     .url(url)
                     .title(title)
                     .content(content)
-                    .author(author)
-                    .publishedAt(publishedAt)
+                    .author(author != null ? author : metadata.getAuthor())
+                    .publishedAt(publishedAt != null ? publishedAt : metadata.getPublishedAt())
+                    .thumbnailUrl(metadata.getThumbnailUrl())
+                    .description(metadata.getDescription())
+                    .siteName(metadata.getSiteName())
+                    .metadataCaptured(true)
                     .build();
 
         } catch (IOException e) {
@@ -306,89 +337,195 @@ public class WebCrawler {
         }
     }
 
-    private List<CrawlResult.ArticleData> crawlPaginatedPages(String baseUrl, SelectorConfig config) {
-        List<CrawlResult.ArticleData> allArticles = new ArrayList<>();
-        SelectorConfig.PaginationConfig pagination = config.getPagination();
+    /**
+     * 기사 페이지 메타데이터만 수집 (선택자 없이) - 목록에서 본문을 얻지 못한 신규 기사 보강용
+     * - 호스트별 요청 제한과 스냅샷 저장은 다른 요청과 동일하게 적용
+     * @return 가져오지 못하면 null
+     */
+    public CrawlResult.ArticleData fetchArticleMetadata(String url) {
+        try {
+            return articleMetadataExtractor.extract(fetchDocument(url), url);
+        } catch (IOException e) {
+            log.warn("기사 메타데이터 수집 실패: {} - {}", url, e.getMessage());
+            return null;
+        }
+    }
 
-        int maxPages = pagination.getMaxPages() != null ? pagination.getMaxPages() : 5;
+    /**
+     * fetchArticleMetadata를 crawlFanOutExecutor에서 실행 (크롤링/AI 분석 스레드를 점유하지 않음)
+     */
+    public CompletableFuture<CrawlResult.ArticleData> fetchArticleMetadataAsync(String url) {
+        return hostRateLimiter.supplyAsync(url, () -> fetchArticleMetadata(url), crawlFanOutExecutor);
+    }
 
-        for (int page = 2; page <= maxPages; page++) {
-            try {
-                Thread.sleep(crawlerConfig.getDelayBetweenRequests());
+    /**
+     * 2페이지부터 maxPages까지 수집
+     * - fanOut이고 증분 모드가 아니면 모든 페이지를 동시에 요청 (호스트 제한 내에서)
+     * - 그 외에는 순차 요청: 증분 모드는 기존 기사에 도달하면, 공통으로 빈 페이지나 실패 시 중단
+     * @return 증분 모드에서 기존 기사에 도달했는지
+     */
+    private boolean crawlPaginatedPages(String baseUrl, SelectorConfig config, Predicate<String> isKnownUrl,
+                                        PageCollector collector) {
+        SelectorConfig.PaginationConfig pagination = config.getPagination();
+        int maxPages = pagination.getMaxPages() != null ? pagination.getMaxPages() : 5;
 
+        if (Boolean.TRUE.equals(config.getFanOut()) && !Boolean.TRUE.equals(config.getIncrementalMode())) {
+            for (int page = 2; page <= maxPages; page++) {
+                int pageNumber = page;
                 String pageUrl = buildPageUrl(baseUrl, pagination.getPageParamName(), page);
-                Document doc = fetchDocument(pageUrl);
-                List<CrawlResult.ArticleData> pageArticles = extractArticles(doc, config, baseUrl);
-
-                if (pageArticles.isEmpty()) {
-                    break; // 더 이상 기사가 없으면 중단
-                }
-
-                allArticles.addAll(pageArticles);
-                log.debug("페이지 {} 크롤링 완료: {} 개 기사", page, pageArticles.size());
+                collector.add(hostRateLimiter.supplyAsync(pageUrl,
+                        () -> fetchPageArticles(pageUrl, pageNumber, config, baseUrl, isKnownUrl),
+                        crawlFanOutExecutor));
+            }
+            return false;
+        }
 
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
+        for (int page = 2; page <= maxPages; page++) {
+            String pageUrl = buildPageUrl(baseUrl, pagination.getPageParamName(), page);
+            ArticleExtractor.ExtractedPage pageResult;
+            try {
+                pageResult = articleExtractor.extractArticles(fetchDocument(pageUrl), config, baseUrl, isKnownUrl);
             } catch (IOException e) {
                 log.warn("페이지 {} 크롤링 실패: {}", page, e.getMessage());
                 break;
             }
-        }
+            collector.add(pageResult.articles());
 
-        return allArticles;
-    }
+            // 기존 기사에 도달하면 이후 페이지는 모두 이미 수집된 기사
+            if (pageResult.reachedKnownArticle()) {
+                log.debug("페이지 {} 에서 기존 기사 도달 - 페이지네이션 중단", page);
+                return true;
+            }
 
-    private String buildPageUrl(String baseUrl, String pageParam, int page) {
-        if (baseUrl.contains("?")) {
-            return baseUrl + "&" + pageParam + "=" + page;
-        } else {
-            return baseUrl + "?" + pageParam + "=" + page;
+            if (pageResult.articles().isEmpty()) {
+                break; // 더 이상 기사가 없으면 중단
+            }
+
+            log.debug("페이지 {} 크롤링 완료: {} 개 기사", page, pageResult.articles().size());
         }
+        return false;
     }
 
-    private String resolveUrl(String baseUrl, String relativeUrl) {
+    /**
+     * 페이지 하나 수집 (동시 요청용 - 실패하면 빈 목록)
+     */
+    private List<CrawlResult.ArticleData> fetchPageArticles(String pageUrl, int page, SelectorConfig config,
+                                                            String baseUrl, Predicate<String> isKnownUrl) {
         try {
-            java.net.URI base = new java.net.URI(baseUrl);
-            java.net.URI resolved = base.resolve(relativeUrl);
-            return resolved.toString();
-        } catch (Exception e) {
-            return relativeUrl;
+            List<CrawlResult.ArticleData> articles =
+                    articleExtractor.extractArticles(fetchDocument(pageUrl), config, baseUrl, isKnownUrl).articles();
+            log.debug("페이지 {} 크롤링 완료: {} 개 기사", page, articles.size());
+            return articles;
+        } catch (IOException e) {
+            log.warn("페이지 {} 크롤링 실패: {}", page, e.getMessage());
+            return List.of();
         }
     }
 
-    private LocalDateTime parseDate(String dateStr, String format) {
-        if (dateStr == null || dateStr.isEmpty()) {
-            return null;
+    /**
+     * 목록 기사에 상세 페이지 값 보강 (제목/썸네일은 목록 값 우선, 본문은 상세 페이지 우선)
+     */
+    private CrawlResult.ArticleData mergeDetail(CrawlResult.ArticleData listed, CrawlResult.ArticleData detail) {
+        if (detail == null) {
+            return listed;
+        }
+        return CrawlResult.ArticleData.builder()
+                .url(listed.getUrl())
+                .title(listed.getTitle() != null ? listed.getTitle() : detail.getTitle())
+                .content(detail.getContent() != null ? detail.getContent() : listed.getContent())
+                .author(listed.getAuthor() != null ? listed.getAuthor() : detail.getAuthor())
+                .publishedAt(listed.getPublishedAt() != null ? listed.getPublishedAt() : detail.getPublishedAt())
+                .thumbnailUrl(listed.getThumbnailUrl() != null ? listed.getThumbnailUrl() : detail.getThumbnailUrl())
+                .description(detail.getDescription())
+                .siteName(detail.getSiteName())
+                .metadataCaptured(detail.isMetadataCaptured())
+                .build();
+    }
+
+    /**
+     * 타겟 한 번의 크롤링에서 페이지별 기사 수집
+     * - 페이지마다 (상세 페이지 보강 후) 완료되는 즉시 sink로 전달
+     * - join()은 페이지 순서대로 전체 기사를 반환
+     */
+    private final class PageCollector {
+
+        private final SelectorConfig config;
+        private final Predicate<String> isKnownUrl;
+        private final Consumer<List<CrawlResult.ArticleData>> sink;
+        private final boolean fetchDetails;
+        private final boolean fanOut;
+        private final List<CompletableFuture<List<CrawlResult.ArticleData>>> pages = new ArrayList<>();
+
+        private PageCollector(SelectorConfig config, Predicate<String> isKnownUrl,
+                              Consumer<List<CrawlResult.ArticleData>> sink, boolean fetchDetails) {
+            this.config = config;
+            this.isKnownUrl = isKnownUrl;
+            this.sink = sink;
+            this.fetchDetails = fetchDetails;
+            this.fanOut = Boolean.TRUE.equals(config.getFanOut());
         }
 
-        // 여러 포맷 시도
-        List<String> formats = new ArrayList<>();
-        if (format != null && !format.isEmpty()) {
-            formats.add(format);
+        void add(List<CrawlResult.ArticleData> articles) {
+            add(CompletableFuture.completedFuture(articles));
         }
-        formats.add("yyyy-MM-dd HH:mm:ss");
-        formats.add("yyyy-MM-dd HH:mm");
-        formats.add("yyyy-MM-dd");
-        formats.add("yyyy.MM.dd HH:mm");
-        formats.add("yyyy.MM.dd");
-        formats.add("MMM dd, yyyy");
-        formats.add("dd MMM yyyy");
-
-        for (String fmt : formats) {
-            try {
-                DateTimeFormatter formatter = DateTimeFormatter.ofPattern(fmt, Locale.ENGLISH);
-                if (fmt.contains("HH:mm")) {
-                    return LocalDateTime.parse(dateStr, formatter);
+
+        void add(CompletableFuture<List<CrawlResult.ArticleData>> page) {
+            pages.add(page.thenCompose(this::withDetails).thenApply(articles -> {
+                if (sink != null && !articles.isEmpty()) {
+                    try {
+                        sink.accept(articles);
+                    } catch (RuntimeException e) {
+                        // 최종 결과에는 남으므로 저장 단계에서 다시 시도됨
+                        log.warn("기사 배치 전달 실패: {}", e.getMessage());
+                    }
+                }
+                return articles;
+            }));
+        }
+
+        List<CrawlResult.ArticleData> join() {
+            List<CrawlResult.ArticleData> articles = new ArrayList<>();
+            for (CompletableFuture<List<CrawlResult.ArticleData>> page : pages) {
+                try {
+                    articles.addAll(page.join());
+                } catch (CompletionException e) {
+                    log.warn("페이지 처리 실패: {}", e.getCause() != null ? e.getCause().getMessage() : e.getMessage());
+                }
+            }
+            return articles;
+        }
+
+        /**
+         * 신규 기사만 상세 페이지 fetch (기존 기사는 저장 단계에서 어차피 중복으로 걸러짐)
+         */
+        private CompletableFuture<List<CrawlResult.ArticleData>> withDetails(List<CrawlResult.ArticleData> articles) {
+            if (!fetchDetails || articles.isEmpty()) {
+                return CompletableFuture.completedFuture(articles);
+            }
+
+            List<CompletableFuture<CrawlResult.ArticleData>> details = new ArrayList<>(articles.size());
+            for (CrawlResult.ArticleData article : articles) {
+                if (isKnownUrl.test(article.getUrl())) {
+                    details.add(CompletableFuture.completedFuture(article));
+                } else if (fanOut) {
+                    details.add(hostRateLimiter.supplyAsync(article.getUrl(),
+                            () -> mergeDetail(article, fetchArticleDetail(article.getUrl(), config)), crawlFanOutExecutor));
                 } else {
-                    return java.time.LocalDate.parse(dateStr, formatter).atStartOfDay();
+                    details.add(CompletableFuture.completedFuture(
+                            mergeDetail(article, fetchArticleDetail(article.getUrl(), config))));
                 }
-            } catch (DateTimeParseException ignored) {
             }
+            return CompletableFuture.allOf(details.toArray(new CompletableFuture<?>[0]))
+                    .thenApply(done -> details.stream().map(CompletableFuture::join).toList());
         }
+    }
 
-        log.warn("날짜 파싱 실패: {}", dateStr);
-        return null;
+    private String buildPageUrl(String baseUrl, String pageParam, int page) {
+        if (baseUrl.contains("?")) {
+            return baseUrl + "&" + pageParam + "=" + page;
+        } else {
+            return baseUrl + "?" + pageParam + "=" + page;
+        }
     }
 
     private SelectorConfig parseSelectorConfig(String configJson) {
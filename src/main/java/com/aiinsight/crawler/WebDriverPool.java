@@ -0,0 +1,441 @@
+package com.aiinsight.crawler;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * Headless Chrome WebDriver 풀
+ * - 동시에 존재하는 브라우저 수를 poolSize로 제한 (Chrome 프로세스 무한 생성 방지)
+ * - 기동 시 warmSize만큼 미리 띄워 첫 크롤링의 콜드 스타트 비용 제거
+ * - 대여 시 헬스 체크, 반납 시 페이지 수/JS 힙/수명 기준으로 재생성
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class WebDriverPool {
+
+    private final CrawlerConfig crawlerConfig;
+
+    private final Deque<PooledDriver> idle = new ArrayDeque<>();
+
+    private Semaphore permits;
+    private volatile boolean available = true;
+    private volatile String unavailableReason = null;
+    private volatile boolean closed = false;
+
+    @PostConstruct
+    public void init() {
+        CrawlerConfig.SeleniumConfig config = crawlerConfig.getSelenium();
+        permits = new Semaphore(Math.max(1, config.getPoolSize()), true);
+
+        log.info("WebDriver 풀 초기화 - ChromeDriver 설정 중...");
+        try {
+            // Chrome 바이너리 확인
+            String chromeBinary = System.getenv("CHROME_BIN");
+            if (chromeBinary != null && !chromeBinary.isEmpty()) {
+                log.info("CHROME_BIN 환경변수 감지: {}", chromeBinary);
+                java.io.File chromeFile = new java.io.File(chromeBinary);
+                if (!chromeFile.exists()) {
+                    log.warn("Chrome 바이너리가 존재하지 않음: {}", chromeBinary);
+                    available = false;
+                    unavailableReason = "Chrome binary not found: " + chromeBinary;
+                    return;
+                }
+            }
+
+            WebDriverManager.chromedriver().setup();
+            log.info("ChromeDriver 설정 완료");
+
+            // 웜업 드라이버 생성 (첫 생성이 실제 동작 확인을 겸함)
+            warmUp(Math.min(config.getWarmSize(), config.getPoolSize()));
+
+        } catch (Exception e) {
+            log.warn("ChromeDriver 설정 실패 - Selenium 크롤링 비활성화: {}", e.getMessage());
+            available = false;
+            unavailableReason = e.getMessage();
+        }
+    }
+
+    private void warmUp(int count) {
+        for (int i = 0; i < count; i++) {
+            try {
+                PooledDriver driver = createPooledDriver();
+                synchronized (idle) {
+                    idle.push(driver);
+                }
+            } catch (Exception e) {
+                if (i == 0) {
+                    log.warn("Selenium 드라이버 테스트 실패: {}", e.getMessage());
+                    available = false;
+                    unavailableReason = "Driver creation failed: " + e.getMessage();
+                    return;
+                }
+                log.warn("웜업 드라이버 생성 실패 ({}/{}): {}", i + 1, count, e.getMessage());
+                break;
+            }
+        }
+        log.info("Selenium 드라이버 테스트 성공 - Selenium 크롤링 활성화됨 (풀 크기: {}, 웜업: {})",
+                crawlerConfig.getSelenium().getPoolSize(), idleCount());
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    public String getUnavailableReason() {
+        return unavailableReason;
+    }
+
+    public int idleCount() {
+        synchronized (idle) {
+            return idle.size();
+        }
+    }
+
+    /**
+     * 브라우저를 대여합니다. 반드시 try-with-resources로 반납해야 합니다.
+     * @throws TimeoutException leaseTimeoutMs 내에 빈 브라우저를 얻지 못한 경우
+     */
+    public Lease lease() throws InterruptedException, TimeoutException {
+        if (!available) {
+            throw new IllegalStateException("Selenium 사용 불가: " + unavailableReason);
+        }
+        if (closed) {
+            throw new IllegalStateException("WebDriver 풀이 종료되었습니다");
+        }
+
+        long leaseTimeoutMs = crawlerConfig.getSelenium().getLeaseTimeoutMs();
+        if (!permits.tryAcquire(leaseTimeoutMs, TimeUnit.MILLISECONDS)) {
+            throw new TimeoutException("브라우저 대여 타임아웃 (" + leaseTimeoutMs + "ms)");
+        }
+
+        try {
+            PooledDriver driver = takeHealthyIdle();
+            if (driver == null) {
+                driver = createPooledDriver();
+            }
+            return new Lease(driver);
+        } catch (RuntimeException e) {
+            permits.release();
+            throw e;
+        }
+    }
+
+    /**
+     * 유휴 드라이버 중 정상 동작하는 것을 꺼냅니다. 비정상 드라이버는 폐기합니다.
+     */
+    private PooledDriver takeHealthyIdle() {
+        while (true) {
+            PooledDriver driver;
+            synchronized (idle) {
+                driver = idle.poll();
+            }
+            if (driver == null) {
+                return null;
+            }
+            if (isHealthy(driver)) {
+                return driver;
+            }
+            log.warn("비정상 WebDriver 감지 - 폐기 후 다른 드라이버 사용");
+            destroy(driver);
+        }
+    }
+
+    private boolean isHealthy(PooledDriver driver) {
+        try {
+            Object result = ((JavascriptExecutor) driver.webDriver).executeScript("return 1");
+            return result != null;
+        } catch (Exception e) {
+            return false;
+        }
+    }
+
+    private void release(PooledDriver driver, boolean broken) {
+        try {
+            driver.pagesServed++;
+            if (broken || closed) {
+                destroy(driver);
+                return;
+            }
+
+            String recycleReason = recycleReason(driver);
+            if (recycleReason != null) {
+                log.info("WebDriver 재생성: {}", recycleReason);
+                destroy(driver);
+                return;
+            }
+
+            if (!reset(driver)) {
+                destroy(driver);
+                return;
+            }
+
+            synchronized (idle) {
+                idle.push(driver);
+            }
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * 재생성 필요 여부 판단 (null이면 재사용)
+     */
+    private String recycleReason(PooledDriver driver) {
+        CrawlerConfig.SeleniumConfig config = crawlerConfig.getSelenium();
+
+        if (driver.pagesServed >= config.getMaxPagesPerBrowser()) {
+            return "페이지 수 한도 도달 (" + driver.pagesServed + ")";
+        }
+
+        long ageMinutes = (System.currentTimeMillis() - driver.createdAt) / 60000;
+        if (ageMinutes >= config.getMaxBrowserAgeMinutes()) {
+            return "브라우저 수명 초과 (" + ageMinutes + "분)";
+        }
+
+        try {
+            Object heap = ((JavascriptExecutor) driver.webDriver).executeScript(
+                    "return (performance.memory && performance.memory.usedJSHeapSize) || 0");
+            long heapMb = heap instanceof Number ? ((Number) heap).longValue() / (1024 * 1024) : 0;
+            if (heapMb >= config.getMaxJsHeapMb()) {
+                return "JS 힙 사용량 초과 (" + heapMb + "MB)";
+            }
+        } catch (Exception e) {
+            return "메모리 확인 실패: " + e.getMessage();
+        }
+
+        return null;
+    }
+
+    /**
+     * 다음 대여를 위해 브라우저 상태 초기화 (추가 탭 닫기 + 빈 페이지로 이동)
+     */
+    private boolean reset(PooledDriver driver) {
+        try {
+            WebDriver webDriver = driver.webDriver;
+            List<String> handles = new ArrayList<>(webDriver.getWindowHandles());
+            for (int i = 1; i < handles.size(); i++) {
+                webDriver.switchTo().window(handles.get(i)).close();
+            }
+            webDriver.switchTo().window(handles.get(0));
+            webDriver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            log.warn("WebDriver 초기화 실패 - 폐기: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    private void destroy(PooledDriver driver) {
+        try {
+            driver.webDriver.quit();
+        } catch (Exception e) {
+            log.warn("WebDriver 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private PooledDriver createPooledDriver() {
+        long start = System.currentTimeMillis();
+        ChromeDriver driver = createDriver();
+        log.info("ChromeDriver 생성 완료 ({}ms)", System.currentTimeMillis() - start);
+        return new PooledDriver(driver);
+    }
+
+    private ChromeDriver createDriver() {
+        ChromeOptions options = new ChromeOptions();
+
+        // Docker/Railway 환경에서 Chrome 바이너리 경로 설정
+        String chromeBinary = System.getenv("CHROME_BIN");
+        if (chromeBinary != null && !chromeBinary.isEmpty()) {
+            options.setBinary(chromeBinary);
+        }
+
+        // Headless 모드 설정 (새 headless 모드 사용)
+        options.addArguments("--headless=new");
+        options.addArguments("--no-sandbox");
+        options.addArguments("--disable-dev-shm-usage");
+        options.addArguments("--disable-gpu");
+        options.addArguments("--window-size=1920,1080");
+
+        // Docker/Railway 환경 필수 설정
+        options.addArguments("--disable-setuid-sandbox");
+        options.addArguments("--remote-debugging-port=0");
+
+        // 메모리 제한 환경(Railway)을 위한 최적화
+        options.addArguments("--disable-crash-reporter");
+        options.addArguments("--disable-background-networking");
+        options.addArguments("--disable-default-apps");
+        options.addArguments("--disable-sync");
+        options.addArguments("--disable-translate");
+        options.addArguments("--disable-background-timer-throttling");
+        options.addArguments("--disable-renderer-backgrounding");
+        options.addArguments("--disable-backgrounding-occluded-windows");
+        options.addArguments("--disable-ipc-flooding-protection");
+        options.addArguments("--disable-hang-monitor");
+        options.addArguments("--disable-prompt-on-repost");
+
+        // /dev/shm 문제 해결 - 디스크 기반 임시 디렉토리 사용
+        options.addArguments("--disable-features=VizDisplayCompositor");
+        options.addArguments("--disable-software-rasterizer");
+
+        // 봇 감지 우회를 위한 설정
+        options.addArguments("--disable-blink-features=AutomationControlled");
+        options.setExperimentalOption("excludeSwitches", List.of("enable-automation"));
+        options.setExperimentalOption("useAutomationExtension", false);
+        options.setExperimentalOption("prefs", Map.of(
+                "credentials_enable_service", false,
+                "profile.password_manager_enabled", false));
+
+        // User-Agent 설정 (브라우저 단위로 고정)
+        options.addArguments("user-agent=" + crawlerConfig.getRandomUserAgent());
+
+        // 리소스 사용량 최적화
+        options.addArguments("--blink-settings=imagesEnabled=false");
+        options.addArguments("--disable-extensions");
+        options.addArguments("--disable-plugins");
+        options.addArguments("--disable-infobars");
+        options.addArguments("--disable-notifications");
+
+        // DOMContentLoaded 시점에 driver.get() 반환 - 이후 준비 상태는 크롤러가 DOM 기준으로 판단
+        options.setPageLoadStrategy(PageLoadStrategy.EAGER);
+
+        ChromeDriver driver = new ChromeDriver(options);
+        driver.manage().timeouts().pageLoadTimeout(
+                Duration.ofSeconds(crawlerConfig.getSelenium().getPageLoadTimeoutSeconds()));
+
+        blockResources(driver);
+
+        // 모든 문서에서 navigator.webdriver 제거 (Cloudflare 봇 감지 우회)
+        try {
+            driver.executeCdpCommand("Page.addScriptToEvaluateOnNewDocument", Map.of(
+                    "source", "Object.defineProperty(navigator, 'webdriver', {get: () => undefined})"));
+        } catch (Exception e) {
+            log.debug("navigator.webdriver 스크립트 등록 실패: {}", e.getMessage());
+        }
+        return driver;
+    }
+
+    /**
+     * 네트워크 레벨에서 불필요한 리소스 요청 차단 (폰트, 미디어, 스타일시트, 이미지, 트래커)
+     * - blink-settings의 이미지 차단만으로는 폰트/CSS/광고 스크립트 다운로드가 계속됨
+     */
+    private void blockResources(ChromeDriver driver) {
+        CrawlerConfig.SeleniumConfig config = crawlerConfig.getSelenium();
+        if (!config.isBlockResources() || config.getBlockedUrlPatterns().isEmpty()) {
+            return;
+        }
+        try {
+            driver.executeCdpCommand("Network.enable", Map.of());
+            driver.executeCdpCommand("Network.setBlockedURLs", Map.of("urls", config.getBlockedUrlPatterns()));
+        } catch (Exception e) {
+            log.warn("리소스 차단 설정 실패 (차단 없이 계속): {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 애플리케이션 종료 시 모든 브라우저 정리
+     * - 정상 종료 후에도 남은 chrome/chromedriver 프로세스는 강제 종료
+     */
+    @PreDestroy
+    public void shutdown() {
+        log.info("WebDriver 풀 종료 - Chrome 프로세스 정리 중...");
+        closed = true;
+        List<PooledDriver> drivers;
+        synchronized (idle) {
+            drivers = new ArrayList<>(idle);
+            idle.clear();
+        }
+        drivers.forEach(this::destroy);
+        killChromeProcesses();
+    }
+
+    /**
+     * ChromeDriver 좀비 프로세스 강제 종료
+     */
+    private void killChromeProcesses() {
+        try {
+            String os = System.getProperty("os.name").toLowerCase();
+            ProcessBuilder processBuilder;
+
+            if (os.contains("win")) {
+                // Windows
+                processBuilder = new ProcessBuilder("taskkill", "/F", "/IM", "chrome.exe", "/T");
+                processBuilder.start();
+                processBuilder = new ProcessBuilder("taskkill", "/F", "/IM", "chromedriver.exe", "/T");
+                processBuilder.start();
+            } else {
+                // Linux/Unix (Railway 환경)
+                processBuilder = new ProcessBuilder("pkill", "-9", "-f", "chrome");
+                processBuilder.start();
+                processBuilder = new ProcessBuilder("pkill", "-9", "-f", "chromedriver");
+                processBuilder.start();
+            }
+            log.info("Chrome 프로세스 강제 종료 명령 실행");
+        } catch (Exception e) {
+            log.warn("Chrome 프로세스 강제 종료 실패: {}", e.getMessage());
+        }
+    }
+
+    private static final class PooledDriver {
+        private final ChromeDriver webDriver;
+        private final long createdAt = System.currentTimeMillis();
+        private int pagesServed = 0;
+
+        private PooledDriver(ChromeDriver webDriver) {
+            this.webDriver = webDriver;
+        }
+    }
+
+    /**
+     * 브라우저 대여 핸들 - close() 시 풀로 반납
+     */
+    public final class Lease implements AutoCloseable {
+
+        private final PooledDriver pooled;
+        private boolean broken = false;
+        private boolean released = false;
+
+        private Lease(PooledDriver pooled) {
+            this.pooled = pooled;
+        }
+
+        public ChromeDriver driver() {
+            return pooled.webDriver;
+        }
+
+        /**
+         * 세션 오류 등으로 재사용하면 안 되는 경우 표시 (반납 시 폐기)
+         */
+        public void markBroken() {
+            broken = true;
+        }
+
+        @Override
+        public void close() {
+            if (released) {
+                return;
+            }
+            released = true;
+            release(pooled, broken);
+        }
+    }
+}
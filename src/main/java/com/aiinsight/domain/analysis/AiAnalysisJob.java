@@ -0,0 +1,89 @@
+package com.aiinsight.domain.analysis;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+import java.time.LocalDateTime;
+
+/**
+ * AI 분석 작업 큐 (Postgres 테이블 기반, 재시작해도 유지)
+ * - 기사당 대기/실행 중인 작업은 하나 (article_id 유니크), 완료되면 행 삭제
+ * - 워커는 FOR UPDATE SKIP LOCKED로 우선순위 순서대로 가져가며 lease_until까지 점유
+ * - 임대가 만료된 작업은 다른 워커가 다시 가져감 (워커/인스턴스 비정상 종료 복구)
+ */
+@Entity
+@Table(name = "ai_analysis_job", indexes = {
+    @Index(name = "idx_ai_job_ready", columnList = "priority, available_at, id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class AiAnalysisJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "article_id", nullable = false, unique = true)
+    private Long articleId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private Lane lane;
+
+    // 작을수록 먼저 처리 (Lane.priority)
+    @Column(nullable = false)
+    private Integer priority;
+
+    // 이미 분석된 기사도 다시 분석
+    @Column(name = "force_reanalyze", nullable = false)
+    @Builder.Default
+    private Boolean forceReanalyze = false;
+
+    // 실행 중에 강제 재분석이 다시 요청됨 → 완료 후 삭제하지 않고 재실행
+    @Column(name = "rerun_requested", nullable = false)
+    @Builder.Default
+    private Boolean rerunRequested = false;
+
+    // 가져간 횟수 (재시도 포함)
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    // 이 시각 이후에 가져갈 수 있음 (재시도 백오프)
+    @Column(name = "available_at", nullable = false)
+    private LocalDateTime availableAt;
+
+    @Column(name = "leased_by", length = 100)
+    private String leasedBy;
+
+    @Column(name = "lease_until")
+    private LocalDateTime leaseUntil;
+
+    @Column(name = "last_error", columnDefinition = "TEXT")
+    private String lastError;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    /**
+     * 우선순위 레인
+     */
+    public enum Lane {
+        USER(0),        // 사용자가 요청한 단건 분석 (/api/articles/{id}/analyze)
+        FRESH(1),       // 방금 수집된 기사
+        BACKLOG(2);     // 미분석 기사 정리, 멈춘 분석 복구
+
+        private final int priority;
+
+        Lane(int priority) {
+            this.priority = priority;
+        }
+
+        public int getPriority() {
+            return priority;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.aiinsight.domain.analysis;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * AI 분석 작업 큐 연산 (PostgreSQL INSERT ... ON CONFLICT, FOR UPDATE SKIP LOCKED)
+ */
+public interface AiAnalysisJobQueueRepository {
+
+    /**
+     * 작업 등록 - 이미 있으면 더 높은 우선순위/강제 재분석만 반영
+     * @return 새로 등록되거나 갱신된 작업 수
+     */
+    int enqueue(Collection<Long> articleIds, AiAnalysisJob.Lane lane, boolean forceReanalyze);
+
+    /**
+     * 미분석(PENDING) 기사를 오래된 순으로 BACKLOG 레인에 등록
+     * @return 새로 등록된 작업 수
+     */
+    int enqueueBacklog(int limit);
+
+    /**
+     * PROCESSING 상태로 stuckBefore 이전부터 멈춘 기사 중 실행 중인 작업이 없는 것을 PENDING으로 되돌리고 다시 등록
+     * @return 복구된 기사 수
+     */
+    int recoverStuckArticles(LocalDateTime stuckBefore);
+
+    /**
+     * 우선순위 순서로 최대 limit개 작업을 가져가 leaseUntil까지 임대 (다른 워커가 잠근 행은 건너뜀)
+     */
+    List<AiAnalysisJob> claim(String workerId, int limit, LocalDateTime leaseUntil);
+
+    /**
+     * 실행 중인 작업의 임대 연장 (leased_by가 자신인 작업만)
+     * @return 연장된 작업 수
+     */
+    int renewLeases(Collection<Long> jobIds, String workerId, LocalDateTime leaseUntil);
+
+    /**
+     * 완료 처리 - 실행 중 강제 재분석 요청이 있었으면 삭제하지 않고 즉시 다시 대기열로
+     */
+    void complete(Long jobId, String workerId);
+
+    /**
+     * 재시도 예약 (임대 해제, availableAt 이후 다시 가져감)
+     */
+    void retryLater(Long jobId, String workerId, LocalDateTime availableAt, String error);
+
+    /**
+     * 작업 삭제 (재시도 한도 초과)
+     */
+    void discard(Long jobId, String workerId);
+}
@@ -0,0 +1,188 @@
+package com.aiinsight.domain.analysis;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * AI 분석 작업 큐 구현 (JDBC)
+ * - 가져가기: 서브쿼리에서 FOR UPDATE SKIP LOCKED로 잠근 행만 UPDATE ... RETURNING
+ *   → 여러 워커/인스턴스가 동시에 가져가도 같은 작업을 중복 실행하지 않음
+ * - 실행 중에는 임대를 주기적으로 연장 (renewLeases) - 오래 걸리는 분석이 임대 만료로 다시 가져가지지 않도록
+ * - 완료/재시도/삭제는 leased_by가 자신인 경우에만 반영 (임대 만료 후 다른 워커가 가져간 작업은 건드리지 않음)
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class AiAnalysisJobQueueRepositoryImpl implements AiAnalysisJobQueueRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String ENQUEUE_SQL = """
+            INSERT INTO ai_analysis_job (article_id, lane, priority, force_reanalyze, rerun_requested, attempts,
+                                         available_at, created_at)
+            VALUES (?, ?, ?, ?, FALSE, 0, ?, ?)
+            ON CONFLICT (article_id) DO UPDATE SET
+                lane = CASE WHEN EXCLUDED.priority < ai_analysis_job.priority
+                            THEN EXCLUDED.lane ELSE ai_analysis_job.lane END,
+                priority = LEAST(ai_analysis_job.priority, EXCLUDED.priority),
+                force_reanalyze = ai_analysis_job.force_reanalyze OR EXCLUDED.force_reanalyze,
+                rerun_requested = ai_analysis_job.rerun_requested
+                    OR (EXCLUDED.force_reanalyze
+                        AND COALESCE(ai_analysis_job.lease_until >= EXCLUDED.available_at, FALSE)),
+                available_at = LEAST(ai_analysis_job.available_at, EXCLUDED.available_at)
+            WHERE EXCLUDED.priority < ai_analysis_job.priority
+               OR (EXCLUDED.force_reanalyze AND NOT ai_analysis_job.force_reanalyze)
+               OR ai_analysis_job.available_at > EXCLUDED.available_at
+            """;
+
+    private static final String ENQUEUE_BACKLOG_SQL = """
+            INSERT INTO ai_analysis_job (article_id, lane, priority, force_reanalyze, rerun_requested, attempts,
+                                         available_at, created_at)
+            SELECT na.id, ?, ?, FALSE, FALSE, 0, ?, ?
+            FROM news_article na
+            WHERE na.is_summarized = FALSE
+              AND (na.analysis_status IS NULL OR na.analysis_status = 'PENDING')
+              AND NOT EXISTS (SELECT 1 FROM ai_analysis_job j WHERE j.article_id = na.id)
+            ORDER BY na.crawled_at
+            LIMIT ?
+            ON CONFLICT (article_id) DO NOTHING
+            """;
+
+    private static final String RESET_STUCK_SQL = """
+            UPDATE news_article na SET analysis_status = 'PENDING'
+            WHERE na.analysis_status = 'PROCESSING'
+              AND na.updated_at < ?
+              AND NOT EXISTS (SELECT 1 FROM ai_analysis_job j
+                              WHERE j.article_id = na.id AND j.lease_until >= ?)
+            RETURNING na.id
+            """;
+
+    private static final String CLAIM_SQL = """
+            UPDATE ai_analysis_job j
+            SET leased_by = ?, lease_until = ?, attempts = j.attempts + 1
+            WHERE j.id IN (
+                SELECT id FROM ai_analysis_job
+                WHERE available_at <= ? AND (lease_until IS NULL OR lease_until < ?)
+                ORDER BY priority, available_at, id
+                LIMIT ?
+                FOR UPDATE SKIP LOCKED)
+            RETURNING j.id, j.article_id, j.lane, j.priority, j.force_reanalyze, j.attempts, j.available_at,
+                      j.created_at
+            """;
+
+    private static final RowMapper<AiAnalysisJob> CLAIMED_JOB_MAPPER = (rs, rowNum) -> AiAnalysisJob.builder()
+            .id(rs.getLong("id"))
+            .articleId(rs.getLong("article_id"))
+            .lane(AiAnalysisJob.Lane.valueOf(rs.getString("lane")))
+            .priority(rs.getInt("priority"))
+            .forceReanalyze(rs.getBoolean("force_reanalyze"))
+            .attempts(rs.getInt("attempts"))
+            .availableAt(rs.getTimestamp("available_at").toLocalDateTime())
+            .createdAt(rs.getTimestamp("created_at").toLocalDateTime())
+            .build();
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public int enqueue(Collection<Long> articleIds, AiAnalysisJob.Lane lane, boolean forceReanalyze) {
+        if (articleIds.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(ENQUEUE_SQL, new ArrayList<>(articleIds), BATCH_SIZE, (ps, articleId) -> {
+            ps.setLong(1, articleId);
+            ps.setString(2, lane.name());
+            ps.setInt(3, lane.getPriority());
+            ps.setBoolean(4, forceReanalyze);
+            ps.setTimestamp(5, now);
+            ps.setTimestamp(6, now);
+        });
+
+        int changed = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                // SUCCESS_NO_INFO(-2)도 반영된 것으로 집계
+                changed += count != 0 ? 1 : 0;
+            }
+        }
+        return changed;
+    }
+
+    @Override
+    public int enqueueBacklog(int limit) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.update(ENQUEUE_BACKLOG_SQL, AiAnalysisJob.Lane.BACKLOG.name(),
+                AiAnalysisJob.Lane.BACKLOG.getPriority(), now, now, limit);
+    }
+
+    @Override
+    public int recoverStuckArticles(LocalDateTime stuckBefore) {
+        List<Long> ids = jdbcTemplate.queryForList(RESET_STUCK_SQL, Long.class,
+                Timestamp.valueOf(stuckBefore), Timestamp.valueOf(LocalDateTime.now()));
+        if (!ids.isEmpty()) {
+            enqueue(ids, AiAnalysisJob.Lane.BACKLOG, false);
+            log.debug("멈춘 AI 분석 복구: {}", ids);
+        }
+        return ids.size();
+    }
+
+    @Override
+    public List<AiAnalysisJob> claim(String workerId, int limit, LocalDateTime leaseUntil) {
+        if (limit <= 0) {
+            return List.of();
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return jdbcTemplate.query(CLAIM_SQL, CLAIMED_JOB_MAPPER,
+                workerId, Timestamp.valueOf(leaseUntil), now, now, limit);
+    }
+
+    @Override
+    public int renewLeases(Collection<Long> jobIds, String workerId, LocalDateTime leaseUntil) {
+        if (jobIds.isEmpty()) {
+            return 0;
+        }
+        String placeholders = String.join(", ", Collections.nCopies(jobIds.size(), "?"));
+        List<Object> args = new ArrayList<>(jobIds.size() + 2);
+        args.add(Timestamp.valueOf(leaseUntil));
+        args.addAll(jobIds);
+        args.add(workerId);
+        return jdbcTemplate.update("UPDATE ai_analysis_job SET lease_until = ? WHERE id IN (" + placeholders
+                + ") AND leased_by = ?", args.toArray());
+    }
+
+    @Override
+    public void complete(Long jobId, String workerId) {
+        int deleted = jdbcTemplate.update(
+                "DELETE FROM ai_analysis_job WHERE id = ? AND leased_by = ? AND NOT rerun_requested",
+                jobId, workerId);
+        if (deleted == 0) {
+            jdbcTemplate.update("""
+                    UPDATE ai_analysis_job
+                    SET leased_by = NULL, lease_until = NULL, attempts = 0, rerun_requested = FALSE, available_at = ?
+                    WHERE id = ? AND leased_by = ?
+                    """, Timestamp.valueOf(LocalDateTime.now()), jobId, workerId);
+        }
+    }
+
+    @Override
+    public void retryLater(Long jobId, String workerId, LocalDateTime availableAt, String error) {
+        jdbcTemplate.update("""
+                UPDATE ai_analysis_job
+                SET leased_by = NULL, lease_until = NULL, available_at = ?, last_error = ?
+                WHERE id = ? AND leased_by = ?
+                """, Timestamp.valueOf(availableAt), error, jobId, workerId);
+    }
+
+    @Override
+    public void discard(Long jobId, String workerId) {
+        jdbcTemplate.update("DELETE FROM ai_analysis_job WHERE id = ? AND leased_by = ?", jobId, workerId);
+    }
+}
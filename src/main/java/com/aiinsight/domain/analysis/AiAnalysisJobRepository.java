@@ -0,0 +1,26 @@
+package com.aiinsight.domain.analysis;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AiAnalysisJobRepository extends JpaRepository<AiAnalysisJob, Long>, AiAnalysisJobQueueRepository {
+
+    /**
+     * 레인별 대기 작업 수 (가져갈 수 있는 시각이 지났고 임대되지 않은 작업) - [lane, count]
+     */
+    @Query("SELECT j.lane, COUNT(j) FROM AiAnalysisJob j " +
+           "WHERE j.availableAt <= :now AND (j.leaseUntil IS NULL OR j.leaseUntil < :now) GROUP BY j.lane")
+    List<Object[]> countReadyByLane(@Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(j) FROM AiAnalysisJob j WHERE j.leaseUntil >= :now")
+    long countLeased(@Param("now") LocalDateTime now);
+
+    @Query("SELECT COUNT(j) FROM AiAnalysisJob j WHERE j.availableAt > :now AND (j.leaseUntil IS NULL OR j.leaseUntil < :now)")
+    long countDelayed(@Param("now") LocalDateTime now);
+}
@@ -21,8 +21,14 @@ import java.time.LocalDateTime;
 @Builder
 public class NewsArticle {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // 시퀀스 기반 ID (IDENTITY는 Hibernate 배치 INSERT 불가)
+    // allocationSize만큼 미리 할당 - JDBC 일괄 저장도 같은 블록 규칙 사용 (NewsArticleBulkRepositoryImpl)
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "news_article_seq")
+    @SequenceGenerator(name = "news_article_seq", sequenceName = "news_article_seq",
+            allocationSize = NewsArticle.ID_ALLOCATION_SIZE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -110,6 +116,17 @@ public class NewsArticle {
     @Column(name = "thumbnail_url", length = 2048)
     private String thumbnailUrl;
 
+    // OpenGraph 메타데이터 (og:description, og:site_name)
+    @Column(columnDefinition = "TEXT")
+    private String description;
+
+    @Column(name = "site_name", length = 200)
+    private String siteName;
+
+    // 크롤링 중 상세 페이지 메타데이터 수집 시각 (있으면 AI 분석 단계에서 원문을 다시 가져오지 않음)
+    @Column(name = "metadata_captured_at")
+    private LocalDateTime metadataCapturedAt;
+
     @CreationTimestamp
     @Column(name = "crawled_at", nullable = false, updatable = false)
     private LocalDateTime crawledAt;
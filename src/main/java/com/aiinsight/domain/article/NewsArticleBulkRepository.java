@@ -0,0 +1,15 @@
+package com.aiinsight.domain.article;
+
+import java.util.List;
+
+/**
+ * 기사 일괄 저장 (JDBC 배치) - NewsArticleRepository 확장 프래그먼트
+ */
+public interface NewsArticleBulkRepository {
+
+    /**
+     * 기사 일괄 INSERT (content_hash 충돌 행은 무시)
+     * @return 실제로 저장된 기사 (ID 할당됨)
+     */
+    List<NewsArticle> insertIgnoringDuplicates(List<NewsArticle> articles);
+}
@@ -0,0 +1,131 @@
+package com.aiinsight.domain.article;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * 기사 일괄 저장 구현
+ * - ID는 news_article_seq에서 블록 단위로 할당 (Hibernate pooled 옵티마이저와 동일 규칙)
+ * - INSERT ... ON CONFLICT (content_hash) DO NOTHING 을 JDBC 배치로 실행
+ *   → 병렬 크롤링이 같은 기사를 동시에 저장해도 한 건만 들어감
+ */
+@RequiredArgsConstructor
+@Slf4j
+public class NewsArticleBulkRepositoryImpl implements NewsArticleBulkRepository {
+
+    private static final int BATCH_SIZE = 50;
+
+    private static final String INSERT_SQL = """
+            INSERT INTO news_article (id, target_id, original_url, title, content, author, published_at,
+                                      thumbnail_url, content_hash, analysis_status, is_new, is_summarized,
+                                      crawled_at, updated_at, description, site_name, metadata_captured_at)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            ON CONFLICT (content_hash) DO NOTHING
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public List<NewsArticle> insertIgnoringDuplicates(List<NewsArticle> articles) {
+        if (articles.isEmpty()) {
+            return List.of();
+        }
+
+        List<Long> ids = allocateIds(articles.size());
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < articles.size(); i++) {
+            NewsArticle article = articles.get(i);
+            article.setId(ids.get(i));
+            article.setCrawledAt(now);
+            article.setUpdatedAt(now);
+        }
+
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, articles, BATCH_SIZE, (ps, article) -> {
+            ps.setLong(1, article.getId());
+            ps.setLong(2, article.getTarget().getId());
+            ps.setString(3, article.getOriginalUrl());
+            ps.setString(4, article.getTitle());
+            ps.setString(5, article.getContent());
+            ps.setString(6, article.getAuthor());
+            if (article.getPublishedAt() != null) {
+                ps.setTimestamp(7, Timestamp.valueOf(article.getPublishedAt()));
+            } else {
+                ps.setNull(7, Types.TIMESTAMP);
+            }
+            ps.setString(8, article.getThumbnailUrl());
+            ps.setString(9, article.getContentHash());
+            ps.setString(10, article.getAnalysisStatus().name());
+            ps.setBoolean(11, article.getIsNew());
+            ps.setBoolean(12, article.getIsSummarized());
+            ps.setTimestamp(13, Timestamp.valueOf(article.getCrawledAt()));
+            ps.setTimestamp(14, Timestamp.valueOf(article.getUpdatedAt()));
+            ps.setString(15, article.getDescription());
+            ps.setString(16, article.getSiteName());
+            if (article.getMetadataCapturedAt() != null) {
+                ps.setTimestamp(17, Timestamp.valueOf(article.getMetadataCapturedAt()));
+            } else {
+                ps.setNull(17, Types.TIMESTAMP);
+            }
+        });
+
+        List<NewsArticle> inserted = new ArrayList<>();
+        boolean unknownCounts = false;
+        int index = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    unknownCounts = true;
+                } else if (count > 0) {
+                    inserted.add(articles.get(index));
+                }
+                index++;
+            }
+        }
+
+        // reWriteBatchedInserts 등으로 행별 결과가 없으면 ID로 실제 저장 여부 확인
+        if (unknownCounts) {
+            Set<Long> existingIds = new HashSet<>(jdbcTemplate.queryForList(
+                    "SELECT id FROM news_article WHERE id = ANY(?)", Long.class,
+                    (Object) ids.toArray(new Long[0])));
+            inserted = articles.stream()
+                    .filter(article -> existingIds.contains(article.getId()))
+                    .toList();
+        }
+
+        log.debug("기사 일괄 저장: 요청 {}건, 저장 {}건", articles.size(), inserted.size());
+        return inserted;
+    }
+
+    /**
+     * 시퀀스 값 v 하나로 (v - allocationSize, v] 범위의 ID를 사용
+     */
+    private List<Long> allocateIds(int count) {
+        int blocks = (count + NewsArticle.ID_ALLOCATION_SIZE - 1) / NewsArticle.ID_ALLOCATION_SIZE;
+        List<Long> hiValues = jdbcTemplate.queryForList(
+                "SELECT nextval('news_article_seq') FROM generate_series(1, ?)", Long.class, blocks);
+
+        List<Long> ids = new ArrayList<>(count);
+        for (Long hi : hiValues) {
+            for (long id = hi - NewsArticle.ID_ALLOCATION_SIZE + 1; id <= hi && ids.size() < count; id++) {
+                if (id > 0) {
+                    ids.add(id);
+                }
+            }
+        }
+        // 시퀀스 초기값(1) 블록처럼 음수 구간이 잘린 경우 추가 할당
+        if (ids.size() < count) {
+            ids.addAll(allocateIds(count - ids.size()));
+        }
+        return ids;
+    }
+}
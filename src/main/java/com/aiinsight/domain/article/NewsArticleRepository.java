@@ -5,20 +5,26 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long> {
+public interface NewsArticleRepository extends JpaRepository<NewsArticle, Long>, NewsArticleBulkRepository {
 
     // 전체 기사 최신순 조회
     Page<NewsArticle> findAllByOrderByCrawledAtDesc(Pageable pageable);
 
     boolean existsByContentHash(String contentHash);
 
+    // 일괄 중복 체크 (한 번의 IN 쿼리)
+    @Query("SELECT na.contentHash FROM NewsArticle na WHERE na.contentHash IN :hashes")
+    List<String> findExistingContentHashes(@Param("hashes") Collection<String> hashes);
+
     Optional<NewsArticle> findByContentHash(String contentHash);
 
     Page<NewsArticle> findByTargetIdOrderByCrawledAtDesc(Long targetId, Pageable pageable);
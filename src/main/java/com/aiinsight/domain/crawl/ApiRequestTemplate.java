@@ -0,0 +1,35 @@
+package com.aiinsight.domain.crawl;
+
+import lombok.*;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+
+/**
+ * JSON API 재현 템플릿 (CrawlTarget.apiTemplate에 JSON으로 저장)
+ * - DYNAMIC 타겟의 페이지가 내부적으로 호출하는 기사 목록 API를 브라우저 없이 직접 호출
+ * - Selenium API 탐색으로 생성되며, 필드 매핑은 직접 수정 가능
+ */
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class ApiRequestTemplate {
+
+    private String url;
+
+    // 요청 메서드 (GET, POST)
+    private String method;
+
+    // 페이지가 보낸 요청 헤더 중 재현에 필요한 것 (쿠키 등 세션 헤더 제외)
+    private Map<String, String> headers;
+
+    // 요청 본문 (POST 검색 API, GraphQL 등)
+    private String body;
+
+    // 응답 JSON의 기사 배열 경로와 필드 매핑
+    private SelectorConfig.StructuredDataConfig mapping;
+
+    private LocalDateTime discoveredAt;
+}
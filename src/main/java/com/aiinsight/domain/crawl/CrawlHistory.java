@@ -41,6 +41,15 @@ public class CrawlHistory {
     @Column(name = "duration_ms")
     private Long durationMs;
 
+    // 시도 번호 (1 = 최초 실행, 2 이상 = 재시도)
+    @Column(name = "attempt")
+    @Builder.Default
+    private Integer attempt = 1;
+
+    // 다음 재시도 예정 시각 (재시도가 예약된 실패 이력에만 설정)
+    @Column(name = "next_retry_at")
+    private LocalDateTime nextRetryAt;
+
     // 에러 메시지 (실패 시)
     @Column(name = "error_message", columnDefinition = "TEXT")
     private String errorMessage;
@@ -7,6 +7,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -25,6 +26,11 @@ public interface CrawlHistoryRepository extends JpaRepository<CrawlHistory, Long
     @Query("SELECT ch FROM CrawlHistory ch WHERE ch.target.id = :targetId AND ch.executedAt >= :startDate ORDER BY ch.executedAt DESC")
     List<CrawlHistory> findRecentByTargetId(Long targetId, LocalDateTime startDate);
 
+    // 적응형 스케줄용 최근 실행 이력 (상태 필터)
+    List<CrawlHistory> findByTargetIdAndStatusInOrderByExecutedAtDesc(Long targetId,
+                                                                      Collection<CrawlTarget.CrawlStatus> statuses,
+                                                                      Pageable pageable);
+
     @Query("SELECT COUNT(ch) FROM CrawlHistory ch WHERE ch.status = :status AND ch.executedAt >= :startDate")
     Long countByStatusAfter(CrawlTarget.CrawlStatus status, LocalDateTime startDate);
 
@@ -3,12 +3,14 @@ package com.aiinsight.domain.crawl;
 import jakarta.persistence.*;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.DynamicUpdate;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "crawl_target")
+@DynamicUpdate  // 스케줄러/크롤링 워커/서킷 브레이커가 같은 행을 동시에 저장하므로 변경된 컬럼만 UPDATE
 @Getter
 @Setter
 @NoArgsConstructor
@@ -37,6 +39,16 @@ public class CrawlTarget {
     @Column(name = "cron_expression", nullable = false)
     private String cronExpression;
 
+    // 스케줄 방식 (CRON: 고정 주기 / ADAPTIVE: 신규 기사 이력 기반 가변 주기)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "schedule_mode", length = 20)
+    @Builder.Default
+    private ScheduleMode scheduleMode = ScheduleMode.CRON;
+
+    // 다음 크롤링 예정 시각 (스케줄러가 계산)
+    @Column(name = "next_crawl_at")
+    private LocalDateTime nextCrawlAt;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean enabled = true;
@@ -46,6 +58,32 @@ public class CrawlTarget {
     @Builder.Default
     private CrawlType crawlType = CrawlType.STATIC;
 
+    // FEED 타입의 피드 URL (비어 있으면 url 사용, HTML이면 자동 탐색 결과 저장)
+    @Column(name = "feed_url", length = 1000)
+    private String feedUrl;
+
+    // DYNAMIC 타겟의 JSON API 재현 템플릿 (ApiRequestTemplate JSON) - 있으면 브라우저 없이 API 호출
+    @Column(name = "api_template", columnDefinition = "TEXT")
+    private String apiTemplate;
+
+    // DYNAMIC 타겟이 정적 fetch만으로 같은 기사를 얻을 수 있는지 (렌더링 비교 결과) - true면 WebCrawler 사용
+    @Column(name = "static_capable")
+    @Builder.Default
+    private Boolean staticCapable = false;
+
+    // 브라우저/정적 추출 결과가 연속으로 일치한 비교 횟수
+    @Column(name = "render_probe_matches")
+    @Builder.Default
+    private Integer renderProbeMatches = 0;
+
+    // 마지막 렌더링 비교 시각
+    @Column(name = "render_probed_at")
+    private LocalDateTime renderProbedAt;
+
+    // 마지막 비교 시 브라우저 추출 기사 수 (정적 수집량 감소 판단 기준)
+    @Column(name = "render_baseline_count")
+    private Integer renderBaselineCount;
+
     // 마지막 크롤링 시간
     @Column(name = "last_crawled_at")
     private LocalDateTime lastCrawledAt;
@@ -55,6 +93,36 @@ public class CrawlTarget {
     @Column(name = "last_status")
     private CrawlStatus lastStatus;
 
+    // 서킷 브레이커 상태 (연속 실패 시 스케줄 실행 차단)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "circuit_state", length = 20)
+    @Builder.Default
+    private CircuitState circuitState = CircuitState.CLOSED;
+
+    // OPEN 상태 유지 기한 (이후 HALF_OPEN으로 시험 실행), HALF_OPEN에서는 시험 실행 기한
+    @Column(name = "circuit_open_until")
+    private LocalDateTime circuitOpenUntil;
+
+    // 최근 연속 실패 횟수
+    @Column(name = "consecutive_failures")
+    @Builder.Default
+    private Integer consecutiveFailures = 0;
+
+    // 헬스 점수 (최근 이력의 가중 성공률, 0.0 ~ 1.0)
+    @Column(name = "health_score")
+    private Double healthScore;
+
+    // 조건부 GET 캐시 검증자 (목록 페이지 기준)
+    @Column(name = "http_etag", length = 512)
+    private String httpEtag;
+
+    @Column(name = "http_last_modified", length = 100)
+    private String httpLastModified;
+
+    // 목록 페이지 본문 SHA-256 (검증자를 지원하지 않는 서버용)
+    @Column(name = "content_fingerprint", length = 64)
+    private String contentFingerprint;
+
     @CreationTimestamp
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -65,12 +133,25 @@ public class CrawlTarget {
 
     public enum CrawlType {
         STATIC,     // Jsoup으로 처리 가능
-        DYNAMIC     // Selenium 필요
+        DYNAMIC,    // Selenium 필요
+        FEED        // RSS / Atom / JSON Feed (선택자 불필요)
+    }
+
+    public enum ScheduleMode {
+        CRON,       // cronExpression 고정 주기
+        ADAPTIVE    // 최근 신규 기사 수로 다음 실행 시각 계산 (cronExpression 무시)
+    }
+
+    public enum CircuitState {
+        CLOSED,     // 정상
+        OPEN,       // 연속 실패로 실행 차단
+        HALF_OPEN   // 차단 기한 경과 - 시험 실행 중
     }
 
     public enum CrawlStatus {
         SUCCESS,
         FAILED,
-        PARTIAL
+        PARTIAL,
+        UNCHANGED   // 목록 페이지 변경 없음 (304 또는 동일 본문)
     }
 }
@@ -1,9 +1,13 @@
 package com.aiinsight.domain.crawl;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -19,4 +23,76 @@ public interface CrawlTargetRepository extends JpaRepository<CrawlTarget, Long>
     boolean existsByUrl(String url);
 
     boolean existsByUrlAndIdNot(String url, Long id);
+
+    // 아래 갱신 쿼리는 스케줄러 / 크롤링 워커 / 서킷 브레이커 / 렌더링 비교가 같은 행을 동시에 갱신하므로
+    // 엔티티 전체 저장 대신 각자 담당 컬럼만 UPDATE (서로의 값을 덮어쓰지 않도록)
+
+    // 스케줄 (스케줄러 스레드)
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.nextCrawlAt = :nextCrawlAt WHERE ct.id = :id")
+    int updateNextCrawlAt(@Param("id") Long id, @Param("nextCrawlAt") LocalDateTime nextCrawlAt);
+
+    // 크롤링 결과
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.lastStatus = :status, ct.lastCrawledAt = :crawledAt WHERE ct.id = :id")
+    int updateLastCrawlStatus(@Param("id") Long id, @Param("status") CrawlTarget.CrawlStatus status,
+                              @Param("crawledAt") LocalDateTime crawledAt);
+
+    // 조건부 GET 캐시 검증자
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.httpEtag = :etag, ct.httpLastModified = :lastModified, " +
+           "ct.contentFingerprint = :fingerprint WHERE ct.id = :id")
+    int updateCacheValidators(@Param("id") Long id, @Param("etag") String etag,
+                              @Param("lastModified") String lastModified, @Param("fingerprint") String fingerprint);
+
+    // 서킷 브레이커 - 기한이 지난 OPEN/HALF_OPEN을 HALF_OPEN으로 전환하고 시험 실행 기한 설정
+    // (기한 전이거나 다른 실행이 먼저 시험 실행을 가져갔으면 0 반환)
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.circuitState = com.aiinsight.domain.crawl.CrawlTarget.CircuitState.HALF_OPEN, " +
+           "ct.circuitOpenUntil = :trialUntil " +
+           "WHERE ct.id = :id AND ct.circuitState IN (com.aiinsight.domain.crawl.CrawlTarget.CircuitState.OPEN, " +
+           "com.aiinsight.domain.crawl.CrawlTarget.CircuitState.HALF_OPEN) " +
+           "AND (ct.circuitOpenUntil IS NULL OR ct.circuitOpenUntil <= :now)")
+    int halfOpenCircuit(@Param("id") Long id, @Param("now") LocalDateTime now,
+                        @Param("trialUntil") LocalDateTime trialUntil);
+
+    // 서킷 브레이커 - 성공 시 닫기
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.circuitState = com.aiinsight.domain.crawl.CrawlTarget.CircuitState.CLOSED, " +
+           "ct.circuitOpenUntil = null, ct.consecutiveFailures = 0, ct.healthScore = :healthScore WHERE ct.id = :id")
+    int closeCircuit(@Param("id") Long id, @Param("healthScore") Double healthScore);
+
+    // 서킷 브레이커 - 실패 집계
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.consecutiveFailures = :failures, ct.healthScore = :healthScore WHERE ct.id = :id")
+    int updateFailureStats(@Param("id") Long id, @Param("failures") Integer failures,
+                           @Param("healthScore") Double healthScore);
+
+    // 서킷 브레이커 - 열기
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.circuitState = com.aiinsight.domain.crawl.CrawlTarget.CircuitState.OPEN, " +
+           "ct.circuitOpenUntil = :openUntil WHERE ct.id = :id")
+    int openCircuit(@Param("id") Long id, @Param("openUntil") LocalDateTime openUntil);
+
+    // 렌더링 비교 결과
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.renderProbeMatches = :matches, ct.renderProbedAt = :probedAt, " +
+           "ct.renderBaselineCount = :baselineCount WHERE ct.id = :id")
+    int updateRenderProbe(@Param("id") Long id, @Param("matches") Integer matches,
+                          @Param("probedAt") LocalDateTime probedAt, @Param("baselineCount") Integer baselineCount);
+
+    // 렌더링 비교 - 정적 수집 전환/해제 (검증자/지문은 새 수집 방식 기준으로 다시 수집)
+    @Transactional
+    @Modifying
+    @Query("UPDATE CrawlTarget ct SET ct.staticCapable = :staticCapable, " +
+           "ct.httpEtag = null, ct.httpLastModified = null, ct.contentFingerprint = null WHERE ct.id = :id")
+    int updateStaticCapable(@Param("id") Long id, @Param("staticCapable") Boolean staticCapable);
 }
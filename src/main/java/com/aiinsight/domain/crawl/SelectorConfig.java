@@ -2,6 +2,8 @@ package com.aiinsight.domain.crawl;
 
 import lombok.*;
 
+import java.util.List;
+
 @Getter
 @Setter
 @NoArgsConstructor
@@ -39,6 +41,21 @@ public class SelectorConfig {
     // 페이지네이션 설정
     private PaginationConfig pagination;
 
+    // 신규 기사마다 상세 페이지를 가져와 본문/작성자/날짜 보강 (contentSelector 등을 상세 페이지에 적용)
+    private Boolean fetchDetails;
+
+    // 페이지네이션/상세 페이지를 동시에 fetch (호스트별 동시 요청 수와 속도는 crawler.host-rate-limit으로 제한)
+    private Boolean fanOut;
+
+    // 증분 크롤링 모드 (최신순 목록 전제: 이미 저장된 기사를 만나면 이후 아이템/페이지 처리 중단)
+    private Boolean incrementalMode;
+
+    // 연속으로 만난 기존 기사 수가 이 값에 도달하면 중단 (상단 고정 글 대비, 기본 1)
+    private Integer knownArticleStopCount;
+
+    // 내장 구조화 데이터 추출 설정 (JSON-LD, 하이드레이션 JSON, OpenGraph)
+    private StructuredDataConfig structuredData;
+
     @Getter
     @Setter
     @NoArgsConstructor
@@ -50,4 +67,29 @@ public class SelectorConfig {
         private String pageParamName;     // URL 파라미터 이름 (예: "page")
         private Integer maxPages;         // 최대 페이지 수
     }
+
+    /**
+     * 구조화 데이터 추출 설정
+     * - 목록이 HTML이 아닌 JSON-LD나 Next.js/Nuxt 하이드레이션 JSON에 있는 사이트용
+     * - 추출 결과가 있으면 선택자 기반 추출보다 우선, 없으면 선택자로 대체
+     * - *Path 필드는 하이드레이션 JSON 전용 (점 구분 경로, 숫자는 배열 인덱스: "props.pageProps.posts", "authors.0.name")
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class StructuredDataConfig {
+        private Boolean enabled;
+        private List<String> sources;      // 시도 순서 (JSON_LD, HYDRATION, OPEN_GRAPH), 없으면 JSON_LD, HYDRATION
+        private String scriptSelector;     // 하이드레이션 JSON script 선택자 (기본: __NEXT_DATA__, __NUXT_DATA__)
+        private String itemsPath;          // 기사 배열 경로, 없으면 제목/링크를 가진 가장 큰 배열 자동 탐색
+        private String titlePath;
+        private String urlPath;
+        private String urlTemplate;        // 링크 값이 slug일 때 URL 템플릿 (예: "/blog/{value}")
+        private String contentPath;
+        private String authorPath;
+        private String datePath;
+        private String thumbnailPath;
+    }
 }
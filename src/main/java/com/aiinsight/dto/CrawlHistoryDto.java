@@ -22,6 +22,9 @@ public class CrawlHistoryDto {
         private Integer articlesNew;
         private Long durationMs;
         private String errorMessage;
+        private Integer attempt;
+        private LocalDateTime nextRetryAt;
+        private boolean retryScheduled;
         private LocalDateTime executedAt;
 
         public static Response from(CrawlHistory entity) {
@@ -34,6 +37,9 @@ public class CrawlHistoryDto {
                     .articlesNew(entity.getArticlesNew())
                     .durationMs(entity.getDurationMs())
                     .errorMessage(entity.getErrorMessage())
+                    .attempt(entity.getAttempt())
+                    .nextRetryAt(entity.getNextRetryAt())
+                    .retryScheduled(entity.getNextRetryAt() != null)
                     .executedAt(entity.getExecutedAt())
                     .build();
         }
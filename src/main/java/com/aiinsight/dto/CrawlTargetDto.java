@@ -1,11 +1,13 @@
 package com.aiinsight.dto;
 
+import com.aiinsight.domain.crawl.ApiRequestTemplate;
 import com.aiinsight.domain.crawl.CrawlTarget;
 import jakarta.validation.constraints.NotBlank;
 import jakarta.validation.constraints.Pattern;
 import lombok.*;
 
 import java.time.LocalDateTime;
+import java.util.List;
 
 public class CrawlTargetDto {
 
@@ -29,8 +31,13 @@ public class CrawlTargetDto {
         @NotBlank(message = "Cron 표현식은 필수입니다")
         private String cronExpression;
 
+        private CrawlTarget.ScheduleMode scheduleMode;
+
         private CrawlTarget.CrawlType crawlType;
 
+        @Pattern(regexp = "^(https?://.*)?$", message = "올바른 피드 URL 형식이 아닙니다")
+        private String feedUrl;
+
         private Boolean enabled;
     }
 
@@ -45,7 +52,10 @@ public class CrawlTargetDto {
         private String description;
         private String selectorConfig;
         private String cronExpression;
+        private CrawlTarget.ScheduleMode scheduleMode;
         private CrawlTarget.CrawlType crawlType;
+        private String feedUrl;
+        private String apiTemplate;     // 빈 문자열이면 템플릿 삭제 (Selenium으로 복귀)
         private Boolean enabled;
     }
 
@@ -61,10 +71,19 @@ public class CrawlTargetDto {
         private String description;
         private String selectorConfig;
         private String cronExpression;
+        private CrawlTarget.ScheduleMode scheduleMode;
+        private LocalDateTime nextCrawlAt;
         private Boolean enabled;
         private CrawlTarget.CrawlType crawlType;
+        private String feedUrl;
+        private String apiTemplate;
+        private Boolean staticCapable;
         private LocalDateTime lastCrawledAt;
         private CrawlTarget.CrawlStatus lastStatus;
+        private CrawlTarget.CircuitState circuitState;
+        private LocalDateTime circuitOpenUntil;
+        private Integer consecutiveFailures;
+        private Double healthScore;
         private LocalDateTime createdAt;
         private LocalDateTime updatedAt;
 
@@ -76,13 +95,57 @@ public class CrawlTargetDto {
                     .description(entity.getDescription())
                     .selectorConfig(entity.getSelectorConfig())
                     .cronExpression(entity.getCronExpression())
+                    .scheduleMode(entity.getScheduleMode())
+                    .nextCrawlAt(entity.getNextCrawlAt())
                     .enabled(entity.getEnabled())
                     .crawlType(entity.getCrawlType())
+                    .feedUrl(entity.getFeedUrl())
+                    .apiTemplate(entity.getApiTemplate())
+                    .staticCapable(entity.getStaticCapable())
                     .lastCrawledAt(entity.getLastCrawledAt())
                     .lastStatus(entity.getLastStatus())
+                    .circuitState(entity.getCircuitState())
+                    .circuitOpenUntil(entity.getCircuitOpenUntil())
+                    .consecutiveFailures(entity.getConsecutiveFailures())
+                    .healthScore(entity.getHealthScore())
                     .createdAt(entity.getCreatedAt())
                     .updatedAt(entity.getUpdatedAt())
                     .build();
         }
     }
+
+    /**
+     * API 탐색 결과
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ApiDiscoveryResponse {
+        private Boolean discovered;
+        private String message;
+        private Integer capturedCount;      // 수집된 JSON 응답 수
+        private ApiRequestTemplate template;
+        private Integer articleCount;       // 브라우저 없이 재현한 호출의 기사 수
+        private List<String> sampleTitles;
+    }
+
+    /**
+     * 스냅샷 재추출 결과
+     */
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    public static class ReExtractResponse {
+        private Boolean reExtracted;
+        private String message;
+        private LocalDateTime snapshotFetchedAt; // 사용한 스냅샷 수집 시각
+        private String snapshotSource;           // HTTP / BROWSER
+        private Integer articleCount;            // 추출된 기사 수
+        private Integer newArticles;             // 새로 저장된 기사 수
+        private List<String> sampleTitles;
+    }
 }
@@ -81,6 +81,8 @@ public class NewsArticleDto {
         private Boolean isNew;
         private Boolean isSummarized;
         private String thumbnailUrl;
+        private String description;
+        private String siteName;
         private LocalDateTime crawledAt;
         private LocalDateTime updatedAt;
 
@@ -107,6 +109,8 @@ public class NewsArticleDto {
                     .isNew(isNewArticle)
                     .isSummarized(entity.getIsSummarized())
                     .thumbnailUrl(entity.getThumbnailUrl())
+                    .description(entity.getDescription())
+                    .siteName(entity.getSiteName())
                     .crawledAt(entity.getCrawledAt())
                     .updatedAt(entity.getUpdatedAt())
                     .build();
@@ -1,18 +1,28 @@
 package com.aiinsight.scheduler;
 
+import com.aiinsight.crawler.CrawlerConfig;
+import com.aiinsight.crawler.ParallelCrawlEngine;
 import com.aiinsight.domain.crawl.CrawlTarget;
 import com.aiinsight.service.CrawlExecutionService;
+import com.aiinsight.service.CrawlFrequencyService;
 import com.aiinsight.service.CrawlTargetService;
 import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.Trigger;
 import org.springframework.scheduling.support.CronTrigger;
 import org.springframework.stereotype.Component;
 
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.ThreadLocalRandom;
 
 @Component
 @RequiredArgsConstructor
@@ -22,10 +32,19 @@ public class CrawlScheduler {
     private final TaskScheduler taskScheduler;
     private final CrawlTargetService crawlTargetService;
     private final CrawlExecutionService crawlExecutionService;
+    private final CrawlFrequencyService crawlFrequencyService;
+    private final CrawlerConfig crawlerConfig;
+    private final ParallelCrawlEngine parallelCrawlEngine;
+
+    // 재기동 시 밀린 적응형 타겟의 첫 실행 분산 구간 (초)
+    private static final long STARTUP_SPREAD_SECONDS = 300;
 
     // 등록된 스케줄 작업 관리
     private final Map<Long, ScheduledFuture<?>> scheduledTasks = new ConcurrentHashMap<>();
 
+    // 적응형 예약 체인 식별 토큰 (취소/갱신된 체인의 재예약 방지)
+    private final Map<Long, Object> adaptiveTokens = new ConcurrentHashMap<>();
+
     @PostConstruct
     public void init() {
         log.info("크롤링 스케줄러 초기화 시작");
@@ -58,25 +77,111 @@ public class CrawlScheduler {
         }
 
         try {
-            CronTrigger trigger = new CronTrigger(target.getCronExpression());
-
-            ScheduledFuture<?> future = taskScheduler.schedule(
-                    () -> executeCrawlTask(target.getId()),
-                    trigger
-            );
-
-            scheduledTasks.put(target.getId(), future);
-            log.info("스케줄 등록: {} (cron: {})", target.getName(), target.getCronExpression());
+            if (target.getScheduleMode() == CrawlTarget.ScheduleMode.ADAPTIVE) {
+                Object token = new Object();
+                adaptiveTokens.put(target.getId(), token);
+                scheduleAdaptiveRun(target.getId(), token, firstAdaptiveRun(target));
+                log.info("스케줄 등록: {} (적응형)", target.getName());
+            } else {
+                ScheduledFuture<?> future = taskScheduler.schedule(
+                        () -> submitCrawl(target.getId(), null),
+                        cronTrigger(target)
+                );
+                scheduledTasks.put(target.getId(), future);
+                log.info("스케줄 등록: {} (cron: {})", target.getName(), target.getCronExpression());
+            }
 
         } catch (IllegalArgumentException e) {
             log.error("잘못된 Cron 표현식: {} - {}", target.getName(), target.getCronExpression());
         }
     }
 
+    /**
+     * 고정 Cron 트리거 (다음 실행 시각을 타겟에 기록)
+     */
+    private Trigger cronTrigger(CrawlTarget target) {
+        CronTrigger cronTrigger = new CronTrigger(target.getCronExpression());
+        Long targetId = target.getId();
+        return context -> {
+            Instant next = cronTrigger.nextExecution(context);
+            recordNextCrawlAt(targetId, next);
+            return next;
+        };
+    }
+
+    /**
+     * 적응형 첫 실행 시각
+     * - 저장된 nextCrawlAt이 미래면 그대로, 지났으면 곧바로 (재기동 시 일정 유지)
+     */
+    private Instant firstAdaptiveRun(CrawlTarget target) {
+        Instant now = Instant.now();
+        Instant next = null;
+        try {
+            if (target.getNextCrawlAt() != null) {
+                next = toInstant(target.getNextCrawlAt());
+            } else if (target.getLastCrawledAt() != null) {
+                next = toInstant(target.getLastCrawledAt().plus(
+                        crawlFrequencyService.computeNextInterval(target.getId())));
+            }
+        } catch (Exception e) {
+            log.warn("적응형 주기 계산 실패: targetId={}, error={}", target.getId(), e.getMessage());
+        }
+        if (next == null || next.isBefore(now)) {
+            // 밀린 타겟이 한꺼번에 몰리지 않도록 분산
+            next = now.plusSeconds(ThreadLocalRandom.current().nextLong(STARTUP_SPREAD_SECONDS + 1));
+        }
+        return next;
+    }
+
+    /**
+     * 적응형 1회 실행 예약
+     * - 크롤링이 끝난 뒤(이력이 기록된 뒤) 다음 간격을 계산해 다시 예약
+     * - 스케줄 취소/갱신 시 토큰이 바뀌므로 이전 체인은 재예약하지 않음
+     */
+    private void scheduleAdaptiveRun(Long targetId, Object token, Instant at) {
+        recordNextCrawlAt(targetId, at);
+
+        ScheduledFuture<?> future = taskScheduler.schedule(() -> submitCrawl(targetId, () -> {
+            if (adaptiveTokens.get(targetId) != token) {
+                return;
+            }
+            Instant next;
+            try {
+                next = Instant.now().plus(crawlFrequencyService.computeNextInterval(targetId));
+            } catch (Exception e) {
+                log.warn("적응형 주기 계산 실패, 최소 간격 사용: targetId={}, error={}", targetId, e.getMessage());
+                next = Instant.now().plus(Duration.ofMinutes(crawlerConfig.getAdaptive().getMinIntervalMinutes()));
+            }
+            scheduleAdaptiveRun(targetId, token, next);
+        }), at);
+
+        if (adaptiveTokens.get(targetId) == token) {
+            scheduledTasks.put(targetId, future);
+        } else {
+            future.cancel(false);
+        }
+    }
+
+    private void recordNextCrawlAt(Long targetId, Instant next) {
+        if (next == null) {
+            return;
+        }
+        try {
+            crawlTargetService.updateNextCrawlAt(targetId, LocalDateTime.ofInstant(next, ZoneId.systemDefault()));
+        } catch (Exception e) {
+            log.debug("다음 크롤링 시각 기록 실패: targetId={}, error={}", targetId, e.getMessage());
+        }
+    }
+
+    private Instant toInstant(LocalDateTime dateTime) {
+        return dateTime.atZone(ZoneId.systemDefault()).toInstant();
+    }
+
     /**
      * 특정 타겟의 스케줄을 취소합니다.
      */
     public void cancelSchedule(Long targetId) {
+        adaptiveTokens.remove(targetId);
         ScheduledFuture<?> future = scheduledTasks.remove(targetId);
         if (future != null) {
             future.cancel(false);
@@ -92,6 +197,7 @@ public class CrawlScheduler {
             entry.getValue().cancel(false);
         }
         scheduledTasks.clear();
+        adaptiveTokens.clear();
         log.info("모든 스케줄 취소됨");
     }
 
@@ -112,13 +218,43 @@ public class CrawlScheduler {
         return scheduledTasks.size();
     }
 
+    /**
+     * 크롤링 작업을 병렬 크롤링 엔진에 넘깁니다.
+     * - 스케줄러 스레드는 트리거만 담당하고 실제 크롤링은 타입별 Executor에서 실행
+     * - 실행 시점에 타겟을 다시 조회해 현재 crawlType / apiTemplate / staticCapable로 Executor 선택
+     *   (등록 이후 정적 수집 전환/해제, API 템플릿 저장이 재등록 없이 반영되도록)
+     * @param onComplete 크롤링 종료 후 실행할 작업 (적응형 재예약), 없으면 null
+     */
+    private void submitCrawl(Long targetId, Runnable onComplete) {
+        CrawlTarget target;
+        try {
+            target = crawlTargetService.findEntityById(targetId);
+        } catch (EntityNotFoundException e) {
+            log.info("삭제된 타겟 스케줄 실행 생략: targetId={}", targetId);
+            return;
+        } catch (Exception e) {
+            log.error("스케줄된 크롤링 타겟 조회 실패: targetId={}, error={}", targetId, e.getMessage());
+            if (onComplete != null) {
+                onComplete.run();
+            }
+            return;
+        }
+
+        parallelCrawlEngine.submit(target, () -> executeCrawlTask(targetId))
+                .whenComplete((ignored, error) -> {
+                    if (onComplete != null) {
+                        onComplete.run();
+                    }
+                });
+    }
+
     /**
      * 크롤링 작업을 실행합니다.
      */
     private void executeCrawlTask(Long targetId) {
         try {
             log.info("스케줄된 크롤링 시작: targetId={}", targetId);
-            crawlExecutionService.executeCrawl(targetId);
+            crawlExecutionService.executeScheduledCrawl(targetId);
         } catch (Exception e) {
             log.error("스케줄된 크롤링 실패: targetId={}, error={}", targetId, e.getMessage());
         }
@@ -2,9 +2,10 @@ package com.aiinsight.scheduler;
 
 import com.aiinsight.domain.report.DailyReport;
 import com.aiinsight.service.DailyReportService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 import java.time.LocalDate;
@@ -14,17 +15,30 @@ import java.time.LocalDate;
  * - 매일 자정에 전날의 리포트 생성
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class DailyReportScheduler {
 
     private final DailyReportService dailyReportService;
+    private final ThreadPoolTaskExecutor reportExecutor;
+
+    public DailyReportScheduler(DailyReportService dailyReportService,
+                                @Qualifier("reportExecutor") ThreadPoolTaskExecutor reportExecutor) {
+        this.dailyReportService = dailyReportService;
+        this.reportExecutor = reportExecutor;
+    }
 
     /**
-     * 매일 오전 1시에 전날의 일일 리포트 생성
+     * 매일 오전 1시에 전날 리포트 생성을 리포트 전용 Executor에 넘깁니다.
      * - 자정에 크롤링이 완료되고 임베딩 생성이 어느 정도 진행된 후 실행
      */
     @Scheduled(cron = "0 0 1 * * *")  // 매일 오전 1시
+    public void triggerYesterdayReport() {
+        reportExecutor.execute(this::generateYesterdayReport);
+    }
+
+    /**
+     * 전날의 일일 리포트 생성
+     */
     public void generateYesterdayReport() {
         LocalDate yesterday = LocalDate.now().minusDays(1);
         log.info("일일 리포트 생성 스케줄러 시작: {}", yesterday);
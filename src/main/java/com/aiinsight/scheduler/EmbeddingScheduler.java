@@ -1,9 +1,10 @@
 package com.aiinsight.scheduler;
 
 import com.aiinsight.service.EmbeddingService;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
 /**
@@ -11,17 +12,30 @@ import org.springframework.stereotype.Component;
  * - 임베딩이 없는 기사에 대해 주기적으로 임베딩 생성
  */
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class EmbeddingScheduler {
 
     private final EmbeddingService embeddingService;
+    private final ThreadPoolTaskExecutor embeddingExecutor;
+
+    public EmbeddingScheduler(EmbeddingService embeddingService,
+                              @Qualifier("embeddingExecutor") ThreadPoolTaskExecutor embeddingExecutor) {
+        this.embeddingService = embeddingService;
+        this.embeddingExecutor = embeddingExecutor;
+    }
 
     /**
-     * 매 30분마다 임베딩이 없는 기사에 대해 임베딩 생성
-     * - 한 번에 최대 50개 처리
+     * 매 30분마다 임베딩 배치를 임베딩 전용 Executor에 넘깁니다.
      */
     @Scheduled(cron = "0 */30 * * * *") // 매 30분마다
+    public void triggerEmbeddingGeneration() {
+        embeddingExecutor.execute(this::generateEmbeddingsForNewArticles);
+    }
+
+    /**
+     * 임베딩이 없는 기사에 대해 임베딩 생성
+     * - 한 번에 최대 50개 처리
+     */
     public void generateEmbeddingsForNewArticles() {
         log.info("임베딩 생성 스케줄러 시작");
 
@@ -1,53 +1,48 @@
 package com.aiinsight.scheduler;
 
-import com.aiinsight.domain.article.NewsArticle;
-import com.aiinsight.service.AiSummaryService;
-import com.aiinsight.service.NewsArticleService;
-import lombok.RequiredArgsConstructor;
+import com.aiinsight.service.AiAnalysisQueueService;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
 import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
 import org.springframework.stereotype.Component;
 
-import java.util.List;
-
 @Component
-@RequiredArgsConstructor
 @Slf4j
 public class SummaryScheduler {
 
-    private final NewsArticleService newsArticleService;
-    private final AiSummaryService aiSummaryService;
+    private final AiAnalysisQueueService aiAnalysisQueueService;
+    private final ThreadPoolTaskExecutor summaryExecutor;
+
+    public SummaryScheduler(AiAnalysisQueueService aiAnalysisQueueService,
+                            @Qualifier("summaryExecutor") ThreadPoolTaskExecutor summaryExecutor) {
+        this.aiAnalysisQueueService = aiAnalysisQueueService;
+        this.summaryExecutor = summaryExecutor;
+    }
 
     /**
-     * 5분마다 요약되지 않은 기사를 처리합니다.
+     * 5분마다 요약 배치를 요약 전용 Executor에 넘깁니다.
+     * - 스케줄러 스레드는 트리거만 담당
      */
     @Scheduled(fixedDelay = 300000, initialDelay = 60000) // 5분마다, 시작 후 1분 후 첫 실행
+    public void triggerPendingSummaries() {
+        summaryExecutor.execute(this::processPendingSummaries);
+    }
+
+    /**
+     * 요약되지 않은 기사를 AI 분석 대기열(BACKLOG 레인)에 등록합니다.
+     * - 분석은 AiAnalysisQueueService 워커가 처리 (신규 수집/단건 요청보다 후순위)
+     */
     public void processPendingSummaries() {
         log.debug("요약 대기 기사 처리 시작");
 
-        List<NewsArticle> unsummarizedArticles = newsArticleService.findUnsummarizedArticles(10);
+        int queued = aiAnalysisQueueService.enqueueBacklog();
 
-        if (unsummarizedArticles.isEmpty()) {
+        if (queued == 0) {
             log.debug("요약할 기사가 없습니다");
             return;
         }
 
-        log.info("{}개 기사 요약 처리 시작", unsummarizedArticles.size());
-
-        for (NewsArticle article : unsummarizedArticles) {
-            try {
-                aiSummaryService.summarizeArticle(article);
-
-                // API 호출 간격 조절
-                Thread.sleep(1000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                break;
-            } catch (Exception e) {
-                log.error("기사 요약 실패: {} - {}", article.getId(), e.getMessage());
-            }
-        }
-
-        log.info("요약 처리 완료");
+        log.info("{}개 기사 요약 대기열 등록 완료", queued);
     }
 }
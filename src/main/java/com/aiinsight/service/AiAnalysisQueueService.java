@@ -0,0 +1,356 @@
+package com.aiinsight.service;
+
+import com.aiinsight.config.AiConfig;
+import com.aiinsight.domain.analysis.AiAnalysisJob;
+import com.aiinsight.domain.analysis.AiAnalysisJobRepository;
+import com.aiinsight.domain.article.NewsArticle;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Service;
+
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AI 분석 작업 큐 (ai_analysis_job 테이블)
+ * - 우선순위 레인: USER(단건 분석 요청) > FRESH(신규 수집) > BACKLOG(미분석 정리, 멈춘 분석 복구)
+ * - 폴러가 비어 있는 워커 수만큼 FOR UPDATE SKIP LOCKED로 가져와 aiAnalysisExecutor에서 실행 (여러 인스턴스 공존 가능)
+ * - 실행 중인 작업은 leaseSeconds의 1/3마다 임대 연장 (오래 걸리는 분석이 다른 워커에 다시 가져가지지 않도록)
+ * - 실패하면 지수 백오프로 maxAttempts까지 재시도, 임대가 만료된 작업과 PROCESSING으로 멈춘 기사는 자동 복구
+ * - 대기열 깊이는 ai.analysis.queue.depth{lane}, 임대 중 작업은 ai.analysis.queue.leased 게이지로 노출
+ */
+@Service
+@Slf4j
+public class AiAnalysisQueueService {
+
+    private static final long RECOVERY_INTERVAL_MS = 60_000;
+
+    private final AiAnalysisJobRepository aiAnalysisJobRepository;
+    private final AiSummaryService aiSummaryService;
+    private final NewsArticleService newsArticleService;
+    private final AiConfig aiConfig;
+    private final ThreadPoolTaskExecutor aiAnalysisExecutor;
+    private final MeterRegistry meterRegistry;
+
+    // 인스턴스 식별자 (임대 소유자)
+    private final String workerId = ManagementFactory.getRuntimeMXBean().getName() + "-"
+            + UUID.randomUUID().toString().substring(0, 8);
+
+    // 실행 슬롯 (비어 있는 만큼만 가져감)
+    private Semaphore slots;
+
+    // 이 인스턴스에서 실행 중인 작업 ID (임대 연장 대상, 같은 작업 중복 실행 방지)
+    private final Set<Long> running = ConcurrentHashMap.newKeySet();
+
+    // 단건 분석 API 대기자 (이 인스턴스에서 실행된 작업만 알림, 다른 인스턴스가 처리하면 타임아웃 후 현재 상태 반환)
+    private final Map<Long, CompletableFuture<Void>> waiters = new ConcurrentHashMap<>();
+
+    // 게이지 값 (스크레이프마다 DB를 조회하지 않도록 폴링 시 갱신)
+    private final Map<AiAnalysisJob.Lane, AtomicLong> readyDepth = new EnumMap<>(AiAnalysisJob.Lane.class);
+    private final AtomicLong leasedDepth = new AtomicLong();
+    private final AtomicLong delayedDepth = new AtomicLong();
+
+    private Counter completedCounter;
+    private Counter retriedCounter;
+    private Counter failedCounter;
+    private Timer analysisTimer;
+
+    private ScheduledExecutorService poller;
+    private volatile long lastRecoveryAt = 0;
+
+    public AiAnalysisQueueService(AiAnalysisJobRepository aiAnalysisJobRepository,
+                                  AiSummaryService aiSummaryService,
+                                  NewsArticleService newsArticleService,
+                                  AiConfig aiConfig,
+                                  @Qualifier("aiAnalysisExecutor") ThreadPoolTaskExecutor aiAnalysisExecutor,
+                                  MeterRegistry meterRegistry) {
+        this.aiAnalysisJobRepository = aiAnalysisJobRepository;
+        this.aiSummaryService = aiSummaryService;
+        this.newsArticleService = newsArticleService;
+        this.aiConfig = aiConfig;
+        this.aiAnalysisExecutor = aiAnalysisExecutor;
+        this.meterRegistry = meterRegistry;
+    }
+
+    @PostConstruct
+    public void init() {
+        AiConfig.AnalysisQueueConfig config = aiConfig.getQueue();
+        slots = new Semaphore(aiAnalysisExecutor.getMaxPoolSize());
+
+        for (AiAnalysisJob.Lane lane : AiAnalysisJob.Lane.values()) {
+            AtomicLong depth = new AtomicLong();
+            readyDepth.put(lane, depth);
+            Gauge.builder("ai.analysis.queue.depth", depth, AtomicLong::get)
+                    .description("가져갈 수 있는 AI 분석 대기 작업 수")
+                    .tag("lane", lane.name())
+                    .register(meterRegistry);
+        }
+        Gauge.builder("ai.analysis.queue.leased", leasedDepth, AtomicLong::get)
+                .description("임대(실행) 중인 AI 분석 작업 수 (전체 인스턴스)")
+                .register(meterRegistry);
+        Gauge.builder("ai.analysis.queue.delayed", delayedDepth, AtomicLong::get)
+                .description("재시도 대기 중인 AI 분석 작업 수")
+                .register(meterRegistry);
+        completedCounter = Counter.builder("ai.analysis.jobs").tag("result", "completed").register(meterRegistry);
+        retriedCounter = Counter.builder("ai.analysis.jobs").tag("result", "retried").register(meterRegistry);
+        failedCounter = Counter.builder("ai.analysis.jobs").tag("result", "failed").register(meterRegistry);
+        analysisTimer = Timer.builder("ai.analysis.duration").register(meterRegistry);
+
+        poller = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread thread = new Thread(r, "ai-analysis-poller");
+            thread.setDaemon(true);
+            return thread;
+        });
+        poller.scheduleWithFixedDelay(this::pollSafely, config.getPollIntervalMs(), config.getPollIntervalMs(),
+                TimeUnit.MILLISECONDS);
+        long renewIntervalMs = Math.max(1000, TimeUnit.SECONDS.toMillis(config.getLeaseSeconds()) / 3);
+        poller.scheduleWithFixedDelay(this::renewLeasesSafely, renewIntervalMs, renewIntervalMs,
+                TimeUnit.MILLISECONDS);
+
+        log.info("AI 분석 큐 시작 - 워커: {} ({}개), 임대: {}초, 최대 시도: {}회",
+                workerId, slots.availablePermits(), config.getLeaseSeconds(), config.getMaxAttempts());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 실행 중인 작업은 aiAnalysisExecutor 종료 대기, 못 끝낸 작업은 임대 만료 후 재실행
+        poller.shutdownNow();
+    }
+
+    /**
+     * 분석 작업 등록 (이미 대기 중이면 더 높은 우선순위만 반영)
+     */
+    public void enqueue(Long articleId, AiAnalysisJob.Lane lane) {
+        enqueue(List.of(articleId), lane, false);
+    }
+
+    public void enqueue(Collection<Long> articleIds, AiAnalysisJob.Lane lane, boolean forceReanalyze) {
+        if (articleIds.isEmpty()) {
+            return;
+        }
+        int changed = aiAnalysisJobRepository.enqueue(articleIds, lane, forceReanalyze);
+        log.debug("AI 분석 작업 등록: {}건 ({}, 변경 {}건)", articleIds.size(), lane, changed);
+        wakeUp();
+    }
+
+    /**
+     * 단건 분석 요청 - USER 레인으로 등록하고 완료될 때까지 대기
+     * @return 대기 시간 안에 이 인스턴스에서 분석이 끝났으면 true
+     */
+    public boolean enqueueAndWait(Long articleId, boolean forceReanalyze) {
+        CompletableFuture<Void> done = waiters.computeIfAbsent(articleId, id -> new CompletableFuture<>());
+        enqueue(List.of(articleId), AiAnalysisJob.Lane.USER, forceReanalyze);
+        try {
+            done.get(aiConfig.getQueue().getUserWaitSeconds(), TimeUnit.SECONDS);
+            return true;
+        } catch (TimeoutException e) {
+            log.info("AI 분석 대기 시간 초과 - 큐에서 계속 처리: 기사 {}", articleId);
+            return false;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } catch (Exception e) {
+            return false;
+        } finally {
+            waiters.remove(articleId, done);
+        }
+    }
+
+    /**
+     * 미분석 기사를 BACKLOG 레인에 등록 (SummaryScheduler)
+     */
+    public int enqueueBacklog() {
+        int added = aiAnalysisJobRepository.enqueueBacklog(aiConfig.getQueue().getBacklogBatchSize());
+        if (added > 0) {
+            log.info("미분석 기사 {}건을 AI 분석 대기열에 등록", added);
+            wakeUp();
+        }
+        return added;
+    }
+
+    /**
+     * 레인별 대기 작업 수 (게이지와 같은 값)
+     */
+    public Map<String, Long> getQueueDepth() {
+        Map<String, Long> depth = new LinkedHashMap<>();
+        readyDepth.forEach((lane, value) -> depth.put(lane.name(), value.get()));
+        depth.put("LEASED", leasedDepth.get());
+        depth.put("DELAYED", delayedDepth.get());
+        return depth;
+    }
+
+    private void wakeUp() {
+        try {
+            poller.execute(this::pollSafely);
+        } catch (RejectedExecutionException e) {
+            // 종료 중
+        }
+    }
+
+    private void pollSafely() {
+        try {
+            recoverIfDue();
+            poll();
+            refreshDepth();
+        } catch (Exception e) {
+            log.warn("AI 분석 큐 폴링 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 비어 있는 슬롯 수만큼 가져와 실행
+     */
+    private void poll() {
+        int free = slots.availablePermits();
+        if (free == 0) {
+            return;
+        }
+        LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(aiConfig.getQueue().getLeaseSeconds());
+        List<AiAnalysisJob> jobs = aiAnalysisJobRepository.claim(workerId, free, leaseUntil);
+        for (AiAnalysisJob job : jobs) {
+            if (!running.add(job.getId())) {
+                // 연장 전에 임대가 만료되어 다시 가져온 작업 - 이미 실행 중이므로 새 임대는 연장으로만 사용
+                log.warn("실행 중인 AI 분석 작업을 다시 가져옴 - 중복 실행 생략: 기사 {}", job.getArticleId());
+                continue;
+            }
+            slots.acquireUninterruptibly();
+            try {
+                aiAnalysisExecutor.execute(() -> run(job));
+            } catch (RejectedExecutionException e) {
+                // 종료 중 - 임대 만료 후 다시 실행됨
+                running.remove(job.getId());
+                slots.release();
+                log.warn("AI 분석 작업 실행 거부됨 (종료 중): 기사 {}", job.getArticleId());
+            }
+        }
+    }
+
+    private void run(AiAnalysisJob job) {
+        long startTime = System.nanoTime();
+        try {
+            NewsArticle article = newsArticleService.findEntityById(job.getArticleId());
+            if (article == null) {
+                aiAnalysisJobRepository.discard(job.getId(), workerId);
+                return;
+            }
+
+            log.info("AI 분석 시작 (기사 ID: {}, {}, 시도 {})", job.getArticleId(), job.getLane(), job.getAttempts());
+            boolean done = aiSummaryService.summarizeArticle(article, Boolean.TRUE.equals(job.getForceReanalyze()));
+            if (done) {
+                aiAnalysisJobRepository.complete(job.getId(), workerId);
+                completedCounter.increment();
+                log.info("AI 분석 완료 (기사 ID: {}, 소요시간: {}ms)", job.getArticleId(),
+                        TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startTime));
+            } else {
+                onFailure(job, "AI 응답을 받지 못했거나 파싱하지 못했습니다");
+            }
+        } catch (Exception e) {
+            log.error("AI 분석 실패 (기사 ID: {}): {}", job.getArticleId(), e.getMessage());
+            onFailure(job, e.getMessage());
+        } finally {
+            analysisTimer.record(System.nanoTime() - startTime, TimeUnit.NANOSECONDS);
+            CompletableFuture<Void> waiter = waiters.get(job.getArticleId());
+            if (waiter != null) {
+                waiter.complete(null);
+            }
+            running.remove(job.getId());
+            slots.release();
+            wakeUp();
+        }
+    }
+
+    /**
+     * 실행 중인 작업의 임대 연장 (폴러 스레드에서 leaseSeconds의 1/3마다)
+     */
+    private void renewLeasesSafely() {
+        if (running.isEmpty()) {
+            return;
+        }
+        try {
+            List<Long> jobIds = List.copyOf(running);
+            LocalDateTime leaseUntil = LocalDateTime.now().plusSeconds(aiConfig.getQueue().getLeaseSeconds());
+            int renewed = aiAnalysisJobRepository.renewLeases(jobIds, workerId, leaseUntil);
+            if (renewed < jobIds.size()) {
+                log.debug("AI 분석 임대 연장: {}/{}건 (나머지는 완료되었거나 다른 워커로 넘어감)", renewed, jobIds.size());
+            }
+        } catch (Exception e) {
+            log.warn("AI 분석 임대 연장 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 재시도 한도 내면 지수 백오프로 다시 예약, 초과하면 FAILED로 남기고 작업 삭제
+     */
+    private void onFailure(AiAnalysisJob job, String error) {
+        AiConfig.AnalysisQueueConfig config = aiConfig.getQueue();
+        try {
+            if (job.getAttempts() >= config.getMaxAttempts()) {
+                aiAnalysisJobRepository.discard(job.getId(), workerId);
+                newsArticleService.updateAnalysisStatus(job.getArticleId(), NewsArticle.AnalysisStatus.FAILED);
+                failedCounter.increment();
+                log.warn("AI 분석 재시도 한도 초과 (기사 ID: {}, {}회): {}", job.getArticleId(), job.getAttempts(), error);
+                return;
+            }
+            long delaySeconds = (long) config.getRetryBaseDelaySeconds() << Math.min(job.getAttempts() - 1, 10);
+            aiAnalysisJobRepository.retryLater(job.getId(), workerId,
+                    LocalDateTime.now().plusSeconds(delaySeconds), error);
+            retriedCounter.increment();
+            log.info("AI 분석 재시도 예약 (기사 ID: {}, {}초 후)", job.getArticleId(), delaySeconds);
+        } catch (Exception e) {
+            // 반영 실패 시에도 임대 만료 후 다시 실행됨
+            log.warn("AI 분석 실패 처리 중 오류 (기사 ID: {}): {}", job.getArticleId(), e.getMessage());
+        }
+    }
+
+    /**
+     * PROCESSING 상태로 멈춘 기사 복구 (분당 1회)
+     */
+    private void recoverIfDue() {
+        long now = System.currentTimeMillis();
+        if (now - lastRecoveryAt < RECOVERY_INTERVAL_MS) {
+            return;
+        }
+        lastRecoveryAt = now;
+        Duration stuckFor = Duration.ofMinutes(Math.max(aiConfig.getQueue().getStuckRecoveryMinutes(),
+                TimeUnit.SECONDS.toMinutes(aiConfig.getQueue().getLeaseSeconds()) + 1));
+        int recovered = aiAnalysisJobRepository.recoverStuckArticles(LocalDateTime.now().minus(stuckFor));
+        if (recovered > 0) {
+            log.warn("PROCESSING 상태로 멈춘 기사 {}건을 다시 대기열에 등록", recovered);
+        }
+    }
+
+    private void refreshDepth() {
+        LocalDateTime now = LocalDateTime.now();
+        Map<AiAnalysisJob.Lane, Long> counts = new EnumMap<>(AiAnalysisJob.Lane.class);
+        for (Object[] row : aiAnalysisJobRepository.countReadyByLane(now)) {
+            counts.put((AiAnalysisJob.Lane) row[0], (Long) row[1]);
+        }
+        readyDepth.forEach((lane, depth) -> depth.set(counts.getOrDefault(lane, 0L)));
+        leasedDepth.set(aiAnalysisJobRepository.countLeased(now));
+        delayedDepth.set(aiAnalysisJobRepository.countDelayed(now));
+    }
+}
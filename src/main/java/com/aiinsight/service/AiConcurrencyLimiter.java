@@ -0,0 +1,325 @@
+package com.aiinsight.service;
+
+import com.aiinsight.config.AiConfig;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.stereotype.Service;
+import org.springframework.web.client.HttpStatusCodeException;
+import org.springframework.web.client.ResourceAccessException;
+import org.springframework.web.reactive.function.client.WebClientRequestException;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Supplier;
+
+/**
+ * 외부 LLM/임베딩 호출 동시성 제한 (공급자별 적응형 한도, 고정 sleep 대체)
+ * - AIMD: 정상 응답마다 한도를 1/limit씩 늘리고(한도만큼 성공하면 +1), 429/5xx/타임아웃이면 backoffRatio를 곱해 줄임
+ * - 지연 기반(Vegas 방식, latencyBased 공급자만): 응답 시간이 최근 최소 응답 시간 * latencyTolerance를 넘으면
+ *   공급자 쪽 대기열로 보고 줄임 - 응답 시간이 출력 길이에 좌우되는 LLM은 제외하고 임베딩에만 적용
+ * - 한도가 다 차면 도착 순서대로 대기 (acquire는 스레드 대기, acquireAsync는 스레드를 막지 않고 슬롯이 나면 완료)
+ * - 현재 한도와 실행 중 호출 수는 ai.limiter.limit / ai.limiter.inflight{provider} 게이지로 노출
+ */
+@Service
+@Slf4j
+public class AiConcurrencyLimiter {
+
+    /**
+     * 호출 대상 공급자 (공급자별로 한도를 따로 관리)
+     */
+    public enum Provider {
+        CLAUDE_CLI("claude-cli"),
+        CLAUDE_API("claude"),
+        OPENAI("openai"),
+        LOCAL_EMBEDDING("embedding-local");
+
+        private final String tag;
+
+        Provider(String tag) {
+            this.tag = tag;
+        }
+
+        public String getTag() {
+            return tag;
+        }
+    }
+
+    private final AiConfig aiConfig;
+    private final Map<Provider, Limit> limits = new EnumMap<>(Provider.class);
+
+    public AiConcurrencyLimiter(AiConfig aiConfig, MeterRegistry meterRegistry) {
+        this.aiConfig = aiConfig;
+        AiConfig.ConcurrencyLimitConfig config = aiConfig.getLimiter();
+        register(meterRegistry, Provider.CLAUDE_CLI, config.getClaudeCli());
+        register(meterRegistry, Provider.CLAUDE_API, config.getClaude());
+        register(meterRegistry, Provider.OPENAI, config.getOpenai());
+        register(meterRegistry, Provider.LOCAL_EMBEDDING, config.getEmbedding());
+    }
+
+    private void register(MeterRegistry meterRegistry, Provider provider, AiConfig.ProviderLimit bounds) {
+        Limit limit = new Limit(provider, bounds,
+                Counter.builder("ai.limiter.dropped").tag("provider", provider.getTag()).register(meterRegistry));
+        limits.put(provider, limit);
+        Gauge.builder("ai.limiter.limit", limit, Limit::currentLimit)
+                .description("공급자별 현재 동시 호출 한도")
+                .tag("provider", provider.getTag())
+                .register(meterRegistry);
+        Gauge.builder("ai.limiter.inflight", limit, Limit::currentInflight)
+                .description("공급자별 실행 중인 호출 수")
+                .tag("provider", provider.getTag())
+                .register(meterRegistry);
+    }
+
+    /**
+     * 호출 슬롯 획득 (한도가 차 있으면 대기), 호출이 끝나면 결과를 기록하고 close()로 반환
+     */
+    public Permit acquire(Provider provider) throws InterruptedException {
+        CompletableFuture<Permit> pending = acquireAsync(provider);
+        try {
+            return pending.get();
+        } catch (InterruptedException e) {
+            // 대기 취소, 취소 직전에 슬롯을 받았으면 반환
+            if (!pending.cancel(false)) {
+                pending.join().close();
+            }
+            throw e;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * 스레드를 막지 않고 호출 슬롯 획득 (WebClient 호출용, 슬롯이 나면 완료)
+     * - 완료 전에 취소하면 대기열에서 빠짐
+     */
+    public CompletableFuture<Permit> acquireAsync(Provider provider) {
+        return limits.get(provider).acquireAsync();
+    }
+
+    /**
+     * 공급자별 최대 동시 호출 한도 (배치 fan-out 크기 산정용)
+     */
+    public int maxLimit(Provider provider) {
+        return limits.get(provider).maxLimit;
+    }
+
+    /**
+     * HTTP 호출을 슬롯 안에서 실행하고 결과를 기록 (과부하 오류면 한도 감소 후 예외 그대로 전달)
+     */
+    public <T> T execute(Provider provider, Supplier<T> call) throws InterruptedException {
+        try (Permit permit = acquire(provider)) {
+            try {
+                T result = call.get();
+                permit.success();
+                return result;
+            } catch (RuntimeException e) {
+                if (isOverload(e)) {
+                    permit.dropped();
+                }
+                throw e;
+            }
+        }
+    }
+
+    /**
+     * 공급자 과부하로 볼 수 있는 오류인지 (429, 5xx, 연결/읽기 타임아웃)
+     */
+    public static boolean isOverload(Throwable e) {
+        HttpStatusCode status = null;
+        if (e instanceof HttpStatusCodeException statusError) {
+            status = statusError.getStatusCode();
+        } else if (e instanceof WebClientResponseException responseError) {
+            status = responseError.getStatusCode();
+        }
+        if (status != null) {
+            return status.value() == 429 || status.is5xxServerError();
+        }
+        return e instanceof OverloadException
+                || e instanceof ResourceAccessException
+                || e instanceof WebClientRequestException
+                || e instanceof TimeoutException;
+    }
+
+    /**
+     * 응답 본문/스트림으로 전달된 과부하 오류 (예: SSE error 이벤트의 overloaded_error)
+     */
+    public static class OverloadException extends RuntimeException {
+
+        public OverloadException(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * Claude CLI 오류 출력이 사용량 제한/과부하 때문인지
+     */
+    public static boolean isCliOverload(String output) {
+        String lower = output != null ? output.toLowerCase() : "";
+        return lower.contains("rate limit") || lower.contains("usage limit") || lower.contains("overloaded")
+                || lower.contains("429");
+    }
+
+    /**
+     * 획득한 호출 슬롯 (try-with-resources로 반환)
+     * - success(): 정상 응답 - 응답 시간을 한도 조절에 반영
+     * - dropped(): 429/5xx/타임아웃 - 한도 감소
+     * - 결과를 기록하지 않고 close()하면 한도는 그대로 두고 슬롯만 반환 (요청 자체의 오류 등)
+     */
+    public interface Permit extends AutoCloseable {
+        void success();
+
+        void dropped();
+
+        @Override
+        void close();
+    }
+
+    private final class Limit {
+
+        private final Provider provider;
+        private final int minLimit;
+        private final int maxLimit;
+        private final boolean latencyBased;
+        private final Counter droppedCounter;
+
+        private double limit;
+        private int inflight;
+        private long minRttNanos = Long.MAX_VALUE;
+        private int rttSamples;
+        private final Deque<CompletableFuture<Permit>> waiters = new ArrayDeque<>();
+
+        private Limit(Provider provider, AiConfig.ProviderLimit bounds, Counter droppedCounter) {
+            this.provider = provider;
+            this.minLimit = Math.max(1, bounds.getMinLimit());
+            this.maxLimit = Math.max(minLimit, bounds.getMaxLimit());
+            this.limit = Math.min(maxLimit, Math.max(minLimit, bounds.getInitialLimit()));
+            this.latencyBased = bounds.isLatencyBased();
+            this.droppedCounter = droppedCounter;
+        }
+
+        CompletableFuture<Permit> acquireAsync() {
+            synchronized (this) {
+                if (inflight < (int) limit && waiters.isEmpty()) {
+                    inflight++;
+                    return CompletableFuture.completedFuture(new LimitPermit(this, inflight));
+                }
+                CompletableFuture<Permit> pending = new CompletableFuture<>();
+                waiters.addLast(pending);
+                return pending;
+            }
+        }
+
+        void release(long rttNanos, boolean dropped, boolean measured, int inflightAtStart) {
+            List<CompletableFuture<Permit>> granted = new ArrayList<>();
+            List<LimitPermit> permits = new ArrayList<>();
+            synchronized (this) {
+                inflight--;
+                adjust(rttNanos, dropped, measured, inflightAtStart);
+                // 늘어난/비어 있는 슬롯만큼 대기 순서대로 허가
+                while (inflight < (int) limit && !waiters.isEmpty()) {
+                    CompletableFuture<Permit> next = waiters.pollFirst();
+                    if (next.isDone()) {
+                        continue;
+                    }
+                    inflight++;
+                    granted.add(next);
+                    permits.add(new LimitPermit(this, inflight));
+                }
+            }
+            // 대기자 후속 작업이 잠금 밖에서 실행되도록 완료는 동기화 블록 밖에서
+            for (int i = 0; i < granted.size(); i++) {
+                if (!granted.get(i).complete(permits.get(i))) {
+                    permits.get(i).close(); // 그 사이 취소됨
+                }
+            }
+        }
+
+        private void adjust(long rttNanos, boolean dropped, boolean measured, int inflightAtStart) {
+            if (measured) {
+                AiConfig.ConcurrencyLimitConfig config = aiConfig.getLimiter();
+                double before = limit;
+                if (dropped) {
+                    droppedCounter.increment();
+                    decrease(config);
+                } else {
+                    // 최소 응답 시간은 rttWindow마다 새로 측정 (공급자 상태 변화 반영)
+                    if (++rttSamples >= config.getRttWindow()) {
+                        rttSamples = 0;
+                        minRttNanos = rttNanos;
+                    } else {
+                        minRttNanos = Math.min(minRttNanos, rttNanos);
+                    }
+                    if (latencyBased && rttNanos > minRttNanos * config.getLatencyTolerance()) {
+                        decrease(config);
+                    } else if (inflightAtStart * 2 >= limit) {
+                        // 한도를 절반 이상 쓰고 있을 때만 증가 (호출이 적어 생긴 여유로 한도가 부풀지 않도록)
+                        limit = Math.min(maxLimit, limit + 1.0 / limit);
+                    }
+                }
+                if ((int) before != (int) limit) {
+                    log.info("AI 호출 한도 변경: {} {} -> {} ({})", provider.getTag(), (int) before, (int) limit,
+                            dropped ? "과부하 응답" : "응답 시간 " + rttNanos / 1_000_000 + "ms");
+                }
+            }
+        }
+
+        private void decrease(AiConfig.ConcurrencyLimitConfig config) {
+            limit = Math.max(minLimit, limit * config.getBackoffRatio());
+        }
+
+        synchronized double currentLimit() {
+            return (int) limit;
+        }
+
+        synchronized double currentInflight() {
+            return inflight;
+        }
+    }
+
+    private static final class LimitPermit implements Permit {
+
+        private final Limit limit;
+        private final int inflightAtStart;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private LimitPermit(Limit limit, int inflightAtStart) {
+            this.limit = limit;
+            this.inflightAtStart = inflightAtStart;
+        }
+
+        @Override
+        public void success() {
+            release(false, true);
+        }
+
+        @Override
+        public void dropped() {
+            release(true, true);
+        }
+
+        @Override
+        public void close() {
+            release(false, false);
+        }
+
+        private void release(boolean dropped, boolean measured) {
+            if (!released.compareAndSet(false, true)) {
+                return;
+            }
+            limit.release(System.nanoTime() - startNanos, dropped, measured, inflightAtStart);
+        }
+    }
+}
@@ -0,0 +1,241 @@
+package com.aiinsight.service;
+
+import com.aiinsight.config.AiConfig;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.ParameterizedTypeReference;
+import org.springframework.http.MediaType;
+import org.springframework.http.codec.ServerSentEvent;
+import org.springframework.stereotype.Service;
+import org.springframework.web.reactive.function.client.WebClient;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.publisher.Mono;
+import reactor.util.retry.Retry;
+
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * LLM/임베딩 API 비동기 클라이언트 (WebClient, Reactor Netty 공용 커넥션 풀)
+ * - 호출 전 AiConcurrencyLimiter 슬롯을 스레드를 막지 않고 획득하고, 응답/오류로 한도를 조절
+ * - 호출 1회 제한 시간(callTimeoutSeconds), 429/5xx/연결 실패는 Retry-After(없으면 지수 백오프 + 지터)만큼 기다려 재시도
+ * - Claude/OpenAI 채팅 응답은 SSE 스트리밍으로 받아 텍스트 조각을 이어 붙임 (긴 응답도 응답 타임아웃에 걸리지 않음)
+ */
+@Service
+@Slf4j
+public class AiProviderClient {
+
+    private static final ParameterizedTypeReference<ServerSentEvent<String>> SSE_TYPE =
+            new ParameterizedTypeReference<>() {};
+
+    private final WebClient claudeWebClient;
+    private final WebClient openAiWebClient;
+    private final WebClient embeddingWebClient;
+    private final AiConfig aiConfig;
+    private final AiConcurrencyLimiter aiConcurrencyLimiter;
+    private final ObjectMapper objectMapper;
+
+    public AiProviderClient(@Qualifier("claudeWebClient") WebClient claudeWebClient,
+                            @Qualifier("openAiWebClient") WebClient openAiWebClient,
+                            @Qualifier("embeddingWebClient") WebClient embeddingWebClient,
+                            AiConfig aiConfig,
+                            AiConcurrencyLimiter aiConcurrencyLimiter,
+                            ObjectMapper objectMapper) {
+        this.claudeWebClient = claudeWebClient;
+        this.openAiWebClient = openAiWebClient;
+        this.embeddingWebClient = embeddingWebClient;
+        this.aiConfig = aiConfig;
+        this.aiConcurrencyLimiter = aiConcurrencyLimiter;
+        this.objectMapper = objectMapper;
+    }
+
+    /**
+     * Claude Messages API (스트리밍)
+     * @return 응답 텍스트 전체
+     */
+    public Mono<String> claudeMessages(String prompt, int maxTokens) {
+        Map<String, Object> requestBody = Map.of(
+                "model", aiConfig.getClaude().getModel(),
+                "max_tokens", maxTokens,
+                "stream", true,
+                "messages", List.of(
+                        Map.of("role", "user", "content", prompt)
+                )
+        );
+        return call(AiConcurrencyLimiter.Provider.CLAUDE_API, () -> claudeWebClient.post()
+                .uri("/messages")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .takeUntil(event -> "message_stop".equals(event.event()))
+                .mapNotNull(this::claudeDelta)
+                .collect(Collectors.joining()));
+    }
+
+    /**
+     * OpenAI Chat Completions API (스트리밍)
+     * @return 응답 텍스트 전체
+     */
+    public Mono<String> openAiChat(String prompt, int maxTokens) {
+        Map<String, Object> requestBody = Map.of(
+                "model", aiConfig.getOpenai().getModel(),
+                "messages", List.of(
+                        Map.of("role", "user", "content", prompt)
+                ),
+                "temperature", 0.3,
+                "max_tokens", maxTokens,
+                "stream", true
+        );
+        return call(AiConcurrencyLimiter.Provider.OPENAI, () -> openAiWebClient.post()
+                .uri("/chat/completions")
+                .accept(MediaType.TEXT_EVENT_STREAM)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToFlux(SSE_TYPE)
+                .takeWhile(event -> !"[DONE]".equals(event.data()))
+                .mapNotNull(this::openAiDelta)
+                .collect(Collectors.joining()));
+    }
+
+    /**
+     * 임베딩 API 호출 (OpenAI 호환 형식, 응답 JSON 그대로 반환)
+     * @param provider OPENAI 또는 LOCAL_EMBEDDING
+     * @param url 요청 URL (절대 경로)
+     */
+    public Mono<JsonNode> embeddings(AiConcurrencyLimiter.Provider provider, String url, Map<String, Object> requestBody) {
+        WebClient client = provider == AiConcurrencyLimiter.Provider.OPENAI ? openAiWebClient : embeddingWebClient;
+        return call(provider, () -> client.post()
+                .uri(url)
+                .bodyValue(requestBody)
+                .retrieve()
+                .bodyToMono(JsonNode.class));
+    }
+
+    /**
+     * 슬롯 획득 → 요청(제한 시간) → 결과 기록, 실패 시 재시도 가능한 오류면 대기 후 다시 슬롯부터
+     * - 재시도 대기 중에는 슬롯을 점유하지 않음
+     */
+    private <T> Mono<T> call(AiConcurrencyLimiter.Provider provider, Supplier<Mono<T>> request) {
+        Duration callTimeout = Duration.ofSeconds(aiConfig.getHttp().getCallTimeoutSeconds());
+        Mono<T> attempt = Mono.usingWhen(
+                Mono.fromFuture(() -> aiConcurrencyLimiter.acquireAsync(provider)),
+                permit -> request.get()
+                        .timeout(callTimeout)
+                        .doOnSuccess(result -> permit.success())
+                        .doOnError(e -> {
+                            if (AiConcurrencyLimiter.isOverload(e)) {
+                                permit.dropped();
+                            }
+                        }),
+                permit -> Mono.fromRunnable(permit::close));
+        return attempt.retryWhen(Retry.from(signals -> signals.concatMap(signal ->
+                retryDelay(provider, signal.failure(), signal.totalRetries()))));
+    }
+
+    private Mono<Long> retryDelay(AiConcurrencyLimiter.Provider provider, Throwable failure, long retries) {
+        AiConfig.ProviderHttpConfig config = aiConfig.getHttp();
+        // 호출 제한 시간 초과는 재시도하지 않음 (같은 요청이 다시 오래 걸릴 가능성이 큼)
+        if (!AiConcurrencyLimiter.isOverload(failure) || failure instanceof TimeoutException
+                || retries >= config.getMaxRetries()) {
+            return Mono.error(failure);
+        }
+
+        Duration delay = retryAfter(failure).orElseGet(() -> {
+            long backoff = config.getRetryBaseDelayMs() << Math.min(retries, 10);
+            long capped = Math.min(backoff, config.getMaxRetryDelaySeconds() * 1000L);
+            return Duration.ofMillis(capped / 2 + ThreadLocalRandom.current().nextLong(capped / 2 + 1));
+        });
+        if (delay.toSeconds() > config.getMaxRetryDelaySeconds()) {
+            log.warn("{} 호출 재시도 포기 - Retry-After {}초가 최대 대기 시간 초과", provider.getTag(), delay.toSeconds());
+            return Mono.error(failure);
+        }
+
+        log.info("{} 호출 재시도 {}/{} ({}ms 후): {}", provider.getTag(), retries + 1, config.getMaxRetries(),
+                delay.toMillis(), failure.getMessage());
+        return Mono.delay(delay);
+    }
+
+    /**
+     * Retry-After 헤더 (retry-after-ms, 초 단위 또는 HTTP 날짜)
+     */
+    static Optional<Duration> retryAfter(Throwable failure) {
+        if (!(failure instanceof WebClientResponseException responseError)) {
+            return Optional.empty();
+        }
+        try {
+            String millis = responseError.getHeaders().getFirst("retry-after-ms");
+            if (millis != null) {
+                return Optional.of(Duration.ofMillis((long) Double.parseDouble(millis.trim())));
+            }
+            String value = responseError.getHeaders().getFirst("Retry-After");
+            if (value == null || value.isBlank()) {
+                return Optional.empty();
+            }
+            value = value.trim();
+            if (value.chars().allMatch(Character::isDigit)) {
+                return Optional.of(Duration.ofSeconds(Long.parseLong(value)));
+            }
+            Duration until = Duration.between(ZonedDateTime.now(),
+                    ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME));
+            return Optional.of(until.isNegative() ? Duration.ZERO : until);
+        } catch (NumberFormatException | DateTimeParseException e) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Claude 스트림 이벤트에서 텍스트 조각 추출 (error 이벤트는 예외로 변환)
+     */
+    private String claudeDelta(ServerSentEvent<String> event) {
+        if ("error".equals(event.event())) {
+            JsonNode error = readTree(event.data()).path("error");
+            String type = error.path("type").asText();
+            String message = type + ": " + error.path("message").asText();
+            if ("overloaded_error".equals(type) || "rate_limit_error".equals(type) || "api_error".equals(type)) {
+                throw new AiConcurrencyLimiter.OverloadException(message);
+            }
+            throw new IllegalStateException("Claude API 스트림 오류 - " + message);
+        }
+        if (!"content_block_delta".equals(event.event())) {
+            return null;
+        }
+        String text = readTree(event.data()).path("delta").path("text").asText("");
+        return text.isEmpty() ? null : text;
+    }
+
+    /**
+     * OpenAI 스트림 청크에서 텍스트 조각 추출
+     */
+    private String openAiDelta(ServerSentEvent<String> event) {
+        if (event.data() == null || event.data().isBlank()) {
+            return null;
+        }
+        JsonNode chunk = readTree(event.data());
+        if (chunk.has("error")) {
+            throw new IllegalStateException("OpenAI API 스트림 오류 - " + chunk.path("error").path("message").asText());
+        }
+        String text = chunk.path("choices").path(0).path("delta").path("content").asText("");
+        return text.isEmpty() ? null : text;
+    }
+
+    private JsonNode readTree(String json) {
+        try {
+            return objectMapper.readTree(json != null ? json : "{}");
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("스트림 이벤트 파싱 실패: " + e.getOriginalMessage());
+        }
+    }
+}
@@ -6,21 +6,13 @@ import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
-import org.springframework.scheduling.annotation.Async;
-
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
@@ -34,7 +26,12 @@ public class AiSummaryService {
     private final EmbeddingService embeddingService;
     private final ObjectMapper objectMapper;
     private final com.aiinsight.crawler.SeleniumCrawler seleniumCrawler;
-    private final RestTemplate restTemplate = new RestTemplate();
+    private final com.aiinsight.crawler.HttpFetcher httpFetcher;
+    private final com.aiinsight.crawler.WebDriverPool webDriverPool;
+    private final com.aiinsight.crawler.HtmlSnapshotStore htmlSnapshotStore;
+    private final com.aiinsight.crawler.ArticleMetadataExtractor articleMetadataExtractor;
+    private final AiProviderClient aiProviderClient;
+    private final ClaudeCliGateway claudeCliGateway;
 
     private static final String SUMMARY_PROMPT = """
         다음 AI 관련 뉴스 기사를 분석해주세요.
@@ -112,50 +109,20 @@ public class AiSummaryService {
         - 반드시 JSON 형식으로만 응답 (설명 텍스트 금지)
         """;
 
-    public void summarizeArticle(NewsArticle article) {
-        summarizeArticle(article, false);
-    }
-
-    /**
-     * 비동기로 기사 요약 실행 (크롤링 응답을 블로킹하지 않음)
-     * - 타임아웃: 최대 3분 (Claude CLI timeout + 여유시간)
-     * - 스레드 누수 방지를 위한 타임아웃 적용
-     * @param articleId 분석할 기사 ID
-     */
-    @Async("aiAnalysisExecutor")
-    public void summarizeArticleAsync(Long articleId) {
-        long startTime = System.currentTimeMillis();
-        try {
-            NewsArticle article = newsArticleService.findEntityById(articleId);
-            if (article != null) {
-                // 타임아웃 체크를 위한 Thread interruption 처리
-                if (Thread.interrupted()) {
-                    log.warn("AI 분석 작업이 인터럽트됨 (기사 ID: {})", articleId);
-                    Thread.currentThread().interrupt();
-                    return;
-                }
-
-                summarizeArticle(article, false);
-
-                long duration = System.currentTimeMillis() - startTime;
-                log.info("AI 분석 완료 (기사 ID: {}, 소요시간: {}ms)", articleId, duration);
-            }
-        } catch (Exception e) {
-            long duration = System.currentTimeMillis() - startTime;
-            log.error("비동기 AI 분석 실패 (기사 ID: {}, 소요시간: {}ms): {}",
-                    articleId, duration, e.getMessage());
-        }
+    public boolean summarizeArticle(NewsArticle article) {
+        return summarizeArticle(article, false);
     }
 
     /**
      * 기사 요약 (강제 재분석 옵션 포함)
      * @param article 분석할 기사
      * @param forceReanalyze true인 경우 이미 분석된 기사도 재분석
+     * @return 처리가 끝났으면 true (분석 불가로 FAILED 처리한 경우 포함), AI 호출/응답 파싱 실패로 재시도할 만하면 false
      */
-    public void summarizeArticle(NewsArticle article, boolean forceReanalyze) {
+    public boolean summarizeArticle(NewsArticle article, boolean forceReanalyze) {
         if (!forceReanalyze && article.getIsSummarized()) {
             log.debug("이미 요약된 기사: {}", article.getId());
-            return;
+            return true;
         }
 
         // 상태: 분석 중
@@ -172,11 +139,16 @@ public class AiSummaryService {
         // 이미지/미디어 URL인 경우 분석 건너뛰기
         if (isMediaUrl(url)) {
             log.warn("미디어 파일 URL 분석 건너뜀 (기사 ID: {}): {}", article.getId(), url);
-            return;
+            newsArticleService.updateAnalysisStatus(article.getId(), NewsArticle.AnalysisStatus.FAILED);
+            return true;
         }
 
-        // 제목이 없거나 일반적인 제목인 경우, 또는 강제 재분석 모드인 경우 URL에서 정보 추출 시도
-        boolean needMetadataFetch = forceReanalyze || (title == null || title.isEmpty() || isGenericTitle(title));
+        // 크롤링 단계에서 상세 페이지 메타데이터를 수집한 기사는 저장된 제목/본문 사용 (원문 재요청 없음)
+        // 그 외에는 제목이 없거나 일반적인 제목인 경우 URL에서 정보 추출 시도
+        // 강제 재분석 모드는 수집 여부와 무관하게 다시 추출 (HTML 스냅샷이 있으면 원문 재요청 없음)
+        boolean capturedAtCrawl = article.getMetadataCapturedAt() != null;
+        boolean needMetadataFetch = forceReanalyze || (!capturedAtCrawl
+                && (title == null || title.isEmpty() || articleMetadataExtractor.isGenericTitle(title)));
         String[] metadata = null;
 
         if (needMetadataFetch && url != null && !url.isEmpty()) {
@@ -207,14 +179,17 @@ public class AiSummaryService {
                 log.info("URL 경로에서 제목 추출: {} -> {}", url, title);
             } else {
                 log.warn("분석할 내용이 없는 기사: {}", article.getId());
-                return;
+                newsArticleService.updateAnalysisStatus(article.getId(), NewsArticle.AnalysisStatus.FAILED);
+                return true;
             }
         }
 
-        // 본문이 없는 경우 메타데이터 재사용 또는 제목 사용
+        // 본문이 없는 경우 메타데이터 재사용, og:description 또는 제목 사용
         if (content == null || content.isEmpty()) {
             if (metadata != null && metadata[1] != null && !metadata[1].isEmpty()) {
                 content = metadata[1];
+            } else if (article.getDescription() != null && !article.getDescription().isBlank()) {
+                content = article.getDescription();
             } else {
                 content = title; // 본문이 없으면 제목 사용
             }
@@ -266,9 +241,11 @@ public class AiSummaryService {
             // 완료/실패 상태
             newsArticleService.updateAnalysisStatus(article.getId(),
                     parsed ? NewsArticle.AnalysisStatus.COMPLETED : NewsArticle.AnalysisStatus.FAILED);
+            return parsed;
         } catch (Exception e) {
             log.error("AI 요약 실패: {} - {}", article.getId(), e.getMessage());
             newsArticleService.updateAnalysisStatus(article.getId(), NewsArticle.AnalysisStatus.FAILED);
+            return false;
         }
     }
 
@@ -276,65 +253,17 @@ public class AiSummaryService {
      * Claude CLI를 headless 모드로 실행하여 프롬프트 처리
      */
     private String callClaudeCli(String prompt) {
-        try {
-            String command = aiConfig.getClaudeCli().getCommand();
-            int timeout = aiConfig.getClaudeCli().getTimeout();
-
-            log.info("Claude CLI 실행 시작 (timeout: {}초)", timeout);
-
-            // Claude CLI 명령어 구성 - stdin으로 프롬프트 전달
-            ProcessBuilder processBuilder = new ProcessBuilder(
-                command,
-                "--print",  // 결과만 출력 (대화형 모드 비활성화)
-                "--output-format", "text"  // 텍스트 형식으로 출력
-            );
-
-            // UTF-8 인코딩 환경 설정
-            processBuilder.environment().put("LANG", "ko_KR.UTF-8");
-            processBuilder.environment().put("LC_ALL", "ko_KR.UTF-8");
-            processBuilder.redirectErrorStream(true);
-
-            Process process = processBuilder.start();
-
-            // 프롬프트를 stdin으로 전달
-            try (OutputStreamWriter writer = new OutputStreamWriter(
-                    process.getOutputStream(), StandardCharsets.UTF_8)) {
-                writer.write(prompt);
-                writer.flush();
-            }
-
-            // 응답 읽기
-            StringBuilder response = new StringBuilder();
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-                String line;
-                while ((line = reader.readLine()) != null) {
-                    response.append(line).append("\n");
-                }
-            }
-
-            // 프로세스 종료 대기
-            boolean finished = process.waitFor(timeout, TimeUnit.SECONDS);
-            if (!finished) {
-                process.destroyForcibly();
-                log.error("Claude CLI 타임아웃 ({}초 초과)", timeout);
-                return null;
-            }
-
-            int exitCode = process.exitValue();
-            if (exitCode != 0) {
-                log.error("Claude CLI 오류 (exit code: {}): {}", exitCode, response);
-                return null;
-            }
-
-            log.info("Claude CLI 응답 수신 완료");
-            log.debug("Claude CLI 응답 내용: {}", response);
-            return response.toString().trim();
-
-        } catch (Exception e) {
-            log.error("Claude CLI 실행 실패: {}", e.getMessage(), e);
+        ClaudeCliGateway.Result result = claudeCliGateway.run(prompt,
+                Duration.ofSeconds(aiConfig.getClaudeCli().getTimeout()));
+        if (!result.isSuccess()) {
+            log.error("Claude CLI 실패 ({}, exit code: {}, {}ms): {}",
+                    result.outcome(), result.exitCode(), result.durationMs(), result.errorDetail());
             return null;
         }
+
+        log.info("Claude CLI 응답 수신 완료 ({}ms)", result.durationMs());
+        log.debug("Claude CLI 응답 내용: {}", result.output());
+        return result.output().trim();
     }
 
     private String callOpenAiApi(String prompt) {
@@ -343,27 +272,8 @@ public class AiSummaryService {
             return null;
         }
 
-        String url = aiConfig.getOpenai().getBaseUrl() + "/chat/completions";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.setBearerAuth(aiConfig.getOpenai().getApiKey());
-
-        Map<String, Object> requestBody = Map.of(
-                "model", aiConfig.getOpenai().getModel(),
-                "messages", List.of(
-                        Map.of("role", "user", "content", prompt)
-                ),
-                "temperature", 0.3,
-                "max_tokens", 500
-        );
-
         try {
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(response.getBody());
-            return root.path("choices").path(0).path("message").path("content").asText();
+            return aiProviderClient.openAiChat(prompt, 500).block();
         } catch (Exception e) {
             log.error("OpenAI API 호출 실패: {}", e.getMessage());
             return null;
@@ -376,27 +286,8 @@ public class AiSummaryService {
             return null;
         }
 
-        String url = aiConfig.getClaude().getBaseUrl() + "/messages";
-
-        HttpHeaders headers = new HttpHeaders();
-        headers.setContentType(MediaType.APPLICATION_JSON);
-        headers.set("x-api-key", aiConfig.getClaude().getApiKey());
-        headers.set("anthropic-version", "2023-06-01");
-
-        Map<String, Object> requestBody = Map.of(
-                "model", aiConfig.getClaude().getModel(),
-                "max_tokens", 500,
-                "messages", List.of(
-                        Map.of("role", "user", "content", prompt)
-                )
-        );
-
         try {
-            HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-            ResponseEntity<String> response = restTemplate.exchange(url, HttpMethod.POST, entity, String.class);
-
-            JsonNode root = objectMapper.readTree(response.getBody());
-            return root.path("content").path(0).path("text").asText();
+            return aiProviderClient.claudeMessages(prompt, 500).block();
         } catch (Exception e) {
             log.error("Claude API 호출 실패: {}", e.getMessage());
             return null;
@@ -490,6 +381,17 @@ public class AiSummaryService {
     private String[] fetchMetadataFromUrl(String urlStr) {
         String[] result = new String[2]; // [0]: title, [1]: content
 
+        // 0단계: 크롤링 때 저장된 HTML 스냅샷 (네트워크 요청 없음)
+        java.util.Optional<org.jsoup.nodes.Document> snapshot = htmlSnapshotStore.findDocument(urlStr);
+        if (snapshot.isPresent()) {
+            result = extractMetadata(snapshot.get(), urlStr);
+            if (!isJsoupFailed(result)) {
+                log.info("HTML 스냅샷에서 메타데이터 추출: {}", urlStr);
+                return result;
+            }
+            log.info("HTML 스냅샷으로 메타데이터 추출 실패 - 원본 요청: {}", urlStr);
+        }
+
         // 1단계: Jsoup으로 시도
         result = tryFetchWithJsoup(urlStr);
 
@@ -510,100 +412,10 @@ public class AiSummaryService {
         try {
             log.info("Jsoup 크롤링 시작: {}", urlStr);
 
-            // Jsoup을 사용하여 전체 HTML 문서 파싱
-            org.jsoup.nodes.Document doc = org.jsoup.Jsoup.connect(urlStr)
-                    .userAgent("Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
-                    .timeout(10000)
-                    .followRedirects(true)
-                    .get();
-
-            // 1. 제목 추출 (우선순위: og:title > twitter:title > title tag)
-            String title = doc.select("meta[property=og:title]").attr("content");
-            if (title.isEmpty()) {
-                title = doc.select("meta[name=twitter:title]").attr("content");
-            }
-            if (title.isEmpty()) {
-                title = doc.title();
-            }
-            result[0] = decodeHtmlEntities(title.trim());
-            log.info("제목 추출 성공: {}", result[0]);
-
-            // 2. 본문 추출 시도 (여러 선택자로 시도)
-            String content = "";
-
-            // 방법 1: article 태그 내용
-            org.jsoup.nodes.Element articleElem = doc.selectFirst("article");
-            if (articleElem != null) {
-                content = articleElem.text();
-                log.info("article 태그에서 본문 추출 ({} chars)", content.length());
-            }
-
-            // 방법 2: main 태그 내용
-            if (content.isEmpty()) {
-                org.jsoup.nodes.Element mainElem = doc.selectFirst("main");
-                if (mainElem != null) {
-                    content = mainElem.text();
-                    log.info("main 태그에서 본문 추출 ({} chars)", content.length());
-                }
-            }
-
-            // 방법 3: 특정 클래스명으로 시도 (일반적인 기사 본문 클래스)
-            if (content.isEmpty()) {
-                org.jsoup.select.Elements contentElems = doc.select(
-                    ".article-content, .post-content, .entry-content, " +
-                    ".content, .article-body, .post-body, .story-body, " +
-                    "[class*=article], [class*=content], [class*=body], " +
-                    "[id*=article], [id*=content], [id*=body]"
-                );
-                if (!contentElems.isEmpty()) {
-                    // 가장 긴 텍스트를 가진 요소 선택
-                    content = contentElems.stream()
-                            .map(org.jsoup.nodes.Element::text)
-                            .max((a, b) -> Integer.compare(a.length(), b.length()))
-                            .orElse("");
-                    log.info("클래스/ID 선택자에서 본문 추출 ({} chars)", content.length());
-                }
-            }
-
-            // 방법 4: p 태그들을 합쳐서 본문 추출 (최후의 수단)
-            if (content.isEmpty() || content.length() < 200) {
-                org.jsoup.select.Elements paragraphs = doc.select("p");
-                if (!paragraphs.isEmpty()) {
-                    StringBuilder sb = new StringBuilder();
-                    for (org.jsoup.nodes.Element p : paragraphs) {
-                        String pText = p.text().trim();
-                        if (pText.length() > 50) { // 최소 50자 이상의 문단만 포함
-                            sb.append(pText).append(" ");
-                        }
-                    }
-                    String pContent = sb.toString().trim();
-                    if (pContent.length() > content.length()) {
-                        content = pContent;
-                        log.info("p 태그 집합에서 본문 추출 ({} chars)", content.length());
-                    }
-                }
-            }
-
-            // 3. OG description을 fallback으로 사용 (본문이 너무 짧은 경우)
-            if (content.length() < 100) {
-                String ogDesc = doc.select("meta[property=og:description]").attr("content");
-                if (!ogDesc.isEmpty() && ogDesc.length() > content.length()) {
-                    content = ogDesc;
-                    log.info("og:description을 본문으로 사용 ({} chars)", content.length());
-                }
-            }
-
-            // 4. 본문 정제 (불필요한 공백 제거, 길이 제한)
-            content = content.replaceAll("\\s+", " ").trim();
-            if (content.length() > 5000) {
-                content = content.substring(0, 5000) + "...";
-                log.info("본문 길이 제한 적용: 5000 chars");
-            }
-
-            result[1] = content;
-            log.info("최종 본문 추출 완료: {} chars", content.length());
-
-            return result;
+            // 공용 HttpFetcher로 가져와 Jsoup으로 전체 HTML 문서 파싱 (다음 재분석용 스냅샷 저장)
+            com.aiinsight.crawler.HttpFetcher.FetchResponse response = httpFetcher.fetch(urlStr);
+            htmlSnapshotStore.save(urlStr, response);
+            return extractMetadata(response.toDocument(), urlStr);
 
         } catch (org.jsoup.HttpStatusException e) {
             log.warn("Jsoup HTTP 오류 ({}): {}", e.getStatusCode(), urlStr);
@@ -617,6 +429,16 @@ public class AiSummaryService {
         }
     }
 
+    /**
+     * HTML 문서에서 제목/본문 추출 (크롤링 단계와 같은 ArticleMetadataExtractor 사용)
+     */
+    private String[] extractMetadata(org.jsoup.nodes.Document doc, String urlStr) {
+        com.aiinsight.crawler.CrawlResult.ArticleData metadata = articleMetadataExtractor.extract(doc, urlStr);
+        log.info("메타데이터 추출: 제목 '{}', 본문 {} chars", metadata.getTitle(),
+                metadata.getContent() != null ? metadata.getContent().length() : 0);
+        return new String[]{metadata.getTitle(), metadata.getContent()};
+    }
+
     /**
      * Selenium으로 URL 크롤링 시도 (JavaScript 렌더링 지원)
      */
@@ -625,55 +447,9 @@ public class AiSummaryService {
         try {
             log.info("Selenium 크롤링 시작: {}", urlStr);
 
-            org.openqa.selenium.WebDriver driver = null;
-            try {
-                // Chrome 드라이버 생성 (Cloudflare 우회 강화)
-                org.openqa.selenium.chrome.ChromeOptions options = new org.openqa.selenium.chrome.ChromeOptions();
-                String chromeBinary = System.getenv("CHROME_BIN");
-                if (chromeBinary != null && !chromeBinary.isEmpty()) {
-                    options.setBinary(chromeBinary);
-                }
-
-                // Headless 모드
-                options.addArguments("--headless=new");
-                options.addArguments("--no-sandbox");
-                options.addArguments("--disable-dev-shm-usage");
-                options.addArguments("--disable-gpu");
-                options.addArguments("--window-size=1920,1080");
-
-                // Cloudflare 우회를 위한 강화된 봇 감지 방지
-                options.addArguments("--disable-blink-features=AutomationControlled");
-                options.setExperimentalOption("excludeSwitches", List.of("enable-automation"));
-                options.setExperimentalOption("useAutomationExtension", false);
-
-                // User-Agent 설정 (최신 Chrome)
-                options.addArguments("user-agent=Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/131.0.0.0 Safari/537.36");
-
-                // 추가 Cloudflare 우회 옵션
-                options.addArguments("--disable-web-security");
-                options.addArguments("--disable-features=IsolateOrigins,site-per-process");
-
-                // 실제 브라우저처럼 보이기 위한 설정
-                options.addArguments("--enable-features=NetworkService,NetworkServiceInProcess");
-                options.addArguments("--disable-background-networking");
-                options.addArguments("--disable-background-timer-throttling");
-                options.addArguments("--disable-backgrounding-occluded-windows");
-                options.addArguments("--disable-renderer-backgrounding");
-                options.addArguments("--disable-hang-monitor");
-                options.addArguments("--disable-prompt-on-repost");
-                options.addArguments("--disable-sync");
-
-                // navigator.webdriver 제거를 위한 추가 설정
-                java.util.Map<String, Object> prefs = new java.util.HashMap<>();
-                prefs.put("credentials_enable_service", false);
-                prefs.put("profile.password_manager_enabled", false);
-                options.setExperimentalOption("prefs", prefs);
-
-                driver = new org.openqa.selenium.chrome.ChromeDriver(options);
-
-                // navigator.webdriver 속성 제거 (Cloudflare 봇 감지 우회)
-                org.openqa.selenium.JavascriptExecutor js = (org.openqa.selenium.JavascriptExecutor) driver;
-                js.executeScript("Object.defineProperty(navigator, 'webdriver', {get: () => undefined})");
+            // 풀에서 웜업된 브라우저 대여 (navigator.webdriver 제거는 풀에서 문서 로드 시 적용)
+            try (com.aiinsight.crawler.WebDriverPool.Lease lease = webDriverPool.lease()) {
+                org.openqa.selenium.WebDriver driver = lease.driver();
 
                 driver.get(urlStr);
 
@@ -689,91 +465,13 @@ public class AiSummaryService {
                 log.info("Cloudflare 챌린지 통과 대기 중...");
                 Thread.sleep(10000);
 
-                // HTML 소스 가져오기
+                // HTML 소스 가져오기 (다음 재분석용 스냅샷 저장)
                 String pageSource = driver.getPageSource();
+                htmlSnapshotStore.saveRendered(urlStr, driver.getCurrentUrl(), pageSource);
 
                 // Jsoup으로 파싱 (이제는 JavaScript가 렌더링된 HTML)
-                org.jsoup.nodes.Document doc = org.jsoup.Jsoup.parse(pageSource);
-
-                // 제목 추출
-                String title = doc.select("meta[property=og:title]").attr("content");
-                if (title.isEmpty()) {
-                    title = doc.select("meta[name=twitter:title]").attr("content");
-                }
-                if (title.isEmpty()) {
-                    title = doc.title();
-                }
-                result[0] = decodeHtmlEntities(title.trim());
-                log.info("Selenium - 제목 추출: {}", result[0]);
-
-                // 본문 추출 (Jsoup과 동일한 4단계 전략)
-                String content = "";
-
-                org.jsoup.nodes.Element articleElem = doc.selectFirst("article");
-                if (articleElem != null) {
-                    content = articleElem.text();
-                    log.info("Selenium - article 태그에서 본문 추출 ({} chars)", content.length());
-                }
-
-                if (content.isEmpty()) {
-                    org.jsoup.nodes.Element mainElem = doc.selectFirst("main");
-                    if (mainElem != null) {
-                        content = mainElem.text();
-                        log.info("Selenium - main 태그에서 본문 추출 ({} chars)", content.length());
-                    }
-                }
-
-                if (content.isEmpty()) {
-                    org.jsoup.select.Elements contentElems = doc.select(
-                        ".article-content, .post-content, .entry-content, " +
-                        ".content, .article-body, .post-body, .story-body, " +
-                        "[class*=article], [class*=content], [class*=body], " +
-                        "[id*=article], [id*=content], [id*=body]"
-                    );
-                    if (!contentElems.isEmpty()) {
-                        content = contentElems.stream()
-                                .map(org.jsoup.nodes.Element::text)
-                                .max((a, b) -> Integer.compare(a.length(), b.length()))
-                                .orElse("");
-                        log.info("Selenium - 클래스/ID 선택자에서 본문 추출 ({} chars)", content.length());
-                    }
-                }
-
-                if (content.isEmpty() || content.length() < 200) {
-                    org.jsoup.select.Elements paragraphs = doc.select("p");
-                    if (!paragraphs.isEmpty()) {
-                        StringBuilder sb = new StringBuilder();
-                        for (org.jsoup.nodes.Element p : paragraphs) {
-                            String pText = p.text().trim();
-                            if (pText.length() > 50) {
-                                sb.append(pText).append(" ");
-                            }
-                        }
-                        String pContent = sb.toString().trim();
-                        if (pContent.length() > content.length()) {
-                            content = pContent;
-                            log.info("Selenium - p 태그 집합에서 본문 추출 ({} chars)", content.length());
-                        }
-                    }
-                }
-
-                // 본문 정제
-                content = content.replaceAll("\\s+", " ").trim();
-                if (content.length() > 5000) {
-                    content = content.substring(0, 5000) + "...";
-                }
-
-                result[1] = content;
-                log.info("Selenium - 최종 본문 추출 완료: {} chars", content.length());
-
-            } finally {
-                if (driver != null) {
-                    try {
-                        driver.quit();
-                    } catch (Exception e) {
-                        log.warn("WebDriver 종료 실패: {}", e.getMessage());
-                    }
-                }
+                org.jsoup.nodes.Document doc = org.jsoup.Jsoup.parse(pageSource, driver.getCurrentUrl());
+                result = extractMetadata(doc, urlStr);
             }
 
         } catch (Exception e) {
@@ -793,31 +491,7 @@ public class AiSummaryService {
         }
 
         // Cloudflare 챌린지 감지
-        String title = result[0] != null ? result[0].toLowerCase() : "";
-        String content = result[1] != null ? result[1].toLowerCase() : "";
-
-        return title.contains("just a moment") ||
-               title.contains("attention required") ||
-               content.contains("enable javascript") ||
-               content.contains("cloudflare") && content.length() < 500;
-    }
-
-
-    /**
-     * HTML 엔티티 디코딩
-     */
-    private String decodeHtmlEntities(String text) {
-        if (text == null) return null;
-        return text
-                .replace("&amp;", "&")
-                .replace("&lt;", "<")
-                .replace("&gt;", ">")
-                .replace("&quot;", "\"")
-                .replace("&#39;", "'")
-                .replace("&apos;", "'")
-                .replace("&#x27;", "'")
-                .replace("&hellip;", "...")
-                .replace("&nbsp;", " ");
+        return articleMetadataExtractor.isChallengePage(result[0], result[1]);
     }
 
     /**
@@ -848,46 +522,6 @@ public class AiSummaryService {
         return false;
     }
 
-    /**
-     * 제목이 일반적인(의미 없는) 제목인지 확인
-     * 예: "기사 상세 보기", "Article View" 등
-     */
-    private boolean isGenericTitle(String title) {
-        if (title == null || title.isEmpty()) {
-            return true;
-        }
-        String lowerTitle = title.toLowerCase().trim();
-
-        // 일반적인 제목 패턴들
-        String[] genericPatterns = {
-            "기사 상세",
-            "기사 보기",
-            "상세 보기",
-            "article view",
-            "article detail",
-            "view article",
-            "untitled",
-            "no title",
-            "제목 없음",
-            "loading",
-            "로딩"
-        };
-
-        for (String pattern : genericPatterns) {
-            if (lowerTitle.contains(pattern)) {
-                return true;
-            }
-        }
-
-        // 제목이 사이트 이름만 있는 경우 (예: "AI타임스", "TechCrunch")
-        // 제목이 너무 짧은 경우 (5자 미만)
-        if (title.length() < 5) {
-            return true;
-        }
-
-        return false;
-    }
-
     /**
      * URL에서 기사 제목을 추출 (URL 슬러그를 사람이 읽을 수 있는 형태로 변환)
      */
@@ -0,0 +1,287 @@
+package com.aiinsight.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * 기사 URL 해시(content_hash) Bloom 필터
+ * - "확실히 없음"이면 DB 조회 없이 신규로 판단, "있을 수도 있음"일 때만 DB 확인
+ * - 기동 시 content_hash 컬럼을 스트리밍으로 적재 (적재 완료 전에는 항상 DB 확인)
+ * - 스냅샷 파일이 있으면 스냅샷 이후 수집분만 추가 적재
+ * - 삭제된 기사는 필터에서 빠지지 않음 (오탐만 늘어나고 DB 확인으로 보정)
+ */
+@Component
+@Slf4j
+public class ArticleHashFilter {
+
+    private static final int SNAPSHOT_MAGIC = 0x41484246; // "AHBF"
+    private static final int FETCH_SIZE = 10_000;
+    // 스냅샷 저장 시각과 실제 커밋 시각 차이 보정
+    private static final long SNAPSHOT_OVERLAP_MINUTES = 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+
+    private final long expectedInsertions;
+    private final double falsePositiveRate;
+    private final String snapshotPath;
+
+    private volatile BloomFilter filter;
+    private volatile boolean ready = false;
+
+    public ArticleHashFilter(JdbcTemplate jdbcTemplate,
+                             PlatformTransactionManager transactionManager,
+                             @Value("${app.dedup.expected-articles:200000}") long expectedInsertions,
+                             @Value("${app.dedup.false-positive-rate:0.001}") double falsePositiveRate,
+                             @Value("${app.dedup.snapshot-path:}") String snapshotPath) {
+        this.jdbcTemplate = new JdbcTemplate(jdbcTemplate.getDataSource());
+        this.jdbcTemplate.setFetchSize(FETCH_SIZE);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.expectedInsertions = expectedInsertions;
+        this.falsePositiveRate = falsePositiveRate;
+        this.snapshotPath = snapshotPath;
+    }
+
+    /**
+     * 해시가 저장되어 있을 가능성 (false면 확실히 없음)
+     */
+    public boolean mightContain(String contentHash) {
+        BloomFilter current = filter;
+        if (!ready || current == null) {
+            return true;
+        }
+        return current.mightContain(contentHash);
+    }
+
+    /**
+     * 저장된 기사 해시 추가 (적재 중에도 호출 가능)
+     */
+    public void put(String contentHash) {
+        BloomFilter current = filter;
+        if (current != null) {
+            current.put(contentHash);
+        }
+    }
+
+    public boolean isReady() {
+        return ready;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadAsync() {
+        Thread loader = new Thread(this::load, "article-hash-filter-loader");
+        loader.setDaemon(true);
+        loader.start();
+    }
+
+    private void load() {
+        long startTime = System.currentTimeMillis();
+        try {
+            long articleCount = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_article", Long.class);
+            long capacity = Math.max(expectedInsertions, articleCount * 2);
+
+            LocalDateTime since = null;
+            BloomFilter snapshot = readSnapshot();
+            if (snapshot != null && snapshot.expectedInsertions >= articleCount * 3 / 2) {
+                filter = snapshot;
+                since = snapshot.savedAt.minusMinutes(SNAPSHOT_OVERLAP_MINUTES);
+            } else {
+                if (snapshot != null) {
+                    log.info("Bloom 필터 스냅샷 용량 부족 - 전체 재적재 (기사 {}건)", articleCount);
+                }
+                filter = new BloomFilter(capacity, falsePositiveRate);
+            }
+
+            long loaded = streamHashes(filter, since);
+            ready = true;
+
+            log.info("기사 해시 Bloom 필터 준비 완료: {}건 적재 ({}), 용량 {}, {}KB, {}ms",
+                    loaded, since != null ? "스냅샷 이후" : "전체", filter.expectedInsertions,
+                    filter.sizeInBytes() / 1024, System.currentTimeMillis() - startTime);
+
+            if (since == null) {
+                writeSnapshot();
+            }
+        } catch (Exception e) {
+            // 필터 없이도 DB 조회로 정상 동작
+            log.warn("기사 해시 Bloom 필터 적재 실패 - DB 조회로 대체: {}", e.getMessage());
+            ready = false;
+        }
+    }
+
+    /**
+     * content_hash 컬럼 스트리밍 적재 (PostgreSQL 커서는 트랜잭션 안에서만 fetchSize 적용)
+     */
+    private long streamHashes(BloomFilter target, LocalDateTime since) {
+        AtomicLong count = new AtomicLong();
+        readOnlyTransaction.executeWithoutResult(status -> {
+            if (since == null) {
+                jdbcTemplate.query("SELECT content_hash FROM news_article", rs -> {
+                    target.put(rs.getString(1));
+                    count.incrementAndGet();
+                });
+            } else {
+                jdbcTemplate.query("SELECT content_hash FROM news_article WHERE crawled_at >= ?", rs -> {
+                    target.put(rs.getString(1));
+                    count.incrementAndGet();
+                }, Timestamp.valueOf(since));
+            }
+        });
+        return count.get();
+    }
+
+    @PreDestroy
+    public void writeSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank() || !ready) {
+            return;
+        }
+        Path path = Path.of(snapshotPath);
+        Path temp = path.resolveSibling(path.getFileName() + ".tmp");
+        try {
+            if (path.getParent() != null) {
+                Files.createDirectories(path.getParent());
+            }
+            try (DataOutputStream out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(temp)))) {
+                filter.writeTo(out, LocalDateTime.now());
+            }
+            Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            log.info("Bloom 필터 스냅샷 저장: {}", path);
+        } catch (IOException e) {
+            log.warn("Bloom 필터 스냅샷 저장 실패: {}", e.getMessage());
+        }
+    }
+
+    private BloomFilter readSnapshot() {
+        if (snapshotPath == null || snapshotPath.isBlank()) {
+            return null;
+        }
+        Path path = Path.of(snapshotPath);
+        if (!Files.exists(path)) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(path)))) {
+            BloomFilter snapshot = BloomFilter.readFrom(in);
+            log.info("Bloom 필터 스냅샷 로드: {} (저장 시각 {})", path, snapshot.savedAt);
+            return snapshot;
+        } catch (IOException e) {
+            log.warn("Bloom 필터 스냅샷 로드 실패 - 전체 재적재: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * 동시성 안전 Bloom 필터 (AtomicLongArray 비트셋, double hashing)
+     * - 입력이 이미 SHA-256 hex라 앞 32자리를 두 개의 64비트 해시로 그대로 사용
+     */
+    static final class BloomFilter {
+        private final AtomicLongArray bits;
+        private final long numBits;
+        private final int numHashes;
+        private final long expectedInsertions;
+        private LocalDateTime savedAt;
+
+        BloomFilter(long expectedInsertions, double falsePositiveRate) {
+            long m = (long) Math.ceil(-expectedInsertions * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+            m = Math.max(64, (m + 63) / 64 * 64);
+            this.numBits = m;
+            this.numHashes = Math.max(1, (int) Math.round((double) m / expectedInsertions * Math.log(2)));
+            this.bits = new AtomicLongArray((int) (m / 64));
+            this.expectedInsertions = expectedInsertions;
+        }
+
+        private BloomFilter(long numBits, int numHashes, long expectedInsertions, AtomicLongArray bits) {
+            this.numBits = numBits;
+            this.numHashes = numHashes;
+            this.expectedInsertions = expectedInsertions;
+            this.bits = bits;
+        }
+
+        void put(String hash) {
+            long h1 = hash1(hash);
+            long h2 = hash2(hash);
+            for (int i = 0; i < numHashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, numBits);
+                int word = (int) (index >>> 6);
+                long mask = 1L << index;
+                long current = bits.get(word);
+                while ((current & mask) == 0 && !bits.compareAndSet(word, current, current | mask)) {
+                    current = bits.get(word);
+                }
+            }
+        }
+
+        boolean mightContain(String hash) {
+            long h1 = hash1(hash);
+            long h2 = hash2(hash);
+            for (int i = 0; i < numHashes; i++) {
+                long index = Math.floorMod(h1 + i * h2, numBits);
+                if ((bits.get((int) (index >>> 6)) & (1L << index)) == 0) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        long sizeInBytes() {
+            return numBits / 8;
+        }
+
+        private static long hash1(String hash) {
+            return Long.parseUnsignedLong(hash, 0, 16, 16);
+        }
+
+        private static long hash2(String hash) {
+            // 짝수 보폭이면 일부 비트만 순회하므로 홀수로 보정
+            return Long.parseUnsignedLong(hash, 16, 32, 16) | 1L;
+        }
+
+        void writeTo(DataOutputStream out, LocalDateTime savedAt) throws IOException {
+            out.writeInt(SNAPSHOT_MAGIC);
+            out.writeLong(numBits);
+            out.writeInt(numHashes);
+            out.writeLong(expectedInsertions);
+            out.writeUTF(savedAt.toString());
+            for (int i = 0; i < bits.length(); i++) {
+                out.writeLong(bits.get(i));
+            }
+        }
+
+        static BloomFilter readFrom(DataInputStream in) throws IOException {
+            if (in.readInt() != SNAPSHOT_MAGIC) {
+                throw new IOException("Bloom 필터 스냅샷 형식이 아닙니다");
+            }
+            long numBits = in.readLong();
+            int numHashes = in.readInt();
+            long expectedInsertions = in.readLong();
+            LocalDateTime savedAt = LocalDateTime.parse(in.readUTF());
+            AtomicLongArray bits = new AtomicLongArray((int) (numBits / 64));
+            for (int i = 0; i < bits.length(); i++) {
+                bits.set(i, in.readLong());
+            }
+            BloomFilter filter = new BloomFilter(numBits, numHashes, expectedInsertions, bits);
+            filter.savedAt = savedAt;
+            return filter;
+        }
+    }
+}
@@ -0,0 +1,337 @@
+package com.aiinsight.service;
+
+import com.aiinsight.config.AiConfig;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Claude CLI 실행 관리 (AI 분석, 일일 리포트, Executive Summary 공용)
+ * - 동시 실행 수는 AiConcurrencyLimiter(CLAUDE_CLI)가 제한
+ * - CLI는 프롬프트 하나당 프로세스 하나(--print)이므로 재사용 대신 prewarm개를 미리 띄워 stdin 대기 상태로 보관
+ *   (기동 시간 절약, 미리 띄운 프로세스가 입력 없이 종료되는 CLI 버전이면 자동으로 미리 띄우기 중단)
+ * - stdin 쓰기와 stdout/stderr 읽기는 별도 스레드에서 처리하고, 호출 시점부터의 실제 경과 시간으로 타임아웃
+ * - 타임아웃/중단 시 자식 프로세스까지 강제 종료
+ * - 호출 소요 시간은 ai.cli.duration{outcome} 타이머로 노출
+ */
+@Service
+@Slf4j
+public class ClaudeCliGateway {
+
+    // 종료 후 출력 스트림을 마저 읽을 때 최대 대기 시간
+    private static final long DRAIN_JOIN_SECONDS = 5;
+
+    private final AiConfig aiConfig;
+    private final AiConcurrencyLimiter aiConcurrencyLimiter;
+    private final MeterRegistry meterRegistry;
+
+    // 미리 띄워 둔 프로세스 (stdin 대기 중)
+    private final BlockingDeque<Spare> spares = new LinkedBlockingDeque<>();
+    private final AtomicInteger spawning = new AtomicInteger();
+    private volatile boolean prewarmEnabled;
+
+    private ExecutorService io;
+
+    public ClaudeCliGateway(AiConfig aiConfig, AiConcurrencyLimiter aiConcurrencyLimiter, MeterRegistry meterRegistry) {
+        this.aiConfig = aiConfig;
+        this.aiConcurrencyLimiter = aiConcurrencyLimiter;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 실행 결과
+     * @param output stdout (최대 maxOutputKb)
+     * @param error stderr (최대 maxOutputKb)
+     */
+    public record Result(Outcome outcome, int exitCode, String output, String error, long durationMs) {
+
+        public boolean isSuccess() {
+            return outcome == Outcome.SUCCESS;
+        }
+
+        /**
+         * 로그용 오류 내용 (stderr가 비어 있으면 stdout)
+         */
+        public String errorDetail() {
+            return error != null && !error.isBlank() ? error.trim() : output != null ? output.trim() : "";
+        }
+    }
+
+    public enum Outcome {
+        SUCCESS,        // exit 0, 출력 있음
+        FAILED,         // 실행 실패, exit != 0, 빈 출력
+        OVERLOADED,     // 사용량 제한/과부하 응답
+        TIMEOUT,        // 제한 시간 초과 (강제 종료)
+        INTERRUPTED     // 호출 스레드 인터럽트 (강제 종료)
+    }
+
+    /**
+     * 실패 결과를 담은 예외 (call() 사용 시)
+     */
+    public static class ClaudeCliException extends RuntimeException {
+
+        private final transient Result result;
+
+        public ClaudeCliException(Result result) {
+            super("Claude CLI " + result.outcome() + " (exit code: " + result.exitCode() + ", "
+                    + result.durationMs() + "ms): " + abbreviate(result.errorDetail()));
+            this.result = result;
+        }
+
+        public Result getResult() {
+            return result;
+        }
+    }
+
+    @PostConstruct
+    public void init() {
+        AtomicInteger threadCount = new AtomicInteger();
+        io = Executors.newCachedThreadPool(r -> {
+            Thread thread = new Thread(r, "claude-cli-io-" + threadCount.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        Gauge.builder("ai.cli.spare", spares, BlockingDeque::size)
+                .description("미리 띄워 둔 Claude CLI 프로세스 수")
+                .register(meterRegistry);
+
+        prewarmEnabled = aiConfig.getClaudeCli().getPrewarm() > 0;
+        replenish();
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        prewarmEnabled = false;
+        Spare spare;
+        while ((spare = spares.pollFirst()) != null) {
+            killTree(spare.process());
+        }
+        io.shutdownNow();
+    }
+
+    /**
+     * 프롬프트 실행 (실패해도 예외 대신 Result 반환)
+     * @param timeout 프로세스 시작부터 종료까지 최대 시간 (동시 실행 슬롯 대기 시간 제외)
+     */
+    public Result run(String prompt, Duration timeout) {
+        AiConcurrencyLimiter.Permit permit;
+        try {
+            permit = aiConcurrencyLimiter.acquire(AiConcurrencyLimiter.Provider.CLAUDE_CLI);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return new Result(Outcome.INTERRUPTED, -1, "", "동시 실행 슬롯 대기 중 중단됨", 0);
+        }
+
+        try (permit) {
+            Result result = execute(prompt, timeout);
+            switch (result.outcome()) {
+                case SUCCESS -> permit.success();
+                case TIMEOUT, OVERLOADED -> permit.dropped();
+                default -> { }
+            }
+            Timer.builder("ai.cli.duration")
+                    .description("Claude CLI 호출 소요 시간")
+                    .tag("outcome", result.outcome().name().toLowerCase())
+                    .register(meterRegistry)
+                    .record(result.durationMs(), TimeUnit.MILLISECONDS);
+            return result;
+        }
+    }
+
+    /**
+     * 프롬프트 실행 후 출력 반환
+     * @throws ClaudeCliException 성공하지 못한 경우
+     */
+    public String call(String prompt, Duration timeout) {
+        Result result = run(prompt, timeout);
+        if (!result.isSuccess()) {
+            throw new ClaudeCliException(result);
+        }
+        return result.output().trim();
+    }
+
+    private Result execute(String prompt, Duration timeout) {
+        long startNanos = System.nanoTime();
+        Process process;
+        try {
+            process = takeSpareOrSpawn();
+        } catch (IOException e) {
+            return new Result(Outcome.FAILED, -1, "", "프로세스 시작 실패: " + e.getMessage(), elapsedMs(startNanos));
+        }
+        replenish();
+
+        CompletableFuture<String> stdout = drain(process.getInputStream());
+        CompletableFuture<String> stderr = drain(process.getErrorStream());
+        CompletableFuture.runAsync(() -> writePrompt(process, prompt), io);
+
+        try {
+            if (!process.waitFor(timeout.toMillis(), TimeUnit.MILLISECONDS)) {
+                killTree(process);
+                log.error("Claude CLI 타임아웃 ({}초 초과) - 프로세스 강제 종료", timeout.toSeconds());
+                return new Result(Outcome.TIMEOUT, -1, join(stdout), join(stderr), elapsedMs(startNanos));
+            }
+        } catch (InterruptedException e) {
+            killTree(process);
+            Thread.currentThread().interrupt();
+            return new Result(Outcome.INTERRUPTED, -1, join(stdout), join(stderr), elapsedMs(startNanos));
+        }
+
+        int exitCode = process.exitValue();
+        String output = join(stdout);
+        String error = join(stderr);
+        Outcome outcome;
+        if (exitCode != 0) {
+            outcome = AiConcurrencyLimiter.isCliOverload(output + "\n" + error) ? Outcome.OVERLOADED : Outcome.FAILED;
+        } else {
+            outcome = output.isBlank() ? Outcome.FAILED : Outcome.SUCCESS;
+        }
+        return new Result(outcome, exitCode, output, error, elapsedMs(startNanos));
+    }
+
+    /**
+     * 미리 띄운 프로세스 사용, 없거나 너무 오래 대기했으면 새로 시작
+     */
+    private Process takeSpareOrSpawn() throws IOException {
+        long maxIdleNanos = TimeUnit.SECONDS.toNanos(aiConfig.getClaudeCli().getSpareMaxIdleSeconds());
+        Spare spare;
+        while ((spare = spares.pollFirst()) != null) {
+            if (!spare.process().isAlive()) {
+                // 입력 대기 상태를 유지하지 못하는 CLI - 이후에는 호출 시점에 시작
+                if (prewarmEnabled) {
+                    prewarmEnabled = false;
+                    log.warn("미리 띄운 Claude CLI 프로세스가 입력 전에 종료됨 (exit code: {}) - 미리 띄우기 중단",
+                            spare.process().exitValue());
+                }
+                continue;
+            }
+            if (System.nanoTime() - spare.spawnedAtNanos() > maxIdleNanos) {
+                killTree(spare.process());
+                continue;
+            }
+            return spare.process();
+        }
+        return spawn();
+    }
+
+    /**
+     * 미리 띄운 프로세스를 prewarm개까지 채움 (백그라운드)
+     */
+    private void replenish() {
+        int target = aiConfig.getClaudeCli().getPrewarm();
+        while (prewarmEnabled && spares.size() + spawning.get() < target) {
+            spawning.incrementAndGet();
+            try {
+                io.execute(() -> {
+                    try {
+                        Process process = spawn();
+                        if (prewarmEnabled) {
+                            spares.addLast(new Spare(process, System.nanoTime()));
+                        } else {
+                            killTree(process);
+                        }
+                    } catch (IOException e) {
+                        prewarmEnabled = false;
+                        log.warn("Claude CLI 미리 띄우기 실패 - 중단: {}", e.getMessage());
+                    } finally {
+                        spawning.decrementAndGet();
+                    }
+                });
+            } catch (RejectedExecutionException e) {
+                spawning.decrementAndGet();
+                return;
+            }
+        }
+    }
+
+    private Process spawn() throws IOException {
+        ProcessBuilder processBuilder = new ProcessBuilder(
+                aiConfig.getClaudeCli().getCommand(),
+                "--print",                  // 결과만 출력 (대화형 모드 비활성화), 프롬프트는 stdin
+                "--output-format", "text"
+        );
+        // UTF-8 인코딩 환경 설정
+        processBuilder.environment().put("LANG", "ko_KR.UTF-8");
+        processBuilder.environment().put("LC_ALL", "ko_KR.UTF-8");
+        return processBuilder.start();
+    }
+
+    private void writePrompt(Process process, String prompt) {
+        try (OutputStream stdin = process.getOutputStream()) {
+            stdin.write(prompt.getBytes(StandardCharsets.UTF_8));
+        } catch (IOException e) {
+            // 프로세스가 먼저 종료된 경우 - 종료 코드로 처리
+            log.debug("Claude CLI 프롬프트 전달 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 출력 스트림을 끝까지 읽음 (maxOutputKb 초과분은 버리되 프로세스가 막히지 않도록 계속 읽음)
+     */
+    private CompletableFuture<String> drain(InputStream stream) {
+        int maxBytes = aiConfig.getClaudeCli().getMaxOutputKb() * 1024;
+        return CompletableFuture.supplyAsync(() -> {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            byte[] chunk = new byte[8192];
+            try (stream) {
+                int read;
+                while ((read = stream.read(chunk)) != -1) {
+                    int keep = Math.min(read, maxBytes - buffer.size());
+                    if (keep > 0) {
+                        buffer.write(chunk, 0, keep);
+                    }
+                }
+            } catch (IOException e) {
+                // 강제 종료로 스트림이 닫힌 경우
+            }
+            return buffer.toString(StandardCharsets.UTF_8);
+        }, io);
+    }
+
+    private String join(CompletableFuture<String> future) {
+        try {
+            return future.get(DRAIN_JOIN_SECONDS, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return "";
+        } catch (Exception e) {
+            return "";
+        }
+    }
+
+    /**
+     * 자식 프로세스까지 강제 종료
+     */
+    private static void killTree(Process process) {
+        process.descendants().forEach(ProcessHandle::destroyForcibly);
+        process.destroyForcibly();
+    }
+
+    private static long elapsedMs(long startNanos) {
+        return TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+    }
+
+    private static String abbreviate(String text) {
+        return text.length() > 300 ? text.substring(0, 300) + "..." : text;
+    }
+
+    private record Spare(Process process, long spawnedAtNanos) {}
+}
@@ -0,0 +1,170 @@
+package com.aiinsight.service;
+
+import com.aiinsight.crawler.CrawlerConfig;
+import com.aiinsight.domain.crawl.CrawlHistory;
+import com.aiinsight.domain.crawl.CrawlHistoryRepository;
+import com.aiinsight.domain.crawl.CrawlTarget;
+import com.aiinsight.domain.crawl.CrawlTargetRepository;
+import jakarta.persistence.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * 크롤링 타겟별 서킷 브레이커
+ * - CLOSED: 정상 실행. CrawlHistory의 연속 실패가 failureThreshold에 도달하면 OPEN
+ * - OPEN: openUntil까지 스케줄/재시도 실행 생략 (스레드, 커넥션, 브라우저 점유 없음)
+ * - HALF_OPEN: openUntil 이후 첫 실행 한 번만 허용 - 성공 시 CLOSED, 실패 시 재시도 없이 다시 OPEN
+ *   시험 실행 중에는 다른 실행을 막고, trialTimeoutMinutes 안에 결과가 없으면 (중단 등) 다음 실행이 시험 기회를 가져감
+ * - 수동 실행은 서킷과 무관하게 실행되며 결과는 동일하게 반영
+ * - OPEN 유지 시간은 임계치 초과 연속 실패마다 2배 (maxOpenMinutes 상한)
+ * - 헬스 점수: 최근 이력의 가중 성공률 (최근 실행일수록 가중치 큼, 0.0 ~ 1.0)
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CrawlCircuitBreakerService {
+
+    private static final double HEALTH_DECAY = 0.85;
+
+    private final CrawlTargetRepository crawlTargetRepository;
+    private final CrawlHistoryRepository crawlHistoryRepository;
+    private final CrawlerConfig crawlerConfig;
+
+    /**
+     * 스케줄/재시도 실행 허용 여부
+     * - OPEN이고 대기 시간이 지났으면 HALF_OPEN으로 전환하고 시험 실행 허용
+     * - HALF_OPEN이면 시험 실행 기한이 지난 경우에만 새 시험 실행 허용
+     */
+    @Transactional
+    public boolean allowExecution(Long targetId) {
+        CrawlTarget target = findTarget(targetId);
+        CrawlTarget.CircuitState state = stateOf(target);
+        if (state == CrawlTarget.CircuitState.CLOSED) {
+            return true;
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        if (target.getCircuitOpenUntil() != null && now.isBefore(target.getCircuitOpenUntil())) {
+            if (state == CrawlTarget.CircuitState.OPEN) {
+                log.info("서킷 OPEN - 크롤링 생략: {} ({}까지)", target.getName(), target.getCircuitOpenUntil());
+            } else {
+                log.info("서킷 HALF_OPEN - 시험 크롤링 진행 중이므로 생략: {}", target.getName());
+            }
+            return false;
+        }
+
+        LocalDateTime trialUntil = now.plusMinutes(crawlerConfig.getCircuitBreaker().getTrialTimeoutMinutes());
+        if (crawlTargetRepository.halfOpenCircuit(targetId, now, trialUntil) == 0) {
+            // 다른 실행이 먼저 시험 실행을 가져감 - 시험 실행은 한 번만
+            return false;
+        }
+        log.info("서킷 HALF_OPEN - 시험 크롤링 허용: {} ({}까지)", target.getName(), trialUntil);
+        return true;
+    }
+
+    /**
+     * 성공 (UNCHANGED 포함) 이력 기록 후 호출 - 서킷 닫기
+     */
+    @Transactional
+    public void onSuccess(Long targetId) {
+        CrawlTarget target = findTarget(targetId);
+        if (stateOf(target) != CrawlTarget.CircuitState.CLOSED) {
+            log.info("서킷 CLOSED - 타겟 복구: {}", target.getName());
+        }
+        crawlTargetRepository.closeCircuit(targetId, computeHealthScore(targetId, false));
+    }
+
+    /**
+     * 실패 이력 기록 전 호출 - 연속 실패 수에 따라 서킷 열기
+     * (재시도 예약 여부가 이 결과에 달려 있으므로 이번 실패는 이력에 없는 상태로 +1 계산)
+     * @return 서킷이 OPEN 상태가 되었는지
+     */
+    @Transactional
+    public boolean onFailure(Long targetId) {
+        CrawlTarget target = findTarget(targetId);
+        CrawlerConfig.CircuitBreakerConfig config = crawlerConfig.getCircuitBreaker();
+
+        int consecutiveFailures = countConsecutiveFailures(targetId) + 1;
+        crawlTargetRepository.updateFailureStats(targetId, consecutiveFailures, computeHealthScore(targetId, true));
+
+        boolean open = stateOf(target) == CrawlTarget.CircuitState.HALF_OPEN
+                || consecutiveFailures >= config.getFailureThreshold();
+        if (open) {
+            int exponent = Math.max(0, Math.min(consecutiveFailures - config.getFailureThreshold(), 16));
+            long openMinutes = Math.min(config.getOpenMinutes() << exponent, config.getMaxOpenMinutes());
+            crawlTargetRepository.openCircuit(targetId, LocalDateTime.now().plusMinutes(openMinutes));
+            log.warn("서킷 OPEN: {} - 연속 실패 {}회, {}분 동안 크롤링 중단",
+                    target.getName(), consecutiveFailures, openMinutes);
+        }
+        return open;
+    }
+
+    /**
+     * 최근 이력 기준 연속 실패 수 (가장 최근부터 FAILED가 이어진 개수)
+     */
+    private int countConsecutiveFailures(Long targetId) {
+        int limit = Math.max(crawlerConfig.getCircuitBreaker().getFailureThreshold() + 16,
+                crawlerConfig.getCircuitBreaker().getHealthWindowSize());
+        int count = 0;
+        for (CrawlHistory history : recentHistory(targetId, limit)) {
+            if (history.getStatus() != CrawlTarget.CrawlStatus.FAILED) {
+                break;
+            }
+            count++;
+        }
+        return count;
+    }
+
+    /**
+     * 최근 healthWindowSize개 이력의 지수 가중 성공률
+     * - SUCCESS/UNCHANGED = 1, PARTIAL = 0.5, FAILED = 0
+     * @param pendingFailure 아직 기록되지 않은 이번 실패를 가장 최근 이력으로 포함할지
+     */
+    private Double computeHealthScore(Long targetId, boolean pendingFailure) {
+        int windowSize = crawlerConfig.getCircuitBreaker().getHealthWindowSize();
+        List<CrawlHistory> histories = recentHistory(targetId, pendingFailure ? windowSize - 1 : windowSize);
+        if (histories.isEmpty() && !pendingFailure) {
+            return null;
+        }
+
+        double weighted = 0;
+        double totalWeight = 0;
+        double weight = 1.0;
+        if (pendingFailure) {
+            totalWeight += weight;
+            weight *= HEALTH_DECAY;
+        }
+        for (CrawlHistory history : histories) {
+            double value = switch (history.getStatus()) {
+                case SUCCESS, UNCHANGED -> 1.0;
+                case PARTIAL -> 0.5;
+                case FAILED -> 0.0;
+            };
+            weighted += value * weight;
+            totalWeight += weight;
+            weight *= HEALTH_DECAY;
+        }
+        return Math.round(weighted / totalWeight * 100) / 100.0;
+    }
+
+    private List<CrawlHistory> recentHistory(Long targetId, int limit) {
+        return crawlHistoryRepository.findByTargetIdOrderByExecutedAtDesc(targetId, PageRequest.of(0, Math.max(1, limit)))
+                .getContent();
+    }
+
+    private CrawlTarget.CircuitState stateOf(CrawlTarget target) {
+        return target.getCircuitState() != null ? target.getCircuitState() : CrawlTarget.CircuitState.CLOSED;
+    }
+
+    private CrawlTarget findTarget(Long targetId) {
+        return crawlTargetRepository.findById(targetId)
+                .orElseThrow(() -> new EntityNotFoundException("크롤링 대상을 찾을 수 없습니다: " + targetId));
+    }
+}
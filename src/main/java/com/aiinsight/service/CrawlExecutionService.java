@@ -1,176 +1,509 @@
 package com.aiinsight.service;
 
+import com.aiinsight.crawler.ApiCrawler;
+import com.aiinsight.crawler.ArticleMetadataExtractor;
 import com.aiinsight.crawler.CrawlResult;
+import com.aiinsight.crawler.CrawlerConfig;
+import com.aiinsight.crawler.FeedCrawler;
+import com.aiinsight.crawler.HtmlSnapshotStore;
+import com.aiinsight.crawler.ParallelCrawlEngine;
 import com.aiinsight.crawler.SeleniumCrawler;
 import com.aiinsight.crawler.WebCrawler;
+import com.aiinsight.domain.analysis.AiAnalysisJob;
 import com.aiinsight.domain.article.NewsArticle;
+import com.aiinsight.domain.crawl.ApiRequestTemplate;
 import com.aiinsight.domain.crawl.CrawlTarget;
+import com.aiinsight.dto.CrawlTargetDto;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.jsoup.nodes.Document;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
 
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class CrawlExecutionService {
 
-    private static final int MAX_RETRY_COUNT = 2;
-    private static final long RETRY_DELAY_MS = 60000; // 1분
-
     private final WebCrawler webCrawler;
     private final SeleniumCrawler seleniumCrawler;
+    private final FeedCrawler feedCrawler;
+    private final ApiCrawler apiCrawler;
+    private final ParallelCrawlEngine parallelCrawlEngine;
+    private final CrawlerConfig crawlerConfig;
     private final CrawlTargetService crawlTargetService;
     private final NewsArticleService newsArticleService;
     private final CrawlHistoryService crawlHistoryService;
-    private final AiSummaryService aiSummaryService;
+    private final AiAnalysisQueueService aiAnalysisQueueService;
     private final EmbeddingService embeddingService;
+    private final CrawlCircuitBreakerService crawlCircuitBreakerService;
+    private final RenderProbeService renderProbeService;
+    private final HtmlSnapshotStore htmlSnapshotStore;
+    private final ArticleMetadataExtractor articleMetadataExtractor;
+    private final ObjectMapper objectMapper;
 
-    @Transactional
+    /**
+     * 단일 타겟 크롤링 실행
+     * - 크롤링 중 네트워크 I/O 동안 DB 커넥션을 점유하지 않도록 트랜잭션 없이 실행
+     *   (이력/기사 저장은 각 서비스의 트랜잭션에서 처리)
+     */
     public CrawlResult executeCrawl(Long targetId) {
         CrawlTarget target = crawlTargetService.findEntityById(targetId);
         return executeCrawlWithRetry(target);
     }
 
-    @Transactional
     public CrawlResult executeCrawl(CrawlTarget target) {
         return executeCrawlWithRetry(target);
     }
 
+    /**
+     * 스케줄러 실행 - 서킷이 OPEN이면 크롤링하지 않음
+     */
+    public void executeScheduledCrawl(Long targetId) {
+        if (!crawlCircuitBreakerService.allowExecution(targetId)) {
+            return;
+        }
+        executeCrawl(targetId);
+    }
+
+    /**
+     * 최초 크롤링을 실행하고, 실패 시 재시도를 지연 재등록합니다.
+     * - 재시도 대기 동안 스레드/DB 커넥션을 점유하지 않음 (sleep 대신 예약)
+     */
     private CrawlResult executeCrawlWithRetry(CrawlTarget target) {
-        CrawlResult result = doExecuteCrawl(target);
-
-        // 실패 시 재시도
-        int retryCount = 0;
-        while (!result.isSuccess() && retryCount < MAX_RETRY_COUNT) {
-            retryCount++;
-            log.info("크롤링 재시도 예정: {} ({}번째, 1분 후)", target.getName(), retryCount);
-
-            try {
-                Thread.sleep(RETRY_DELAY_MS);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("재시도 대기 중 인터럽트 발생");
-                break;
-            }
+        return doExecuteCrawl(target, 1);
+    }
 
-            log.info("크롤링 재시도 시작: {} ({}번째)", target.getName(), retryCount);
-            result = doExecuteCrawl(target);
+    /**
+     * 예약된 재시도 실행
+     * - 대기 중 타겟이 삭제/비활성화되었을 수 있으므로 다시 조회
+     */
+    private void executeRetry(Long targetId, int attempt) {
+        CrawlTarget target;
+        try {
+            target = crawlTargetService.findEntityById(targetId);
+        } catch (EntityNotFoundException e) {
+            log.info("재시도 대상 타겟이 삭제되어 재시도 취소: targetId={}", targetId);
+            return;
         }
 
-        return result;
+        if (!Boolean.TRUE.equals(target.getEnabled())) {
+            log.info("비활성화된 타겟 재시도 취소: {}", target.getName());
+            return;
+        }
+
+        if (!crawlCircuitBreakerService.allowExecution(targetId)) {
+            log.info("서킷 OPEN - 재시도 취소: {}", target.getName());
+            return;
+        }
+
+        log.info("크롤링 재시도 시작: {} ({}번째 시도)", target.getName(), attempt);
+        doExecuteCrawl(target, attempt);
+    }
+
+    /**
+     * 재시도 예약 (지수 백오프 + 지터)
+     * @return 다음 재시도 예정 시각, 최대 시도 횟수에 도달했으면 null
+     */
+    LocalDateTime scheduleRetry(CrawlTarget target, int attempt) {
+        if (attempt >= crawlerConfig.getCrawlMaxAttempts()) {
+            return null;
+        }
+
+        long delayMs = computeRetryDelay(attempt);
+        Long targetId = target.getId();
+        int nextAttempt = attempt + 1;
+
+        parallelCrawlEngine.schedule(target, delayMs, () -> executeRetry(targetId, nextAttempt));
+        log.info("크롤링 재시도 예약: {} ({}번째 시도, {}ms 후)", target.getName(), nextAttempt, delayMs);
+
+        return LocalDateTime.now().plus(Duration.ofMillis(delayMs));
+    }
+
+    /**
+     * 재시도 지연 계산
+     * - 기본 지연 * 2^(attempt-1), 상한 적용
+     * - equal jitter: [지연/2, 지연] 구간에서 무작위 (동시 실패 타겟의 재시도 분산)
+     */
+    long computeRetryDelay(int attempt) {
+        long base = crawlerConfig.getCrawlRetryBaseDelayMs();
+        long exponential = base * (1L << Math.min(attempt - 1, 16));
+        long capped = Math.min(exponential, crawlerConfig.getCrawlRetryMaxDelayMs());
+        long half = capped / 2;
+        return half + ThreadLocalRandom.current().nextLong(half + 1);
     }
 
-    private CrawlResult doExecuteCrawl(CrawlTarget target) {
-        log.info("크롤링 시작: {} ({}) - 타입: {}", target.getName(), target.getUrl(), target.getCrawlType());
+    private CrawlResult doExecuteCrawl(CrawlTarget target, int attempt) {
+        log.info("크롤링 시작: {} ({}) - 타입: {}, 시도: {}", target.getName(), target.getUrl(), target.getCrawlType(), attempt);
+
+        // 증분 크롤링용 기존 기사 판별 (selectorConfig.incrementalMode일 때만 크롤러가 사용)
+        Predicate<String> isKnownUrl = url -> newsArticleService.existsByHash(url, null);
+
+        // 정적 크롤러는 페이지 단위로 기사를 넘기므로 타겟 전체가 끝나기 전에 저장 시작
+        ArticleIngest ingest = new ArticleIngest(target);
 
         // crawlType에 따라 적절한 크롤러 선택
         CrawlResult result;
-        if (target.getCrawlType() == CrawlTarget.CrawlType.DYNAMIC) {
-            // Selenium 사용 가능 여부 확인
-            if (seleniumCrawler.isAvailable()) {
-                log.info("DYNAMIC 크롤링 사용 (Selenium): {}", target.getName());
-                result = seleniumCrawler.crawl(target);
-
-                // Selenium 실패 시 Jsoup으로 폴백 시도
-                if (!result.isSuccess() && result.getErrorMessage() != null &&
-                        (result.getErrorMessage().contains("Could not start a new session") ||
-                         result.getErrorMessage().contains("session not created") ||
-                         result.getErrorMessage().contains("unable to connect"))) {
-                    log.warn("Selenium 세션 생성 실패, Jsoup으로 폴백 시도: {}", target.getName());
-                    result = webCrawler.crawl(target);
-                    if (result.isSuccess()) {
-                        log.info("Jsoup 폴백 크롤링 성공: {} - {}개 기사", target.getName(), result.getArticleCount());
-                    }
+        if (target.getCrawlType() == CrawlTarget.CrawlType.FEED) {
+            log.info("FEED 크롤링 사용 (RSS/Atom/JSON Feed): {}", target.getName());
+            result = feedCrawler.crawl(target);
+        } else if (target.getCrawlType() == CrawlTarget.CrawlType.DYNAMIC) {
+            result = null;
+            // 탐색된 JSON API가 있으면 브라우저 없이 호출, 실패 시에만 Selenium
+            if (target.getApiTemplate() != null) {
+                log.info("DYNAMIC 크롤링 사용 (JSON API): {}", target.getName());
+                result = apiCrawler.crawl(target, isKnownUrl);
+                if (!result.isSuccess()) {
+                    log.warn("API 크롤링 실패, 브라우저로 폴백: {} - {}", target.getName(), result.getErrorMessage());
+                    result = null;
+                }
+            }
+            // 렌더링 비교로 정적 수집 가능 판별된 타겟은 WebCrawler, 수집량이 떨어지면 브라우저로 복귀
+            if (result == null && Boolean.TRUE.equals(target.getStaticCapable())) {
+                log.info("DYNAMIC 크롤링 사용 (정적 수집 가능 - Jsoup): {}", target.getName());
+                result = webCrawler.crawl(target, isKnownUrl, ingest);
+                if (renderProbeService.isYieldDropped(target, result)) {
+                    renderProbeService.demote(target.getId(), result.isSuccess()
+                            ? "정적 수집 기사 " + result.getArticleCount() + "개 (기준 " + target.getRenderBaselineCount() + "개)"
+                            : result.getErrorMessage());
+                    result = null;
                 }
-            } else {
-                // Selenium 사용 불가 시 Jsoup으로 폴백
-                log.warn("Selenium 사용 불가 ({}), Jsoup으로 폴백: {}",
-                        seleniumCrawler.getUnavailableReason(), target.getName());
-                result = webCrawler.crawl(target);
+            }
+            if (result == null) {
+                result = crawlWithBrowser(target, isKnownUrl);
             }
         } else {
             log.info("STATIC 크롤링 사용 (Jsoup): {}", target.getName());
-            result = webCrawler.crawl(target);
+            result = webCrawler.crawl(target, isKnownUrl, ingest);
+        }
+
+        if (result.isSuccess() && result.isUnchanged()) {
+            // 목록 페이지 변경 없음 - 추출/중복 검사/저장 모두 생략
+            crawlHistoryService.recordUnchanged(target, result.getDurationMs(), attempt);
+            crawlTargetService.updateLastCrawlStatus(target.getId(), CrawlTarget.CrawlStatus.UNCHANGED);
+            crawlCircuitBreakerService.onSuccess(target.getId());
+            log.info("크롤링 완료: {} - 변경 없음 ({}ms)", target.getName(), result.getDurationMs());
+        } else if (result.isSuccess()) {
+            // 크롤러가 스트리밍하지 않은 나머지 기사 저장 (이미 저장 단계를 거친 URL은 생략)
+            ingest.accept(result.getArticles());
+            int newArticles = ingest.getNewArticles();
+
+            // 크롤링 이력 기록
+            crawlHistoryService.recordSuccess(target, result.getArticleCount(), newArticles, result.getDurationMs(), attempt);
+
+            // 타겟 상태 업데이트
+            crawlTargetService.updateLastCrawlStatus(target.getId(), CrawlTarget.CrawlStatus.SUCCESS);
+            crawlCircuitBreakerService.onSuccess(target.getId());
+
+            // 자동 탐색된 피드 URL 저장
+            if (result.getDiscoveredFeedUrl() != null) {
+                crawlTargetService.updateFeedUrl(target.getId(), result.getDiscoveredFeedUrl());
+            }
+
+            // 모든 기사 처리 후 캐시 검증자 저장 (다음 실행에서 조건부 요청)
+            if (result.getContentFingerprint() != null) {
+                crawlTargetService.updateCacheValidators(target.getId(), result.getEtag(),
+                        result.getLastModified(), result.getContentFingerprint());
+            }
+
+            log.info("크롤링 완료: {} - 총 {}개 기사 발견, {}개 신규 저장",
+                    target.getName(), result.getArticleCount(), newArticles);
+        } else {
+            // 서킷이 열리면 재시도하지 않음 (죽은 타겟에 스레드/커넥션 낭비 방지)
+            boolean circuitOpened = crawlCircuitBreakerService.onFailure(target.getId());
+
+            // 재시도 예약 후 실패 이력 기록 (재시도 상태/시도 횟수 포함)
+            LocalDateTime nextRetryAt = circuitOpened ? null : scheduleRetry(target, attempt);
+            crawlHistoryService.recordFailure(target, result.getErrorMessage(), result.getDurationMs(),
+                    attempt, nextRetryAt);
+            crawlTargetService.updateLastCrawlStatus(target.getId(), CrawlTarget.CrawlStatus.FAILED);
+
+            log.error("크롤링 실패: {} - {}", target.getName(), result.getErrorMessage());
         }
 
-        if (result.isSuccess()) {
-            int newArticles = 0;
+        return result;
+    }
+
+    /**
+     * 기사 저장 단계
+     * - 크롤러가 페이지 단위로 넘기는 배치와 최종 결과를 모두 받아 URL 기준으로 한 번씩만 저장
+     * - URL 없음 / 미디어 파일 필터링 후 배치 단위로 중복 체크 및 저장, 신규 기사는 AI 분석 요청
+     * - 본문이 없거나 제목이 의미 없는 신규 기사는 상세 페이지 메타데이터를 먼저 수집한 뒤 AI 분석 요청
+     *   (원문 fetch가 순차 처리되는 AI 분석 스레드가 아닌 crawlFanOutExecutor에서 실행됨)
+     * - 팬아웃 크롤링에서는 여러 스레드가 동시에 호출하므로 배치 단위로 직렬화
+     */
+    private final class ArticleIngest implements Consumer<List<CrawlResult.ArticleData>> {
+
+        private final CrawlTarget target;
+        private final Set<String> ingestedUrls = new HashSet<>();
+        private int newArticles;
+
+        private ArticleIngest(CrawlTarget target) {
+            this.target = target;
+        }
 
-            for (CrawlResult.ArticleData articleData : result.getArticles()) {
-                // 빈 제목 또는 URL 체크
-                String title = articleData.getTitle();
+        @Override
+        public synchronized void accept(List<CrawlResult.ArticleData> batch) {
+            List<CrawlResult.ArticleData> candidates = new ArrayList<>();
+            for (CrawlResult.ArticleData articleData : batch) {
                 String url = articleData.getUrl();
                 if (url == null || url.isEmpty()) {
                     log.warn("URL이 없는 기사 건너뜀");
                     continue;
                 }
-
-                // 이미지/미디어 URL 필터링
+                if (ingestedUrls.contains(url)) {
+                    continue;
+                }
                 if (isMediaUrl(url)) {
                     log.warn("미디어 파일 URL 건너뜀: {}", url);
                     continue;
                 }
+                candidates.add(articleData);
+            }
+            if (candidates.isEmpty()) {
+                return;
+            }
 
-                // 중복 체크 후 저장
-                if (!newsArticleService.existsByHash(url, title)) {
-                    NewsArticle saved = newsArticleService.save(
-                            target,
-                            articleData.getUrl(),
-                            articleData.getTitle(),
-                            articleData.getContent(),
-                            articleData.getAuthor(),
-                            articleData.getPublishedAt(),
-                            articleData.getThumbnailUrl()
-                    );
-                    if (saved != null) {
-                        newArticles++;
-
-                        // 비동기로 AI 분석 수행 (크롤링 응답을 블로킹하지 않음)
-                        log.info("AI 분석 비동기 요청: {} (ID: {})", saved.getTitle(), saved.getId());
-                        aiSummaryService.summarizeArticleAsync(saved.getId());
-                    }
+            List<NewsArticle> savedArticles = newsArticleService.saveAllIfAbsent(target, candidates);
+            candidates.forEach(article -> ingestedUrls.add(article.getUrl()));
+            newArticles += savedArticles.size();
+
+            // 비동기로 AI 분석 수행 (크롤링 응답을 블로킹하지 않음)
+            for (NewsArticle saved : savedArticles) {
+                if (needsCrawlMetadata(saved)) {
+                    captureMetadataThenAnalyze(saved);
+                } else {
+                    requestAnalysis(saved.getId(), saved.getTitle());
                 }
             }
+        }
 
-            // 크롤링 이력 기록
-            crawlHistoryService.recordSuccess(target, result.getArticleCount(), newArticles, result.getDurationMs());
+        private boolean needsCrawlMetadata(NewsArticle saved) {
+            return crawlerConfig.isCaptureArticleMetadata() && saved.getMetadataCapturedAt() == null
+                    && (saved.getContent() == null || saved.getContent().isBlank()
+                        || articleMetadataExtractor.isGenericTitle(saved.getTitle()));
+        }
 
-            // 타겟 상태 업데이트
-            crawlTargetService.updateLastCrawlStatus(target.getId(), CrawlTarget.CrawlStatus.SUCCESS);
+        private void captureMetadataThenAnalyze(NewsArticle saved) {
+            Long articleId = saved.getId();
+            boolean replaceTitle = articleMetadataExtractor.isGenericTitle(saved.getTitle());
+            webCrawler.fetchArticleMetadataAsync(saved.getOriginalUrl())
+                    .thenAccept(metadata -> {
+                        // 봇 차단 페이지면 저장하지 않음 (AI 분석 단계에서 브라우저로 다시 시도)
+                        if (metadata != null
+                                && !articleMetadataExtractor.isChallengePage(metadata.getTitle(), metadata.getContent())) {
+                            newsArticleService.applyCrawlMetadata(articleId, metadata, replaceTitle);
+                        }
+                    })
+                    .whenComplete((done, e) -> {
+                        if (e != null) {
+                            log.warn("기사 메타데이터 반영 실패 (ID: {}): {}", articleId, e.getMessage());
+                        }
+                        requestAnalysis(articleId, saved.getTitle());
+                    });
+        }
 
-            log.info("크롤링 완료: {} - 총 {}개 기사 발견, {}개 신규 저장",
-                    target.getName(), result.getArticleCount(), newArticles);
-        } else {
-            // 실패 이력 기록
-            crawlHistoryService.recordFailure(target, result.getErrorMessage(), result.getDurationMs());
-            crawlTargetService.updateLastCrawlStatus(target.getId(), CrawlTarget.CrawlStatus.FAILED);
+        private void requestAnalysis(Long articleId, String title) {
+            log.info("AI 분석 대기열 등록: {} (ID: {})", title, articleId);
+            aiAnalysisQueueService.enqueue(articleId, AiAnalysisJob.Lane.FRESH);
+        }
 
-            log.error("크롤링 실패: {} - {}", target.getName(), result.getErrorMessage());
+        synchronized int getNewArticles() {
+            return newArticles;
         }
+    }
 
-        return result;
+    /**
+     * Selenium 크롤링 (브라우저를 쓸 수 없으면 Jsoup으로 폴백)
+     */
+    private CrawlResult crawlWithBrowser(CrawlTarget target, Predicate<String> isKnownUrl) {
+        // Selenium 사용 가능 여부 확인
+        if (seleniumCrawler.isAvailable()) {
+            log.info("DYNAMIC 크롤링 사용 (Selenium): {}", target.getName());
+            CrawlResult result = seleniumCrawler.crawl(target, isKnownUrl);
+            if (result.isSuccess()) {
+                // 가끔 정적 fetch로도 수집해 브라우저가 필요한지 비교 (백그라운드)
+                renderProbeService.probeIfDue(target, result);
+            }
+
+            // Selenium 실패 시 Jsoup으로 폴백 시도
+            if (!result.isSuccess() && result.getErrorMessage() != null &&
+                    (result.getErrorMessage().contains("Could not start a new session") ||
+                     result.getErrorMessage().contains("session not created") ||
+                     result.getErrorMessage().contains("unable to connect") ||
+                     result.getErrorMessage().contains("브라우저 대여 타임아웃"))) {
+                log.warn("Selenium 세션 생성 실패 또는 브라우저 풀 포화, Jsoup으로 폴백 시도: {}", target.getName());
+                result = webCrawler.crawl(target, isKnownUrl);
+                if (result.isSuccess()) {
+                    log.info("Jsoup 폴백 크롤링 성공: {} - {}개 기사", target.getName(), result.getArticleCount());
+                }
+            }
+            return result;
+        }
+
+        // Selenium 사용 불가 시 Jsoup으로 폴백
+        log.warn("Selenium 사용 불가 ({}), Jsoup으로 폴백: {}",
+                seleniumCrawler.getUnavailableReason(), target.getName());
+        return webCrawler.crawl(target, isKnownUrl);
+    }
+
+    /**
+     * API 탐색 - 브라우저로 페이지를 한 번 렌더링하며 기사 목록 JSON API를 찾아 템플릿으로 저장
+     * - 찾은 API를 브라우저 없이 재현해 기사가 나올 때만 저장 (쿠키/토큰이 필요한 API는 제외)
+     */
+    public CrawlTargetDto.ApiDiscoveryResponse discoverApi(Long targetId) {
+        CrawlTarget target = crawlTargetService.findEntityById(targetId);
+        if (!seleniumCrawler.isAvailable()) {
+            return discoveryFailure("Selenium 사용 불가: " + seleniumCrawler.getUnavailableReason(), 0);
+        }
+
+        List<SeleniumCrawler.CapturedResponse> captured;
+        try {
+            captured = seleniumCrawler.captureJsonResponses(target);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return discoveryFailure("API 탐색 중단됨", 0);
+        } catch (Exception e) {
+            log.error("API 탐색 실패: {} - {}", target.getName(), e.getMessage());
+            return discoveryFailure("API 탐색 실패: " + e.getMessage(), 0);
+        }
+
+        ApiRequestTemplate template = apiCrawler.buildTemplate(target, captured);
+        if (template == null) {
+            return discoveryFailure("기사 목록을 담은 JSON 응답을 찾지 못했습니다", captured.size());
+        }
+
+        List<CrawlResult.ArticleData> replayed;
+        try {
+            replayed = apiCrawler.replay(template, target.getUrl());
+        } catch (Exception e) {
+            log.warn("API 재현 실패: {} - {}", target.getName(), e.getMessage());
+            replayed = List.of();
+        }
+        if (replayed.isEmpty()) {
+            CrawlTargetDto.ApiDiscoveryResponse response =
+                    discoveryFailure("API를 브라우저 없이 재현할 수 없습니다 (세션/토큰 필요 가능성)", captured.size());
+            response.setTemplate(template);
+            return response;
+        }
+
+        try {
+            crawlTargetService.updateApiTemplate(targetId, objectMapper.writeValueAsString(template));
+        } catch (JsonProcessingException e) {
+            return discoveryFailure("API 템플릿 저장 실패: " + e.getOriginalMessage(), captured.size());
+        }
+        log.info("API 탐색 완료: {} - {} ({}개 기사)", target.getName(), template.getUrl(), replayed.size());
+
+        return CrawlTargetDto.ApiDiscoveryResponse.builder()
+                .discovered(true)
+                .message("API 템플릿을 저장했습니다. 다음 크롤링부터 브라우저 없이 호출합니다")
+                .capturedCount(captured.size())
+                .template(template)
+                .articleCount(replayed.size())
+                .sampleTitles(replayed.stream().limit(5).map(CrawlResult.ArticleData::getTitle).toList())
+                .build();
+    }
+
+    /**
+     * 재추출 - 마지막으로 저장된 목록 페이지 스냅샷에 현재 선택자를 다시 적용 (원본 사이트 요청 없음)
+     * - 추출된 기사 중 신규만 저장하고 AI 분석 요청
+     */
+    public CrawlTargetDto.ReExtractResponse reExtract(Long targetId) {
+        CrawlTarget target = crawlTargetService.findEntityById(targetId);
+        if (!htmlSnapshotStore.isEnabled()) {
+            return reExtractFailure("HTML 스냅샷 저장이 비활성화되어 있습니다", null);
+        }
+        HtmlSnapshotStore.Snapshot snapshot = htmlSnapshotStore.latest(target.getUrl()).orElse(null);
+        if (snapshot == null) {
+            return reExtractFailure("저장된 스냅샷이 없습니다. 먼저 크롤링을 실행하세요", null);
+        }
+        Document doc = htmlSnapshotStore.load(snapshot).orElse(null);
+        if (doc == null) {
+            return reExtractFailure("스냅샷을 읽을 수 없습니다 (만료되었거나 손상됨)", snapshot);
+        }
+
+        CrawlResult result = webCrawler.extractFromSnapshot(target, doc);
+        if (!result.isSuccess()) {
+            return reExtractFailure(result.getErrorMessage(), snapshot);
+        }
+        ArticleIngest ingest = new ArticleIngest(target);
+        ingest.accept(result.getArticles());
+        log.info("스냅샷 재추출 완료: {} - {}개 기사, 신규 {}개 (스냅샷 {})",
+                target.getName(), result.getArticleCount(), ingest.getNewArticles(), snapshot.fetchedAt());
+
+        return CrawlTargetDto.ReExtractResponse.builder()
+                .reExtracted(true)
+                .message("스냅샷에서 " + result.getArticleCount() + "개 기사를 추출했습니다")
+                .snapshotFetchedAt(snapshot.fetchedAt())
+                .snapshotSource(snapshot.source().name())
+                .articleCount(result.getArticleCount())
+                .newArticles(ingest.getNewArticles())
+                .sampleTitles(result.getArticles().stream().limit(5).map(CrawlResult.ArticleData::getTitle).toList())
+                .build();
+    }
+
+    private CrawlTargetDto.ReExtractResponse reExtractFailure(String message, HtmlSnapshotStore.Snapshot snapshot) {
+        return CrawlTargetDto.ReExtractResponse.builder()
+                .reExtracted(false)
+                .message(message)
+                .snapshotFetchedAt(snapshot != null ? snapshot.fetchedAt() : null)
+                .snapshotSource(snapshot != null ? snapshot.source().name() : null)
+                .build();
     }
 
+    private CrawlTargetDto.ApiDiscoveryResponse discoveryFailure(String message, int capturedCount) {
+        return CrawlTargetDto.ApiDiscoveryResponse.builder()
+                .discovered(false)
+                .message(message)
+                .capturedCount(capturedCount)
+                .build();
+    }
+
+    /**
+     * 활성화된 모든 타겟을 병렬 크롤링 엔진으로 실행합니다.
+     * - 서로 다른 호스트는 동시에 실행되고, 같은 호스트만 politeness 딜레이를 두고 직렬화
+     * - 전체 소요 시간은 타겟 수의 합이 아닌 가장 느린 호스트에 수렴
+     */
     public void executeAllEnabledCrawls() {
         log.info("전체 크롤링 시작");
+        long startTime = System.currentTimeMillis();
 
-        for (CrawlTarget target : crawlTargetService.findEnabledTargets()) {
-            try {
-                executeCrawlWithRetry(target);
-
-                // 요청 간 딜레이
-                Thread.sleep(2000);
-            } catch (InterruptedException e) {
-                Thread.currentThread().interrupt();
-                log.warn("크롤링이 중단되었습니다");
-                break;
-            } catch (Exception e) {
-                log.error("크롤링 중 오류 발생: {} - {}", target.getName(), e.getMessage());
+        List<CrawlTarget> targets = crawlTargetService.findEnabledTargets();
+        List<CompletableFuture<Void>> futures = new ArrayList<>();
+
+        for (CrawlTarget target : targets) {
+            if (!crawlCircuitBreakerService.allowExecution(target.getId())) {
+                continue;
             }
+            futures.add(parallelCrawlEngine.submit(target, () -> {
+                try {
+                    executeCrawlWithRetry(target);
+                } catch (Exception e) {
+                    log.error("크롤링 중 오류 발생: {} - {}", target.getName(), e.getMessage());
+                }
+            }));
+        }
+
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture<?>[0])).join();
+        } catch (Exception e) {
+            log.warn("전체 크롤링 대기 중 오류: {}", e.getMessage());
         }
 
-        log.info("전체 크롤링 완료");
+        log.info("전체 크롤링 완료: {}개 타겟, 소요시간 {}ms", targets.size(), System.currentTimeMillis() - startTime);
     }
 
     /**
@@ -0,0 +1,106 @@
+package com.aiinsight.service;
+
+import com.aiinsight.crawler.CrawlerConfig;
+import com.aiinsight.domain.crawl.CrawlHistory;
+import com.aiinsight.domain.crawl.CrawlHistoryRepository;
+import com.aiinsight.domain.crawl.CrawlTarget;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 적응형 크롤링 주기 계산 (scheduleMode = ADAPTIVE)
+ * - 최근 windowSize회 실행의 신규 기사 수로 시간당 신규 기사 발생률 추정
+ * - 발생률이 높으면 간격 단축, 최근 실행에서 신규 기사가 없으면 간격을 배수로 늘림
+ * - 결과는 [minIntervalMinutes, maxIntervalMinutes] 범위로 제한
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+@Transactional(readOnly = true)
+public class CrawlFrequencyService {
+
+    // 실패 이력은 신규 기사 수 의미가 없으므로 제외 (실패는 재시도 로직이 담당)
+    private static final Set<CrawlTarget.CrawlStatus> YIELD_STATUSES = EnumSet.of(
+            CrawlTarget.CrawlStatus.SUCCESS, CrawlTarget.CrawlStatus.PARTIAL, CrawlTarget.CrawlStatus.UNCHANGED);
+
+    private final CrawlHistoryRepository crawlHistoryRepository;
+    private final CrawlerConfig crawlerConfig;
+
+    /**
+     * 다음 크롤링까지의 간격 계산
+     */
+    public Duration computeNextInterval(Long targetId) {
+        CrawlerConfig.AdaptiveScheduleConfig config = crawlerConfig.getAdaptive();
+        long minMinutes = Math.max(1, config.getMinIntervalMinutes());
+        long maxMinutes = Math.max(minMinutes, config.getMaxIntervalMinutes());
+
+        List<CrawlHistory> window = crawlHistoryRepository.findByTargetIdAndStatusInOrderByExecutedAtDesc(
+                targetId, YIELD_STATUSES, PageRequest.of(0, Math.max(1, config.getWindowSize())));
+        if (window.isEmpty()) {
+            return withJitter(clamp(config.getInitialIntervalMinutes(), minMinutes, maxMinutes), config);
+        }
+
+        CrawlHistory latest = window.get(0);
+        LocalDateTime now = LocalDateTime.now();
+
+        // 직전 간격 (이력이 하나뿐이면 초기 간격 기준)
+        double lastInterval = window.size() >= 2
+                ? minutesBetween(window.get(1).getExecutedAt(), latest.getExecutedAt())
+                : config.getInitialIntervalMinutes();
+        lastInterval = clamp(lastInterval, minMinutes, maxMinutes);
+
+        int totalNew = window.stream().mapToInt(h -> h.getArticlesNew() != null ? h.getArticlesNew() : 0).sum();
+        int latestNew = latest.getArticlesNew() != null ? latest.getArticlesNew() : 0;
+
+        double interval;
+        if (totalNew == 0) {
+            // 구간 전체에서 신규 기사 없음 - 지수 백오프
+            interval = lastInterval * config.getBackoffMultiplier();
+        } else {
+            // 신규 기사 발생률(건/분) 기준으로 한 번에 targetNewPerCrawl건이 쌓이는 간격
+            double spanMinutes = Math.max(1, minutesBetween(window.get(window.size() - 1).getExecutedAt(), now));
+            double ratePerMinute = totalNew / spanMinutes;
+            interval = config.getTargetNewPerCrawl() / ratePerMinute;
+
+            if (latestNew >= config.getBurstThreshold()) {
+                // 버스트 - 직전 간격보다 확실히 당김
+                interval = Math.min(interval, lastInterval * config.getBurstMultiplier());
+            } else if (latestNew == 0) {
+                // 직전 실행이 비었으면 당기지 않음
+                interval = Math.max(interval, lastInterval);
+            }
+        }
+
+        long minutes = clamp(interval, minMinutes, maxMinutes);
+        log.debug("적응형 주기 계산: targetId={}, 최근 {}회 신규 {}건 (직전 {}건), 직전 간격 {}분 -> {}분",
+                targetId, window.size(), totalNew, latestNew, Math.round(lastInterval), minutes);
+        return withJitter(minutes, config);
+    }
+
+    private Duration withJitter(long minutes, CrawlerConfig.AdaptiveScheduleConfig config) {
+        long seconds = minutes * 60;
+        long jitter = (long) (seconds * config.getJitterRatio());
+        if (jitter > 0) {
+            seconds += ThreadLocalRandom.current().nextLong(-jitter, jitter + 1);
+        }
+        return Duration.ofSeconds(Math.max(60, seconds));
+    }
+
+    private double minutesBetween(LocalDateTime from, LocalDateTime to) {
+        return Duration.between(from, to).toSeconds() / 60.0;
+    }
+
+    private long clamp(double minutes, long min, long max) {
+        return Math.max(min, Math.min(max, Math.round(minutes)));
+    }
+}
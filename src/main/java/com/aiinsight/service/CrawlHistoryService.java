@@ -48,21 +48,38 @@ public class CrawlHistoryService {
 
     @Transactional
     public CrawlHistory recordSuccess(CrawlTarget target, int articlesFound, int articlesNew, long durationMs) {
+        return recordSuccess(target, articlesFound, articlesNew, durationMs, 1);
+    }
+
+    @Transactional
+    public CrawlHistory recordSuccess(CrawlTarget target, int articlesFound, int articlesNew, long durationMs,
+                                      int attempt) {
         CrawlHistory history = CrawlHistory.builder()
                 .target(target)
                 .status(CrawlTarget.CrawlStatus.SUCCESS)
                 .articlesFound(articlesFound)
                 .articlesNew(articlesNew)
                 .durationMs(durationMs)
+                .attempt(attempt)
                 .build();
 
         CrawlHistory saved = crawlHistoryRepository.save(history);
-        log.info("크롤링 성공 기록: {} - 발견: {}, 신규: {}", target.getName(), articlesFound, articlesNew);
+        log.info("크롤링 성공 기록: {} - 발견: {}, 신규: {}, 시도: {}", target.getName(), articlesFound, articlesNew, attempt);
         return saved;
     }
 
     @Transactional
     public CrawlHistory recordFailure(CrawlTarget target, String errorMessage, long durationMs) {
+        return recordFailure(target, errorMessage, durationMs, 1, null);
+    }
+
+    /**
+     * 실패 이력 기록
+     * @param nextRetryAt 재시도가 예약된 경우 예정 시각, 더 이상 재시도하지 않으면 null
+     */
+    @Transactional
+    public CrawlHistory recordFailure(CrawlTarget target, String errorMessage, long durationMs,
+                                      int attempt, LocalDateTime nextRetryAt) {
         CrawlHistory history = CrawlHistory.builder()
                 .target(target)
                 .status(CrawlTarget.CrawlStatus.FAILED)
@@ -70,10 +87,32 @@ public class CrawlHistoryService {
                 .articlesNew(0)
                 .durationMs(durationMs)
                 .errorMessage(errorMessage)
+                .attempt(attempt)
+                .nextRetryAt(nextRetryAt)
+                .build();
+
+        CrawlHistory saved = crawlHistoryRepository.save(history);
+        log.error("크롤링 실패 기록: {} - {} (시도: {}, 다음 재시도: {})",
+                target.getName(), errorMessage, attempt, nextRetryAt != null ? nextRetryAt : "없음");
+        return saved;
+    }
+
+    /**
+     * 변경 없음 이력 기록 (304 또는 동일 본문으로 추출 생략)
+     */
+    @Transactional
+    public CrawlHistory recordUnchanged(CrawlTarget target, long durationMs, int attempt) {
+        CrawlHistory history = CrawlHistory.builder()
+                .target(target)
+                .status(CrawlTarget.CrawlStatus.UNCHANGED)
+                .articlesFound(0)
+                .articlesNew(0)
+                .durationMs(durationMs)
+                .attempt(attempt)
                 .build();
 
         CrawlHistory saved = crawlHistoryRepository.save(history);
-        log.error("크롤링 실패 기록: {} - {}", target.getName(), errorMessage);
+        log.info("크롤링 변경 없음 기록: {} ({}ms)", target.getName(), durationMs);
         return saved;
     }
 
@@ -97,7 +136,9 @@ public class CrawlHistoryService {
 
     public Long countSuccessfulToday() {
         LocalDateTime startOfDay = LocalDateTime.now().toLocalDate().atStartOfDay();
-        return crawlHistoryRepository.countByStatusAfter(CrawlTarget.CrawlStatus.SUCCESS, startOfDay);
+        // 변경 없음도 정상 완료된 실행으로 집계
+        return crawlHistoryRepository.countByStatusAfter(CrawlTarget.CrawlStatus.SUCCESS, startOfDay)
+                + crawlHistoryRepository.countByStatusAfter(CrawlTarget.CrawlStatus.UNCHANGED, startOfDay);
     }
 
     public Long countFailedToday() {
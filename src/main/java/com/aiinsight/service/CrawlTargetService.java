@@ -11,6 +11,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -61,6 +62,9 @@ public class CrawlTargetService {
                 .selectorConfig(request.getSelectorConfig())
                 .cronExpression(request.getCronExpression())
                 .crawlType(request.getCrawlType() != null ? request.getCrawlType() : CrawlTarget.CrawlType.STATIC)
+                .feedUrl(blankToNull(request.getFeedUrl()))
+                .scheduleMode(request.getScheduleMode() != null
+                        ? request.getScheduleMode() : CrawlTarget.ScheduleMode.CRON)
                 .enabled(request.getEnabled() != null ? request.getEnabled() : true)
                 .build();
 
@@ -79,6 +83,30 @@ public class CrawlTargetService {
                 throw new IllegalArgumentException("이미 등록된 URL입니다: " + request.getUrl());
             }
             target.setUrl(request.getUrl());
+            clearCacheValidators(target);
+            resetRenderProbe(target);
+            if (request.getFeedUrl() == null) {
+                // 자동 탐색된 피드 URL은 이전 페이지 기준이므로 다시 탐색
+                target.setFeedUrl(null);
+            }
+            if (request.getApiTemplate() == null) {
+                // 탐색된 API도 이전 페이지 기준
+                target.setApiTemplate(null);
+            }
+        }
+        if (request.getApiTemplate() != null) {
+            String apiTemplate = blankToNull(request.getApiTemplate());
+            if (!java.util.Objects.equals(apiTemplate, target.getApiTemplate())) {
+                target.setApiTemplate(apiTemplate);
+                clearCacheValidators(target);
+            }
+        }
+        if (request.getFeedUrl() != null) {
+            String feedUrl = blankToNull(request.getFeedUrl());
+            if (!java.util.Objects.equals(feedUrl, target.getFeedUrl())) {
+                target.setFeedUrl(feedUrl);
+                clearCacheValidators(target);
+            }
         }
 
         if (request.getName() != null) {
@@ -88,12 +116,30 @@ public class CrawlTargetService {
             target.setDescription(request.getDescription());
         }
         if (request.getSelectorConfig() != null) {
+            if (!request.getSelectorConfig().equals(target.getSelectorConfig())) {
+                // 선택자가 바뀌면 같은 페이지라도 다시 추출해야 함
+                clearCacheValidators(target);
+                resetRenderProbe(target);
+            }
             target.setSelectorConfig(request.getSelectorConfig());
         }
         if (request.getCronExpression() != null) {
+            if (!request.getCronExpression().equals(target.getCronExpression())) {
+                target.setNextCrawlAt(null);
+            }
             target.setCronExpression(request.getCronExpression());
         }
+        if (request.getScheduleMode() != null && request.getScheduleMode() != target.getScheduleMode()) {
+            // 방식이 바뀌면 다음 실행 시각은 스케줄러가 다시 계산
+            target.setScheduleMode(request.getScheduleMode());
+            target.setNextCrawlAt(null);
+        }
         if (request.getCrawlType() != null) {
+            if (request.getCrawlType() != target.getCrawlType()) {
+                // 크롤러가 바뀌면 검증자/지문의 기준 문서도 달라짐
+                clearCacheValidators(target);
+                resetRenderProbe(target);
+            }
             target.setCrawlType(request.getCrawlType());
         }
         if (request.getEnabled() != null) {
@@ -125,10 +171,72 @@ public class CrawlTargetService {
 
     @Transactional
     public void updateLastCrawlStatus(Long id, CrawlTarget.CrawlStatus status) {
+        if (crawlTargetRepository.updateLastCrawlStatus(id, status, LocalDateTime.now()) == 0) {
+            throw new EntityNotFoundException("크롤링 대상을 찾을 수 없습니다: " + id);
+        }
+    }
+
+    /**
+     * 조건부 GET 캐시 검증자 저장 (ETag / Last-Modified / 본문 지문)
+     */
+    @Transactional
+    public void updateCacheValidators(Long id, String etag, String lastModified, String contentFingerprint) {
+        if (crawlTargetRepository.updateCacheValidators(id, etag, lastModified, contentFingerprint) == 0) {
+            throw new EntityNotFoundException("크롤링 대상을 찾을 수 없습니다: " + id);
+        }
+    }
+
+    /**
+     * 스케줄러가 계산한 다음 크롤링 예정 시각 저장
+     */
+    @Transactional
+    public void updateNextCrawlAt(Long id, LocalDateTime nextCrawlAt) {
+        crawlTargetRepository.updateNextCrawlAt(id, nextCrawlAt);
+    }
+
+    /**
+     * 자동 탐색된 피드 URL 저장 (다음 실행부터 HTML 탐색 생략)
+     */
+    @Transactional
+    public void updateFeedUrl(Long id, String feedUrl) {
+        CrawlTarget target = crawlTargetRepository.findById(id)
+                .orElseThrow(() -> new EntityNotFoundException("크롤링 대상을 찾을 수 없습니다: " + id));
+        target.setFeedUrl(feedUrl);
+        crawlTargetRepository.save(target);
+        log.info("피드 URL 저장: {} -> {}", target.getName(), feedUrl);
+    }
+
+    /**
+     * API 탐색 결과 저장 (다음 실행부터 브라우저 대신 API 호출)
+     */
+    @Transactional
+    public void updateApiTemplate(Long id, String apiTemplate) {
         CrawlTarget target = crawlTargetRepository.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("크롤링 대상을 찾을 수 없습니다: " + id));
-        target.setLastStatus(status);
-        target.setLastCrawledAt(java.time.LocalDateTime.now());
+        target.setApiTemplate(apiTemplate);
+        // 지문 기준 문서가 렌더링 페이지에서 API 응답으로 바뀜
+        clearCacheValidators(target);
         crawlTargetRepository.save(target);
+        log.info("API 템플릿 저장: {}", target.getName());
+    }
+
+    private String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * 렌더링 비교 결과 초기화 (페이지/선택자가 바뀌면 이전 비교는 무효)
+     */
+    private void resetRenderProbe(CrawlTarget target) {
+        target.setStaticCapable(false);
+        target.setRenderProbeMatches(0);
+        target.setRenderProbedAt(null);
+        target.setRenderBaselineCount(null);
+    }
+
+    private void clearCacheValidators(CrawlTarget target) {
+        target.setHttpEtag(null);
+        target.setHttpLastModified(null);
+        target.setContentFingerprint(null);
     }
 }
@@ -14,17 +14,13 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.io.OutputStreamWriter;
 import java.net.HttpURLConnection;
 import java.net.URL;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -45,6 +41,10 @@ public class DailyReportService {
     private final EmbeddingService embeddingService;
     private final AiConfig aiConfig;
     private final ObjectMapper objectMapper;
+    private final ClaudeCliGateway claudeCliGateway;
+
+    // 토픽별 요약 CLI 호출 타임아웃
+    private static final Duration TOPIC_SUMMARY_TIMEOUT = Duration.ofSeconds(120);
 
     /**
      * RAG 기반 고도화된 월간 리포트 생성
@@ -463,7 +463,7 @@ public class DailyReportService {
                     String.join("\n\n", topArticleSummaries)
             );
 
-            String summary = callClaudeCLI(prompt);
+            String summary = claudeCliGateway.call(prompt, Duration.ofSeconds(aiConfig.getClaudeCli().getTimeout()));
             log.info("Claude AI Executive Summary 생성 완료: {}자", summary.length());
             return summary;
 
@@ -473,50 +473,6 @@ public class DailyReportService {
         }
     }
 
-    /**
-     * Claude CLI 호출
-     */
-    private String callClaudeCLI(String prompt) throws Exception {
-        int timeout = aiConfig.getClaudeCli().getTimeout();
-        String claudeCommand = aiConfig.getClaudeCli().getCommand();
-
-        ProcessBuilder pb = new ProcessBuilder(claudeCommand, "--headless");
-        pb.redirectErrorStream(true);
-
-        Process process = pb.start();
-
-        // 프롬프트 전송
-        try (OutputStreamWriter writer = new OutputStreamWriter(process.getOutputStream(), StandardCharsets.UTF_8)) {
-            writer.write(prompt);
-            writer.flush();
-        }
-
-        // 타임아웃과 함께 응답 대기
-        boolean finished = process.waitFor(timeout, TimeUnit.SECONDS);
-
-        if (!finished) {
-            process.destroyForcibly();
-            throw new RuntimeException("Claude CLI 타임아웃: " + timeout + "초 초과");
-        }
-
-        // 응답 읽기
-        StringBuilder response = new StringBuilder();
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                response.append(line).append("\n");
-            }
-        }
-
-        int exitCode = process.exitValue();
-        if (exitCode != 0) {
-            throw new RuntimeException("Claude CLI 실행 실패 (exit code: " + exitCode + ")");
-        }
-
-        return response.toString().trim();
-    }
-
     /**
      * Fallback Executive Summary (AI 실패 시)
      * - Railway 프로덕션 환경에서 사용됨
@@ -1056,8 +1012,8 @@ public class DailyReportService {
                     articlesInfo.toString()
             );
 
-            // Claude CLI 호출
-            String aiResponse = callClaudeCLIForSummary(prompt);
+            // Claude CLI 호출 (120초 타임아웃)
+            String aiResponse = claudeCliGateway.call(prompt, TOPIC_SUMMARY_TIMEOUT);
 
             if (aiResponse != null && !aiResponse.trim().isEmpty()) {
                 // 응답 파싱: TITLE: ... DESCRIPTION: ...
@@ -1098,58 +1054,6 @@ public class DailyReportService {
         }
     }
 
-    /**
-     * Phase 2: Claude CLI 호출 (15초 타임아웃)
-     * @param prompt Claude AI 프롬프트
-     * @return AI 생성 응답
-     */
-    private String callClaudeCLIForSummary(String prompt) {
-        try {
-            ProcessBuilder processBuilder = new ProcessBuilder(
-                    "claude", "--print", prompt
-            );
-            processBuilder.redirectErrorStream(false); // stderr 별도 처리
-
-            Process process = processBuilder.start();
-
-            // 120초 타임아웃 설정 (AI 응답 시간 고려)
-            if (!process.waitFor(120, TimeUnit.SECONDS)) {
-                process.destroy();
-                log.warn("Claude CLI 타임아웃 (120초)");
-                throw new RuntimeException("Claude CLI timeout");
-            }
-
-            // Exit code 확인
-            int exitCode = process.exitValue();
-            if (exitCode != 0) {
-                // 에러 출력 읽기
-                try (BufferedReader errorReader = new BufferedReader(
-                        new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
-                    String errorOutput = errorReader.lines().collect(Collectors.joining("\n"));
-                    log.error("Claude CLI 실행 실패 (exit code: {}): {}", exitCode, errorOutput);
-                }
-                throw new RuntimeException("Claude CLI failed with exit code: " + exitCode);
-            }
-
-            // 정상 출력 읽기
-            try (BufferedReader reader = new BufferedReader(
-                    new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-                String output = reader.lines().collect(Collectors.joining("\n"));
-
-                if (output == null || output.trim().isEmpty()) {
-                    log.warn("Claude CLI returned empty output");
-                    throw new RuntimeException("Claude CLI returned empty output");
-                }
-
-                return output.trim();
-            }
-
-        } catch (Exception e) {
-            log.error("Claude CLI 호출 실패", e);
-            throw new RuntimeException("Claude CLI call failed: " + e.getMessage(), e);
-        }
-    }
-
     /**
      * Phase 2: Fallback 토픽 설명 생성 (AI 실패 시)
      * @param articles 대표 기사 리스트
@@ -42,7 +42,9 @@ public class DashboardService {
         long todayCrawled = newsArticleRepository.countArticlesCrawledAfter(startOfDay);
 
         // 크롤링 통계
-        long successfulCrawls = crawlHistoryRepository.countByStatusAfter(CrawlTarget.CrawlStatus.SUCCESS, startOfDay);
+        // 변경 없음(UNCHANGED)도 정상 완료된 실행으로 집계
+        long successfulCrawls = crawlHistoryRepository.countByStatusAfter(CrawlTarget.CrawlStatus.SUCCESS, startOfDay)
+                + crawlHistoryRepository.countByStatusAfter(CrawlTarget.CrawlStatus.UNCHANGED, startOfDay);
         long failedCrawls = crawlHistoryRepository.countByStatusAfter(CrawlTarget.CrawlStatus.FAILED, startOfDay);
 
         // 카테고리 분포
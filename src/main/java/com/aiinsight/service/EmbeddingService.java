@@ -8,16 +8,14 @@ import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.http.HttpEntity;
-import org.springframework.http.HttpHeaders;
-import org.springframework.http.HttpMethod;
-import org.springframework.http.ResponseEntity;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
-import org.springframework.web.client.RestTemplate;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
 
 import java.time.LocalDateTime;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 
@@ -32,8 +30,9 @@ import java.util.Map;
 public class EmbeddingService {
 
     private final ArticleEmbeddingRepository embeddingRepository;
-    private final RestTemplate restTemplate;
     private final ObjectMapper objectMapper;
+    private final AiConcurrencyLimiter aiConcurrencyLimiter;
+    private final AiProviderClient aiProviderClient;
 
     @Value("${ai.embedding.provider:local-bge}")
     private String embeddingProvider; // local-bge | openai
@@ -75,25 +74,10 @@ public class EmbeddingService {
 
             long apiStartTime = System.currentTimeMillis();
             // 임베딩 생성 (provider에 따라 분기)
-            List<Double> embeddingVector = switch (embeddingProvider.toLowerCase()) {
-                case "openai" -> callOpenAiEmbeddingApi(embeddingText);
-                case "local-bge", "local" -> callLocalEmbeddingApi(embeddingText);
-                default -> throw new IllegalStateException("알 수 없는 임베딩 공급자: " + embeddingProvider);
-            };
+            List<Double> embeddingVector = requestEmbedding(embeddingText).block();
             long apiDuration = System.currentTimeMillis() - apiStartTime;
 
-            // ArticleEmbedding 엔티티 생성
-            ArticleEmbedding embedding = ArticleEmbedding.builder()
-                    .article(article)
-                    .embeddingVector(convertVectorToString(embeddingVector))
-                    .modelName(embeddingModel)
-                    .tokenCount(tokenCount)
-                    .qualityScore(calculateQualityScore(article))
-                    .createdAt(LocalDateTime.now())
-                    .build();
-
-            // 저장
-            ArticleEmbedding saved = embeddingRepository.save(embedding);
+            ArticleEmbedding saved = saveEmbedding(article, embeddingVector, tokenCount);
 
             long totalDuration = System.currentTimeMillis() - startTime;
             log.info("임베딩 저장 완료: 기사 ID {}, 토큰 수 {}, API 호출 {}ms, 전체 {}ms, 차원: {}",
@@ -108,6 +92,21 @@ public class EmbeddingService {
         }
     }
 
+    /**
+     * ArticleEmbedding 엔티티 생성 및 저장
+     */
+    private ArticleEmbedding saveEmbedding(NewsArticle article, List<Double> embeddingVector, int tokenCount) {
+        ArticleEmbedding embedding = ArticleEmbedding.builder()
+                .article(article)
+                .embeddingVector(convertVectorToString(embeddingVector))
+                .modelName(embeddingModel)
+                .tokenCount(tokenCount)
+                .qualityScore(calculateQualityScore(article))
+                .createdAt(LocalDateTime.now())
+                .build();
+        return embeddingRepository.save(embedding);
+    }
+
     /**
      * 임베딩 생성을 위한 텍스트 준비
      * - 우선순위: 한글 제목 > 영문 제목 > AI 요약 > 원본 요약
@@ -170,37 +169,31 @@ public class EmbeddingService {
     }
 
     /**
-     * OpenAI Embedding API 호출
+     * 임베딩 API 호출 (provider에 따라 OpenAI 또는 로컬 text-embeddings-inference 서버, 응답 형식은 동일)
      */
-    private List<Double> callOpenAiEmbeddingApi(String text) throws Exception {
-        if (openAiApiKey == null || openAiApiKey.isBlank()) {
-            throw new IllegalStateException("OpenAI API 키가 설정되지 않았습니다.");
-        }
-
-        // HTTP 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Authorization", "Bearer " + openAiApiKey);
-        headers.set("Content-Type", "application/json");
-
-        // 요청 바디 생성
+    private Mono<List<Double>> requestEmbedding(String text) {
+        // 요청 바디 생성 (text-embeddings-inference는 OpenAI 호환 형식을 사용)
         Map<String, Object> requestBody = new HashMap<>();
         requestBody.put("model", embeddingModel);
         requestBody.put("input", text);
-        requestBody.put("encoding_format", "float");
 
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-        // API 호출
-        ResponseEntity<String> response = restTemplate.exchange(
-                OPENAI_EMBEDDING_URL,
-                HttpMethod.POST,
-                entity,
-                String.class
-        );
+        Mono<JsonNode> response = switch (embeddingProvider.toLowerCase()) {
+            case "openai" -> {
+                if (openAiApiKey == null || openAiApiKey.isBlank()) {
+                    yield Mono.error(new IllegalStateException("OpenAI API 키가 설정되지 않았습니다."));
+                }
+                requestBody.put("encoding_format", "float");
+                yield aiProviderClient.embeddings(AiConcurrencyLimiter.Provider.OPENAI, OPENAI_EMBEDDING_URL, requestBody);
+            }
+            case "local-bge", "local" -> aiProviderClient.embeddings(
+                    AiConcurrencyLimiter.Provider.LOCAL_EMBEDDING, embeddingEndpoint, requestBody);
+            default -> Mono.error(new IllegalStateException("알 수 없는 임베딩 공급자: " + embeddingProvider));
+        };
+        return response.map(this::parseEmbedding);
+    }
 
-        // 응답 파싱
-        JsonNode root = objectMapper.readTree(response.getBody());
-        JsonNode embeddingNode = root.path("data").get(0).path("embedding");
+    private List<Double> parseEmbedding(JsonNode root) {
+        JsonNode embeddingNode = root.path("data").path(0).path("embedding");
 
         // List<Double>로 변환
         List<Double> embedding = objectMapper.convertValue(
@@ -208,10 +201,10 @@ public class EmbeddingService {
                 objectMapper.getTypeFactory().constructCollectionType(List.class, Double.class)
         );
 
-        if (embedding.size() != embeddingDimension) {
+        if (embedding == null || embedding.size() != embeddingDimension) {
             throw new IllegalStateException(
                     String.format("예상하지 못한 임베딩 차원: %d (예상: %d)",
-                    embedding.size(), embeddingDimension)
+                    embedding == null ? 0 : embedding.size(), embeddingDimension)
             );
         }
 
@@ -219,47 +212,40 @@ public class EmbeddingService {
     }
 
     /**
-     * 로컬 Hugging Face text-embeddings-inference 서버 호출 (BAAI/bge-m3)
+     * 여러 기사의 임베딩 API 호출을 동시에 보내고(공급자 한도 내) 응답이 오는 대로 모아 저장
+     * - 기사 엔티티 접근과 저장은 호출 스레드(트랜잭션)에서만 수행
+     * @return 저장된 임베딩 수
      */
-    private List<Double> callLocalEmbeddingApi(String text) throws Exception {
-        log.info("로컬 임베딩 API 호출 시작 - endpoint: {}, model: {}", embeddingEndpoint, embeddingModel);
-
-        // HTTP 헤더 설정
-        HttpHeaders headers = new HttpHeaders();
-        headers.set("Content-Type", "application/json");
-
-        // 요청 바디 생성 (text-embeddings-inference는 OpenAI 호환 형식을 사용)
-        Map<String, Object> requestBody = new HashMap<>();
-        requestBody.put("model", embeddingModel);
-        requestBody.put("input", text);
-
-        HttpEntity<Map<String, Object>> entity = new HttpEntity<>(requestBody, headers);
-
-        log.info("임베딩 서버로 요청 전송 중...");
-        ResponseEntity<String> response = restTemplate.exchange(
-                embeddingEndpoint,
-                HttpMethod.POST,
-                entity,
-                String.class
-        );
-        log.info("임베딩 서버 응답 수신 완료 - status: {}", response.getStatusCode());
-
-        JsonNode root = objectMapper.readTree(response.getBody());
-        JsonNode embeddingNode = root.path("data").get(0).path("embedding");
-
-        List<Double> embedding = objectMapper.convertValue(
-                embeddingNode,
-                objectMapper.getTypeFactory().constructCollectionType(List.class, Double.class)
-        );
-
-        if (embedding.size() != embeddingDimension) {
-            throw new IllegalStateException(
-                    String.format("예상하지 못한 임베딩 차원: %d (예상: %d)",
-                            embedding.size(), embeddingDimension)
-            );
+    private int generateEmbeddingsConcurrently(List<NewsArticle> articles) {
+        Map<NewsArticle, String> texts = new LinkedHashMap<>();
+        for (NewsArticle article : articles) {
+            if (!embeddingRepository.existsByArticle(article)) {
+                texts.put(article, prepareEmbeddingText(article));
+            }
         }
 
-        return embedding;
+        AiConcurrencyLimiter.Provider provider = "openai".equalsIgnoreCase(embeddingProvider)
+                ? AiConcurrencyLimiter.Provider.OPENAI : AiConcurrencyLimiter.Provider.LOCAL_EMBEDDING;
+        List<Map.Entry<NewsArticle, List<Double>>> vectors = Flux.fromIterable(texts.entrySet())
+                .flatMap(entry -> requestEmbedding(entry.getValue())
+                        .map(vector -> Map.entry(entry.getKey(), vector))
+                        .onErrorResume(e -> {
+                            log.error("배치 임베딩 생성 실패: 기사 ID {} - {}", entry.getKey().getId(), e.getMessage());
+                            return Mono.empty();
+                        }), aiConcurrencyLimiter.maxLimit(provider))
+                .collectList()
+                .block();
+
+        int saved = 0;
+        for (Map.Entry<NewsArticle, List<Double>> entry : vectors != null ? vectors : List.<Map.Entry<NewsArticle, List<Double>>>of()) {
+            try {
+                saveEmbedding(entry.getKey(), entry.getValue(), estimateTokenCount(texts.get(entry.getKey())));
+                saved++;
+            } catch (Exception e) {
+                log.error("배치 임베딩 저장 실패: 기사 ID {}", entry.getKey().getId(), e);
+            }
+        }
+        return saved;
     }
 
     /**
@@ -291,27 +277,8 @@ public class EmbeddingService {
 
         log.info("임베딩이 없는 기사: {}개", articlesWithoutEmbedding.size());
 
-        int successCount = 0;
-        int failCount = 0;
-        long totalApiTime = 0;
-
-        for (NewsArticle article : articlesWithoutEmbedding) {
-            try {
-                ArticleEmbedding embedding = generateAndSaveEmbedding(article);
-                if (embedding != null) {
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-
-                // API Rate Limit 방지를 위한 짧은 대기 (100ms)
-                Thread.sleep(100);
-
-            } catch (Exception e) {
-                failCount++;
-                log.error("배치 임베딩 생성 실패: 기사 ID {}", article.getId(), e);
-            }
-        }
+        int successCount = generateEmbeddingsConcurrently(articlesWithoutEmbedding);
+        int failCount = articlesWithoutEmbedding.size() - successCount;
 
         long batchDuration = System.currentTimeMillis() - batchStartTime;
         double avgTimePerArticle = articlesWithoutEmbedding.isEmpty() ? 0 : (double) batchDuration / articlesWithoutEmbedding.size();
@@ -340,26 +307,8 @@ public class EmbeddingService {
         log.info("중요도 HIGH이면서 임베딩이 없는 기사: {}개",
                 highImportanceArticles.size());
 
-        int successCount = 0;
-        int failCount = 0;
-
-        for (NewsArticle article : highImportanceArticles) {
-            try {
-                ArticleEmbedding embedding = generateAndSaveEmbedding(article);
-                if (embedding != null) {
-                    successCount++;
-                } else {
-                    failCount++;
-                }
-
-                // API Rate Limit 방지를 위한 짧은 대기 (100ms)
-                Thread.sleep(100);
-
-            } catch (Exception e) {
-                failCount++;
-                log.error("배치 임베딩 생성 실패: 기사 ID {}", article.getId(), e);
-            }
-        }
+        int successCount = generateEmbeddingsConcurrently(highImportanceArticles);
+        int failCount = highImportanceArticles.size() - successCount;
 
         long batchDuration = System.currentTimeMillis() - batchStartTime;
         double avgTimePerArticle = highImportanceArticles.isEmpty() ? 0 : (double) batchDuration / highImportanceArticles.size();
@@ -6,15 +6,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.io.BufferedReader;
-import java.io.InputStreamReader;
-import java.nio.charset.StandardCharsets;
+import java.time.Duration;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.format.DateTimeFormatter;
 import java.util.List;
 import java.util.Map;
-import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 /**
@@ -29,6 +26,10 @@ import java.util.stream.Collectors;
 public class ExecutiveSummaryService {
 
     private final NewsArticleRepository newsArticleRepository;
+    private final ClaudeCliGateway claudeCliGateway;
+
+    // Executive Summary CLI 호출 타임아웃
+    private static final Duration CLI_TIMEOUT = Duration.ofSeconds(60);
 
     /**
      * 특정 날짜의 Executive Summary 생성
@@ -131,7 +132,7 @@ public class ExecutiveSummaryService {
 
         // Claude CLI 호출
         try {
-            return callClaudeCLI(prompt.toString());
+            return claudeCliGateway.call(prompt.toString(), CLI_TIMEOUT);
         } catch (Exception e) {
             log.error("Claude CLI 호출 실패", e);
             return generateFallbackSummary(targetDate, todayArticles, pastArticles);
@@ -167,44 +168,6 @@ public class ExecutiveSummaryService {
         return sb.toString();
     }
 
-    /**
-     * Claude CLI 호출
-     */
-    private String callClaudeCLI(String prompt) throws Exception {
-        ProcessBuilder processBuilder = new ProcessBuilder(
-                "claude", "--print", prompt
-        );
-        processBuilder.redirectErrorStream(false);
-
-        Process process = processBuilder.start();
-
-        if (!process.waitFor(60, TimeUnit.SECONDS)) {
-            process.destroy();
-            throw new RuntimeException("Claude CLI timeout (60s)");
-        }
-
-        int exitCode = process.exitValue();
-        if (exitCode != 0) {
-            try (BufferedReader errorReader = new BufferedReader(
-                    new InputStreamReader(process.getErrorStream(), StandardCharsets.UTF_8))) {
-                String errorOutput = errorReader.lines().collect(Collectors.joining("\n"));
-                log.error("Claude CLI 실행 실패 (exit code: {}): {}", exitCode, errorOutput);
-            }
-            throw new RuntimeException("Claude CLI failed with exit code: " + exitCode);
-        }
-
-        try (BufferedReader reader = new BufferedReader(
-                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
-            String output = reader.lines().collect(Collectors.joining("\n"));
-
-            if (output == null || output.trim().isEmpty()) {
-                throw new RuntimeException("Claude CLI returned empty output");
-            }
-
-            return output.trim();
-        }
-    }
-
     /**
      * 빈 요약 생성 (기사가 없을 때)
      */
@@ -1,5 +1,6 @@
 package com.aiinsight.service;
 
+import com.aiinsight.crawler.CrawlResult;
 import com.aiinsight.domain.article.NewsArticle;
 import com.aiinsight.domain.article.NewsArticleRepository;
 import com.aiinsight.domain.crawl.CrawlTarget;
@@ -18,9 +19,14 @@ import java.nio.charset.StandardCharsets;
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.HexFormat;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Service
@@ -31,6 +37,7 @@ public class NewsArticleService {
 
     private final NewsArticleRepository newsArticleRepository;
     private final ArticleEmbeddingRepository articleEmbeddingRepository;
+    private final ArticleHashFilter articleHashFilter;
 
     public Page<NewsArticleDto.Response> findAll(Pageable pageable) {
         return newsArticleRepository.findAllByOrderByCrawledAtDesc(pageable)
@@ -84,8 +91,8 @@ public class NewsArticleService {
                             String author, LocalDateTime publishedAt, String thumbnailUrl) {
         String contentHash = generateHash(url, title);
 
-        // 중복 체크
-        if (newsArticleRepository.existsByContentHash(contentHash)) {
+        // 중복 체크 (Bloom 필터가 "확실히 없음"이면 DB 조회 생략)
+        if (articleHashFilter.mightContain(contentHash) && newsArticleRepository.existsByContentHash(contentHash)) {
             log.debug("이미 존재하는 기사: {}", title);
             return null;
         }
@@ -105,10 +112,66 @@ public class NewsArticleService {
                 .build();
 
         NewsArticle saved = newsArticleRepository.save(article);
+        articleHashFilter.put(contentHash);
         log.info("새 기사 저장: {} ({})", saved.getTitle(), saved.getId());
         return saved;
     }
 
+    /**
+     * 크롤링 결과 일괄 저장
+     * - URL 해시는 항목당 한 번만 계산, 기존 기사는 content_hash IN 쿼리 한 번으로 판별
+     * - 신규 기사는 JDBC 배치 INSERT (ON CONFLICT DO NOTHING) - 병렬 크롤링 경합에도 중복 없음
+     * @return 실제로 저장된 신규 기사
+     */
+    @Transactional
+    public List<NewsArticle> saveAllIfAbsent(CrawlTarget target, List<CrawlResult.ArticleData> items) {
+        // 같은 결과 안의 중복 URL 제거 (먼저 나온 항목 유지)
+        Map<String, CrawlResult.ArticleData> byHash = new LinkedHashMap<>();
+        for (CrawlResult.ArticleData item : items) {
+            byHash.putIfAbsent(generateHash(item.getUrl(), item.getTitle()), item);
+        }
+        if (byHash.isEmpty()) {
+            return List.of();
+        }
+
+        // Bloom 필터가 "있을 수도 있음"이라고 한 해시만 DB로 확인
+        List<String> maybeExisting = byHash.keySet().stream()
+                .filter(articleHashFilter::mightContain)
+                .toList();
+        Set<String> existing = maybeExisting.isEmpty() ? Set.of()
+                : new HashSet<>(newsArticleRepository.findExistingContentHashes(maybeExisting));
+
+        List<NewsArticle> candidates = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+        byHash.forEach((hash, item) -> {
+            if (existing.contains(hash)) {
+                return;
+            }
+            candidates.add(NewsArticle.builder()
+                    .target(target)
+                    .originalUrl(item.getUrl())
+                    .title(item.getTitle())
+                    .content(item.getContent())
+                    .author(item.getAuthor())
+                    .publishedAt(item.getPublishedAt())
+                    .thumbnailUrl(item.getThumbnailUrl())
+                    .description(item.getDescription())
+                    .siteName(item.getSiteName())
+                    .metadataCapturedAt(item.isMetadataCaptured() ? now : null)
+                    .contentHash(hash)
+                    .analysisStatus(NewsArticle.AnalysisStatus.PENDING)
+                    .isNew(true)
+                    .isSummarized(false)
+                    .build());
+        });
+
+        List<NewsArticle> saved = newsArticleRepository.insertIgnoringDuplicates(candidates);
+        saved.forEach(article -> articleHashFilter.put(article.getContentHash()));
+        log.info("기사 일괄 저장: {} - 후보 {}건, 기존 {}건, 신규 {}건",
+                target.getName(), byHash.size(), existing.size(), saved.size());
+        return saved;
+    }
+
     @Transactional
     public void updateSummary(Long id, String titleKo, String summary, Double relevanceScore,
                               NewsArticle.ArticleCategory category, NewsArticle.ArticleImportance importance,
@@ -151,6 +214,38 @@ public class NewsArticleService {
         });
     }
 
+    /**
+     * 크롤링 단계에서 가져온 상세 페이지 메타데이터 반영
+     * - 본문은 더 긴 쪽, 작성자/게시일/썸네일은 비어 있을 때만 채움
+     * @param replaceTitle 기존 제목이 비었거나 의미 없는 제목이면 true
+     */
+    @Transactional
+    public void applyCrawlMetadata(Long id, CrawlResult.ArticleData metadata, boolean replaceTitle) {
+        newsArticleRepository.findById(id).ifPresent(article -> {
+            if (replaceTitle && metadata.getTitle() != null && !metadata.getTitle().isBlank()) {
+                article.setTitle(metadata.getTitle());
+            }
+            String content = metadata.getContent();
+            if (content != null && (article.getContent() == null || content.length() > article.getContent().length())) {
+                article.setContent(content);
+            }
+            if (article.getAuthor() == null) {
+                article.setAuthor(metadata.getAuthor());
+            }
+            if (article.getPublishedAt() == null) {
+                article.setPublishedAt(metadata.getPublishedAt());
+            }
+            if (article.getThumbnailUrl() == null) {
+                article.setThumbnailUrl(metadata.getThumbnailUrl());
+            }
+            article.setDescription(metadata.getDescription());
+            article.setSiteName(metadata.getSiteName());
+            article.setMetadataCapturedAt(LocalDateTime.now());
+            newsArticleRepository.save(article);
+            log.debug("크롤링 메타데이터 반영: {} -> {}", id, article.getTitle());
+        });
+    }
+
     @Transactional
     public void markAsRead(List<Long> ids) {
         newsArticleRepository.markAsRead(ids);
@@ -176,6 +271,9 @@ public class NewsArticleService {
 
     public boolean existsByHash(String url, String title) {
         String hash = generateHash(url, title);
+        if (!articleHashFilter.mightContain(hash)) {
+            return false;
+        }
         return newsArticleRepository.existsByContentHash(hash);
     }
 
@@ -0,0 +1,165 @@
+package com.aiinsight.service;
+
+import com.aiinsight.crawler.CrawlResult;
+import com.aiinsight.crawler.CrawlerConfig;
+import com.aiinsight.crawler.ParallelCrawlEngine;
+import com.aiinsight.crawler.WebCrawler;
+import com.aiinsight.domain.crawl.CrawlTarget;
+import com.aiinsight.domain.crawl.CrawlTargetRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * DYNAMIC 타겟의 브라우저 필요 여부 자동 판별
+ * - 브라우저 크롤링이 성공하면 intervalHours마다 한 번 같은 페이지를 정적 fetch(WebCrawler)로도 백그라운드 수집
+ * - 두 결과의 기사 URL 집합 Jaccard 유사도가 minSimilarity 이상이면 일치, 아니면 연속 일치 수 초기화
+ * - 연속 일치가 requiredMatches에 도달하면 staticCapable로 전환 (이후 크롤링은 WebCrawler, staticCrawlExecutor)
+ * - staticCapable 타겟의 정적 수집이 실패하거나 기사 수가 기준의 minYieldRatio 미만으로 떨어지면 브라우저로 복귀
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class RenderProbeService {
+
+    private final WebCrawler webCrawler;
+    private final ParallelCrawlEngine parallelCrawlEngine;
+    private final CrawlTargetRepository crawlTargetRepository;
+    private final CrawlerConfig crawlerConfig;
+
+    // 비교 수집이 대기/실행 중인 타겟 (중복 예약 방지)
+    private final Set<Long> probing = ConcurrentHashMap.newKeySet();
+
+    /**
+     * 브라우저 크롤링 결과를 받아 비교 시점이면 정적 수집을 백그라운드로 예약
+     * - 증분 모드로 목록이 잘린 결과는 비교할 수 없으므로 제외
+     */
+    public void probeIfDue(CrawlTarget target, CrawlResult browserResult) {
+        CrawlerConfig.RenderProbeConfig config = crawlerConfig.getRenderProbe();
+        if (!config.isEnabled() || target.getApiTemplate() != null
+                || !browserResult.isSuccess() || browserResult.isUnchanged()
+                || browserResult.isReachedKnownArticle() || browserResult.getArticleCount() == 0) {
+            return;
+        }
+        if (target.getRenderProbedAt() != null
+                && target.getRenderProbedAt().isAfter(LocalDateTime.now().minusHours(config.getIntervalHours()))) {
+            return;
+        }
+        if (!probing.add(target.getId())) {
+            return;
+        }
+
+        Set<String> browserUrls = urlsOf(browserResult.getArticles());
+        CrawlTarget probeTarget = probeTargetOf(target);
+        log.debug("렌더링 비교 수집 예약: {}", target.getName());
+        parallelCrawlEngine.submitStatic(target, () -> {
+            try {
+                CrawlResult staticResult = webCrawler.crawlListing(probeTarget);
+                recordProbe(target.getId(), browserUrls,
+                        staticResult.isSuccess() ? urlsOf(staticResult.getArticles()) : Set.of());
+            } catch (Exception e) {
+                log.warn("렌더링 비교 수집 실패: {} - {}", target.getName(), e.getMessage());
+            } finally {
+                probing.remove(target.getId());
+            }
+        });
+    }
+
+    /**
+     * 비교 결과 반영 - 연속 일치 수 갱신, 기준 도달 시 정적 수집으로 전환
+     */
+    private void recordProbe(Long targetId, Set<String> browserUrls, Set<String> staticUrls) {
+        CrawlTarget target = crawlTargetRepository.findById(targetId).orElse(null);
+        if (target == null || target.getCrawlType() != CrawlTarget.CrawlType.DYNAMIC) {
+            return;
+        }
+        CrawlerConfig.RenderProbeConfig config = crawlerConfig.getRenderProbe();
+
+        double similarity = jaccard(browserUrls, staticUrls);
+        boolean matched = similarity >= config.getMinSimilarity();
+        int matches = matched ? matchesOf(target) + 1 : 0;
+
+        crawlTargetRepository.updateRenderProbe(targetId, matches, LocalDateTime.now(), browserUrls.size());
+        log.info("렌더링 비교: {} - 브라우저 {}개 / 정적 {}개, 유사도 {} ({}, 연속 일치 {}/{})",
+                target.getName(), browserUrls.size(), staticUrls.size(), String.format("%.2f", similarity),
+                matched ? "일치" : "불일치", matches, config.getRequiredMatches());
+
+        if (matches >= config.getRequiredMatches() && !Boolean.TRUE.equals(target.getStaticCapable())) {
+            // 검증자/지문은 정적 fetch 기준으로 다시 수집
+            crawlTargetRepository.updateStaticCapable(targetId, true);
+            log.info("정적 수집 전환: {} - 다음 크롤링부터 브라우저 없이 수집", target.getName());
+        }
+    }
+
+    /**
+     * staticCapable 타겟의 정적 수집 결과가 기준보다 떨어졌는지
+     * - 실패, 또는 (변경 없음/증분 조기 종료가 아닌데) 기사 수가 기준 * minYieldRatio 미만
+     */
+    public boolean isYieldDropped(CrawlTarget target, CrawlResult staticResult) {
+        if (!staticResult.isSuccess()) {
+            return true;
+        }
+        if (staticResult.isUnchanged() || staticResult.isReachedKnownArticle()) {
+            return false;
+        }
+        int baseline = target.getRenderBaselineCount() != null ? target.getRenderBaselineCount() : 1;
+        return staticResult.getArticleCount() < Math.max(1, baseline * crawlerConfig.getRenderProbe().getMinYieldRatio());
+    }
+
+    /**
+     * 브라우저 수집으로 복귀 - 연속 일치 수를 초기화하고 intervalHours 후 다시 비교
+     */
+    @Transactional
+    public void demote(Long targetId, String reason) {
+        crawlTargetRepository.findById(targetId).ifPresent(target -> {
+            crawlTargetRepository.updateStaticCapable(targetId, false);
+            crawlTargetRepository.updateRenderProbe(targetId, 0, LocalDateTime.now(), target.getRenderBaselineCount());
+            log.warn("정적 수집 해제, 브라우저로 복귀: {} - {}", target.getName(), reason);
+        });
+    }
+
+    /**
+     * 비교용 타겟 사본 - 캐시 검증자 없이 (304/동일 지문으로 결과가 비지 않도록) 목록 전체를 정적 수집
+     */
+    private CrawlTarget probeTargetOf(CrawlTarget target) {
+        return CrawlTarget.builder()
+                .id(target.getId())
+                .name(target.getName())
+                .url(target.getUrl())
+                .selectorConfig(target.getSelectorConfig())
+                .crawlType(CrawlTarget.CrawlType.STATIC)
+                .build();
+    }
+
+    private Set<String> urlsOf(List<CrawlResult.ArticleData> articles) {
+        Set<String> urls = new HashSet<>();
+        if (articles != null) {
+            for (CrawlResult.ArticleData article : articles) {
+                if (article.getUrl() != null && !article.getUrl().isEmpty()) {
+                    urls.add(article.getUrl());
+                }
+            }
+        }
+        return urls;
+    }
+
+    private double jaccard(Set<String> a, Set<String> b) {
+        if (a.isEmpty() || b.isEmpty()) {
+            return 0.0;
+        }
+        Set<String> intersection = new HashSet<>(a);
+        intersection.retainAll(b);
+        return (double) intersection.size() / (a.size() + b.size() - intersection.size());
+    }
+
+    private int matchesOf(CrawlTarget target) {
+        return target.getRenderProbeMatches() != null ? target.getRenderProbeMatches() : 0;
+    }
+}
@@ -0,0 +1,3 @@
+-- DYNAMIC 타겟의 JSON API 재현 템플릿 (Selenium API 탐색 결과)
+
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS api_template TEXT;
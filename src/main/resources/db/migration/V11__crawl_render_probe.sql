@@ -0,0 +1,8 @@
+-- DYNAMIC 타겟 정적 수집 가능 여부 자동 판별
+
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS static_capable BOOLEAN DEFAULT FALSE;
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS render_probe_matches INTEGER DEFAULT 0;
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS render_probed_at TIMESTAMP;
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS render_baseline_count INTEGER;
+UPDATE crawl_target SET static_capable = FALSE WHERE static_capable IS NULL;
+UPDATE crawl_target SET render_probe_matches = 0 WHERE render_probe_matches IS NULL;
@@ -0,0 +1,5 @@
+-- 크롤링 시점 기사 메타데이터 (AI 분석 단계의 원문 재요청 제거)
+
+ALTER TABLE news_article ADD COLUMN IF NOT EXISTS description TEXT;
+ALTER TABLE news_article ADD COLUMN IF NOT EXISTS site_name VARCHAR(200);
+ALTER TABLE news_article ADD COLUMN IF NOT EXISTS metadata_captured_at TIMESTAMP;
@@ -0,0 +1,18 @@
+-- AI 분석 작업 큐 (메모리 큐 대체, 재시작해도 유지)
+
+CREATE TABLE IF NOT EXISTS ai_analysis_job (
+    id BIGSERIAL PRIMARY KEY,
+    article_id BIGINT NOT NULL UNIQUE REFERENCES news_article (id) ON DELETE CASCADE,
+    lane VARCHAR(20) NOT NULL,
+    priority INTEGER NOT NULL,
+    force_reanalyze BOOLEAN NOT NULL DEFAULT FALSE,
+    rerun_requested BOOLEAN NOT NULL DEFAULT FALSE,
+    attempts INTEGER NOT NULL DEFAULT 0,
+    available_at TIMESTAMP NOT NULL,
+    leased_by VARCHAR(100),
+    lease_until TIMESTAMP,
+    last_error TEXT,
+    created_at TIMESTAMP NOT NULL
+);
+
+CREATE INDEX IF NOT EXISTS idx_ai_job_ready ON ai_analysis_job (priority, available_at, id);
@@ -0,0 +1,5 @@
+-- 크롤링 이력 재시도 정보 (시도 번호, 다음 재시도 예정 시각)
+
+ALTER TABLE crawl_history ADD COLUMN IF NOT EXISTS attempt INTEGER DEFAULT 1;
+ALTER TABLE crawl_history ADD COLUMN IF NOT EXISTS next_retry_at TIMESTAMP;
+UPDATE crawl_history SET attempt = 1 WHERE attempt IS NULL;
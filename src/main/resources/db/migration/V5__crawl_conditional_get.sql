@@ -0,0 +1,11 @@
+-- 조건부 GET 캐시 검증자 및 UNCHANGED 크롤링 상태 추가
+
+-- 1. 크롤링 대상에 캐시 검증자 컬럼 추가
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS http_etag VARCHAR(512);
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS http_last_modified VARCHAR(100);
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS content_fingerprint VARCHAR(64);
+
+-- 2. Hibernate가 생성한 enum 체크 제약 제거 (UNCHANGED 상태 허용)
+--    (CrawlSchemaInitializer가 기동 시 같은 작업을 멱등하게 수행)
+ALTER TABLE crawl_target DROP CONSTRAINT IF EXISTS crawl_target_last_status_check;
+ALTER TABLE crawl_history DROP CONSTRAINT IF EXISTS crawl_history_status_check;
@@ -0,0 +1,8 @@
+-- FEED 크롤링 타입 (RSS / Atom / JSON Feed) 추가
+
+-- 1. 크롤링 대상에 피드 URL 컬럼 추가
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS feed_url VARCHAR(1000);
+
+-- 2. Hibernate가 생성한 enum 체크 제약 제거 (FEED 타입 허용)
+--    (CrawlSchemaInitializer가 기동 시 같은 작업을 멱등하게 수행)
+ALTER TABLE crawl_target DROP CONSTRAINT IF EXISTS crawl_target_crawl_type_check;
@@ -0,0 +1,11 @@
+-- news_article ID를 시퀀스로 전환 (Hibernate/JDBC 배치 INSERT) 및 content_hash 유니크 보장
+-- (NewsArticleSchemaInitializer가 기동 시 같은 작업을 멱등하게 수행)
+
+-- 1. allocationSize(50)와 같은 증가폭의 시퀀스 생성 후 기존 최대 ID로 정렬
+CREATE SEQUENCE IF NOT EXISTS news_article_seq START WITH 1 INCREMENT BY 50;
+SELECT setval('news_article_seq',
+              GREATEST((SELECT COALESCE(MAX(id), 1) FROM news_article),
+                       (SELECT last_value FROM news_article_seq)));
+
+-- 2. ON CONFLICT (content_hash) DO NOTHING 대상 유니크 인덱스
+CREATE UNIQUE INDEX IF NOT EXISTS ux_news_article_content_hash ON news_article (content_hash);
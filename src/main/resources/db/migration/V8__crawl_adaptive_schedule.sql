@@ -0,0 +1,8 @@
+-- 적응형 크롤링 주기 (schedule_mode = ADAPTIVE) 및 다음 실행 예정 시각
+
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS schedule_mode VARCHAR(20) DEFAULT 'CRON';
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS next_crawl_at TIMESTAMP;
+UPDATE crawl_target SET schedule_mode = 'CRON' WHERE schedule_mode IS NULL;
+
+-- 적응형 주기 계산용 최근 이력 조회
+CREATE INDEX IF NOT EXISTS idx_crawl_history_target_executed ON crawl_history (target_id, executed_at DESC);
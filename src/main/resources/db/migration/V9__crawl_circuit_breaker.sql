@@ -0,0 +1,8 @@
+-- 크롤링 타겟 서킷 브레이커 및 헬스 점수
+
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS circuit_state VARCHAR(20) DEFAULT 'CLOSED';
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS circuit_open_until TIMESTAMP;
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS consecutive_failures INTEGER DEFAULT 0;
+ALTER TABLE crawl_target ADD COLUMN IF NOT EXISTS health_score DOUBLE PRECISION;
+UPDATE crawl_target SET circuit_state = 'CLOSED' WHERE circuit_state IS NULL;
+UPDATE crawl_target SET consecutive_failures = 0 WHERE consecutive_failures IS NULL;
@@ -0,0 +1,51 @@
+package com.aiinsight.config;
+
+import com.aiinsight.crawler.CrawlerConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+class AsyncConfigTest {
+
+    private final AsyncConfig asyncConfig = new AsyncConfig();
+
+    @Test
+    void metricsFollowThePoolCreatedByBeanInitialization() throws Exception {
+        ThreadPoolTaskExecutor executor = asyncConfig.staticCrawlExecutor(new CrawlerConfig());
+        // 컨테이너와 같은 순서: 빈 초기화 → 모든 싱글톤 초기화 후 메트릭 바인딩
+        executor.afterPropertiesSet();
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        asyncConfig.executorMetricsBinder(Map.of("staticCrawlExecutor", executor), registry)
+                .afterSingletonsInstantiated();
+
+        try {
+            executor.submit(() -> { }).get(5, TimeUnit.SECONDS);
+            long deadline = System.currentTimeMillis() + 5000;
+            while (executor.getThreadPoolExecutor().getCompletedTaskCount() == 0
+                    && System.currentTimeMillis() < deadline) {
+                Thread.sleep(10);
+            }
+
+            assertEquals(1.0, registry.get("executor.completed").tag("name", "crawl-static")
+                    .functionCounter().count(), 0.0);
+            assertEquals(8.0, registry.get("executor.pool.max").tag("name", "crawl-static")
+                    .gauge().value(), 0.0);
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    @Test
+    void unknownExecutorBeansAreNotBound() {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+
+        asyncConfig.executorMetricsBinder(Map.of(), registry).afterSingletonsInstantiated();
+
+        assertEquals(0, registry.getMeters().size());
+    }
+}
@@ -0,0 +1,102 @@
+package com.aiinsight.crawler;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ContentExtractorTest {
+
+    private static final String PARAGRAPHS = """
+            <p>The new model was released on Tuesday, and early benchmarks show large gains in reasoning, coding, and math.</p>
+            <p>Researchers said the training run used a mix of public data, licensed corpora, and synthetic examples.</p>
+            <p>Pricing stays the same for existing customers, while a cheaper tier is planned for later this year.</p>
+            """;
+
+    private final ContentExtractor extractor = new ContentExtractor();
+
+    @Test
+    void picksArticleBodyOverBoilerplate() {
+        String content = extract("""
+                <nav><a href="/">Home</a> <a href="/ai">AI</a> <a href="/cloud">Cloud</a></nav>
+                <div class="sidebar"><p>Popular today: ten tips for writing better prompts, and more, and more.</p></div>
+                <div class="article-content">%s</div>
+                <div id="comments"><p>Great article, thanks for sharing, really useful, would read again.</p></div>
+                <footer><p>Copyright Example Media, all rights reserved, 2025, contact us for licensing.</p></footer>
+                """.formatted(PARAGRAPHS));
+
+        assertTrue(content.startsWith("The new model was released on Tuesday"), content);
+        assertTrue(content.contains("Pricing stays the same"));
+        assertFalse(content.contains("Popular today"));
+        assertFalse(content.contains("Great article"));
+        assertFalse(content.contains("Copyright"));
+        assertFalse(content.contains("Home"));
+        assertEquals(3, content.split("\n").length);
+    }
+
+    @Test
+    void keepsContentWrappedInPageWideForm() {
+        String content = extract("""
+                <form id="aspnetForm" method="post" action="/news.aspx">
+                  <div class="story">%s</div>
+                </form>
+                """.formatted(PARAGRAPHS));
+
+        assertTrue(content.contains("The new model was released on Tuesday"), content);
+        assertTrue(content.contains("Pricing stays the same"));
+    }
+
+    @Test
+    void dropsLinkListsInsideTheBody() {
+        String content = extract("""
+                <article>
+                  %s
+                  <ul>
+                    <li><a href="/a">Related: another launch this week</a></li>
+                    <li><a href="/b">Related: what the benchmarks mean</a></li>
+                  </ul>
+                </article>
+                """.formatted(PARAGRAPHS));
+
+        assertTrue(content.contains("Researchers said"), content);
+        assertFalse(content.contains("Related:"));
+    }
+
+    @Test
+    void includesQualifyingSiblingParagraphs() {
+        String content = extract("""
+                <div class="wrapper">
+                  <div class="post-body">%s</div>
+                  <p>An additional note below the body, with a comma, is still part of the story text.</p>
+                  <p><a href="/more">Read more stories</a></p>
+                </div>
+                """.formatted(PARAGRAPHS));
+
+        assertTrue(content.contains("An additional note below the body"), content);
+        assertFalse(content.contains("Read more stories"));
+    }
+
+    @Test
+    void returnsEmptyWhenNoSubstantialContent() {
+        assertEquals("", extract("<div class=\"content\"><p>Too short to be an article body, really.</p></div>"));
+        assertEquals("", extract("<div><a href=\"/a\">One</a> <a href=\"/b\">Two</a></div>"));
+    }
+
+    @Test
+    void doesNotModifyTheSourceDocument() {
+        Document doc = Jsoup.parse("<html><body><nav>Menu</nav><div class=\"content\">"
+                + PARAGRAPHS + "</div></body></html>");
+        String before = doc.outerHtml();
+
+        extractor.extract(doc);
+
+        assertEquals(before, doc.outerHtml());
+    }
+
+    private String extract(String body) {
+        return extractor.extract(Jsoup.parse("<html><body>" + body + "</body></html>"));
+    }
+}
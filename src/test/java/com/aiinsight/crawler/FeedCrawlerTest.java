@@ -0,0 +1,265 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.CrawlTarget;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class FeedCrawlerTest {
+
+    private static final String FEED_URL = "https://example.com/feed";
+
+    private StubFetcher httpFetcher;
+    private FeedCrawler feedCrawler;
+    private Path secretFile;
+
+    @BeforeEach
+    void setUp() {
+        httpFetcher = new StubFetcher();
+        feedCrawler = new FeedCrawler(httpFetcher, new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        if (secretFile != null) {
+            Files.deleteIfExists(secretFile);
+        }
+    }
+
+    @Test
+    void parsesRss2Items() {
+        httpFetcher.respond(FEED_URL, "application/rss+xml", """
+                <?xml version="1.0" encoding="UTF-8"?>
+                <rss version="2.0" xmlns:content="http://purl.org/rss/1.0/modules/content/"
+                     xmlns:dc="http://purl.org/dc/elements/1.1/" xmlns:media="http://search.yahoo.com/mrss/">
+                  <channel>
+                    <title>Example</title>
+                    <link>https://example.com/</link>
+                    <item>
+                      <title>First &amp; best</title>
+                      <link>/news/1</link>
+                      <guid isPermaLink="false">abc-1</guid>
+                      <pubDate>Tue, 10 Jun 2025 04:00:00 GMT</pubDate>
+                      <dc:creator>Kim</dc:creator>
+                      <description><![CDATA[<p>Short summary</p>]]></description>
+                      <content:encoded><![CDATA[<p>Full <b>body</b> text</p>]]></content:encoded>
+                      <media:content url="https://cdn.example.com/1.jpg" medium="image"/>
+                    </item>
+                    <item>
+                      <description>Only a description without a title</description>
+                      <guid>https://example.com/news/2</guid>
+                    </item>
+                  </channel>
+                </rss>
+                """);
+
+        CrawlResult result = feedCrawler.crawl(target());
+
+        assertTrue(result.isSuccess());
+        List<CrawlResult.ArticleData> articles = result.getArticles();
+        assertEquals(2, articles.size());
+
+        CrawlResult.ArticleData first = articles.get(0);
+        assertEquals("https://example.com/news/1", first.getUrl());
+        assertEquals("First & best", first.getTitle());
+        assertEquals("Full body text", first.getContent());
+        assertEquals("Kim", first.getAuthor());
+        assertEquals("https://cdn.example.com/1.jpg", first.getThumbnailUrl());
+        assertEquals(local("2025-06-10T04:00:00Z"), first.getPublishedAt());
+
+        CrawlResult.ArticleData second = articles.get(1);
+        assertEquals("https://example.com/news/2", second.getUrl());
+        assertEquals("Only a description without a title", second.getTitle());
+    }
+
+    @Test
+    void parsesAtomEntries() {
+        httpFetcher.respond(FEED_URL, "application/atom+xml", """
+                <?xml version="1.0" encoding="utf-8"?>
+                <feed xmlns="http://www.w3.org/2005/Atom">
+                  <title>Example</title>
+                  <entry>
+                    <title type="html">Atom &lt;em&gt;entry&lt;/em&gt;</title>
+                    <link rel="self" href="https://example.com/entries/1.atom"/>
+                    <link rel="alternate" href="https://example.com/entries/1"/>
+                    <id>urn:uuid:1</id>
+                    <updated>2025-06-10T13:00:00+09:00</updated>
+                    <author><name>Lee</name></author>
+                    <content type="xhtml"><div xmlns="http://www.w3.org/1999/xhtml"><p>Atom body</p></div></content>
+                  </entry>
+                </feed>
+                """);
+
+        CrawlResult result = feedCrawler.crawl(target());
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getArticles().size());
+        CrawlResult.ArticleData entry = result.getArticles().get(0);
+        assertEquals("https://example.com/entries/1", entry.getUrl());
+        assertEquals("Atom entry", entry.getTitle());
+        assertEquals("Atom body", entry.getContent());
+        assertEquals("Lee", entry.getAuthor());
+        assertEquals(local("2025-06-10T04:00:00Z"), entry.getPublishedAt());
+    }
+
+    @Test
+    void parsesJsonFeedItems() {
+        httpFetcher.respond(FEED_URL, "application/feed+json", """
+                {
+                  "version": "https://jsonfeed.org/version/1.1",
+                  "title": "Example",
+                  "extra": {"nested": [1, 2, {"a": "b"}]},
+                  "items": [
+                    {
+                      "id": "1",
+                      "url": "https://example.com/json/1",
+                      "title": "JSON item",
+                      "content_html": "<p>JSON body</p>",
+                      "date_published": "2025-06-10T04:00:00Z",
+                      "authors": [{"name": "Park", "url": "https://example.com/park"}],
+                      "image": "https://cdn.example.com/json.png",
+                      "_custom": {"ignored": true}
+                    },
+                    {"id": "2", "content_text": "no url"}
+                  ]
+                }
+                """);
+
+        CrawlResult result = feedCrawler.crawl(target());
+
+        assertTrue(result.isSuccess());
+        assertEquals(1, result.getArticles().size());
+        CrawlResult.ArticleData item = result.getArticles().get(0);
+        assertEquals("https://example.com/json/1", item.getUrl());
+        assertEquals("JSON item", item.getTitle());
+        assertEquals("JSON body", item.getContent());
+        assertEquals("Park", item.getAuthor());
+        assertEquals("https://cdn.example.com/json.png", item.getThumbnailUrl());
+        assertEquals(local("2025-06-10T04:00:00Z"), item.getPublishedAt());
+    }
+
+    @Test
+    void discoversFeedFromHtmlPage() {
+        httpFetcher.respond(FEED_URL, "text/html", """
+                <!DOCTYPE html>
+                <html><head>
+                  <link rel="alternate" type="application/rss+xml" href="/rss.xml">
+                </head><body></body></html>
+                """);
+        httpFetcher.respond("https://example.com/rss.xml", "application/xml", """
+                <rss version="2.0"><channel><item><title>Found</title><link>https://example.com/a</link></item></channel></rss>
+                """);
+
+        CrawlResult result = feedCrawler.crawl(target());
+
+        assertTrue(result.isSuccess());
+        assertEquals("https://example.com/rss.xml", result.getDiscoveredFeedUrl());
+        assertEquals(1, result.getArticles().size());
+    }
+
+    @Test
+    void sameBodyFingerprintIsUnchanged() {
+        httpFetcher.respond(FEED_URL, "application/rss+xml", "<rss><channel></channel></rss>");
+        CrawlTarget target = target();
+        target.setContentFingerprint(feedCrawler.crawl(target).getContentFingerprint());
+
+        CrawlResult result = feedCrawler.crawl(target);
+
+        assertTrue(result.isSuccess());
+        assertTrue(result.isUnchanged());
+    }
+
+    @Test
+    void externalEntitiesAreNotResolved() throws IOException {
+        secretFile = Files.createTempFile("feed-xxe", ".txt");
+        Files.writeString(secretFile, "TOP-SECRET");
+        httpFetcher.respond(FEED_URL, "application/rss+xml", """
+                <?xml version="1.0"?>
+                <!DOCTYPE rss [<!ENTITY xxe SYSTEM "%s">]>
+                <rss version="2.0"><channel><item>
+                  <title>XXE &xxe;</title>
+                  <link>https://example.com/xxe</link>
+                </item></channel></rss>
+                """.formatted(secretFile.toUri()));
+
+        CrawlResult result = feedCrawler.crawl(target());
+
+        // DTD를 지원하지 않으므로 실패하거나, 엔티티를 비운 채 파싱 - 파일 내용이 들어오면 안 됨
+        if (result.isSuccess()) {
+            for (CrawlResult.ArticleData article : result.getArticles()) {
+                assertFalse(article.getTitle().contains("TOP-SECRET"));
+            }
+        } else {
+            assertFalse(result.getErrorMessage().contains("TOP-SECRET"));
+        }
+    }
+
+    @Test
+    void parsesFeedDateFormats() {
+        LocalDateTime expected = local("2025-06-10T04:00:00Z");
+
+        assertEquals(expected, FeedCrawler.parseFeedDate("2025-06-10T04:00:00Z"));
+        assertEquals(expected, FeedCrawler.parseFeedDate("Tue, 10 Jun 2025 04:00:00 GMT"));
+        assertEquals(expected, FeedCrawler.parseFeedDate("10 Jun 2025 13:00 +0900"));
+        assertEquals(LocalDateTime.of(2025, 6, 10, 0, 0), FeedCrawler.parseFeedDate("2025-06-10"));
+        assertNull(FeedCrawler.parseFeedDate("yesterday"));
+        assertNull(FeedCrawler.parseFeedDate(" "));
+    }
+
+    private static CrawlTarget target() {
+        return CrawlTarget.builder().id(1L).name("feed").url(FEED_URL)
+                .crawlType(CrawlTarget.CrawlType.FEED).build();
+    }
+
+    private static LocalDateTime local(String instant) {
+        return OffsetDateTime.parse(instant).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+
+    /**
+     * URL별로 고정 응답을 돌려주는 fetcher
+     */
+    private static final class StubFetcher extends HttpFetcher {
+
+        private final Map<String, FetchResponse> responses = new HashMap<>();
+
+        private StubFetcher() {
+            super(new CrawlerConfig());
+        }
+
+        void respond(String url, String contentType, String body) {
+            responses.put(url, FetchResponse.builder()
+                    .url(url)
+                    .statusCode(200)
+                    .headers(HttpHeaders.of(Map.of("Content-Type", List.of(contentType)), (name, value) -> true))
+                    .body(body.getBytes(StandardCharsets.UTF_8))
+                    .build());
+        }
+
+        @Override
+        public FetchResponse fetch(String url, Map<String, String> extraHeaders) throws IOException {
+            FetchResponse response = responses.get(url);
+            if (response == null) {
+                throw new IOException("no stub for " + url);
+            }
+            return response;
+        }
+    }
+}
@@ -0,0 +1,206 @@
+package com.aiinsight.crawler;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HostRateLimiterTest {
+
+    private CrawlerConfig crawlerConfig;
+    private ExecutorService pool;
+
+    @BeforeEach
+    void setUp() {
+        crawlerConfig = new CrawlerConfig();
+        crawlerConfig.setFanOutPoolSize(8);
+        pool = Executors.newFixedThreadPool(8);
+    }
+
+    @AfterEach
+    void tearDown() {
+        pool.shutdownNow();
+    }
+
+    @Test
+    void allowsBurstThenWaitsForRefill() throws InterruptedException {
+        hostRateLimit(20.0, 2, 4);
+        HostRateLimiter limiter = new HostRateLimiter(crawlerConfig);
+
+        long started = System.nanoTime();
+        limiter.acquire("https://example.com/1").close();
+        limiter.acquire("https://example.com/2").close();
+        long burstMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+        limiter.acquire("https://example.com/3").close();
+        long thirdMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started);
+
+        // 초당 20개 → 버스트 2개 이후 약 50ms마다 하나
+        assertTrue(burstMs < 40, "burst took " + burstMs + "ms");
+        assertTrue(thirdMs >= 40, "third request after " + thirdMs + "ms");
+    }
+
+    @Test
+    void bucketsAreSeparatePerHost() throws InterruptedException {
+        hostRateLimit(0.1, 1, 4);
+        HostRateLimiter limiter = new HostRateLimiter(crawlerConfig);
+
+        long started = System.nanoTime();
+        limiter.acquire("https://a.example.com/1").close();
+        limiter.acquire("https://b.example.com/1").close();
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) < 1000);
+    }
+
+    @Test
+    void wwwPrefixSharesTheHostBucket() throws InterruptedException {
+        hostRateLimit(20.0, 1, 4);
+        HostRateLimiter limiter = new HostRateLimiter(crawlerConfig);
+
+        long started = System.nanoTime();
+        limiter.acquire("https://example.com/1").close();
+        limiter.acquire("https://www.example.com/2").close();
+
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started) >= 40);
+    }
+
+    @Test
+    void limitsConcurrentRequestsPerHost() throws Exception {
+        hostRateLimit(1000.0, 1000, 2);
+        HostRateLimiter limiter = new HostRateLimiter(crawlerConfig);
+        AtomicInteger inFlight = new AtomicInteger();
+        AtomicInteger maxInFlight = new AtomicInteger();
+
+        List<CompletableFuture<Void>> requests = new ArrayList<>();
+        for (int i = 0; i < 8; i++) {
+            requests.add(CompletableFuture.runAsync(() -> {
+                try {
+                    HostRateLimiter.Permit permit = limiter.acquire("https://example.com/page");
+                    try {
+                        maxInFlight.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        Thread.sleep(20);
+                        inFlight.decrementAndGet();
+                    } finally {
+                        permit.close();
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }, pool));
+        }
+        CompletableFuture.allOf(requests.toArray(new CompletableFuture<?>[0])).get(10, TimeUnit.SECONDS);
+
+        assertEquals(2, maxInFlight.get());
+    }
+
+    @Test
+    void throttledHostCannotOccupyWholeFanOutPool() throws Exception {
+        hostRateLimit(1000.0, 1000, 2);
+        HostRateLimiter limiter = new HostRateLimiter(crawlerConfig);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger slowRunning = new AtomicInteger();
+
+        // 느린 호스트 작업 10개 - 풀(8)을 모두 잡지 못하고 호스트당 2개만 실행
+        List<CompletableFuture<Integer>> slow = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            int n = i;
+            slow.add(limiter.supplyAsync("https://slow.example.com/" + i, () -> {
+                slowRunning.incrementAndGet();
+                await(release);
+                slowRunning.decrementAndGet();
+                return n;
+            }, pool));
+        }
+
+        // 다른 호스트 작업은 바로 실행됨
+        assertEquals("fast", limiter.supplyAsync("https://fast.example.com/",
+                () -> "fast", pool).get(5, TimeUnit.SECONDS));
+        long deadline = System.currentTimeMillis() + 5000;
+        while (slowRunning.get() < 2 && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+        Thread.sleep(50);
+        assertEquals(2, slowRunning.get());
+        assertFalse(slow.get(9).isDone());
+
+        release.countDown();
+        for (int i = 0; i < 10; i++) {
+            assertEquals(i, slow.get(i).get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    @Test
+    void dispatchCapIsAtMostHalfTheFanOutPool() throws Exception {
+        hostRateLimit(1000.0, 1000, 8);
+        crawlerConfig.setFanOutPoolSize(4);
+        HostRateLimiter limiter = new HostRateLimiter(crawlerConfig);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        List<CompletableFuture<Boolean>> tasks = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            tasks.add(limiter.supplyAsync("https://example.com/" + i, () -> {
+                maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                await(release);
+                running.decrementAndGet();
+                return true;
+            }, pool));
+        }
+        Thread.sleep(100);
+        release.countDown();
+        CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).get(5, TimeUnit.SECONDS);
+
+        assertEquals(2, maxRunning.get());
+    }
+
+    @Test
+    void taskFailureAndRejectionCompleteTheFutureAndFreeTheSlot() throws Exception {
+        hostRateLimit(1000.0, 1000, 1);
+        HostRateLimiter limiter = new HostRateLimiter(crawlerConfig);
+
+        CompletableFuture<String> failed = limiter.supplyAsync("https://example.com/1", () -> {
+            throw new IllegalStateException("boom");
+        }, pool);
+        ExecutionException error = assertThrows(ExecutionException.class, () -> failed.get(5, TimeUnit.SECONDS));
+        assertTrue(error.getCause() instanceof IllegalStateException);
+
+        CompletableFuture<String> rejected = limiter.supplyAsync("https://example.com/2", () -> "never",
+                task -> {
+                    throw new RejectedExecutionException("shutting down");
+                });
+        assertThrows(ExecutionException.class, () -> rejected.get(5, TimeUnit.SECONDS));
+
+        // 실패/거부 후에도 슬롯이 반환되어 다음 작업 실행
+        assertEquals("ok", limiter.supplyAsync("https://example.com/3", () -> "ok", pool).get(5, TimeUnit.SECONDS));
+    }
+
+    private void hostRateLimit(double requestsPerSecond, int burst, int maxConcurrent) {
+        CrawlerConfig.HostRateLimitConfig config = crawlerConfig.getHostRateLimit();
+        config.setRequestsPerSecond(requestsPerSecond);
+        config.setBurst(burst);
+        config.setMaxConcurrent(maxConcurrent);
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(10, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,155 @@
+package com.aiinsight.crawler;
+
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.net.http.HttpHeaders;
+import java.nio.charset.Charset;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HtmlSnapshotStoreTest {
+
+    private static final String HTML = "<html><head><title>한글 제목</title></head>"
+            + "<body><a href=\"/news/1\">기사</a></body></html>";
+
+    private Path dir;
+    private CrawlerConfig crawlerConfig;
+    private HtmlSnapshotStore store;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        dir = Files.createTempDirectory("snapshots");
+        crawlerConfig = new CrawlerConfig();
+        crawlerConfig.getSnapshot().setPath(dir.toString());
+        store = open();
+    }
+
+    @AfterEach
+    void tearDown() throws IOException {
+        store.shutdown();
+        try (Stream<Path> files = Files.walk(dir)) {
+            for (Path file : files.sorted(Comparator.reverseOrder()).toList()) {
+                Files.deleteIfExists(file);
+            }
+        }
+    }
+
+    @Test
+    void savedResponseLoadsWithCharsetAndFinalUrl() {
+        // EUC-KR 원본 바이트를 그대로 저장하고 charset으로 다시 디코딩
+        store.save("https://example.com/list", response("https://www.example.com/list", 200,
+                HTML.getBytes(Charset.forName("EUC-KR")), "EUC-KR"));
+
+        Document doc = store.findDocument("https://example.com/list").orElseThrow();
+
+        assertEquals("한글 제목", doc.title());
+        assertEquals("https://www.example.com/news/1", doc.selectFirst("a").absUrl("href"));
+        assertEquals(HtmlSnapshotStore.Source.HTTP, store.latest("https://example.com/list").orElseThrow().source());
+    }
+
+    @Test
+    void identicalBodiesAreStoredOnce() throws IOException {
+        store.saveRendered("https://example.com/a", "https://example.com/a", HTML);
+        store.saveRendered("https://example.com/b", "https://example.com/b", HTML);
+
+        assertEquals(1, blobs().size());
+        assertEquals(store.latest("https://example.com/a").orElseThrow().hash(),
+                store.latest("https://example.com/b").orElseThrow().hash());
+        assertTrue(blobs().get(0).getFileName().toString().endsWith(".html.gz"));
+    }
+
+    @Test
+    void skipsNotModifiedAndEmptyResponses() throws IOException {
+        store.save("https://example.com/304", response("https://example.com/304", 304, new byte[0], null));
+        store.save("https://example.com/empty", response("https://example.com/empty", 200, new byte[0], null));
+        store.saveRendered("https://example.com/blank", null, "");
+
+        assertTrue(store.latest("https://example.com/304").isEmpty());
+        assertTrue(store.latest("https://example.com/empty").isEmpty());
+        assertTrue(store.latest("https://example.com/blank").isEmpty());
+        assertTrue(blobs().isEmpty());
+    }
+
+    @Test
+    void indexIsReplayedOnRestartWithLatestEntryPerUrl() {
+        store.saveRendered("https://example.com/list", null, "<html><head><title>old</title></head></html>");
+        store.saveRendered("https://example.com/list", null, HTML);
+        store.shutdown();
+
+        store = open();
+
+        Optional<Document> doc = store.findDocument("https://example.com/list");
+        assertTrue(doc.isPresent());
+        assertEquals("한글 제목", doc.get().title());
+        assertEquals(HtmlSnapshotStore.Source.BROWSER, store.latest("https://example.com/list").orElseThrow().source());
+    }
+
+    @Test
+    void entriesWithMissingBlobAreDropped() throws IOException {
+        store.saveRendered("https://example.com/list", null, HTML);
+        for (Path blob : blobs()) {
+            Files.delete(blob);
+        }
+
+        // 실행 중에는 로드 실패 시 인덱스에서 제거
+        assertTrue(store.findDocument("https://example.com/list").isEmpty());
+        assertTrue(store.latest("https://example.com/list").isEmpty());
+
+        // 재기동 시에도 본문 파일이 없는 항목은 복원하지 않음
+        store.shutdown();
+        store = open();
+        assertTrue(store.latest("https://example.com/list").isEmpty());
+    }
+
+    @Test
+    void disabledStoreIgnoresWrites() throws IOException {
+        store.shutdown();
+        crawlerConfig.getSnapshot().setEnabled(false);
+        store = open();
+
+        store.saveRendered("https://example.com/list", null, HTML);
+
+        assertFalse(store.isEnabled());
+        assertTrue(store.findDocument("https://example.com/list").isEmpty());
+        assertTrue(blobs().isEmpty());
+    }
+
+    private HtmlSnapshotStore open() {
+        HtmlSnapshotStore snapshotStore = new HtmlSnapshotStore(crawlerConfig);
+        snapshotStore.init();
+        return snapshotStore;
+    }
+
+    private List<Path> blobs() throws IOException {
+        Path objects = dir.resolve("objects");
+        if (!Files.exists(objects)) {
+            return List.of();
+        }
+        try (Stream<Path> files = Files.walk(objects)) {
+            return files.filter(Files::isRegularFile).toList();
+        }
+    }
+
+    private static HttpFetcher.FetchResponse response(String url, int status, byte[] body, String charset) {
+        return HttpFetcher.FetchResponse.builder()
+                .url(url)
+                .statusCode(status)
+                .headers(HttpHeaders.of(Map.of(), (name, value) -> true))
+                .body(body)
+                .charset(charset)
+                .build();
+    }
+}
@@ -0,0 +1,148 @@
+package com.aiinsight.crawler;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import org.jsoup.HttpStatusException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.zip.Deflater;
+import java.util.zip.DeflaterOutputStream;
+import java.util.zip.GZIPOutputStream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HttpFetcherTest {
+
+    private static final String HTML = "<html><head><title>한글 제목</title></head><body><p>본문</p></body></html>";
+
+    private final Map<String, String> requestHeaders = new ConcurrentHashMap<>();
+    private HttpServer server;
+    private CrawlerConfig crawlerConfig;
+    private HttpFetcher httpFetcher;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+        server.createContext("/gzip", exchange -> respond(exchange, 200, "gzip", gzip(HTML.getBytes(StandardCharsets.UTF_8))));
+        server.createContext("/zlib", exchange -> respond(exchange, 200, "deflate", deflate(HTML, false)));
+        server.createContext("/raw-deflate", exchange -> respond(exchange, 200, "deflate", deflate(HTML, true)));
+        server.createContext("/missing", exchange -> respond(exchange, 404, null, new byte[0]));
+        server.createContext("/conditional", exchange -> {
+            requestHeaders.put("If-None-Match", String.valueOf(exchange.getRequestHeaders().getFirst("If-None-Match")));
+            exchange.sendResponseHeaders(304, -1);
+            exchange.close();
+        });
+        server.createContext("/large", exchange -> respond(exchange, 200, null, new byte[4096]));
+        server.createContext("/bomb", exchange -> {
+            // 압축 크기는 작지만 풀면 제한을 넘는 본문 (Content-Length 없이 청크 전송)
+            exchange.getResponseHeaders().set("Content-Encoding", "gzip");
+            exchange.sendResponseHeaders(200, 0);
+            try (OutputStream out = exchange.getResponseBody()) {
+                out.write(gzip(new byte[64 * 1024]));
+            }
+        });
+        server.start();
+
+        crawlerConfig = new CrawlerConfig();
+        crawlerConfig.setMaxBodyBytes(2048);
+        httpFetcher = new HttpFetcher(crawlerConfig);
+        httpFetcher.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        httpFetcher.shutdown();
+        server.stop(0);
+    }
+
+    @Test
+    void decodesGzipAndReadsCharset() throws IOException {
+        HttpFetcher.FetchResponse response = httpFetcher.fetch(url("/gzip"));
+
+        assertEquals(200, response.getStatusCode());
+        assertEquals("UTF-8", response.getCharset());
+        assertEquals("한글 제목", response.toDocument().title());
+    }
+
+    @Test
+    void decodesZlibWrappedAndRawDeflate() throws IOException {
+        assertEquals(HTML, new String(httpFetcher.fetch(url("/zlib")).getBody(), StandardCharsets.UTF_8));
+        assertEquals(HTML, new String(httpFetcher.fetch(url("/raw-deflate")).getBody(), StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void errorStatusThrowsHttpStatusException() {
+        HttpStatusException error = assertThrows(HttpStatusException.class, () -> httpFetcher.fetch(url("/missing")));
+
+        assertEquals(404, error.getStatusCode());
+    }
+
+    @Test
+    void sendsConditionalHeadersAndReturnsEmptyBodyOnNotModified() throws IOException {
+        HttpFetcher.FetchResponse response = httpFetcher.fetch(url("/conditional"),
+                HttpFetcher.conditionalHeaders("\"v1\"", null));
+
+        assertTrue(response.isNotModified());
+        assertEquals(0, response.getBody().length);
+        assertEquals("\"v1\"", requestHeaders.get("If-None-Match"));
+        assertNull(response.getCharset());
+    }
+
+    @Test
+    void rejectsDeclaredLengthOverLimit() {
+        IOException error = assertThrows(IOException.class, () -> httpFetcher.fetch(url("/large")));
+
+        assertTrue(error.getMessage().contains("4096"), error.getMessage());
+    }
+
+    @Test
+    void rejectsDecodedBodyOverLimit() {
+        IOException error = assertThrows(IOException.class, () -> httpFetcher.fetch(url("/bomb")));
+
+        assertTrue(error.getMessage().contains("2048"), error.getMessage());
+    }
+
+    private String url(String path) {
+        return "http://127.0.0.1:" + server.getAddress().getPort() + path;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String encoding, byte[] body) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", "text/html; charset=UTF-8");
+        if (encoding != null) {
+            exchange.getResponseHeaders().set("Content-Encoding", encoding);
+        }
+        exchange.sendResponseHeaders(status, body.length == 0 ? -1 : body.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(body);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (GZIPOutputStream out = new GZIPOutputStream(bytes)) {
+            out.write(data);
+        }
+        return bytes.toByteArray();
+    }
+
+    private static byte[] deflate(String text, boolean raw) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DeflaterOutputStream out = new DeflaterOutputStream(bytes, new Deflater(Deflater.DEFAULT_COMPRESSION, raw))) {
+            out.write(text.getBytes(StandardCharsets.UTF_8));
+        }
+        return bytes.toByteArray();
+    }
+}
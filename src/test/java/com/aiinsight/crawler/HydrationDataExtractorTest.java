@@ -0,0 +1,107 @@
+package com.aiinsight.crawler;
+
+import com.aiinsight.domain.crawl.SelectorConfig;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneId;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class HydrationDataExtractorTest {
+
+    private static final String BASE_URL = "https://example.com/news";
+
+    private final HydrationDataExtractor extractor = new HydrationDataExtractor(new ObjectMapper());
+
+    @Test
+    void revivesNuxtDevaluePayload() {
+        // 0: 루트 래퍼, 4: 기사 배열, 10: 두 기사가 공유하는 Date, 9: 루트로 돌아가는 순환 참조, -1: undefined
+        String payload = """
+                [["ShallowReactive",1],{"data":2,"state":9},["ShallowReactive",3],{"articles":4},[5,8],
+                 {"title":6,"url":7,"publishedAt":10},"First","/news/1",
+                 {"title":11,"url":12,"publishedAt":10,"author":-1},{"self":1},
+                 ["Date","2025-06-10T04:00:00.000Z"],"Second","/news/2"]
+                """;
+
+        List<CrawlResult.ArticleData> articles = extract(
+                "<script type=\"application/json\" id=\"__NUXT_DATA__\">" + payload + "</script>", null);
+
+        assertEquals(2, articles.size());
+        assertEquals("First", articles.get(0).getTitle());
+        assertEquals("https://example.com/news/1", articles.get(0).getUrl());
+        assertEquals(local("2025-06-10T04:00:00Z"), articles.get(0).getPublishedAt());
+        assertEquals("Second", articles.get(1).getTitle());
+        assertEquals("https://example.com/news/2", articles.get(1).getUrl());
+        assertEquals(local("2025-06-10T04:00:00Z"), articles.get(1).getPublishedAt());
+        assertNull(articles.get(1).getAuthor());
+    }
+
+    @Test
+    void toleratesCyclicAndOutOfRangeDevalueReferences() {
+        String payload = """
+                [{"items":1,"broken":99},[0,2],{"title":3,"url":4},"Only","/a"]
+                """;
+
+        List<CrawlResult.ArticleData> articles = extract(
+                "<script type=\"application/json\" id=\"__NUXT_DATA__\">" + payload + "</script>", null);
+
+        // 제목/링크를 가진 항목이 하나뿐이므로 자동 탐색 대상 배열 없음 - 예외 없이 빈 결과
+        assertTrue(articles.isEmpty());
+    }
+
+    @Test
+    void readsNextDataWithAutoDetectedArray() {
+        String nextData = """
+                {"props":{"pageProps":{
+                  "menu":[{"title":"Home","url":"/"}],
+                  "posts":[
+                    {"title":"Next one","url":"/posts/1","date":"2025-06-10T04:00:00Z","excerpt":"<p>Intro</p>"},
+                    {"title":"Next two","url":"/posts/2","date":"2025-06-11T04:00:00Z"}
+                  ]}}}
+                """;
+
+        List<CrawlResult.ArticleData> articles = extract(
+                "<script id=\"__NEXT_DATA__\" type=\"application/json\">" + nextData + "</script>", null);
+
+        assertEquals(2, articles.size());
+        assertEquals("https://example.com/posts/1", articles.get(0).getUrl());
+        assertEquals("Intro", articles.get(0).getContent());
+    }
+
+    @Test
+    void readsWindowStateAssignmentWithConfiguredPaths() {
+        String script = """
+                window.__INITIAL_STATE__ = {"feed":{"entries":[
+                  {"headline":"Slug one","slug":"one"},
+                  {"headline":"Slug two","slug":"/two"}
+                ]}};
+                """;
+        SelectorConfig.StructuredDataConfig config = SelectorConfig.StructuredDataConfig.builder()
+                .itemsPath("feed.entries")
+                .urlTemplate("/blog/{value}")
+                .build();
+
+        List<CrawlResult.ArticleData> articles = extract("<script>" + script + "</script>", config);
+
+        assertEquals(2, articles.size());
+        assertEquals("https://example.com/blog/one", articles.get(0).getUrl());
+        assertEquals("https://example.com/blog/two", articles.get(1).getUrl());
+        assertEquals("Slug two", articles.get(1).getTitle());
+    }
+
+    private List<CrawlResult.ArticleData> extract(String scripts, SelectorConfig.StructuredDataConfig config) {
+        return extractor.extract(Jsoup.parse("<html><head>" + scripts + "</head><body></body></html>", BASE_URL),
+                config, BASE_URL);
+    }
+
+    private static LocalDateTime local(String instant) {
+        return OffsetDateTime.parse(instant).atZoneSameInstant(ZoneId.systemDefault()).toLocalDateTime();
+    }
+}
@@ -0,0 +1,76 @@
+package com.aiinsight.crawler;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.jsoup.Jsoup;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class JsonLdExtractorTest {
+
+    private static final String BASE_URL = "https://example.com/news";
+
+    private final JsonLdExtractor extractor = new JsonLdExtractor(new ObjectMapper());
+
+    @Test
+    void readsItemListWithObjectAndUrlItems() {
+        List<CrawlResult.ArticleData> articles = extract("""
+                {"@context":"https://schema.org","@type":"ItemList","itemListElement":[
+                  {"@type":"ListItem","position":1,"item":{"@type":"NewsArticle","headline":"Object item",
+                    "url":"/news/1","author":{"@type":"Person","name":"Kim"},"image":["/img/1.jpg"]}},
+                  {"@type":"ListItem","position":2,"name":"Url item","item":"https://example.com/news/2"},
+                  {"@type":"ListItem","position":3,"name":"Url on list item","url":"/news/3"}
+                ]}
+                """);
+
+        assertEquals(3, articles.size());
+        assertEquals("Object item", articles.get(0).getTitle());
+        assertEquals("https://example.com/news/1", articles.get(0).getUrl());
+        assertEquals("Kim", articles.get(0).getAuthor());
+        assertEquals("https://example.com/img/1.jpg", articles.get(0).getThumbnailUrl());
+        assertEquals("https://example.com/news/2", articles.get(1).getUrl());
+        assertEquals("https://example.com/news/3", articles.get(2).getUrl());
+    }
+
+    @Test
+    void readsArticlesFromGraphAndMainEntity() {
+        List<CrawlResult.ArticleData> articles = extract("""
+                {"@context":"https://schema.org","@graph":[
+                  {"@type":"WebSite","name":"Example","url":"https://example.com"},
+                  {"@type":"CollectionPage","mainEntity":{"@type":["BlogPosting"],"headline":"In main entity",
+                    "url":"https://example.com/blog/1"}},
+                  {"@type":"NewsArticle","headline":"In graph","url":"https://example.com/news/9"}
+                ]}
+                """);
+
+        assertEquals(2, articles.size());
+        assertTrue(articles.stream().anyMatch(a -> a.getTitle().equals("In main entity")));
+        assertTrue(articles.stream().anyMatch(a -> a.getTitle().equals("In graph")));
+    }
+
+    @Test
+    void skipsMalformedScriptsAndNonArticleTypes() {
+        List<CrawlResult.ArticleData> articles = extract("{not json",
+                """
+                {"@type":"Organization","name":"Example","url":"https://example.com"}
+                """,
+                """
+                {"@type":"Article","headline":"Valid","url":"/news/1"}
+                """);
+
+        assertEquals(1, articles.size());
+        assertEquals("Valid", articles.get(0).getTitle());
+    }
+
+    private List<CrawlResult.ArticleData> extract(String... jsonLd) {
+        StringBuilder html = new StringBuilder("<html><head>");
+        for (String json : jsonLd) {
+            html.append("<script type=\"application/ld+json\">").append(json).append("</script>");
+        }
+        html.append("</head><body></body></html>");
+        return extractor.extract(Jsoup.parse(html.toString(), BASE_URL), null, BASE_URL);
+    }
+}
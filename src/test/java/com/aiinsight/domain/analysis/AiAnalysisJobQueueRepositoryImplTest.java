@@ -0,0 +1,170 @@
+package com.aiinsight.domain.analysis;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.util.StreamUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * AI 분석 작업 큐 SQL (ON CONFLICT 등록, FOR UPDATE SKIP LOCKED 가져가기) - 실제 PostgreSQL에서 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class AiAnalysisJobQueueRepositoryImplTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+    private AiAnalysisJobQueueRepositoryImpl repository;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+                postgres.getJdbcUrl(), postgres.getUsername(), postgres.getPassword()));
+        jdbcTemplate.execute("DROP TABLE IF EXISTS ai_analysis_job");
+        jdbcTemplate.execute("DROP TABLE IF EXISTS news_article");
+        jdbcTemplate.execute("""
+                CREATE TABLE news_article (
+                    id BIGINT PRIMARY KEY,
+                    is_summarized BOOLEAN NOT NULL DEFAULT FALSE,
+                    analysis_status VARCHAR(20),
+                    crawled_at TIMESTAMP NOT NULL DEFAULT NOW(),
+                    updated_at TIMESTAMP NOT NULL DEFAULT NOW())
+                """);
+        jdbcTemplate.execute(StreamUtils.copyToString(
+                new ClassPathResource("db/migration/V13__ai_analysis_job.sql").getInputStream(), StandardCharsets.UTF_8));
+        jdbcTemplate.update("INSERT INTO news_article (id, analysis_status) VALUES (1, 'PENDING'), (2, 'PENDING'), (3, 'PENDING')");
+        repository = new AiAnalysisJobQueueRepositoryImpl(jdbcTemplate);
+    }
+
+    @Test
+    void forceEnqueueOverQueuedJobUpgradesWithoutRerun() {
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.BACKLOG, false);
+
+        // 임대되지 않은 작업 (lease_until IS NULL) 위에 강제 재분석 등록
+        int changed = repository.enqueue(List.of(1L), AiAnalysisJob.Lane.USER, true);
+
+        assertEquals(1, changed);
+        Map<String, Object> job = job(1L);
+        assertEquals("USER", job.get("lane"));
+        assertEquals(AiAnalysisJob.Lane.USER.getPriority(), job.get("priority"));
+        assertEquals(Boolean.TRUE, job.get("force_reanalyze"));
+        assertEquals(Boolean.FALSE, job.get("rerun_requested"));
+    }
+
+    @Test
+    void forceEnqueueOverJobWaitingForRetryDoesNotRequestRerun() {
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.FRESH, false);
+        AiAnalysisJob claimed = repository.claim("worker-a", 1, LocalDateTime.now().plusMinutes(5)).get(0);
+        repository.retryLater(claimed.getId(), "worker-a", LocalDateTime.now().plusMinutes(10), "timeout");
+
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.USER, true);
+
+        Map<String, Object> job = job(1L);
+        assertEquals(Boolean.FALSE, job.get("rerun_requested"));
+        assertTrue(((java.sql.Timestamp) job.get("available_at")).toLocalDateTime().isBefore(LocalDateTime.now().plusMinutes(1)));
+    }
+
+    @Test
+    void forceEnqueueWhileLeasedRequestsRerunAfterCompletion() {
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.FRESH, false);
+        AiAnalysisJob claimed = repository.claim("worker-a", 1, LocalDateTime.now().plusMinutes(5)).get(0);
+
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.USER, true);
+        assertEquals(Boolean.TRUE, job(1L).get("rerun_requested"));
+
+        repository.complete(claimed.getId(), "worker-a");
+
+        // 삭제되지 않고 즉시 다시 대기열로
+        Map<String, Object> job = job(1L);
+        assertNull(job.get("leased_by"));
+        assertEquals(0, job.get("attempts"));
+        assertEquals(Boolean.FALSE, job.get("rerun_requested"));
+    }
+
+    @Test
+    void enqueueKeepsHigherPriority() {
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.USER, false);
+
+        int changed = repository.enqueue(List.of(1L), AiAnalysisJob.Lane.BACKLOG, false);
+
+        assertEquals(0, changed);
+        assertEquals("USER", job(1L).get("lane"));
+    }
+
+    @Test
+    void claimTakesJobsInPriorityOrderAndSkipsLeased() {
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.BACKLOG, false);
+        repository.enqueue(List.of(2L), AiAnalysisJob.Lane.FRESH, false);
+        repository.enqueue(List.of(3L), AiAnalysisJob.Lane.USER, false);
+        LocalDateTime leaseUntil = LocalDateTime.now().plusMinutes(5);
+
+        List<AiAnalysisJob> first = repository.claim("worker-a", 2, leaseUntil);
+        List<AiAnalysisJob> second = repository.claim("worker-b", 5, leaseUntil);
+
+        assertEquals(List.of(3L, 2L), first.stream().map(AiAnalysisJob::getArticleId).toList());
+        assertEquals(List.of(1L), second.stream().map(AiAnalysisJob::getArticleId).toList());
+        assertEquals(1, second.get(0).getAttempts());
+        assertTrue(repository.claim("worker-c", 5, leaseUntil).isEmpty());
+    }
+
+    @Test
+    void expiredLeaseIsClaimedAgain() {
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.FRESH, false);
+        repository.claim("worker-a", 1, LocalDateTime.now().minusSeconds(1));
+
+        List<AiAnalysisJob> reclaimed = repository.claim("worker-b", 1, LocalDateTime.now().plusMinutes(5));
+
+        assertEquals(1, reclaimed.size());
+        assertEquals(2, reclaimed.get(0).getAttempts());
+    }
+
+    @Test
+    void onlyLeaseOwnerCanRenewRetryOrComplete() {
+        repository.enqueue(List.of(1L), AiAnalysisJob.Lane.FRESH, false);
+        AiAnalysisJob claimed = repository.claim("worker-a", 1, LocalDateTime.now().plusMinutes(5)).get(0);
+
+        assertEquals(0, repository.renewLeases(List.of(claimed.getId()), "worker-b", LocalDateTime.now().plusHours(1)));
+        assertEquals(1, repository.renewLeases(List.of(claimed.getId()), "worker-a", LocalDateTime.now().plusHours(1)));
+
+        repository.retryLater(claimed.getId(), "worker-b", LocalDateTime.now().plusMinutes(1), "other");
+        repository.complete(claimed.getId(), "worker-b");
+        assertEquals("worker-a", job(1L).get("leased_by"));
+
+        repository.complete(claimed.getId(), "worker-a");
+        assertEquals(0, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM ai_analysis_job", Integer.class));
+    }
+
+    @Test
+    void enqueueBacklogAddsOnlyPendingArticlesWithoutJob() {
+        jdbcTemplate.update("UPDATE news_article SET is_summarized = TRUE WHERE id = 2");
+        repository.enqueue(List.of(3L), AiAnalysisJob.Lane.USER, false);
+
+        int added = repository.enqueueBacklog(10);
+
+        assertEquals(1, added);
+        assertEquals("BACKLOG", job(1L).get("lane"));
+        assertEquals("USER", job(3L).get("lane"));
+        assertFalse(jdbcTemplate.queryForObject(
+                "SELECT EXISTS (SELECT 1 FROM ai_analysis_job WHERE article_id = 2)", Boolean.class));
+    }
+
+    private Map<String, Object> job(Long articleId) {
+        return jdbcTemplate.queryForMap("SELECT * FROM ai_analysis_job WHERE article_id = ?", articleId);
+    }
+}
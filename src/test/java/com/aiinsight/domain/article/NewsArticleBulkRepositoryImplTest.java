@@ -0,0 +1,144 @@
+package com.aiinsight.domain.article;
+
+import com.aiinsight.domain.crawl.CrawlTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.util.StreamUtils;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 기사 일괄 저장 SQL (시퀀스 블록 ID 할당, ON CONFLICT (content_hash) DO NOTHING) - 실제 PostgreSQL에서 검증
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class NewsArticleBulkRepositoryImplTest {
+
+    @Container
+    static PostgreSQLContainer<?> postgres = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        jdbcTemplate = jdbcTemplate(postgres.getJdbcUrl());
+        jdbcTemplate.execute("DROP TABLE IF EXISTS news_article");
+        jdbcTemplate.execute("DROP SEQUENCE IF EXISTS news_article_seq");
+        jdbcTemplate.execute("""
+                CREATE TABLE news_article (
+                    id BIGINT PRIMARY KEY,
+                    target_id BIGINT NOT NULL,
+                    original_url VARCHAR(2048) NOT NULL,
+                    title VARCHAR(500) NOT NULL,
+                    content TEXT,
+                    author VARCHAR(255),
+                    published_at TIMESTAMP,
+                    thumbnail_url VARCHAR(2048),
+                    content_hash VARCHAR(64) NOT NULL,
+                    analysis_status VARCHAR(20),
+                    is_new BOOLEAN,
+                    is_summarized BOOLEAN,
+                    crawled_at TIMESTAMP NOT NULL,
+                    updated_at TIMESTAMP NOT NULL)
+                """);
+        runMigration("db/migration/V7__news_article_sequence.sql");
+        runMigration("db/migration/V12__article_crawl_metadata.sql");
+    }
+
+    @Test
+    void insertsArticlesWithSequenceBlockIds() {
+        NewsArticleBulkRepositoryImpl repository = new NewsArticleBulkRepositoryImpl(jdbcTemplate);
+
+        List<NewsArticle> inserted = repository.insertIgnoringDuplicates(List.of(article("a"), article("b")));
+
+        assertEquals(2, inserted.size());
+        for (NewsArticle article : inserted) {
+            assertNotNull(article.getId());
+            assertTrue(article.getId() > 0);
+            assertNotNull(article.getCrawledAt());
+        }
+        assertEquals(2, count());
+        assertEquals("title-a", jdbcTemplate.queryForObject(
+                "SELECT title FROM news_article WHERE id = ?", String.class, inserted.get(0).getId()));
+    }
+
+    @Test
+    void skipsExistingAndInBatchDuplicateHashes() {
+        NewsArticleBulkRepositoryImpl repository = new NewsArticleBulkRepositoryImpl(jdbcTemplate);
+        repository.insertIgnoringDuplicates(List.of(article("a")));
+
+        List<NewsArticle> inserted = repository.insertIgnoringDuplicates(
+                List.of(article("a"), article("b"), article("b"), article("c")));
+
+        assertEquals(List.of("hash-b", "hash-c"), inserted.stream().map(NewsArticle::getContentHash).toList());
+        assertEquals(3, count());
+    }
+
+    @Test
+    void allocatesDistinctIdsAcrossSeveralBlocks() {
+        NewsArticleBulkRepositoryImpl repository = new NewsArticleBulkRepositoryImpl(jdbcTemplate);
+        List<NewsArticle> articles = new ArrayList<>();
+        for (int i = 0; i < NewsArticle.ID_ALLOCATION_SIZE * 2 + 7; i++) {
+            articles.add(article("n" + i));
+        }
+
+        List<NewsArticle> inserted = repository.insertIgnoringDuplicates(articles);
+        // 다음 호출은 새 블록에서 시작해야 함
+        List<NewsArticle> next = repository.insertIgnoringDuplicates(List.of(article("next")));
+
+        Set<Long> ids = new HashSet<>();
+        inserted.forEach(article -> ids.add(article.getId()));
+        ids.add(next.get(0).getId());
+        assertEquals(articles.size() + 1, ids.size());
+        assertEquals(articles.size() + 1, count());
+    }
+
+    @Test
+    void resolvesInsertedRowsWhenDriverRewritesBatches() {
+        String url = postgres.getJdbcUrl();
+        JdbcTemplate rewriting = jdbcTemplate(url + (url.contains("?") ? "&" : "?") + "reWriteBatchedInserts=true");
+        NewsArticleBulkRepositoryImpl repository = new NewsArticleBulkRepositoryImpl(rewriting);
+        repository.insertIgnoringDuplicates(List.of(article("a")));
+
+        List<NewsArticle> inserted = repository.insertIgnoringDuplicates(
+                List.of(article("a"), article("b"), article("c")));
+
+        assertEquals(List.of("hash-b", "hash-c"), inserted.stream().map(NewsArticle::getContentHash).toList());
+        assertEquals(3, count());
+    }
+
+    private NewsArticle article(String key) {
+        return NewsArticle.builder()
+                .target(CrawlTarget.builder().id(1L).build())
+                .originalUrl("https://example.com/" + key)
+                .title("title-" + key)
+                .contentHash("hash-" + key)
+                .build();
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM news_article", Integer.class);
+    }
+
+    private void runMigration(String path) throws Exception {
+        jdbcTemplate.execute(StreamUtils.copyToString(
+                new ClassPathResource(path).getInputStream(), StandardCharsets.UTF_8));
+    }
+
+    private static JdbcTemplate jdbcTemplate(String url) {
+        return new JdbcTemplate(new DriverManagerDataSource(url, postgres.getUsername(), postgres.getPassword()));
+    }
+}
@@ -0,0 +1,178 @@
+package com.aiinsight.service;
+
+import com.aiinsight.config.AiConfig;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.HttpServerErrorException;
+import org.springframework.web.client.ResourceAccessException;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class AiConcurrencyLimiterTest {
+
+    private static final AiConcurrencyLimiter.Provider CLAUDE = AiConcurrencyLimiter.Provider.CLAUDE_API;
+    private static final AiConcurrencyLimiter.Provider EMBEDDING = AiConcurrencyLimiter.Provider.LOCAL_EMBEDDING;
+
+    private AiConfig aiConfig;
+    private SimpleMeterRegistry registry;
+
+    @BeforeEach
+    void setUp() {
+        aiConfig = new AiConfig();
+        registry = new SimpleMeterRegistry();
+    }
+
+    @Test
+    void additiveIncreaseWhileLimitIsInUse() throws InterruptedException {
+        aiConfig.getLimiter().setClaude(new AiConfig.ProviderLimit(2, 1, 3, false));
+        AiConcurrencyLimiter limiter = limiter();
+
+        for (int round = 0; round < 10; round++) {
+            AiConcurrencyLimiter.Permit first = limiter.acquire(CLAUDE);
+            AiConcurrencyLimiter.Permit second = limiter.acquire(CLAUDE);
+            first.success();
+            second.success();
+        }
+
+        // 한도만큼 성공할 때마다 +1, 최대 한도에서 멈춤
+        assertEquals(3.0, limit(CLAUDE), 0.0);
+    }
+
+    @Test
+    void lowUtilizationDoesNotInflateLimit() throws InterruptedException {
+        aiConfig.getLimiter().setClaude(new AiConfig.ProviderLimit(4, 1, 16, false));
+        AiConcurrencyLimiter limiter = limiter();
+
+        for (int i = 0; i < 50; i++) {
+            limiter.acquire(CLAUDE).success();
+        }
+
+        assertEquals(4.0, limit(CLAUDE), 0.0);
+    }
+
+    @Test
+    void multiplicativeDecreaseOnOverloadDownToMinimum() throws InterruptedException {
+        aiConfig.getLimiter().setClaude(new AiConfig.ProviderLimit(10, 2, 16, false));
+        AiConcurrencyLimiter limiter = limiter();
+
+        limiter.acquire(CLAUDE).dropped();
+        assertEquals(7.0, limit(CLAUDE), 0.0);
+        limiter.acquire(CLAUDE).dropped();
+        assertEquals(4.0, limit(CLAUDE), 0.0);
+        for (int i = 0; i < 5; i++) {
+            limiter.acquire(CLAUDE).dropped();
+        }
+        assertEquals(2.0, limit(CLAUDE), 0.0);
+        assertEquals(7.0, registry.get("ai.limiter.dropped").tag("provider", "claude").counter().count(), 0.0);
+    }
+
+    @Test
+    void closingWithoutResultKeepsLimit() throws InterruptedException {
+        aiConfig.getLimiter().setClaude(new AiConfig.ProviderLimit(2, 1, 16, false));
+        AiConcurrencyLimiter limiter = limiter();
+
+        AiConcurrencyLimiter.Permit permit = limiter.acquire(CLAUDE);
+        permit.close();
+        permit.dropped(); // 이미 반환된 슬롯은 다시 기록되지 않음
+
+        assertEquals(2.0, limit(CLAUDE), 0.0);
+        assertEquals(0.0, inflight(CLAUDE), 0.0);
+    }
+
+    @Test
+    void waitersAreGrantedInOrderAndCancelledWaitersAreSkipped() throws Exception {
+        aiConfig.getLimiter().setClaude(new AiConfig.ProviderLimit(1, 1, 1, false));
+        AiConcurrencyLimiter limiter = limiter();
+
+        AiConcurrencyLimiter.Permit running = limiter.acquire(CLAUDE);
+        CompletableFuture<AiConcurrencyLimiter.Permit> cancelled = limiter.acquireAsync(CLAUDE);
+        CompletableFuture<AiConcurrencyLimiter.Permit> waiting = limiter.acquireAsync(CLAUDE);
+        assertFalse(waiting.isDone());
+
+        cancelled.cancel(false);
+        running.close();
+
+        AiConcurrencyLimiter.Permit granted = waiting.get(5, TimeUnit.SECONDS);
+        assertEquals(1.0, inflight(CLAUDE), 0.0);
+        granted.close();
+        assertEquals(0.0, inflight(CLAUDE), 0.0);
+    }
+
+    @Test
+    void latencySpikeCutsOnlyLatencyBasedProviders() throws InterruptedException {
+        aiConfig.getLimiter().setLatencyTolerance(3.0);
+        aiConfig.getLimiter().setClaude(new AiConfig.ProviderLimit(8, 1, 16, false));
+        aiConfig.getLimiter().setEmbedding(new AiConfig.ProviderLimit(8, 1, 16, true));
+        AiConcurrencyLimiter limiter = limiter();
+
+        for (AiConcurrencyLimiter.Provider provider : new AiConcurrencyLimiter.Provider[]{CLAUDE, EMBEDDING}) {
+            // 타이머 오차보다 충분히 긴 기준 응답 시간 확보 후 그 몇 배로 느린 응답
+            for (int i = 0; i < 5; i++) {
+                AiConcurrencyLimiter.Permit fast = limiter.acquire(provider);
+                Thread.sleep(5);
+                fast.success();
+            }
+            AiConcurrencyLimiter.Permit slow = limiter.acquire(provider);
+            Thread.sleep(80);
+            slow.success();
+        }
+
+        assertEquals(8.0, limit(CLAUDE), 0.0);
+        assertEquals(5.0, limit(EMBEDDING), 0.0);
+    }
+
+    @Test
+    void executeRecordsOverloadFailures() throws InterruptedException {
+        aiConfig.getLimiter().setClaude(new AiConfig.ProviderLimit(10, 1, 16, false));
+        AiConcurrencyLimiter limiter = limiter();
+
+        assertThrows(HttpClientErrorException.class, () -> limiter.execute(CLAUDE, () -> {
+            throw new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS);
+        }));
+        assertEquals(7.0, limit(CLAUDE), 0.0);
+
+        assertThrows(HttpClientErrorException.class, () -> limiter.execute(CLAUDE, () -> {
+            throw new HttpClientErrorException(HttpStatus.BAD_REQUEST);
+        }));
+        assertEquals(7.0, limit(CLAUDE), 0.0);
+
+        assertEquals("ok", limiter.execute(CLAUDE, () -> "ok"));
+        assertEquals(0.0, inflight(CLAUDE), 0.0);
+    }
+
+    @Test
+    void classifiesOverloadErrors() {
+        assertTrue(AiConcurrencyLimiter.isOverload(new HttpClientErrorException(HttpStatus.TOO_MANY_REQUESTS)));
+        assertTrue(AiConcurrencyLimiter.isOverload(new HttpServerErrorException(HttpStatus.SERVICE_UNAVAILABLE)));
+        assertTrue(AiConcurrencyLimiter.isOverload(new ResourceAccessException("read timed out")));
+        assertTrue(AiConcurrencyLimiter.isOverload(new AiConcurrencyLimiter.OverloadException("overloaded_error")));
+        assertFalse(AiConcurrencyLimiter.isOverload(new HttpClientErrorException(HttpStatus.UNAUTHORIZED)));
+        assertFalse(AiConcurrencyLimiter.isOverload(new IllegalArgumentException("bad input")));
+
+        assertTrue(AiConcurrencyLimiter.isCliOverload("Error: Rate limit reached, try again later"));
+        assertTrue(AiConcurrencyLimiter.isCliOverload("API Error: 529 Overloaded"));
+        assertFalse(AiConcurrencyLimiter.isCliOverload("Invalid prompt"));
+        assertFalse(AiConcurrencyLimiter.isCliOverload(null));
+    }
+
+    private AiConcurrencyLimiter limiter() {
+        return new AiConcurrencyLimiter(aiConfig, registry);
+    }
+
+    private double limit(AiConcurrencyLimiter.Provider provider) {
+        return registry.get("ai.limiter.limit").tag("provider", provider.getTag()).gauge().value();
+    }
+
+    private double inflight(AiConcurrencyLimiter.Provider provider) {
+        return registry.get("ai.limiter.inflight").tag("provider", provider.getTag()).gauge().value();
+    }
+}
@@ -0,0 +1,106 @@
+package com.aiinsight.service;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.HexFormat;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class ArticleHashFilterTest {
+
+    @Test
+    void neverReportsAnInsertedHashAsMissing() {
+        ArticleHashFilter.BloomFilter filter = new ArticleHashFilter.BloomFilter(10_000, 0.001);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(sha256("inserted-" + i));
+        }
+
+        for (int i = 0; i < 10_000; i++) {
+            assertTrue(filter.mightContain(sha256("inserted-" + i)));
+        }
+    }
+
+    @Test
+    void falsePositiveRateStaysNearConfiguredRate() {
+        ArticleHashFilter.BloomFilter filter = new ArticleHashFilter.BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.put(sha256("inserted-" + i));
+        }
+
+        int falsePositives = 0;
+        int probes = 20_000;
+        for (int i = 0; i < probes; i++) {
+            if (filter.mightContain(sha256("absent-" + i))) {
+                falsePositives++;
+            }
+        }
+
+        // 설정값 1%에 대해 여유를 두고 확인 (double hashing 편차 포함)
+        assertTrue(falsePositives < probes * 0.02, "false positives: " + falsePositives);
+    }
+
+    @Test
+    void snapshotRoundTripKeepsBitsAndParameters() throws IOException {
+        ArticleHashFilter.BloomFilter filter = new ArticleHashFilter.BloomFilter(1_000, 0.001);
+        for (int i = 0; i < 1_000; i++) {
+            filter.put(sha256("inserted-" + i));
+        }
+
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            filter.writeTo(out, LocalDateTime.of(2025, 6, 10, 12, 0));
+        }
+        ArticleHashFilter.BloomFilter restored = ArticleHashFilter.BloomFilter.readFrom(
+                new DataInputStream(new ByteArrayInputStream(bytes.toByteArray())));
+
+        assertEquals(filter.sizeInBytes(), restored.sizeInBytes());
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(restored.mightContain(sha256("inserted-" + i)));
+        }
+        for (int i = 0; i < 1_000; i++) {
+            String absent = sha256("absent-" + i);
+            assertEquals(filter.mightContain(absent), restored.mightContain(absent));
+        }
+    }
+
+    @Test
+    void rejectsSnapshotWithUnknownFormat() {
+        byte[] garbage = "not a snapshot".getBytes(StandardCharsets.UTF_8);
+
+        assertThrows(IOException.class, () -> ArticleHashFilter.BloomFilter.readFrom(
+                new DataInputStream(new ByteArrayInputStream(garbage))));
+    }
+
+    @Test
+    void reportsEveryHashAsPossibleUntilLoaded() {
+        ArticleHashFilter hashFilter = new ArticleHashFilter(
+                new JdbcTemplate(new DriverManagerDataSource("jdbc:postgresql://localhost/unused")),
+                null, 1_000, 0.001, "");
+
+        assertFalse(hashFilter.isReady());
+        assertTrue(hashFilter.mightContain(sha256("anything")));
+    }
+
+    private static String sha256(String value) {
+        try {
+            return HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.aiinsight.service;
+
+import com.aiinsight.crawler.CrawlerConfig;
+import com.aiinsight.domain.crawl.CrawlHistory;
+import com.aiinsight.domain.crawl.CrawlHistoryRepository;
+import com.aiinsight.domain.crawl.CrawlTarget;
+import com.aiinsight.domain.crawl.CrawlTargetRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 서킷 브레이커 상태 전이 (CLOSED → OPEN → HALF_OPEN → CLOSED/OPEN)
+ * - 저장소는 조건부 UPDATE 쿼리와 같은 조건으로 메모리 타겟을 갱신하는 가짜 구현
+ */
+class CrawlCircuitBreakerServiceTest {
+
+    private final List<CrawlHistory> history = new ArrayList<>();
+    private CrawlTarget target;
+    private CrawlerConfig crawlerConfig;
+    private CrawlCircuitBreakerService service;
+
+    @BeforeEach
+    void setUp() {
+        target = CrawlTarget.builder().id(1L).name("example").url("https://example.com").build();
+        crawlerConfig = new CrawlerConfig();
+        crawlerConfig.getCircuitBreaker().setFailureThreshold(3);
+        crawlerConfig.getCircuitBreaker().setOpenMinutes(30);
+        crawlerConfig.getCircuitBreaker().setMaxOpenMinutes(120);
+        crawlerConfig.getCircuitBreaker().setTrialTimeoutMinutes(10);
+        service = new CrawlCircuitBreakerService(targetRepository(), historyRepository(), crawlerConfig);
+    }
+
+    @Test
+    void opensAfterConsecutiveFailuresReachThreshold() {
+        assertFalse(fail());
+        assertFalse(fail());
+        assertTrue(fail());
+
+        assertEquals(CrawlTarget.CircuitState.OPEN, target.getCircuitState());
+        assertEquals(3, target.getConsecutiveFailures());
+        assertOpenFor(30);
+        assertFalse(service.allowExecution(1L));
+    }
+
+    @Test
+    void successResetsFailureStreak() {
+        fail();
+        fail();
+        succeed();
+
+        assertFalse(fail());
+        assertEquals(CrawlTarget.CircuitState.CLOSED, target.getCircuitState());
+        assertEquals(1, target.getConsecutiveFailures());
+    }
+
+    @Test
+    void openDurationDoublesPerExtraFailureUpToMax() {
+        for (int i = 0; i < 3; i++) {
+            fail();
+        }
+        assertOpenFor(30);
+
+        fail();
+        assertOpenFor(60);
+
+        fail();
+        fail();
+        assertOpenFor(120);
+    }
+
+    @Test
+    void allowsOneHalfOpenTrialAfterOpenPeriod() {
+        openExpired();
+
+        assertTrue(service.allowExecution(1L));
+        assertEquals(CrawlTarget.CircuitState.HALF_OPEN, target.getCircuitState());
+        // 시험 실행 중에는 다른 스케줄/재시도 차단
+        assertFalse(service.allowExecution(1L));
+        assertFalse(service.allowExecution(1L));
+    }
+
+    @Test
+    void staleHalfOpenTrialIsHandedToNextCaller() {
+        openExpired();
+        assertTrue(service.allowExecution(1L));
+
+        // 시험 실행이 결과 없이 기한을 넘김 (중단 등)
+        target.setCircuitOpenUntil(LocalDateTime.now().minusSeconds(1));
+
+        assertTrue(service.allowExecution(1L));
+        assertFalse(service.allowExecution(1L));
+    }
+
+    @Test
+    void halfOpenSuccessCloses() {
+        openExpired();
+        service.allowExecution(1L);
+
+        succeed();
+
+        assertEquals(CrawlTarget.CircuitState.CLOSED, target.getCircuitState());
+        assertNull(target.getCircuitOpenUntil());
+        assertEquals(0, target.getConsecutiveFailures());
+        assertTrue(service.allowExecution(1L));
+    }
+
+    @Test
+    void halfOpenFailureReopensImmediately() {
+        openExpired();
+        service.allowExecution(1L);
+        // 성공 이력이 섞여 연속 실패가 임계치 아래여도 시험 실행 실패는 다시 OPEN
+        history.add(0, entry(CrawlTarget.CrawlStatus.SUCCESS));
+
+        assertTrue(fail());
+
+        assertEquals(CrawlTarget.CircuitState.OPEN, target.getCircuitState());
+        assertFalse(service.allowExecution(1L));
+    }
+
+    @Test
+    void healthScoreWeighsRecentRunsMore() {
+        fail();
+        double afterFailure = target.getHealthScore();
+        succeed();
+        double afterRecovery = target.getHealthScore();
+
+        assertEquals(0.0, afterFailure, 0.0);
+        assertTrue(afterRecovery > 0.5, "health: " + afterRecovery);
+        assertTrue(afterRecovery < 1.0, "health: " + afterRecovery);
+    }
+
+    private boolean fail() {
+        boolean opened = service.onFailure(1L);
+        history.add(0, entry(CrawlTarget.CrawlStatus.FAILED));
+        return opened;
+    }
+
+    private void succeed() {
+        history.add(0, entry(CrawlTarget.CrawlStatus.SUCCESS));
+        service.onSuccess(1L);
+    }
+
+    private void openExpired() {
+        for (int i = 0; i < 3; i++) {
+            fail();
+        }
+        target.setCircuitOpenUntil(LocalDateTime.now().minusSeconds(1));
+    }
+
+    private void assertOpenFor(long minutes) {
+        LocalDateTime expected = LocalDateTime.now().plusMinutes(minutes);
+        assertTrue(Math.abs(Duration.between(expected, target.getCircuitOpenUntil()).toSeconds()) < 5,
+                "openUntil: " + target.getCircuitOpenUntil());
+    }
+
+    private static CrawlHistory entry(CrawlTarget.CrawlStatus status) {
+        return CrawlHistory.builder().status(status).executedAt(LocalDateTime.now()).build();
+    }
+
+    private CrawlTargetRepository targetRepository() {
+        return (CrawlTargetRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{CrawlTargetRepository.class}, (proxy, method, args) -> switch (method.getName()) {
+                    case "findById" -> Optional.of(target);
+                    case "halfOpenCircuit" -> {
+                        LocalDateTime now = (LocalDateTime) args[1];
+                        boolean claimable = target.getCircuitState() != CrawlTarget.CircuitState.CLOSED
+                                && (target.getCircuitOpenUntil() == null || !target.getCircuitOpenUntil().isAfter(now));
+                        if (!claimable) {
+                            yield 0;
+                        }
+                        target.setCircuitState(CrawlTarget.CircuitState.HALF_OPEN);
+                        target.setCircuitOpenUntil((LocalDateTime) args[2]);
+                        yield 1;
+                    }
+                    case "closeCircuit" -> {
+                        target.setCircuitState(CrawlTarget.CircuitState.CLOSED);
+                        target.setCircuitOpenUntil(null);
+                        target.setConsecutiveFailures(0);
+                        target.setHealthScore((Double) args[1]);
+                        yield 1;
+                    }
+                    case "updateFailureStats" -> {
+                        target.setConsecutiveFailures((Integer) args[1]);
+                        target.setHealthScore((Double) args[2]);
+                        yield 1;
+                    }
+                    case "openCircuit" -> {
+                        target.setCircuitState(CrawlTarget.CircuitState.OPEN);
+                        target.setCircuitOpenUntil((LocalDateTime) args[1]);
+                        yield 1;
+                    }
+                    default -> throw new UnsupportedOperationException(method.getName());
+                });
+    }
+
+    private CrawlHistoryRepository historyRepository() {
+        return (CrawlHistoryRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{CrawlHistoryRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByTargetIdOrderByExecutedAtDesc")) {
+                        int limit = ((Pageable) args[1]).getPageSize();
+                        return new PageImpl<>(history.subList(0, Math.min(limit, history.size())));
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}
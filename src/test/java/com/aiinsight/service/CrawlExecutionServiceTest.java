@@ -0,0 +1,99 @@
+package com.aiinsight.service;
+
+import com.aiinsight.crawler.CrawlerConfig;
+import com.aiinsight.crawler.ParallelCrawlEngine;
+import com.aiinsight.domain.crawl.CrawlTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * 크롤링 재시도 예약 (지수 백오프 + equal jitter, next_retry_at)
+ */
+class CrawlExecutionServiceTest {
+
+    private CrawlerConfig crawlerConfig;
+    private RecordingEngine engine;
+    private CrawlExecutionService service;
+
+    @BeforeEach
+    void setUp() {
+        crawlerConfig = new CrawlerConfig();
+        crawlerConfig.setCrawlMaxAttempts(3);
+        crawlerConfig.setCrawlRetryBaseDelayMs(1000);
+        crawlerConfig.setCrawlRetryMaxDelayMs(3000);
+        engine = new RecordingEngine(crawlerConfig);
+        service = new CrawlExecutionService(null, null, null, null, engine, crawlerConfig,
+                null, null, null, null, null, null, null, null, null, null);
+    }
+
+    @Test
+    void retryDelayDoublesPerAttemptWithinEqualJitter() {
+        for (int i = 0; i < 200; i++) {
+            assertBetween(service.computeRetryDelay(1), 500, 1000);
+            assertBetween(service.computeRetryDelay(2), 1000, 2000);
+        }
+    }
+
+    @Test
+    void retryDelayIsCappedAtMaxDelay() {
+        for (int i = 0; i < 200; i++) {
+            assertBetween(service.computeRetryDelay(3), 1500, 3000);
+            assertBetween(service.computeRetryDelay(40), 1500, 3000);
+        }
+    }
+
+    @Test
+    void scheduleRetryRegistersDelayedRunAndReturnsNextRetryAt() {
+        CrawlTarget target = target();
+        LocalDateTime before = LocalDateTime.now();
+
+        LocalDateTime nextRetryAt = service.scheduleRetry(target, 1);
+
+        assertNotNull(nextRetryAt);
+        assertEquals(1, engine.delays.size());
+        long delayMs = engine.delays.get(0);
+        assertBetween(delayMs, 500, 1000);
+        assertTrue(!nextRetryAt.isBefore(before.plusNanos(delayMs * 1_000_000)));
+        assertTrue(!nextRetryAt.isAfter(LocalDateTime.now().plusNanos(delayMs * 1_000_000)));
+    }
+
+    @Test
+    void noRetryOnceMaxAttemptsReached() {
+        assertNull(service.scheduleRetry(target(), 3));
+        assertEquals(0, engine.delays.size());
+    }
+
+    private static CrawlTarget target() {
+        return CrawlTarget.builder().id(1L).name("example").url("https://example.com/news").build();
+    }
+
+    private static void assertBetween(long actual, long min, long max) {
+        assertTrue(actual >= min && actual <= max, actual + " not in [" + min + ", " + max + "]");
+    }
+
+    /**
+     * 예약만 기록하고 실행하지 않는 엔진
+     */
+    private static final class RecordingEngine extends ParallelCrawlEngine {
+
+        private final List<Long> delays = new ArrayList<>();
+
+        private RecordingEngine(CrawlerConfig crawlerConfig) {
+            super(crawlerConfig, null, null);
+        }
+
+        @Override
+        public void schedule(CrawlTarget target, long delayMs, Runnable task) {
+            delays.add(delayMs);
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.aiinsight.service;
+
+import com.aiinsight.crawler.CrawlerConfig;
+import com.aiinsight.domain.crawl.CrawlHistory;
+import com.aiinsight.domain.crawl.CrawlHistoryRepository;
+import com.aiinsight.domain.crawl.CrawlTarget;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class CrawlFrequencyServiceTest {
+
+    private final List<CrawlHistory> history = new ArrayList<>();
+    private CrawlerConfig crawlerConfig;
+    private CrawlFrequencyService service;
+    private LocalDateTime now;
+
+    @BeforeEach
+    void setUp() {
+        crawlerConfig = new CrawlerConfig();
+        crawlerConfig.getAdaptive().setJitterRatio(0);
+        service = new CrawlFrequencyService(historyRepository(), crawlerConfig);
+        now = LocalDateTime.now();
+    }
+
+    @Test
+    void usesInitialIntervalWithoutHistory() {
+        assertEquals(Duration.ofMinutes(60), service.computeNextInterval(1L));
+    }
+
+    @Test
+    void backsOffWhenWindowHasNoNewArticles() {
+        run(60, 0);
+        run(0, 0);
+
+        assertEquals(Duration.ofMinutes(120), service.computeNextInterval(1L));
+    }
+
+    @Test
+    void followsObservedNewArticleRate() {
+        // 30분 간격 10회, 매번 1건 → 270분 동안 10건
+        for (int i = 9; i >= 0; i--) {
+            run(i * 30, 1);
+        }
+
+        assertEquals(Duration.ofMinutes(27), service.computeNextInterval(1L));
+    }
+
+    @Test
+    void burstPullsIntervalBelowPreviousInterval() {
+        run(1200, 0);
+        run(120, 0);
+        run(0, 5);
+
+        // 발생률 기준 240분이지만 버스트로 직전 간격(120분)의 절반
+        assertEquals(Duration.ofMinutes(60), service.computeNextInterval(1L));
+    }
+
+    @Test
+    void emptyLatestRunDoesNotShortenInterval() {
+        run(200, 0);
+        run(100, 10);
+        run(0, 0);
+
+        // 발생률 기준 20분이지만 직전 실행이 비었으므로 직전 간격 유지
+        assertEquals(Duration.ofMinutes(100), service.computeNextInterval(1L));
+    }
+
+    @Test
+    void clampsToConfiguredBounds() {
+        run(1000, 0);
+        run(0, 0);
+        assertEquals(Duration.ofMinutes(1440), service.computeNextInterval(1L));
+
+        history.clear();
+        run(1, 50);
+        run(0, 50);
+        assertEquals(Duration.ofMinutes(15), service.computeNextInterval(1L));
+    }
+
+    @Test
+    void jitterStaysWithinRatio() {
+        crawlerConfig.getAdaptive().setJitterRatio(0.1);
+
+        for (int i = 0; i < 100; i++) {
+            long seconds = service.computeNextInterval(1L).toSeconds();
+            assertTrue(seconds >= 54 * 60 && seconds <= 66 * 60, "interval: " + seconds);
+        }
+    }
+
+    /**
+     * minutesAgo분 전 실행 이력 추가 (가장 최근 이력이 앞에 오도록 유지)
+     */
+    private void run(long minutesAgo, int articlesNew) {
+        history.add(0, CrawlHistory.builder()
+                .status(CrawlTarget.CrawlStatus.SUCCESS)
+                .articlesNew(articlesNew)
+                .executedAt(now.minusMinutes(minutesAgo))
+                .build());
+    }
+
+    private CrawlHistoryRepository historyRepository() {
+        return (CrawlHistoryRepository) Proxy.newProxyInstance(getClass().getClassLoader(),
+                new Class<?>[]{CrawlHistoryRepository.class}, (proxy, method, args) -> {
+                    if (method.getName().equals("findByTargetIdAndStatusInOrderByExecutedAtDesc")) {
+                        return List.copyOf(history);
+                    }
+                    throw new UnsupportedOperationException(method.getName());
+                });
+    }
+}